@@ -0,0 +1,12 @@
+#!/bin/bash
+# Runs the JMH benchmarks with the allocation profiler and compares the results with the baseline.
+# Usage: ./run.sh [extra JMH options], e.g. ./run.sh BoardBenchmark
+# To store a new baseline after an intended change: cp results.csv baseline.csv
+cd "$(dirname "$0")" || exit 1
+
+# Install the game so the benchmarks build against the current model
+mvn -q -f ../pom.xml install -DskipTests || exit 1
+mvn -q clean package || exit 1
+
+java -jar target/benchmarks.jar -prof gc -rf csv -rff results.csv "$@" || exit 1
+java -cp target/benchmarks.jar Benchmarks.BaselineComparison baseline.csv results.csv
@@ -0,0 +1,149 @@
+/**
+ * The BaselineComparison compares a JMH result file with the stored baseline and reports every
+ * score that got worse by more than a threshold. Both files are JMH CSV output (-rf csv).
+ *
+ * Times per operation and bytes per operation count as worse when they go up, throughput when
+ * it goes down. Other secondary results such as GC counts are printed but not judged.
+ *
+ * Usage: java -cp target/benchmarks.jar Benchmarks.BaselineComparison baseline.csv results.csv [thresholdPercent]
+ */
+package Benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class BaselineComparison {
+    private static final double DEFAULT_THRESHOLD = 10.0; // Percent a score may get worse
+    private static final double ALLOCATION_SLACK = 8.0; // Bytes per op ignored as measurement noise
+
+    /**
+     * Reads a JMH CSV result file.
+     *
+     * @param file The file to read.
+     * @return The score and unit of every benchmark and secondary result, by name.
+     * @throws IOException if the file cannot be read.
+     */
+    static Map<String, Score> read(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file);
+        if (lines.isEmpty()) {
+            throw new IllegalArgumentException(file + " is empty");
+        }
+        List<String> header = split(lines.get(0));
+        int nameColumn = header.indexOf("Benchmark");
+        int scoreColumn = header.indexOf("Score");
+        int unitColumn = header.indexOf("Unit");
+        if (nameColumn < 0 || scoreColumn < 0 || unitColumn < 0) {
+            throw new IllegalArgumentException(file + " is not a JMH CSV result file");
+        }
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> fields = split(line);
+            String name = fields.get(nameColumn);
+            for (int column = 0; column < header.size(); column++) {
+                if (header.get(column).startsWith("Param: ") && !fields.get(column).isEmpty()) {
+                    name += " " + header.get(column).substring(7) + "=" + fields.get(column);
+                }
+            }
+            scores.put(name, new Score(Double.parseDouble(fields.get(scoreColumn)), fields.get(unitColumn)));
+        }
+        return scores;
+    }
+
+    private static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Checks if a score got worse than the baseline by more than the threshold.
+     *
+     * @param baseline  The baseline score.
+     * @param current   The current score.
+     * @param threshold The threshold in percent.
+     * @return True if the score regressed.
+     */
+    static boolean isRegression(Score baseline, Score current, double threshold) {
+        double allowed = Math.abs(baseline.value()) * threshold / 100.0;
+        return switch (direction(baseline.unit())) {
+            case 1 -> current.value() < baseline.value() - allowed;
+            case -1 -> {
+                if (baseline.unit().equals("B/op")) {
+                    allowed = Math.max(allowed, ALLOCATION_SLACK);
+                }
+                yield current.value() > baseline.value() + allowed;
+            }
+            default -> false;
+        };
+    }
+
+    /**
+     * Gets which way a unit improves: 1 when higher is better, -1 when lower is better,
+     * and 0 when the unit is not judged.
+     */
+    private static int direction(String unit) {
+        if (unit.startsWith("ops/")) {
+            return 1;
+        }
+        if (unit.endsWith("/op")) {
+            return -1;
+        }
+        return 0;
+    }
+
+    /**
+     * A score and its unit.
+     */
+    record Score(double value, String unit) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparison baseline.csv results.csv [thresholdPercent]");
+            System.exit(2);
+        }
+        Map<String, Score> baseline = read(Path.of(args[0]));
+        Map<String, Score> current = read(Path.of(args[1]));
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+
+        int regressions = 0;
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score now = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null || !before.unit().equals(now.unit())) {
+                System.out.printf("%-70s %14.3f %-10s (new)%n", entry.getKey(), now.value(), now.unit());
+                continue;
+            }
+            double change = before.value() == 0 ? 0 : (now.value() - before.value()) / before.value() * 100;
+            boolean regressed = isRegression(before, now, threshold);
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-70s %14.3f %-10s baseline %14.3f %+8.1f%%%s%n", entry.getKey(), now.value(),
+                    now.unit(), before.value(), change, regressed ? "  REGRESSION" : "");
+        }
+        System.out.printf("%d regression(s) beyond %.1f%%%n", regressions, threshold);
+        System.exit(regressions > 0 ? 1 : 0);
+    }
+}
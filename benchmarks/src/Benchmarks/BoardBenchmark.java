@@ -0,0 +1,63 @@
+/**
+ * The BoardBenchmark measures the board operations a turn goes through: moving a player,
+ * landing on an owned property and paying rent, checking a color group and listing the
+ * properties the bank still owns.
+ */
+package Benchmarks;
+
+import Model.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardBenchmark {
+    private GameBoard board;
+    private Bank bank;
+    private Player owner; // Owns the dark blue group and half the pink group
+    private Player visitor; // Pays the rent
+    private Property boardwalk;
+
+    @Setup
+    public void setUp() {
+        GameState game = GameLog.callQuietly(() -> BatchSimulator.newHeadlessGame(2, new Dice(42L)));
+        board = game.getBoard();
+        bank = board.getBank();
+        owner = game.getPlayers().get(0);
+        visitor = game.getPlayers().get(1);
+        ((Property) board.getSpace(37)).setOwner(owner);
+        boardwalk = (Property) board.getSpace(39);
+        boardwalk.setOwner(owner);
+        boardwalk.setHouseCount(2);
+        ((Property) board.getSpace(11)).setOwner(owner);
+    }
+
+    @Benchmark
+    public int movePlayer() {
+        board.movePlayer(visitor, 7);
+        return visitor.getPosition();
+    }
+
+    @Benchmark
+    public int landOnOwnedProperty() {
+        visitor.setMoney(1500);
+        boardwalk.landOn(visitor);
+        return visitor.getMoney();
+    }
+
+    @Benchmark
+    public boolean ownsFullColorGroup() {
+        return owner.ownsFullColorGroup("Dark Blue") & owner.ownsFullColorGroup("Pink");
+    }
+
+    @Benchmark
+    public List<Property> getUnownedProperties() {
+        return bank.getUnownedProperties();
+    }
+}
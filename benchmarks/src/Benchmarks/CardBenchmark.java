@@ -0,0 +1,56 @@
+/**
+ * The CardBenchmark measures landing on Chance and Community Chest: drawing the top card,
+ * applying it and returning it to the deck. The player is put back on the card space with
+ * fresh money before every draw, and hands back any Get Out of Jail Free card, so each card
+ * starts from the same position.
+ */
+package Benchmarks;
+
+import Model.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CardBenchmark {
+    private static final int CHANCE_POSITION = 7;
+    private static final int COMMUNITY_CHEST_POSITION = 2;
+
+    private Player player;
+    private Space chance;
+    private Space communityChest;
+
+    @Setup
+    public void setUp() {
+        GameState game = GameLog.callQuietly(() -> BatchSimulator.newHeadlessGame(2, new Dice(42L)));
+        player = game.getPlayers().get(0);
+        chance = game.getBoard().getSpace(CHANCE_POSITION);
+        communityChest = game.getBoard().getSpace(COMMUNITY_CHEST_POSITION);
+    }
+
+    @Benchmark
+    public int drawChance() {
+        reset(CHANCE_POSITION);
+        chance.landOn(player);
+        return player.getPosition();
+    }
+
+    @Benchmark
+    public int drawCommunityChest() {
+        reset(COMMUNITY_CHEST_POSITION);
+        communityChest.landOn(player);
+        return player.getPosition();
+    }
+
+    private void reset(int position) {
+        player.setPosition(position);
+        player.setMoney(1500);
+        player.releaseFromJail();
+        player.useGetOutOfJailFreeCard(); // Puts a kept card back in its deck
+    }
+}
@@ -0,0 +1,36 @@
+/**
+ * The DiceBenchmark measures rolling the dice, both the list-returning rollDice used by the
+ * views and the packed roll used by the game loop.
+ */
+package Benchmarks;
+
+import Model.Dice;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DiceBenchmark {
+    private Dice dice;
+
+    @Setup
+    public void setUp() {
+        dice = new Dice(42L);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> rollDice() {
+        return dice.rollDice();
+    }
+
+    @Benchmark
+    public int roll() {
+        return dice.roll();
+    }
+}
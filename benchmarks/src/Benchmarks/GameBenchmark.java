@@ -0,0 +1,86 @@
+/**
+ * The GameBenchmark measures whole games of computer players.
+ *
+ * turn plays one turn per operation, so its time and its gc.alloc.rate.norm under -prof gc
+ * are the cost per turn. A new game is dealt when the current one ends, which is amortized
+ * over the turns of the game. fullGame plays a game to the turn cap per operation and counts
+ * the turns it played, so it reports games/s and turns/s side by side.
+ */
+package Benchmarks;
+
+import Model.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmark {
+    private static final int PLAYERS = 4;
+    private static final int TURN_CAP = 200;
+
+    /**
+     * The game being played and the dice new games are split from.
+     */
+    @State(Scope.Thread)
+    public static class Table {
+        private Dice root;
+        private GameState game;
+        private int turns; // Turns played in the current game
+
+        @Setup
+        public void setUp() {
+            root = new Dice(42L);
+            GameLog.runQuietly(this::deal);
+        }
+
+        private boolean isOver() {
+            if (game.isGameOver()) {
+                return true;
+            }
+            for (int i = 0; i < game.getPlayers().size(); i++) {
+                if (game.getPlayers().get(i).isBankrupt()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void deal() {
+            game = BatchSimulator.newHeadlessGame(PLAYERS, root.split());
+            turns = 0;
+        }
+    }
+
+    /**
+     * Counts the turns of the fullGame benchmark.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class TurnCounter {
+        public long turns;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int turn(Table table) {
+        if (table.turns >= TURN_CAP || table.isOver()) {
+            table.deal();
+        }
+        table.game.handleTurn();
+        table.turns++;
+        return table.game.getCurrentPlayerIndex();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public int fullGame(Table table, TurnCounter counter) {
+        table.deal();
+        int turns = BatchSimulator.playGame(table.game, TURN_CAP);
+        counter.turns += turns;
+        return turns;
+    }
+}
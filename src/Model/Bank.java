@@ -6,15 +6,50 @@
  *  - Paying players for passing GO or other earnings
  *  - Auctioning properties
  *  - Handling mortgages
+ *  - Moving money between players atomically
+ *  - Recording every movement of money in its Ledger
+ *
+ * Every change to a player's money goes through a lock. The locks are striped: each player
+ * hashes to one of a fixed number of locks, and a transfer takes the locks of all players it
+ * touches in stripe order, so transfers between different players run side by side, a
+ * transfer is never seen half done and two transfers can never deadlock. An uncontended lock
+ * costs a single compare-and-set, so a game played on one thread hardly notices them. Every
+ * movement is recorded in the bank's Ledger, under the same locks, with what it was for.
+ *
+ * The bank has HOUSES houses and HOTELS hotels to sell. What is left is kept in two atomic
+ * counters, which every change to a property's buildings updates, so the stock is read in O(1)
+ * and never needs a lock. A purchase first reserves its house or hotel with a compare-and-set,
+ * so two players can never both get the last one, and hands the reservation back once the
+ * building stands. Building and selling also take the lock of the street's color group,
+ * found in the same stripes, so the even-building checks still hold when the building goes
+ * up or comes down. A change of owner takes every stripe, so the ownership index those
+ * checks read is never seen half updated; a trade checks under the stripes of both players
+ * and of the groups it touches, and executes under every stripe. When several computer players want houses the bank has too few of, the
+ * houses go to the highest bidder at the second-highest bid, on top of the house price.
  *
  * Created by Collin Cabral-Castro, Refactored and Remodeled by Kristian Wright
  */
 package Model;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class Bank {
+    public static final int HOUSES = 32; // Houses the bank has to sell
+    public static final int HOTELS = 12; // Hotels the bank has to sell
+    private static final int STRIPES = 16; // Number of account and color group locks, a power of two no larger than 32
+    private static final int ALL_STRIPES = (int) ((1L << STRIPES) - 1); // Mask of every stripe
     private List<Property> properties;
+    private OwnershipIndex ownership; // Owners of the properties, kept up to date on every change
+    private GameEventBus events = new GameEventBus(null); // Events of the game the bank belongs to
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES]; // Locks guarding the players' money and the groups' buildings
+    private final Ledger ledger = new Ledger(); // Record of every movement of money
+    private final AtomicInteger housesLeft = new AtomicInteger(HOUSES); // Houses not built or reserved
+    private final AtomicInteger hotelsLeft = new AtomicInteger(HOTELS); // Hotels not built or reserved
 
     /**
      * Constructs a Bank with an initial list of properties.
@@ -22,7 +57,10 @@ public class Bank {
      * @param properties The list of properties managed by the Bank.
      */
     public Bank(List<Property> properties) {
-        this.properties = properties;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        setProperties(properties);
     }
 
     /**
@@ -33,28 +71,357 @@ public class Bank {
      */
     public void setProperties(List<Property> properties) {
         this.properties = properties;
+        this.ownership = new OwnershipIndex(properties);
+        int houses = 0;
+        int hotels = 0;
+        for (Property property : properties) {
+            houses += property.getHouseCount();
+            hotels += property.hasHotel() ? 1 : 0;
+        }
+        housesLeft.set(HOUSES - houses);
+        hotelsLeft.set(HOTELS - hotels);
     }
 
     /**
-     * Collects a payment from a player.
+     * Records that buildings went up on or came down from a property, taking them from or
+     * returning them to the supply. Called by Property.setHouseCount and Property.setHasHotel.
+     */
+    void buildingsChanged(int houses, int hotels) {
+        if (houses != 0) {
+            housesLeft.addAndGet(-houses);
+        }
+        if (hotels != 0) {
+            hotelsLeft.addAndGet(-hotels);
+        }
+    }
+
+    /**
+     * Takes up to a number of houses or hotels from a stock, as many as it holds.
+     *
+     * @return The number taken.
+     */
+    private static int take(AtomicInteger stock, int wanted) {
+        while (true) {
+            int left = stock.get();
+            int taken = Math.max(0, Math.min(left, wanted));
+            if (taken == 0 || stock.compareAndSet(left, left - taken)) {
+                return taken;
+            }
+        }
+    }
+
+    /**
+     * Hands a property to a new owner and records it in the ownership index. Called by
+     * Property.setOwner. Owners change rarely, so the change takes every stripe: no builder,
+     * seller or trader sees the owner or the group counts half updated.
+     */
+    void changeOwner(Property property, Player owner) {
+        int locked = lock(ALL_STRIPES);
+        try {
+            Player previous = property.getOwner();
+            property.assignOwner(owner);
+            ownership.ownerChanged(property, previous, owner);
+        } finally {
+            unlock(locked);
+        }
+    }
+
+    /**
+     * Collects a payment from a player, recorded as OTHER.
      *
      * @param player The player paying the money.
      * @param amount The amount to collect.
      */
     public void collectFromPlayer(Player player, int amount) {
-        player.setMoney(player.getMoney() - amount);
-        System.out.println(player.getName() + " paid $" + amount + " to the Bank.");
+        collectFromPlayer(player, amount, LedgerCategory.OTHER);
     }
 
     /**
-     * Pays money to a player.
+     * Collects a payment from a player.
+     *
+     * @param player   The player paying the money.
+     * @param amount   The amount to collect.
+     * @param category What the payment is for.
+     */
+    public void collectFromPlayer(Player player, int amount, LedgerCategory category) {
+        int locked = lock(stripe(player));
+        try {
+            move(player, null, amount, category);
+        } finally {
+            unlock(locked);
+        }
+        events.publish(GameEventType.PAID, player, -1, amount);
+    }
+
+    /**
+     * Pays money to a player, recorded as OTHER.
      *
      * @param player The player receiving the money.
      * @param amount The amount to pay.
      */
     public void payPlayer(Player player, int amount) {
-        player.setMoney(player.getMoney() + amount);
-        System.out.println("The Bank paid $" + amount + " to " + player.getName() + ".");
+        payPlayer(player, amount, LedgerCategory.OTHER);
+    }
+
+    /**
+     * Pays money to a player.
+     *
+     * @param player   The player receiving the money.
+     * @param amount   The amount to pay.
+     * @param category What the payment is for.
+     */
+    public void payPlayer(Player player, int amount, LedgerCategory category) {
+        int locked = lock(stripe(player));
+        try {
+            move(null, player, amount, category);
+        } finally {
+            unlock(locked);
+        }
+        events.publish(GameEventType.COLLECTED, player, -1, amount);
+    }
+
+    /**
+     * Moves money from one player to another in one step: no thread sees the money gone from
+     * the payer but not yet with the payee. Publishes the same events as collecting the amount
+     * from the payer and paying it to the payee.
+     *
+     * @param from     The player paying.
+     * @param to       The player being paid.
+     * @param amount   The amount to move.
+     * @param category What the payment is for.
+     */
+    public void transfer(Player from, Player to, int amount, LedgerCategory category) {
+        int locked = lock(stripe(from) | stripe(to));
+        try {
+            move(from, to, amount, category);
+        } finally {
+            unlock(locked);
+        }
+        events.publish(GameEventType.PAID, from, -1, amount);
+        events.publish(GameEventType.COLLECTED, to, -1, amount);
+    }
+
+    /**
+     * Pays an amount from one player to each of the other players in one step.
+     *
+     * @param payer    The player paying.
+     * @param players  The players of the game; everyone but the payer and bankrupt players is paid.
+     * @param amount   The amount each player receives.
+     * @param category What the payments are for.
+     */
+    public void payEach(Player payer, List<Player> players, int amount, LedgerCategory category) {
+        int locked = lock(stripes(players));
+        try {
+            for (Player other : players) {
+                if (other != payer && !other.isBankrupt()) {
+                    move(payer, other, amount, category);
+                }
+            }
+        } finally {
+            unlock(locked);
+        }
+        publishEach(payer, players, amount, true);
+    }
+
+    /**
+     * Collects an amount from each of the other players for one player in one step.
+     *
+     * @param payee    The player being paid.
+     * @param players  The players of the game; everyone but the payee and bankrupt players pays.
+     * @param amount   The amount each player pays.
+     * @param category What the payments are for.
+     */
+    public void collectFromEach(Player payee, List<Player> players, int amount, LedgerCategory category) {
+        int locked = lock(stripes(players));
+        try {
+            for (Player other : players) {
+                if (other != payee && !other.isBankrupt()) {
+                    move(other, payee, amount, category);
+                }
+            }
+        } finally {
+            unlock(locked);
+        }
+        publishEach(payee, players, amount, false);
+    }
+
+    private void publishEach(Player player, List<Player> players, int amount, boolean paying) {
+        for (Player other : players) {
+            if (other != player && !other.isBankrupt()) {
+                events.publish(GameEventType.PAID, paying ? player : other, -1, amount);
+                events.publish(GameEventType.COLLECTED, paying ? other : player, -1, amount);
+            }
+        }
+    }
+
+    /**
+     * Reads the money of several players at one instant, with no transfer between them half done.
+     *
+     * @param players The players.
+     * @return The money of each player, in the same order.
+     */
+    public int[] getBalances(List<Player> players) {
+        int[] balances = new int[players.size()];
+        int locked = lock(stripes(players));
+        try {
+            for (int i = 0; i < balances.length; i++) {
+                balances[i] = players.get(i).getMoney();
+            }
+        } finally {
+            unlock(locked);
+        }
+        return balances;
+    }
+
+    /**
+     * Takes a payment from a player only if the player has the money, under the player's lock.
+     * Publishes nothing; the caller reports what the money bought.
+     *
+     * @return True if the amount was taken.
+     */
+    boolean withdraw(Player player, int amount, LedgerCategory category) {
+        int locked = lock(stripe(player));
+        try {
+            if (player.getMoney() < amount) {
+                return false;
+            }
+            move(player, null, amount, category);
+            return true;
+        } finally {
+            unlock(locked);
+        }
+    }
+
+    /**
+     * Moves money between two players, or a player and the bank when one is null, and records
+     * it. The caller holds the locks of both players.
+     */
+    private void move(Player from, Player to, int amount, LedgerCategory category) {
+        if (from != null) {
+            int before = from.getMoney();
+            from.setMoney(before - amount);
+            int uncovered = amount - Math.max(0, Math.min(before, amount));
+            if (uncovered > 0) {
+                from.owe(to, uncovered);
+            }
+        }
+        if (to != null) {
+            to.setMoney(to.getMoney() + amount);
+        }
+        ledger.record(from, to, amount, category);
+    }
+
+    /**
+     * Settles the debts of a player going bankrupt, so no money is paid out of nothing. Each
+     * creditor hands back what the player paid them beyond their money, as far as the
+     * creditor can, and the bank writes off the rest, leaving the player with nothing.
+     *
+     * @param debtor The player going bankrupt, in debt.
+     * @return The player the debtor owed most, who takes over their properties, or null if
+     *         they owed the bank most.
+     */
+    public Player settleBankruptcy(Player debtor) {
+        List<Player> involved = new ArrayList<>();
+        involved.add(debtor);
+        Player creditor = null;
+        int largest = 0;
+        for (Map.Entry<Player, Integer> debt : debtor.getDebts().entrySet()) {
+            if (debt.getKey() != null) {
+                involved.add(debt.getKey());
+            }
+            if (debt.getValue() > largest) {
+                largest = debt.getValue();
+                creditor = debt.getKey();
+            }
+        }
+        int locked = lock(stripes(involved));
+        try {
+            for (Map.Entry<Player, Integer> debt : debtor.getDebts().entrySet()) {
+                Player payee = debt.getKey();
+                int back = Math.min(debt.getValue(), -debtor.getMoney());
+                if (payee != null) {
+                    back = Math.min(back, Math.max(0, payee.getMoney()));
+                }
+                if (back > 0) {
+                    move(payee, debtor, back, LedgerCategory.BANKRUPTCY);
+                }
+            }
+            if (debtor.getMoney() < 0) {
+                move(null, debtor, -debtor.getMoney(), LedgerCategory.BANKRUPTCY);
+            }
+            debtor.clearDebts();
+        } finally {
+            unlock(locked);
+        }
+        return creditor;
+    }
+
+    /**
+     * Gets the ledger of every movement of money through the bank.
+     *
+     * @return The ledger.
+     */
+    public Ledger getLedger() {
+        return ledger;
+    }
+
+    /**
+     * Gets the bit of the lock stripe guarding a player's money.
+     */
+    private static int stripe(Player player) {
+        int h = System.identityHashCode(player);
+        return 1 << ((h ^ (h >>> 16)) & (STRIPES - 1));
+    }
+
+    /**
+     * Gets the bit of the lock stripe guarding the buildings of a color group.
+     */
+    private static int stripe(ColorGroup group) {
+        return group == null ? 0 : 1 << (group.getId() & (STRIPES - 1));
+    }
+
+    private static int stripes(List<Player> players) {
+        int mask = 0;
+        for (Player player : players) {
+            mask |= stripe(player);
+        }
+        return mask;
+    }
+
+    /**
+     * Takes the locks of a set of stripes in ascending order, so no two callers wait on each other.
+     *
+     * @return The set of stripes locked, to pass to unlock.
+     */
+    private int lock(int mask) {
+        for (int m = mask; m != 0; m &= m - 1) {
+            stripes[Integer.numberOfTrailingZeros(m)].lock();
+        }
+        return mask;
+    }
+
+    private void unlock(int mask) {
+        for (int m = mask; m != 0; m &= m - 1) {
+            stripes[Integer.numberOfTrailingZeros(m)].unlock();
+        }
+    }
+
+    /**
+     * Gets the bus the bank publishes its payments on.
+     *
+     * @return The event bus.
+     */
+    public GameEventBus getEvents() {
+        return events;
+    }
+
+    /**
+     * Sets the bus the bank publishes its payments on. Called by the GameBoard that uses the bank.
+     *
+     * @param events The event bus.
+     */
+    public void setEvents(GameEventBus events) {
+        this.events = events;
     }
 
     /**
@@ -63,9 +430,59 @@ public class Bank {
      * @return List of unowned Property objects.
      */
     public List<Property> getUnownedProperties() {
-        return properties.stream()
-                .filter(property -> !property.isOwned())
-                .toList();
+        return ownership.unownedProperties();
+    }
+
+    /**
+     * Gets the unowned properties of one color group.
+     *
+     * @param group The color group.
+     * @return List of unowned Property objects in the group.
+     */
+    public List<Property> getUnownedProperties(ColorGroup group) {
+        return ownership.unownedProperties(group);
+    }
+
+    /**
+     * Gets the properties a player owns, in the order the Bank lists them.
+     *
+     * @param player The owner.
+     * @return List of the player's Property objects.
+     */
+    public List<Property> getOwnedProperties(Player player) {
+        return ownership.ownedProperties(player);
+    }
+
+    /**
+     * Checks if a player owns every property of a color group.
+     *
+     * @param player The player.
+     * @param group The color group.
+     * @return true if the player owns the whole group, false otherwise.
+     */
+    public boolean ownsFullColorGroup(Player player, ColorGroup group) {
+        return ownership.ownsFullGroup(player, group);
+    }
+
+    /**
+     * Counts the properties of a color group a player owns.
+     *
+     * @param player The player.
+     * @param group The color group.
+     * @return The number of properties owned.
+     */
+    public int countOwned(Player player, ColorGroup group) {
+        return ownership.countOwned(player, group);
+    }
+
+    /**
+     * Gets the number of properties the Bank knows about in a color group.
+     *
+     * @param group The color group.
+     * @return The size of the group.
+     */
+    public int getGroupSize(ColorGroup group) {
+        return ownership.groupSize(group);
     }
 
     /**
@@ -78,29 +495,321 @@ public class Bank {
     }
 
     /**
-     * Allows a player to buy a house for a specific property.
+     * Allows a player to buy a house for a specific property, or a hotel once it has four
+     * houses. The player must own the whole color group with none of it mortgaged, and houses
+     * go up evenly: a street can only be built on if no other street of its group has fewer
+     * buildings. A hotel hands its four houses back to the bank.
      *
      * @param player The player buying the house.
      * @param property The property to build the house on.
      * @return true if the purchase was successful, false otherwise.
      */
     public boolean buyHouse(Player player, PropertySpace property) {
-        if (property.getHouseCount() >= 4 || property.hasHotel()) {
-            System.out.println("Cannot build more houses on " + property.getName() + ".");
+        // The group's lock keeps the checks true until the building is up
+        int locked = lock(stripe(property.getGroup()) | stripe(player));
+        try {
+            return build(player, property);
+        } finally {
+            unlock(locked);
+        }
+    }
+
+    /**
+     * Checks the building rules and builds, under the locks of the player and the group.
+     */
+    private boolean build(Player player, PropertySpace property) {
+        int level = level(property);
+        if (property.getOwner() != player || level == BoardTables.HOTEL
+                || !ownership.ownsFullGroup(player, property.getGroup())) {
+            events.publish(GameEventType.BUILD_REFUSED, player, property.getLocation(), 0);
             return false;
         }
+        for (Property member : properties) {
+            if (member.getGroup() == property.getGroup() && (member.isMortgaged() || level(member) < level)) {
+                events.publish(GameEventType.BUILD_UNEVEN, player, property.getLocation(), 0);
+                return false;
+            }
+        }
+        boolean hotel = level == BoardTables.HOTEL - 1;
+        AtomicInteger stock = hotel ? hotelsLeft : housesLeft;
+        if (take(stock, 1) == 0) {
+            events.publish(GameEventType.SOLD_OUT, player, property.getLocation(), hotel ? 1 : 0);
+            return false;
+        }
+
+        int houseCost = property.getCostOfHouseHotel();
+
+        try {
+            if (withdraw(player, houseCost, LedgerCategory.BUILDING)) {
+                if (hotel) {
+                    property.setHouseCount(0);
+                    property.setHasHotel(true);
+                } else {
+                    property.setHouseCount(level + 1);
+                }
+                events.publish(GameEventType.HOUSE_BUILT, player, property.getLocation(), houseCost);
+                return true;
+            } else {
+                events.publish(GameEventType.CANNOT_AFFORD, player, property.getLocation(), houseCost);
+                return false;
+            }
+        } finally {
+            stock.incrementAndGet(); // The reservation, now built on or given up
+        }
+    }
+
+    /**
+     * Sells a house the bank has too few of to the highest of several bids. The winner pays
+     * the second-highest bid, or nothing if they bid alone, on top of the house price, so
+     * bidding what the house is worth to them is always their best bid. Ties go to the bid
+     * listed first. A bidder who cannot pay or may not build on their street is passed over.
+     *
+     * @param bids The bids, each for a house on one of the bidder's streets.
+     * @return The winning bid, or null if no bidder could build.
+     */
+    public HouseBid auctionHouse(List<HouseBid> bids) {
+        HouseBid[] ranked = bids.toArray(new HouseBid[0]);
+        int locked = lock(bidStripes(ranked, ranked.length));
+        try {
+            return sellHouses(ranked, ranked.length, 1) == 0 ? null : ranked[0];
+        } finally {
+            unlock(locked);
+        }
+    }
 
-        int houseCost = property.getCostWithOneHouse(); // Using 1-house cost as house price
+    /**
+     * Auctions every house the bank has left when more players bid than there are houses.
+     * Whether there still is a shortage is checked under the locks of every bidder and street,
+     * so a house sold or bought since the bids were collected is taken into account. The
+     * highest bidders get one house each and pay the highest bid below the houses still to
+     * sell, on top of the house price; ties go to the bid listed first, and a bidder who cannot
+     * pay or may not build on their street is passed over.
+     *
+     * @param bids The bids, each for a house on one of the bidder's streets, one per bidder.
+     * @return The winning bids, highest first, or null if the bank has no houses left or at
+     *         least one for every bid, in which case nothing is sold.
+     */
+    public List<HouseBid> auctionHouses(List<HouseBid> bids) {
+        HouseBid[] ranked = bids.toArray(new HouseBid[0]);
+        int won = auctionHouses(ranked, ranked.length);
+        return won < 0 ? null : Arrays.asList(ranked).subList(0, won);
+    }
 
-        if (player.getMoney() >= houseCost) {
-            player.setMoney(player.getMoney() - houseCost);
-            property.setHouseCount(property.getHouseCount() + 1);
-            System.out.println(player.getName() + " built a house on " + property.getName() + "!");
+    /**
+     * Auctions every house the bank has left among the first bids of an array, as
+     * auctionHouses(List) does, without allocating. The array is reordered in place: the
+     * winning bids end up at its front, highest first.
+     *
+     * @param bids  The bids, each for a house on one of the bidder's streets, one per bidder.
+     * @param count The number of bids at the front of the array.
+     * @return The number of winning bids, or -1 if the bank has no houses left or at least one
+     *         for every bid, in which case nothing is sold.
+     */
+    public int auctionHouses(HouseBid[] bids, int count) {
+        int locked = lock(bidStripes(bids, count));
+        try {
+            int houses = housesLeft.get();
+            if (houses == 0 || count <= houses) {
+                return -1;
+            }
+            return sellHouses(bids, count, houses);
+        } finally {
+            unlock(locked);
+        }
+    }
+
+    /**
+     * Sells up to a number of houses to the highest bids, while holding the locks of every bid.
+     * The bids are ranked in place, highest first and ties in their order, and the winning
+     * bids are moved to the front.
+     *
+     * @return The number of winning bids.
+     */
+    private int sellHouses(HouseBid[] bids, int count, int houses) {
+        for (int i = 1; i < count; i++) {
+            HouseBid bid = bids[i];
+            int j = i;
+            for (; j > 0 && bids[j - 1].getAmount() < bid.getAmount(); j--) {
+                bids[j] = bids[j - 1];
+            }
+            bids[j] = bid;
+        }
+        int won = 0;
+        for (int i = 0; i < count && won < houses; i++) {
+            HouseBid bid = bids[i];
+            Player bidder = bid.getBidder();
+            int next = i + houses - won; // Always past i, so the winners moved to the front do not disturb it
+            int price = next < count ? bids[next].getAmount() : 0;
+            if (bidder.getMoney() >= price + bid.getStreet().getCostOfHouseHotel() && buyHouse(bidder, bid.getStreet())) {
+                move(bidder, null, price, LedgerCategory.BUILDING);
+                events.publish(GameEventType.HOUSE_AUCTIONED, bidder, bid.getStreet().getLocation(), price);
+                bids[won++] = bid;
+            }
+        }
+        return won;
+    }
+
+    /**
+     * Gets the stripes of every bidder and of the group of every street bid on.
+     */
+    private static int bidStripes(HouseBid[] bids, int count) {
+        int mask = 0;
+        for (int i = 0; i < count; i++) {
+            mask |= stripe(bids[i].getBidder()) | stripe(bids[i].getStreet().getGroup());
+        }
+        return mask;
+    }
+
+    /**
+     * Gets the number of houses the bank still has to sell.
+     *
+     * @return The houses left.
+     */
+    public int getHousesLeft() {
+        return housesLeft.get();
+    }
+
+    /**
+     * Gets the number of hotels the bank still has to sell.
+     *
+     * @return The hotels left.
+     */
+    public int getHotelsLeft() {
+        return hotelsLeft.get();
+    }
+
+    /**
+     * Gets the building level of a property: 0 to 4 houses, or BoardTables.HOTEL.
+     */
+    private static int level(Property property) {
+        return property.hasHotel() ? BoardTables.HOTEL : property.getHouseCount();
+    }
+
+    /**
+     * Sells a house, or a hotel back down to four houses, to the bank for half its cost. Houses
+     * leave a group evenly: a street can only be sold down if no other street of its group has
+     * more buildings. If the bank has fewer than four houses to put in a hotel's place, the
+     * hotel comes down to as many as it has and the houses it cannot replace are sold with it.
+     *
+     * @param player   The owner of the street.
+     * @param property The street to sell from.
+     * @return True if the house was sold, false if the player does not own the street, it has
+     *         no buildings, or another street of its group is built higher.
+     */
+    public boolean sellHouse(Player player, PropertySpace property) {
+        int locked = lock(stripe(property.getGroup()) | stripe(player));
+        try {
+            int level = level(property);
+            if (property.getOwner() != player || level == 0) {
+                return false;
+            }
+            for (Property member : properties) {
+                if (member.getGroup() == property.getGroup() && member.getOwner() == player && level(member) > level) {
+                    return false;
+                }
+            }
+            int sold = 1;
+            if (property.hasHotel()) {
+                // The hotel comes down to four houses, or as many as the bank has, selling the rest
+                int houses = take(housesLeft, BoardTables.HOTEL - 1);
+                property.setHasHotel(false);
+                property.setHouseCount(houses);
+                housesLeft.addAndGet(houses);
+                sold = BoardTables.HOTEL - houses;
+            } else {
+                property.setHouseCount(level - 1);
+            }
+            int refund = sold * (property.getCostOfHouseHotel() / 2);
+            move(null, player, refund, LedgerCategory.BUILDING);
+            events.publish(GameEventType.HOUSE_SOLD, player, property.getLocation(), refund);
             return true;
-        } else {
-            System.out.println(player.getName() + " doesn't have enough money to build a house.");
+        } finally {
+            unlock(locked);
+        }
+    }
+
+    /**
+     * Checks if a trade can be executed now: each side owns what it hands over, has the cash
+     * and Get Out of Jail Free cards it offers, and no property changing hands is in a color
+     * group with buildings.
+     *
+     * @param offer The trade.
+     * @return True if the trade can be executed.
+     */
+    public boolean canTrade(TradeOffer offer) {
+        int locked = lock(stripes(offer));
+        try {
+            return canHandOver(offer.getProposer(), offer.getOffered())
+                    && canHandOver(offer.getRecipient(), offer.getRequested());
+        } finally {
+            unlock(locked);
+        }
+    }
+
+    /**
+     * Gets the stripes of both sides of a trade and of the groups of every property in it.
+     */
+    private static int stripes(TradeOffer offer) {
+        int mask = stripe(offer.getProposer()) | stripe(offer.getRecipient());
+        for (Property property : offer.getOffered().getProperties()) {
+            mask |= stripe(property.getGroup());
+        }
+        for (Property property : offer.getRequested().getProperties()) {
+            mask |= stripe(property.getGroup());
+        }
+        return mask;
+    }
+
+    private boolean canHandOver(Player player, TradeBundle bundle) {
+        if (player.getMoney() < bundle.getCash() || player.getGetOutOfJailFreeCards() < bundle.getJailCards()) {
             return false;
         }
+        for (Property property : bundle.getProperties()) {
+            if (property.getOwner() != player) {
+                return false;
+            }
+            for (Property member : properties) {
+                if (member.getGroup() == property.getGroup() && (member.getHouseCount() > 0 || member.hasHotel())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Executes a trade. Everything is checked before anything moves, so the trade happens
+     * completely or not at all, and neither trades nor transfers touching the same players
+     * interleave with it.
+     *
+     * @param offer The trade.
+     * @throws IllegalStateException if the trade cannot be executed now.
+     */
+    public void trade(TradeOffer offer) {
+        // Properties change owner, which takes every stripe, so take them all now in order
+        int locked = lock(ALL_STRIPES);
+        try {
+            if (!canTrade(offer)) {
+                throw new IllegalStateException("The trade cannot be executed: " + offer);
+            }
+            handOver(offer.getProposer(), offer.getRecipient(), offer.getOffered());
+            handOver(offer.getRecipient(), offer.getProposer(), offer.getRequested());
+        } finally {
+            unlock(locked);
+        }
+        events.publish(GameEventType.TRADED, offer.getProposer(), offer.getRecipient(), -1,
+                offer.getRequested().getCash() - offer.getOffered().getCash(), null);
     }
 
-}
\ No newline at end of file
+    private void handOver(Player from, Player to, TradeBundle bundle) {
+        for (Property property : bundle.getProperties()) {
+            property.setOwner(to);
+            from.getProperties().remove(property);
+            to.addProperty(property);
+        }
+        if (bundle.getCash() > 0) {
+            move(from, to, bundle.getCash(), LedgerCategory.TRADE);
+        }
+        from.giveJailCards(to, bundle.getJailCards());
+    }
+}
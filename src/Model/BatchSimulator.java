@@ -0,0 +1,192 @@
+/**
+ * The BatchSimulator runs complete computer-vs-computer games without the GUI.
+ * Games are independent, so they are spread across a fixed pool of worker threads,
+ * one consecutive range of the games per thread. Each game is played with GameState.handleTurn()
+ * until one player is left or the turn cap is reached.
+ *
+ * Console messages from the model are silenced on the worker threads through GameLog.runQuietly.
+ * Game number i always uses Dice.split(seed, i), so a batch with the same seed plays exactly
+ * the same games whatever the thread count.
+ *
+ * Usage: java -cp monopoly-game.jar Model.BatchSimulator [games] [players] [turnCap] [threads] [seed]
+ */
+package Model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class BatchSimulator {
+    private static final int ROLL_BUFFER_SIZE = 256; // Rolls pre-generated at a time for each game
+    private final int playersPerGame; // Number of computer players in each game
+    private final int turnCap; // Maximum number of turns before a game is stopped
+    private final int threads; // Number of worker threads
+
+    /**
+     * Constructs a BatchSimulator that uses every available core.
+     *
+     * @param playersPerGame The number of computer players in each game.
+     * @param turnCap        The maximum number of turns in a single game.
+     */
+    public BatchSimulator(int playersPerGame, int turnCap) {
+        this(playersPerGame, turnCap, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a BatchSimulator with the specified number of worker threads.
+     *
+     * @param playersPerGame The number of computer players in each game.
+     * @param turnCap        The maximum number of turns in a single game.
+     * @param threads        The number of worker threads.
+     * @throws IllegalArgumentException if any argument is out of range.
+     */
+    public BatchSimulator(int playersPerGame, int turnCap, int threads) {
+        if (playersPerGame < 2) {
+            throw new IllegalArgumentException("A game needs at least two players");
+        }
+        if (turnCap < 1) {
+            throw new IllegalArgumentException("Turn cap must be positive");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be positive");
+        }
+        this.playersPerGame = playersPerGame;
+        this.turnCap = turnCap;
+        this.threads = threads;
+    }
+
+    /**
+     * Runs the specified number of games and collects throughput figures.
+     *
+     * @param games The number of games to play.
+     * @return The combined result of all games.
+     */
+    public SimulationResult run(int games) {
+        return run(games, new Dice().nextLong());
+    }
+
+    /**
+     * Runs the specified number of games from a batch seed and collects throughput figures.
+     *
+     * @param games The number of games to play.
+     * @param seed  The seed every game's dice are derived from.
+     * @return The combined result of all games.
+     */
+    public SimulationResult run(int games, long seed) {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        try {
+            List<Future<SimulationResult>> shares = new ArrayList<>();
+            int from = 0;
+            for (int i = 0; i < threads; i++) {
+                int first = from;
+                int to = from + games / threads + (i < games % threads ? 1 : 0);
+                if (to > first) {
+                    shares.add(pool.submit(() -> GameLog.callQuietly(() -> playGames(first, to, seed))));
+                }
+                from = to;
+            }
+
+            SimulationResult total = new SimulationResult(0, 0, 0, 0);
+            for (Future<SimulationResult> share : shares) {
+                total = total.combine(share.get());
+            }
+            return total.withElapsedNanos(System.nanoTime() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Plays a range of the games on the calling thread.
+     *
+     * @param from The number of the first game to play.
+     * @param to   One past the number of the last game to play.
+     * @param seed The batch seed every game's dice are split from.
+     * @return The result of the games played.
+     */
+    private SimulationResult playGames(int from, int to, long seed) {
+        long turns = 0;
+        int bankruptcies = 0;
+        for (int i = from; i < to; i++) {
+            Dice gameDice = Dice.split(seed, i);
+            gameDice.setRollBufferSize(ROLL_BUFFER_SIZE);
+            GameState game = newHeadlessGame(playersPerGame, gameDice);
+            turns += playGame(game, turnCap);
+            List<Player> players = game.getPlayers();
+            for (int player = 0; player < players.size(); player++) {
+                if (players.get(player).isBankrupt()) {
+                    bankruptcies++;
+                }
+            }
+        }
+        return new SimulationResult(to - from, turns, bankruptcies, 0);
+    }
+
+    /**
+     * Creates a game with only computer players and no GUI.
+     *
+     * @param playerCount The number of computer players.
+     * @return The new game state.
+     */
+    public static GameState newHeadlessGame(int playerCount) {
+        return newHeadlessGame(playerCount, new Dice());
+    }
+
+    /**
+     * Creates a game with only computer players and no GUI, played with the specified dice.
+     *
+     * @param playerCount The number of computer players.
+     * @param dice        The dice of the game.
+     * @return The new game state.
+     */
+    public static GameState newHeadlessGame(int playerCount, Dice dice) {
+        List<Player> players = new ArrayList<>();
+        GameBoard board = new GameBoard(players, true, new Bank(new ArrayList<>()), dice);
+
+        List<String> tokens = GameBoard.TOKENS;
+        for (int i = 0; i < playerCount; i++) {
+            ComputerPlayer player = new ComputerPlayer("Computer " + (i + 1), tokens.get(i % tokens.size()), board);
+            player.setPlayerIndex(i);
+            players.add(player);
+        }
+        return new GameState(board);
+    }
+
+    /**
+     * Plays a game until one player is left or the turn cap is reached. Players in debt
+     * raise the money or go bankrupt within each turn, and the game ends when all but one
+     * of them have gone bankrupt.
+     *
+     * @param game    The game to play.
+     * @param turnCap The maximum number of turns to play.
+     * @return The number of turns played.
+     */
+    public static int playGame(GameState game, int turnCap) {
+        int turns = 0;
+        while (!game.isGameOver() && turns < turnCap) {
+            game.handleTurn();
+            turns++;
+        }
+        return turns;
+    }
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int players = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int turnCap = args.length > 2 ? Integer.parseInt(args[2]) : 1_000;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : new Dice().nextLong();
+
+        SimulationResult result = new BatchSimulator(players, turnCap, threads).run(games, seed);
+        System.out.println(result);
+    }
+}
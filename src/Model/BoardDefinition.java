@@ -0,0 +1,363 @@
+/**
+ * The BoardDefinition is the fixed part of a board: the definitions of its spaces in order, the
+ * groups they belong to and the Chance and Community Chest cards. It is immutable and shared by every game played on it,
+ * together with the BoardTables compiled from it, so any number of concurrent games hold one
+ * copy of the board between them.
+ *
+ * Boards are kept as data files in the Boards folder and read with load or read; the classic
+ * board is loaded once from Boards/classic.board on the class path.
+ *
+ * What changes during a game lives with that game: the owners, buildings and mortgages of the
+ * spaces and the order of the decks. A GameBoard keeps them in the Space objects it makes from
+ * the definition, which refer back to their SpaceDefinition, and in decks of the Card objects
+ * made once here; a CompactGameState keeps them in a few small arrays.
+ */
+package Model;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class BoardDefinition {
+    private static final String CLASSIC_RESOURCE = "/Boards/classic.board"; // Board file of the standard board
+    private static final String[] SPACE_KINDS = {"go", "street", "railroad", "utility", "tax", "chance",
+            "community_chest", "jail", "go_to_jail", "free_parking"}; // Board file names of the BoardTables types
+    private static final BoardDefinition CLASSIC = classicBoard(); // The standard board
+    private final List<SpaceDefinition> spaces; // Spaces in board order
+    private final List<ColorGroup> groups; // Groups of the ownable spaces in id order
+    private final List<CardDefinition> chanceCards; // Chance cards in id order
+    private final List<CardDefinition> communityCards; // Community Chest cards in id order
+    private final List<ChanceCard> chanceDeckCards; // Chance cards dealt into every game's deck
+    private final List<CommunityChestCard> communityDeckCards; // Community Chest cards dealt into every game's deck
+    private final BoardTables tables; // Lookup tables compiled from the definition
+
+    /**
+     * Constructs a board definition.
+     *
+     * @param spaces         The spaces in board order.
+     * @param chanceCards    The Chance cards.
+     * @param communityCards The Community Chest cards.
+     * @throws IllegalArgumentException if the board is empty, has no Jail space, two groups
+     *                                  share an id, or a card moves to a space the board does not have.
+     */
+    public BoardDefinition(List<SpaceDefinition> spaces, List<CardDefinition> chanceCards,
+                           List<CardDefinition> communityCards) {
+        if (spaces.isEmpty()) {
+            throw new IllegalArgumentException("A board needs at least one space");
+        }
+        this.spaces = List.copyOf(spaces);
+        this.groups = groupsOf(this.spaces);
+        this.chanceCards = List.copyOf(chanceCards);
+        this.communityCards = List.copyOf(communityCards);
+        this.tables = new BoardTables(this);
+        checkCards(this.chanceCards);
+        checkCards(this.communityCards);
+        this.chanceDeckCards = ChanceCard.fromDefinitions(this.chanceCards);
+        this.communityDeckCards = CommunityChestCard.fromDefinitions(this.communityCards);
+    }
+
+    /**
+     * Lists the groups the spaces belong to by id, refusing different groups with one id.
+     */
+    private static List<ColorGroup> groupsOf(List<SpaceDefinition> spaces) {
+        List<ColorGroup> byId = new ArrayList<>();
+        for (SpaceDefinition space : spaces) {
+            ColorGroup group = space.getGroup();
+            if (group == null) {
+                continue;
+            }
+            while (byId.size() <= group.getId()) {
+                byId.add(null);
+            }
+            ColorGroup known = byId.get(group.getId());
+            if (known != null && known != group) {
+                throw new IllegalArgumentException("Groups " + known + " and " + group + " share id " + group.getId());
+            }
+            byId.set(group.getId(), group);
+        }
+        List<ColorGroup> groups = new ArrayList<>();
+        for (ColorGroup group : byId) {
+            if (group != null) {
+                groups.add(group);
+            }
+        }
+        return List.copyOf(groups);
+    }
+
+    private void checkCards(List<CardDefinition> cards) {
+        for (CardDefinition card : cards) {
+            CardEffect effect = card.getEffect();
+            if (effect.getOp() == CardOp.MOVE_TO && (effect.getFirst() < 0 || effect.getFirst() >= size())) {
+                throw new IllegalArgumentException("\"" + card.getText() + "\" moves off the board");
+            }
+            if (effect.getOp() == CardOp.NEAREST) {
+                if (effect.getFirst() < 0 || effect.getFirst() >= BoardTables.TYPES) {
+                    throw new IllegalArgumentException("\"" + card.getText() + "\" moves to an unknown kind of space");
+                }
+                tables.nextOfType(0, (byte) effect.getFirst());
+            }
+        }
+    }
+
+    /**
+     * Gets the standard 40-space board.
+     *
+     * @return The shared definition of the classic board.
+     */
+    public static BoardDefinition classic() {
+        return CLASSIC;
+    }
+
+    public int size() {
+        return spaces.size();
+    }
+
+    public SpaceDefinition getSpace(int position) {
+        return spaces.get(position);
+    }
+
+    public List<SpaceDefinition> getSpaces() {
+        return spaces;
+    }
+
+    /**
+     * Gets the groups of the board's ownable spaces.
+     *
+     * @return The groups in id order.
+     */
+    public List<ColorGroup> getGroups() {
+        return groups;
+    }
+
+    /**
+     * Gets the number of group ids of the board, which sizes tables indexed by group.
+     *
+     * @return One more than the largest group id, or 0 if nothing can be owned.
+     */
+    public int groupCount() {
+        return groups.isEmpty() ? 0 : groups.get(groups.size() - 1).getId() + 1;
+    }
+
+    /**
+     * Finds one of the board's groups by its display name, ignoring case.
+     *
+     * @param name The display name.
+     * @return The group, or null if the board has no group with that name.
+     */
+    public ColorGroup findGroup(String name) {
+        return ColorGroup.find(groups, name);
+    }
+
+    public List<CardDefinition> getChanceCards() {
+        return chanceCards;
+    }
+
+    public List<CardDefinition> getCommunityCards() {
+        return communityCards;
+    }
+
+    /**
+     * Gets the Chance cards every game on this board deals into its deck.
+     *
+     * @return The shared cards in id order.
+     */
+    List<ChanceCard> getChanceDeckCards() {
+        return chanceDeckCards;
+    }
+
+    /**
+     * Gets the Community Chest cards every game on this board deals into its deck.
+     *
+     * @return The shared cards in id order.
+     */
+    List<CommunityChestCard> getCommunityDeckCards() {
+        return communityDeckCards;
+    }
+
+    /**
+     * Gets the lookup tables compiled from this definition, shared by every game on the board.
+     *
+     * @return The tables.
+     */
+    public BoardTables getTables() {
+        return tables;
+    }
+
+    /**
+     * Loads a board definition from a board file. The format is described at the top of
+     * Boards/classic.board: one space or card per line, fields separated by '|', with blank
+     * lines and lines starting with '#' ignored.
+     *
+     * @param path The board file.
+     * @return The definition.
+     * @throws IOException              if the file cannot be read.
+     * @throws IllegalArgumentException if the file does not describe a valid board.
+     */
+    public static BoardDefinition load(Path path) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return read(reader, path.toString());
+        }
+    }
+
+    /**
+     * Reads a board definition in the board file format.
+     *
+     * @param reader The reader to read from.
+     * @param source The name of the source, used in error messages.
+     * @return The definition.
+     * @throws IOException              if the reader fails.
+     * @throws IllegalArgumentException if the text does not describe a valid board.
+     */
+    public static BoardDefinition read(BufferedReader reader, String source) throws IOException {
+        List<SpaceDefinition> spaces = new ArrayList<>();
+        List<ColorGroup> groups = new ArrayList<>();
+        List<String[]> chanceLines = new ArrayList<>();
+        List<String[]> communityLines = new ArrayList<>();
+        List<Integer> chanceNumbers = new ArrayList<>();
+        List<Integer> communityNumbers = new ArrayList<>();
+        String line;
+        int number = 0;
+        while ((line = reader.readLine()) != null) {
+            number++;
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split("\\|", -1);
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = fields[i].strip();
+            }
+            try {
+                switch (fields[0]) {
+                    case "chance_card" -> {
+                        chanceLines.add(fields);
+                        chanceNumbers.add(number);
+                    }
+                    case "community_card" -> {
+                        communityLines.add(fields);
+                        communityNumbers.add(number);
+                    }
+                    case "group" -> groups.add(parseGroup(fields, groups));
+                    default -> spaces.add(parseSpace(fields, groups));
+                }
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException(source + ":" + number + ": " + e.getMessage(), e);
+            }
+        }
+        // Cards are read after the spaces, so a card may move to a space by name wherever it is listed
+        List<CardDefinition> chance = parseCards(chanceLines, chanceNumbers, spaces, source);
+        List<CardDefinition> community = parseCards(communityLines, communityNumbers, spaces, source);
+        try {
+            return new BoardDefinition(spaces, chance, community);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(source + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static ColorGroup parseGroup(String[] fields, List<ColorGroup> groups) {
+        if (ColorGroup.find(groups, fields[1]) != null) {
+            throw new IllegalArgumentException("Group " + fields[1] + " is already defined");
+        }
+        ColorGroup.Kind kind = fields.length > 2 ? ColorGroup.Kind.valueOf(fields[2].toUpperCase()) : ColorGroup.Kind.STREET;
+        return ColorGroup.of(groups.size(), fields[1], kind);
+    }
+
+    /**
+     * Finds a group by name, or the first group of a kind when no name is given, adding it
+     * with the next id if the board has not defined it yet.
+     */
+    private static ColorGroup group(List<ColorGroup> groups, String name, ColorGroup.Kind kind) {
+        for (ColorGroup group : groups) {
+            if (name == null ? group.getKind() == kind : group.getDisplayName().equalsIgnoreCase(name)) {
+                return group;
+            }
+        }
+        String displayName = name != null ? name : kind == ColorGroup.Kind.RAILROAD ? "Railroad" : "Utility";
+        ColorGroup group = ColorGroup.of(groups.size(), displayName, kind);
+        groups.add(group);
+        return group;
+    }
+
+    private static SpaceDefinition parseSpace(String[] fields, List<ColorGroup> groups) {
+        return switch (fields[0]) {
+            case "go" -> SpaceDefinition.go();
+            case "jail" -> SpaceDefinition.jail();
+            case "go_to_jail" -> SpaceDefinition.goToJail();
+            case "free_parking" -> SpaceDefinition.freeParking();
+            case "chance" -> SpaceDefinition.chance();
+            case "community_chest" -> SpaceDefinition.communityChest();
+            case "tax" -> SpaceDefinition.tax(fields[1], Integer.parseInt(fields[2]));
+            case "street" -> SpaceDefinition.street(fields[1], group(groups, fields[2], ColorGroup.Kind.STREET),
+                    Integer.parseInt(fields[3]), numbers(fields[4]), Integer.parseInt(fields[5]), Integer.parseInt(fields[6]));
+            case "railroad" -> SpaceDefinition.railroad(fields[1], group(groups, null, ColorGroup.Kind.RAILROAD),
+                    Integer.parseInt(fields[2]), numbers(fields[3]), Integer.parseInt(fields[4]));
+            case "utility" -> SpaceDefinition.utility(fields[1], group(groups, null, ColorGroup.Kind.UTILITY),
+                    Integer.parseInt(fields[2]), Integer.parseInt(fields[3]));
+            default -> throw new IllegalArgumentException("Unknown kind of space " + fields[0]);
+        };
+    }
+
+    private static int[] numbers(String field) {
+        String[] parts = field.split(",");
+        int[] numbers = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            numbers[i] = Integer.parseInt(parts[i].strip());
+        }
+        return numbers;
+    }
+
+    private static List<CardDefinition> parseCards(List<String[]> lines, List<Integer> numbers,
+                                                   List<SpaceDefinition> spaces, String source) {
+        List<CardDefinition> cards = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            String[] fields = lines.get(i);
+            try {
+                CardOp op = CardOp.valueOf(fields[2]);
+                int first = fields.length > 3 ? operand(fields[3], op, spaces) : 0;
+                int second = fields.length > 4 ? Integer.parseInt(fields[4]) : 0;
+                cards.add(new CardDefinition(fields[1], new CardEffect(op, first, second)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException(source + ":" + numbers.get(i) + ": " + e.getMessage(), e);
+            }
+        }
+        return cards;
+    }
+
+    private static int operand(String field, CardOp op, List<SpaceDefinition> spaces) {
+        if (op == CardOp.NEAREST) {
+            for (int type = 0; type < SPACE_KINDS.length; type++) {
+                if (SPACE_KINDS[type].equalsIgnoreCase(field)) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("Unknown kind of space " + field);
+        }
+        if (op == CardOp.MOVE_TO && !field.isEmpty() && !Character.isDigit(field.charAt(0))) {
+            for (int position = 0; position < spaces.size(); position++) {
+                if (spaces.get(position).getName().equalsIgnoreCase(field)) {
+                    return position;
+                }
+            }
+            throw new IllegalArgumentException("No space named " + field);
+        }
+        return field.isEmpty() ? 0 : Integer.parseInt(field);
+    }
+
+    private static BoardDefinition classicBoard() {
+        try (InputStream stream = BoardDefinition.class.getResourceAsStream(CLASSIC_RESOURCE)) {
+            if (stream == null) {
+                throw new IllegalStateException("Missing board file " + CLASSIC_RESOURCE);
+            }
+            return read(new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8)), CLASSIC_RESOURCE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,303 @@
+/**
+ * The BoardTables hold the fixed data of a board as flat primitive arrays indexed by position:
+ * the kind of each space, prices, rent tiers, house costs, mortgage values, tax amounts and
+ * color groups, along with the effects of the Chance and Community Chest cards. They are
+ * compiled once from a BoardDefinition and never change, so every game on the board, whether
+ * a GameBoard or a CompactGameState, shares one copy through BoardDefinition.getTables().
+ */
+package Model;
+
+import java.util.List;
+
+public class BoardTables {
+    public static final byte GO = 0;
+    public static final byte STREET = 1;
+    public static final byte RAILROAD = 2;
+    public static final byte UTILITY = 3;
+    public static final byte TAX = 4;
+    public static final byte CHANCE = 5;
+    public static final byte COMMUNITY_CHEST = 6;
+    public static final byte JAIL = 7;
+    public static final byte GO_TO_JAIL = 8;
+    public static final byte FREE_PARKING = 9;
+    public static final int TYPES = 10; // Number of space types
+
+    public static final int RENT_TIERS = 7; // Site, color set, one to four houses, hotel
+    public static final int HOTEL = 5; // Building level of a hotel
+
+    private final int size; // Number of spaces
+    private final byte[] type; // Kind of space at each position
+    private final int[] price; // Purchase price, 0 for spaces that cannot be bought
+    private final int[] rent; // Rent tiers, RENT_TIERS entries per position
+    private final int[] houseCost; // Price of one house or hotel
+    private final int[] mortgageValue; // Amount the bank lends on the space
+    private final int[] tax; // Tax due on a tax space
+    private final int[] group; // Group id of each ownable space, -1 for the others
+    private final int[] groupSize; // Number of spaces in each group, by group id
+    private final int[][] groupMembers; // Positions of the spaces in each group, by group id
+    private final int[] nextOfType; // Next space of each type after each position, type * size + position, -1 if none
+    private final int goPosition;
+    private final int jailPosition;
+    private final RentTable rentTable; // Rent of every space in every situation
+    private final CardEffect[] chanceCards; // Chance effects by card id
+    private final CardEffect[] communityCards; // Community Chest effects by card id
+
+    /**
+     * Reads the tables from the definition of the board a game is played on.
+     *
+     * @param board The board to read.
+     * @throws IllegalArgumentException if the board has no Jail space.
+     */
+    public BoardTables(GameBoard board) {
+        this(board.getDefinition());
+    }
+
+    /**
+     * Compiles the tables of a board definition.
+     *
+     * @param definition The board to compile.
+     * @throws IllegalArgumentException if the board has no Jail space.
+     */
+    public BoardTables(BoardDefinition definition) {
+        List<SpaceDefinition> spaces = definition.getSpaces();
+        this.size = spaces.size();
+        this.type = new byte[size];
+        this.price = new int[size];
+        this.rent = new int[size * RENT_TIERS];
+        this.houseCost = new int[size];
+        this.mortgageValue = new int[size];
+        this.tax = new int[size];
+        this.group = new int[size];
+
+        this.groupSize = new int[definition.groupCount()];
+        int go = 0;
+        int jail = -1;
+        for (int position = 0; position < size; position++) {
+            SpaceDefinition space = spaces.get(position);
+            type[position] = space.getType();
+            price[position] = space.getPrice();
+            for (int tier = 0; tier < RENT_TIERS; tier++) {
+                rent[position * RENT_TIERS + tier] = space.getRent(tier);
+            }
+            houseCost[position] = space.getHouseCost();
+            mortgageValue[position] = space.getMortgageValue();
+            tax[position] = space.getTax();
+            group[position] = -1;
+            if (space.getGroup() != null) {
+                group[position] = space.getGroup().getId();
+                groupSize[space.getGroup().getId()]++;
+            }
+            if (space.getType() == GO) {
+                go = position;
+            } else if (space.getType() == JAIL) {
+                jail = position;
+            }
+        }
+        if (jail < 0) {
+            throw new IllegalArgumentException("Board has no Jail space");
+        }
+        this.goPosition = go;
+        this.jailPosition = jail;
+        this.groupMembers = new int[groupSize.length][];
+        for (int g = 0; g < groupSize.length; g++) {
+            groupMembers[g] = new int[groupSize[g]];
+        }
+        int[] filled = new int[groupSize.length];
+        for (int position = 0; position < size; position++) {
+            if (group[position] >= 0) {
+                groupMembers[group[position]][filled[group[position]]++] = position;
+            }
+        }
+        this.nextOfType = new int[TYPES * size];
+        for (int t = 0; t < TYPES; t++) {
+            // Walk backwards twice round the board, so every position sees the first space of the type after it
+            int next = -1;
+            for (int step = 2 * size - 1; step >= 0; step--) {
+                int position = step % size;
+                nextOfType[t * size + position] = next;
+                if (type[position] == t) {
+                    next = position;
+                }
+            }
+        }
+        this.rentTable = new RentTable(this);
+        this.chanceCards = effects(definition.getChanceCards());
+        this.communityCards = effects(definition.getCommunityCards());
+    }
+
+    private static CardEffect[] effects(List<CardDefinition> cards) {
+        CardEffect[] effects = new CardEffect[cards.size()];
+        for (int id = 0; id < effects.length; id++) {
+            effects[id] = cards.get(id).getEffect();
+        }
+        return effects;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public byte type(int position) {
+        return type[position];
+    }
+
+    public int price(int position) {
+        return price[position];
+    }
+
+    /**
+     * Gets one rent tier of a space. For streets tier 0 is the site rent, tier 1 the color set
+     * rent, tiers 2 to 5 one to four houses and tier 6 a hotel. For railroads tier n is the rent
+     * for owning n railroads.
+     *
+     * @param position The position of the space.
+     * @param tier     The rent tier.
+     * @return The rent.
+     */
+    public int rent(int position, int tier) {
+        return rent[position * RENT_TIERS + tier];
+    }
+
+    public int houseCost(int position) {
+        return houseCost[position];
+    }
+
+    public int mortgageValue(int position) {
+        return mortgageValue[position];
+    }
+
+    public int tax(int position) {
+        return tax[position];
+    }
+
+    /**
+     * Gets the group of a space, which is the color group of a street, or the railroad
+     * or utility group.
+     *
+     * @param position The position of the space.
+     * @return The group id, or -1 if the space cannot be owned.
+     */
+    public int group(int position) {
+        return group[position];
+    }
+
+    /**
+     * Gets the number of group ids of the board, which sizes tables indexed by group.
+     *
+     * @return One more than the largest group id.
+     */
+    public int groupCount() {
+        return groupSize.length;
+    }
+
+    public int groupSize(int group) {
+        return groupSize[group];
+    }
+
+    /**
+     * Gets the positions of the spaces in a group, in board order. The array is shared and
+     * must not be changed.
+     *
+     * @param group The group id.
+     * @return The positions of the group's spaces.
+     */
+    public int[] groupMembers(int group) {
+        return groupMembers[group];
+    }
+
+    public boolean isOwnable(int position) {
+        return group[position] >= 0;
+    }
+
+    public int goPosition() {
+        return goPosition;
+    }
+
+    public int jailPosition() {
+        return jailPosition;
+    }
+
+    public RentTable rentTable() {
+        return rentTable;
+    }
+
+    /**
+     * Finds the next space of a type after a position, going round the board.
+     *
+     * @param position The starting position.
+     * @param type     The space type.
+     * @return The position of the next space of that type.
+     * @throws IllegalArgumentException if the board has no space of that type.
+     */
+    public int nextOfType(int position, byte type) {
+        int next = nextOfType[type * size + position];
+        if (next < 0) {
+            throw new IllegalArgumentException("Board has no space of type " + type);
+        }
+        return next;
+    }
+
+    /**
+     * Gets the position a number of steps away, going round the board.
+     *
+     * @param position The starting position.
+     * @param steps    The number of steps, negative to move back.
+     * @return The position reached.
+     */
+    public int advance(int position, int steps) {
+        int to = position + steps;
+        if (to >= size) {
+            to -= size;
+        } else if (to < 0) {
+            to += size;
+        }
+        return to >= 0 && to < size ? to : Math.floorMod(to, size);
+    }
+
+    /**
+     * Checks if moving forward from one position to another passes or lands on Go.
+     *
+     * @param from The starting position.
+     * @param to   The position reached.
+     * @return True if the move collects Go salary.
+     */
+    public boolean passesGo(int from, int to) {
+        int moved = to - from;
+        if (moved < 0) {
+            moved += size;
+        }
+        int toGo = goPosition - from;
+        if (toGo <= 0) {
+            toGo += size;
+        }
+        return moved > 0 && moved >= toGo;
+    }
+
+    /**
+     * Gets the effect of a Chance card.
+     *
+     * @param id The card id, its place in the order the deck was built.
+     * @return The effect.
+     */
+    public CardEffect chanceCard(int id) {
+        return chanceCards[id];
+    }
+
+    public int chanceCardCount() {
+        return chanceCards.length;
+    }
+
+    /**
+     * Gets the effect of a Community Chest card.
+     *
+     * @param id The card id, its place in the order the deck was built.
+     * @return The effect.
+     */
+    public CardEffect communityCard(int id) {
+        return communityCards[id];
+    }
+
+    public int communityCardCount() {
+        return communityCards.length;
+    }
+}
@@ -0,0 +1,45 @@
+/**
+ * The BuildPlan is the answer of the BuildPlanner: the houses and hotels a player builds with
+ * the cash they can spare, with what they cost and how much more rent they are expected to earn.
+ * Buildings are listed one entry per house or hotel, in an order that keeps every color group
+ * evenly built, so they can be bought one after another as listed.
+ */
+package Model;
+
+import java.util.List;
+
+public final class BuildPlan {
+    private final List<PropertySpace> builds; // Street of each house or hotel, in building order
+    private final int cost; // Cash the buildings cost
+    private final double rentGain; // Expected rent added per opponent turn
+
+    BuildPlan(List<PropertySpace> builds, int cost, double rentGain) {
+        this.builds = List.copyOf(builds);
+        this.cost = cost;
+        this.rentGain = rentGain;
+    }
+
+    public List<PropertySpace> getBuilds() {
+        return builds;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * Gets the rent the buildings are expected to add each time an opponent takes a turn:
+     * the rise in rent of every street built on, weighted by the chance of landing on it.
+     *
+     * @return The expected rent gained per opponent turn.
+     */
+    public double getRentGain() {
+        return rentGain;
+    }
+
+    @Override
+    public String toString() {
+        return "Build " + builds.size() + " houses and hotels for $" + cost
+                + String.format(" earning $%.2f more per opponent turn", rentGain);
+    }
+}
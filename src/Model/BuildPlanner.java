@@ -0,0 +1,237 @@
+/**
+ * The BuildPlanner chooses what a player builds with the cash they can spare. A house raises the
+ * rent of its street, and an opponent pays that rent as often as they land there, so each house
+ * is worth its rise in rent times the long-run chance of landing on the street. The planner
+ * finds the buildings that add the most expected rent per opponent turn without spending below
+ * a cash reserve or taking more houses and hotels than the bank has left.
+ *
+ * The rules only tie streets within one color group: a group can be built on only when the
+ * player owns all of it unmortgaged, and houses go up evenly. So the planner lists each group's
+ * choices first, building it up by 0, 1, 2 ... houses on the least built street each time, and
+ * picks one choice per group as a multiple-choice knapsack, solved exactly by a dynamic program
+ * over the cash spent and the houses and hotels taken. Cash is counted in units of the greatest
+ * common divisor of the house costs, and every dimension is capped at what the groups could
+ * use, so the table stays small and a plan takes well under a millisecond.
+ *
+ * Building hotels hands houses back to the bank, but the houses must be there to build up to
+ * four first, so each choice is charged the most houses it holds at any point of its building.
+ * Landing probabilities depend only on the board, so they are solved once per board and shared.
+ */
+package Model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+public class BuildPlanner {
+    private static final Map<BoardTables, double[]> LANDING =
+            Collections.synchronizedMap(new WeakHashMap<>()); // Landing probabilities of each board
+
+    private final GameBoard board; // The board built on
+    private final BoardTables tables; // Fixed data of the board
+    private final double[] landing; // Chance of an opponent's turn ending on each space
+
+    /**
+     * Constructs a planner for a board, solving its landing probabilities if no planner has yet.
+     *
+     * @param board The board to build on.
+     */
+    public BuildPlanner(GameBoard board) {
+        this(board, LANDING.computeIfAbsent(board.getTables(), tables -> new LandingProbabilitySolver(board).solve()));
+    }
+
+    /**
+     * Constructs a planner that weighs rents by the specified landing probabilities.
+     *
+     * @param board   The board to build on.
+     * @param landing The chance of an opponent's turn ending on each space, by position.
+     * @throws IllegalArgumentException if there is not one probability per space.
+     */
+    public BuildPlanner(GameBoard board, double[] landing) {
+        if (landing.length != board.getTables().size()) {
+            throw new IllegalArgumentException("Expected " + board.getTables().size() + " landing probabilities, got " + landing.length);
+        }
+        this.board = board;
+        this.tables = board.getTables();
+        this.landing = landing;
+    }
+
+    /**
+     * Finds the buildings that add the most expected rent for a player, keeping a cash reserve.
+     *
+     * @param player  The player building.
+     * @param reserve The cash the player keeps back.
+     * @return The plan, empty if the player has nothing to build on or no cash to spare.
+     */
+    public BuildPlan plan(Player player, int reserve) {
+        int budget = player.getMoney() - reserve;
+        List<Group> groups = new ArrayList<>();
+        for (int g = 0; budget > 0 && g < tables.groupCount(); g++) {
+            Group group = buildable(player, g);
+            if (group != null) {
+                groups.add(group);
+            }
+        }
+        if (groups.isEmpty()) {
+            return new BuildPlan(List.of(), 0, 0);
+        }
+
+        int unit = 0;
+        int spendable = 0;
+        int houseDemand = 0;
+        int hotelDemand = 0;
+        for (Group group : groups) {
+            int last = group.cost.length - 1;
+            for (int option = 1; option <= last; option++) {
+                unit = gcd(unit, group.cost[option]);
+            }
+            spendable += group.cost[last];
+            houseDemand += group.houses[last];
+            hotelDemand += group.hotels[last];
+        }
+        unit = Math.max(unit, 1);
+        Bank bank = board.getBank();
+        int cashCap = Math.min(budget, spendable) / unit;
+        int houseCap = Math.min(bank.getHousesLeft(), houseDemand);
+        int hotelCap = Math.min(bank.getHotelsLeft(), hotelDemand);
+        int houseStates = houseCap + 1;
+        int hotelStates = hotelCap + 1;
+        int states = (cashCap + 1) * houseStates * hotelStates;
+
+        // best[s] is the most rent gained spending at most the cash, houses and hotels of state s
+        double[] best = new double[states];
+        double[] next = new double[states];
+        int[][] choice = new int[groups.size()][states];
+        for (int g = 0; g < groups.size(); g++) {
+            Group group = groups.get(g);
+            for (int cash = 0; cash <= cashCap; cash++) {
+                for (int houses = 0; houses <= houseCap; houses++) {
+                    for (int hotels = 0; hotels <= hotelCap; hotels++) {
+                        int state = (cash * houseStates + houses) * hotelStates + hotels;
+                        double top = best[state];
+                        int chosen = 0;
+                        for (int option = 1; option < group.cost.length; option++) {
+                            int leftCash = cash - group.cost[option] / unit;
+                            int leftHouses = houses - group.houses[option];
+                            int leftHotels = hotels - group.hotels[option];
+                            if (leftCash < 0 || leftHouses < 0 || leftHotels < 0) {
+                                continue;
+                            }
+                            double gain = best[(leftCash * houseStates + leftHouses) * hotelStates + leftHotels] + group.gain[option];
+                            if (gain > top) {
+                                top = gain;
+                                chosen = option;
+                            }
+                        }
+                        next[state] = top;
+                        choice[g][state] = chosen;
+                    }
+                }
+            }
+            double[] swap = best;
+            best = next;
+            next = swap;
+        }
+
+        List<PropertySpace> builds = new ArrayList<>();
+        int cost = 0;
+        int cash = cashCap;
+        int houses = houseCap;
+        int hotels = hotelCap;
+        for (int g = groups.size() - 1; g >= 0; g--) {
+            Group group = groups.get(g);
+            int option = choice[g][(cash * houseStates + houses) * hotelStates + hotels];
+            for (int i = 0; i < option; i++) {
+                builds.add(group.members[group.sequence[i]]);
+            }
+            cost += group.cost[option];
+            cash -= group.cost[option] / unit;
+            houses -= group.houses[option];
+            hotels -= group.hotels[option];
+        }
+        return new BuildPlan(builds, cost, best[states - 1]);
+    }
+
+    /**
+     * Lists the choices of a color group, or returns null if the player cannot build on it.
+     */
+    private Group buildable(Player player, int group) {
+        int[] positions = tables.groupMembers(group);
+        PropertySpace[] members = new PropertySpace[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            if (!(board.getSpace(positions[i]) instanceof PropertySpace street)
+                    || street.getOwner() != player || street.isMortgaged()) {
+                return null;
+            }
+            members[i] = street;
+        }
+        Group choices = new Group(members, positions, tables, landing);
+        return choices.cost.length > 1 ? choices : null;
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    /**
+     * The choices of one color group: choice k builds the first k buildings of the building
+     * sequence, costing cost[k], holding at most houses[k] of the bank's houses while it is
+     * built, taking hotels[k] hotels and adding gain[k] expected rent.
+     */
+    private static final class Group {
+        private final PropertySpace[] members; // The streets of the group
+        private final int[] sequence; // Member each building goes on, least built first
+        private final int[] cost;
+        private final int[] houses;
+        private final int[] hotels;
+        private final double[] gain;
+
+        private Group(PropertySpace[] members, int[] positions, BoardTables tables, double[] landing) {
+            this.members = members;
+            int owned = members.length;
+            int[] levels = new int[members.length];
+            int room = 0;
+            for (int i = 0; i < members.length; i++) {
+                levels[i] = members[i].hasHotel() ? BoardTables.HOTEL : members[i].getHouseCount();
+                room += BoardTables.HOTEL - levels[i];
+            }
+            this.sequence = new int[room];
+            this.cost = new int[room + 1];
+            this.houses = new int[room + 1];
+            this.hotels = new int[room + 1];
+            this.gain = new double[room + 1];
+
+            // Build on the least built street each time, which keeps the group even
+            int held = 0; // Houses taken from the bank so far, less those handed back for hotels
+            for (int k = 0; k < room; k++) {
+                int low = 0;
+                for (int i = 1; i < members.length; i++) {
+                    if (levels[i] < levels[low]) {
+                        low = i;
+                    }
+                }
+                int position = positions[low];
+                int level = levels[low]++;
+                sequence[k] = low;
+                cost[k + 1] = cost[k] + members[low].getCostOfHouseHotel();
+                int rise = tables.rentTable().rent(position, level + 1, owned, 0) - tables.rentTable().rent(position, level, owned, 0);
+                gain[k + 1] = gain[k] + landing[position] * rise;
+                if (level + 1 == BoardTables.HOTEL) {
+                    held -= BoardTables.HOTEL - 1;
+                    hotels[k + 1] = hotels[k] + 1;
+                } else {
+                    held++;
+                    hotels[k + 1] = hotels[k];
+                }
+                houses[k + 1] = Math.max(houses[k], held);
+            }
+        }
+    }
+}
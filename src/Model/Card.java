@@ -2,6 +2,8 @@
  * Card.java
  *
  * This class represents a card in the game. It contains a description and an effect that can be applied to a player.
+ * The effect is a CardEffect that CardInterpreter applies, or custom code for cards built from a lambda.
+ * A card never changes, so the cards of a board are made once and shared by the decks of every game on it.
  *
  * Created by Kristian Wright.
  */
@@ -11,18 +13,55 @@ import java.util.function.Consumer;
 
 public abstract class Card {
     protected final String description;
-    protected final Consumer<Player> effect;
+    private final CardEffect effect; // Effect of the card as data
+    private final Consumer<Player> action; // Code of a CUSTOM card, null otherwise
 
-    public Card(String description, Consumer<Player> effect) {
+    /**
+     * Constructs a card with a data-driven effect.
+     *
+     * @param description The text of the card.
+     * @param effect      The effect of the card.
+     */
+    public Card(String description, CardEffect effect) {
         this.description = description;
         this.effect = effect;
+        this.action = null;
+    }
+
+    /**
+     * Constructs a card that runs its own code. Its effect is CUSTOM and cannot be analysed.
+     *
+     * @param description The text of the card.
+     * @param action      The code applied to the drawing player.
+     */
+    public Card(String description, Consumer<Player> action) {
+        this.description = description;
+        this.effect = CardEffect.CUSTOM;
+        this.action = action;
     }
 
     public void apply(Player player) {
-        effect.accept(player);
+        if (action != null) {
+            action.accept(player);
+        } else {
+            CardInterpreter.apply(effect, player);
+        }
+    }
+
+    public CardEffect getEffect() {
+        return effect;
     }
 
     public String getDescription() {
         return description;
     }
+
+    /**
+     * Checks if the drawing player keeps the card instead of returning it to the deck.
+     *
+     * @return True if the card is kept until used, false otherwise.
+     */
+    public boolean isKept() {
+        return effect.getOp() == CardOp.JAIL_CARD;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,243 @@
+/**
+ * The CardDeck is a fixed-size deck of cards kept in a ring buffer. Drawing takes the top card
+ * and returning puts a card on the bottom, both in constant time without locking, so a deck must
+ * only be used by the game that owns it. The cards themselves are shared between the decks of
+ * every game on a board, so a card does not know its deck; ask the deck with idOf instead.
+ *
+ * Cards that a player keeps, such as Get Out of Jail Free, are withheld from the deck while
+ * they are held and reinserted at the bottom once they are used.
+ */
+package Model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public class CardDeck<T extends Card> implements Iterable<T> {
+    private final Card[] cards; // Every card of the deck in the order it was built, indexed by card id
+    private final Card[] ring; // Cards in the deck, the top card at head
+    private int head; // Index of the top card
+    private int count; // Number of cards in the deck
+    private int withheld; // Number of cards held by players
+
+    /**
+     * Constructs a deck holding the given cards, the first card on top.
+     *
+     * @param cards The cards of the deck.
+     * @throws IllegalArgumentException if there are no cards.
+     */
+    public CardDeck(List<T> cards) {
+        if (cards.isEmpty()) {
+            throw new IllegalArgumentException("A deck needs at least one card");
+        }
+        this.cards = cards.toArray(new Card[0]);
+        this.ring = new Card[cards.size()];
+        for (T card : cards) {
+            ring[count++] = card;
+        }
+    }
+
+    /**
+     * Draws the top card. The card is out of the deck until it is returned or withheld.
+     *
+     * @return The top card.
+     * @throws IllegalStateException if the deck is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public T draw() {
+        if (count == 0) {
+            throw new IllegalStateException("The deck is empty");
+        }
+        Card card = ring[head];
+        ring[head] = null;
+        head = head + 1 == ring.length ? 0 : head + 1;
+        count--;
+        return (T) card;
+    }
+
+    /**
+     * Puts a drawn card on the bottom of the deck.
+     *
+     * @param card The card to return.
+     * @throws IllegalStateException if the deck is already full.
+     */
+    public void returnToBottom(T card) {
+        if (count + withheld == ring.length) {
+            throw new IllegalStateException("The deck is full");
+        }
+        int tail = head + count;
+        ring[tail >= ring.length ? tail - ring.length : tail] = card;
+        count++;
+    }
+
+    /**
+     * Keeps a drawn card out of the deck while a player holds it.
+     *
+     * @param card The card the player keeps.
+     */
+    public void withhold(T card) {
+        withheld++;
+    }
+
+    /**
+     * Puts a withheld card back on the bottom of the deck.
+     *
+     * @param card The card to reinsert.
+     * @throws IllegalStateException if no card is withheld.
+     */
+    public void reinsert(T card) {
+        if (withheld == 0) {
+            throw new IllegalStateException("No card is withheld from this deck");
+        }
+        withheld--;
+        returnToBottom(card);
+    }
+
+    /**
+     * Shuffles the cards in the deck with the given dice.
+     *
+     * @param dice The dice providing the random numbers.
+     */
+    public void shuffle(Dice dice) {
+        for (int i = count - 1; i > 0; i--) {
+            swap(i, dice.nextInt(i + 1));
+        }
+    }
+
+    private void swap(int i, int j) {
+        int a = index(i);
+        int b = index(j);
+        Card card = ring[a];
+        ring[a] = ring[b];
+        ring[b] = card;
+    }
+
+    private int index(int i) {
+        int index = head + i;
+        return index >= ring.length ? index - ring.length : index;
+    }
+
+    /**
+     * Gets the card at a position in the deck without drawing it.
+     *
+     * @param i The position, 0 for the top card.
+     * @return The card.
+     * @throws IndexOutOfBoundsException if the position is outside the deck.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int i) {
+        if (i < 0 || i >= count) {
+            throw new IndexOutOfBoundsException("No card at position " + i);
+        }
+        return (T) ring[index(i)];
+    }
+
+    /**
+     * Copies the order of the deck, top card first.
+     *
+     * @return The cards in the deck.
+     */
+    public List<T> snapshot() {
+        List<T> cards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cards.add(get(i));
+        }
+        return Collections.unmodifiableList(cards);
+    }
+
+    /**
+     * Puts the deck back into an order taken with snapshot. Cards missing from the order
+     * are treated as withheld.
+     *
+     * @param cards The cards in the deck, top card first.
+     * @throws IllegalArgumentException if there are more cards than the deck holds.
+     */
+    public void restore(List<T> cards) {
+        if (cards.size() > ring.length) {
+            throw new IllegalArgumentException("Too many cards for this deck");
+        }
+        Arrays.fill(ring, null);
+        head = 0;
+        count = 0;
+        for (T card : cards) {
+            ring[count++] = card;
+        }
+        withheld = ring.length - count;
+    }
+
+    /**
+     * Gets a card by its id, which is its place in the order the deck was built.
+     *
+     * @param id The card id.
+     * @return The card.
+     */
+    @SuppressWarnings("unchecked")
+    public T getCard(int id) {
+        return (T) cards[id];
+    }
+
+    /**
+     * Gets the id of a card of this deck.
+     *
+     * @param card The card.
+     * @return The card id, or -1 if the card does not belong to this deck.
+     */
+    public int idOf(Card card) {
+        for (int id = 0; id < cards.length; id++) {
+            if (cards[id] == card) {
+                return id;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the number of cards the deck was built with, including withheld ones.
+     *
+     * @return The number of cards.
+     */
+    public int getCardCount() {
+        return cards.length;
+    }
+
+    /**
+     * Gets the number of cards in the deck.
+     *
+     * @return The number of cards, not counting withheld ones.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Gets the number of cards held by players.
+     *
+     * @return The number of withheld cards.
+     */
+    public int getWithheld() {
+        return withheld;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int next; // Position of the next card
+
+            @Override
+            public boolean hasNext() {
+                return next < count;
+            }
+
+            @Override
+            public T next() {
+                if (next >= count) {
+                    throw new NoSuchElementException();
+                }
+                return get(next++);
+            }
+        };
+    }
+}
@@ -0,0 +1,34 @@
+/**
+ * The CardDefinition holds the fixed data of one Chance or Community Chest card: the text
+ * printed on it and its effect. Like the rest of a BoardDefinition it is shared by every game;
+ * each game makes its own Card objects from it, since a card belongs to the deck of one game.
+ */
+package Model;
+
+public final class CardDefinition {
+    private final String text; // Text printed on the card
+    private final CardEffect effect; // What the card does
+
+    /**
+     * Constructs a card definition.
+     *
+     * @param text   The text printed on the card.
+     * @param effect The effect of the card.
+     * @throws IllegalArgumentException if the effect is CUSTOM, which has no data to share.
+     */
+    public CardDefinition(String text, CardEffect effect) {
+        if (effect.getOp() == CardOp.CUSTOM) {
+            throw new IllegalArgumentException("A custom card cannot be defined as data: " + text);
+        }
+        this.text = text;
+        this.effect = effect;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public CardEffect getEffect() {
+        return effect;
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * The CardEffect is the effect of a card as plain data: an instruction and up to two integer
+ * operands, described in CardOp. Effects are immutable, so analysis tools, saved games and
+ * simulations can read and share them freely.
+ */
+package Model;
+
+public final class CardEffect {
+    public static final CardEffect CUSTOM = new CardEffect(CardOp.CUSTOM, 0, 0);
+
+    private final CardOp op; // Instruction
+    private final int first; // First operand
+    private final int second; // Second operand
+
+    /**
+     * Constructs an effect.
+     *
+     * @param op     The instruction.
+     * @param first  The first operand.
+     * @param second The second operand.
+     */
+    public CardEffect(CardOp op, int first, int second) {
+        this.op = op;
+        this.first = first;
+        this.second = second;
+    }
+
+    public static CardEffect moveTo(int position, boolean collectGo) {
+        return new CardEffect(CardOp.MOVE_TO, position, collectGo ? 1 : 0);
+    }
+
+    public static CardEffect moveRelative(int steps) {
+        return new CardEffect(CardOp.MOVE_RELATIVE, steps, 0);
+    }
+
+    public static CardEffect nearest(byte spaceType, int rentMultiplier) {
+        return new CardEffect(CardOp.NEAREST, spaceType, rentMultiplier);
+    }
+
+    public static CardEffect pay(int amount) {
+        return new CardEffect(CardOp.PAY, amount, 0);
+    }
+
+    public static CardEffect collect(int amount) {
+        return new CardEffect(CardOp.COLLECT, amount, 0);
+    }
+
+    public static CardEffect payEach(int amount) {
+        return new CardEffect(CardOp.PAY_EACH, amount, 0);
+    }
+
+    public static CardEffect collectEach(int amount) {
+        return new CardEffect(CardOp.COLLECT_EACH, amount, 0);
+    }
+
+    public static CardEffect repairs(int perHouse, int perHotel) {
+        return new CardEffect(CardOp.REPAIRS, perHouse, perHotel);
+    }
+
+    public static CardEffect goToJail() {
+        return new CardEffect(CardOp.GO_TO_JAIL, 0, 0);
+    }
+
+    public static CardEffect jailCard() {
+        return new CardEffect(CardOp.JAIL_CARD, 0, 0);
+    }
+
+    public CardOp getOp() {
+        return op;
+    }
+
+    public int getFirst() {
+        return first;
+    }
+
+    public int getSecond() {
+        return second;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof CardEffect effect && effect.op == op && effect.first == first && effect.second == second;
+    }
+
+    @Override
+    public int hashCode() {
+        return (op.ordinal() * 31 + first) * 31 + second;
+    }
+
+    @Override
+    public String toString() {
+        return op + "(" + first + ", " + second + ")";
+    }
+}
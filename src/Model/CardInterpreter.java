@@ -0,0 +1,72 @@
+/**
+ * The CardInterpreter applies a CardEffect to a player of the object model, moving money
+ * through the bank of the player's board and moving tokens through the board so that
+ * passing Go, landing and rent work as they do for a roll.
+ */
+package Model;
+
+public final class CardInterpreter {
+
+    private CardInterpreter() {
+    }
+
+    /**
+     * Applies an effect to the player who drew the card.
+     *
+     * @param effect The effect to apply.
+     * @param player The player who drew the card.
+     * @throws IllegalArgumentException if the effect is CUSTOM, which carries its own code.
+     */
+    public static void apply(CardEffect effect, Player player) {
+        GameBoard board = player.getGameBoard();
+        Bank bank = board.getBank();
+        int first = effect.getFirst();
+        int second = effect.getSecond();
+        switch (effect.getOp()) {
+            case MOVE_TO -> board.moveTo(player, first, second != 0);
+            case MOVE_RELATIVE -> board.moveTo(player, board.getTables().advance(player.getPosition(), first), first > 0);
+            case NEAREST -> advanceToNearest(board, player, (byte) first, second);
+            case PAY -> bank.collectFromPlayer(player, first, LedgerCategory.CARD);
+            case COLLECT -> bank.payPlayer(player, first, LedgerCategory.CARD);
+            case PAY_EACH -> bank.payEach(player, board.getPlayers(), first, LedgerCategory.CARD);
+            case COLLECT_EACH -> bank.collectFromEach(player, board.getPlayers(), first, LedgerCategory.CARD);
+            case REPAIRS -> bank.collectFromPlayer(player, repairCost(player, first, second), LedgerCategory.CARD);
+            case GO_TO_JAIL -> player.goToJail();
+            case JAIL_CARD -> player.receiveGetOutOfJailFreeCard();
+            case CUSTOM -> throw new IllegalArgumentException("A custom card effect has no instructions");
+        }
+    }
+
+    /**
+     * Moves a player to the next space of a type. An owned space charges its rent times the
+     * multiplier; for a utility the multiplier applies to the dice total instead.
+     */
+    private static void advanceToNearest(GameBoard board, Player player, byte type, int multiplier) {
+        int target = board.getTables().nextOfType(player.getPosition(), type);
+        if (board.getSpace(target) instanceof Property property && property.isOwned()
+                && property.getOwner() != player && !property.isMortgaged()) {
+            board.placeOn(player, target, true);
+            int total = Dice.total(player.getDice().getLastRoll());
+            int rent = type == BoardTables.UTILITY ? multiplier * total : multiplier * property.calculateRent(total);
+            property.payRent(player, rent);
+        } else {
+            board.moveTo(player, target, true);
+        }
+    }
+
+    /**
+     * Calculates what a player pays for repairs on their buildings.
+     *
+     * @param player   The player.
+     * @param perHouse The cost per house.
+     * @param perHotel The cost per hotel.
+     * @return The total cost.
+     */
+    public static int repairCost(Player player, int perHouse, int perHotel) {
+        int cost = 0;
+        for (Property property : player.getProperties()) {
+            cost += property.hasHotel() ? perHotel : property.getHouseCount() * perHouse;
+        }
+        return cost;
+    }
+}
@@ -0,0 +1,27 @@
+/**
+ * The CardOp enum lists the instructions a card can carry. The meaning of a card's two
+ * operands depends on the instruction:
+ *  - MOVE_TO: target position, and 1 to collect Go salary when passing Go
+ *  - MOVE_RELATIVE: number of spaces, negative to move back
+ *  - NEAREST: BoardTables space type, and the rent multiplier if the space is owned
+ *  - PAY, COLLECT: amount paid to or collected from the bank
+ *  - PAY_EACH, COLLECT_EACH: amount paid to or collected from every other player
+ *  - REPAIRS: cost per house, and cost per hotel
+ *  - GO_TO_JAIL, JAIL_CARD: no operands
+ *  - CUSTOM: no operands, the card runs its own code and cannot be analysed
+ */
+package Model;
+
+public enum CardOp {
+    MOVE_TO,
+    MOVE_RELATIVE,
+    NEAREST,
+    PAY,
+    COLLECT,
+    PAY_EACH,
+    COLLECT_EACH,
+    REPAIRS,
+    GO_TO_JAIL,
+    JAIL_CARD,
+    CUSTOM
+}
@@ -14,9 +14,15 @@ public class ChanceSpace extends Space {
     @Override
     public void landOn(Player player) {
         GameBoard gameBoard = player.getGameBoard();
-        ChanceCard card = gameBoard.getChanceDeck().pop();
-        System.out.println(player.getName() + " drew a Chance card: " + card.getDescription());
+        CardDeck<ChanceCard> deck = gameBoard.getChanceDeck();
+        ChanceCard card = deck.draw();
+        gameBoard.getEvents().publish(GameEventType.CARD_DRAWN, player, null, -1, 0, card);
         card.apply(player);
-        gameBoard.getChanceDeck().push(card); // Optionally, put the card back at the bottom of the deck
+        if (card.isKept()) {
+            deck.withhold(card); // Back in the deck once the player uses it
+            player.holdCard(card);
+        } else {
+            deck.returnToBottom(card);
+        }
     }
 }
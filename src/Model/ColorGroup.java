@@ -0,0 +1,138 @@
+/**
+ * The ColorGroup is a group of properties that are owned together: the streets of one color,
+ * the railroads or the utilities. Groups are data of a board: each board file lists its groups,
+ * and a group's id is its place in that list, so the id indexes per-group tables of the board
+ * however many groups it has.
+ *
+ * The ten groups of the classic board are kept as constants. A board that declares one of them
+ * under the same id and name gets the constant itself, so code written for the classic board
+ * can compare groups with ==.
+ */
+package Model;
+
+import java.util.List;
+
+public final class ColorGroup {
+
+    /**
+     * The kind of property a group holds, which decides how its rent is charged.
+     */
+    public enum Kind {
+        STREET,
+        RAILROAD,
+        UTILITY
+    }
+
+    public static final ColorGroup BROWN = new ColorGroup(0, "Brown", Kind.STREET);
+    public static final ColorGroup LIGHT_BLUE = new ColorGroup(1, "Light Blue", Kind.STREET);
+    public static final ColorGroup PINK = new ColorGroup(2, "Pink", Kind.STREET);
+    public static final ColorGroup ORANGE = new ColorGroup(3, "Orange", Kind.STREET);
+    public static final ColorGroup RED = new ColorGroup(4, "Red", Kind.STREET);
+    public static final ColorGroup YELLOW = new ColorGroup(5, "Yellow", Kind.STREET);
+    public static final ColorGroup GREEN = new ColorGroup(6, "Green", Kind.STREET);
+    public static final ColorGroup DARK_BLUE = new ColorGroup(7, "Dark Blue", Kind.STREET);
+    public static final ColorGroup RAILROAD = new ColorGroup(8, "Railroad", Kind.RAILROAD);
+    public static final ColorGroup UTILITY = new ColorGroup(9, "Utility", Kind.UTILITY);
+
+    private static final List<ColorGroup> CLASSIC = List.of(BROWN, LIGHT_BLUE, PINK, ORANGE, RED, YELLOW,
+            GREEN, DARK_BLUE, RAILROAD, UTILITY); // Groups of the classic board, in id order
+
+    private final int id; // Place of the group in its board's list of groups
+    private final String displayName; // Name printed on the board
+    private final Kind kind; // Kind of property in the group
+
+    private ColorGroup(int id, String displayName, Kind kind) {
+        this.id = id;
+        this.displayName = displayName;
+        this.kind = kind;
+    }
+
+    /**
+     * Makes the group a board declares. The classic group with the same id, name and kind is
+     * returned instead of a new one.
+     *
+     * @param id          The place of the group in the board's list of groups.
+     * @param displayName The name printed on the board.
+     * @param kind        The kind of property in the group.
+     * @return The group.
+     * @throws IllegalArgumentException if the id is negative or the name is blank.
+     */
+    public static ColorGroup of(int id, String displayName, Kind kind) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Group ids start at 0");
+        }
+        if (displayName == null || displayName.isBlank()) {
+            throw new IllegalArgumentException("A group needs a name");
+        }
+        if (id < CLASSIC.size()) {
+            ColorGroup classic = CLASSIC.get(id);
+            if (classic.displayName.equals(displayName) && classic.kind == kind) {
+                return classic;
+            }
+        }
+        return new ColorGroup(id, displayName, kind);
+    }
+
+    /**
+     * Gets the place of the group in its board's list of groups.
+     *
+     * @return The group id.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the name of the group as printed on the board.
+     *
+     * @return The display name.
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Finds the classic group with the given display name, ignoring case. Groups of other
+     * boards are found with BoardDefinition.findGroup.
+     *
+     * @param name The display name.
+     * @return The group, or null if no classic group has that name.
+     */
+    public static ColorGroup fromName(String name) {
+        return find(CLASSIC, name);
+    }
+
+    /**
+     * Finds the group with the given display name in a list of groups, ignoring case.
+     *
+     * @param groups The groups to search.
+     * @param name   The display name.
+     * @return The group, or null if no group in the list has that name.
+     */
+    static ColorGroup find(List<ColorGroup> groups, String name) {
+        for (ColorGroup group : groups) {
+            if (group.displayName.equalsIgnoreCase(name)) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the groups of the classic board.
+     *
+     * @return The classic groups in id order.
+     */
+    public static List<ColorGroup> classic() {
+        return CLASSIC;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
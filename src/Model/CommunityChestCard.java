@@ -9,66 +9,54 @@
  */
 package Model;
 
-import java.util.Collections;
-import java.util.Stack;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 
 public class CommunityChestCard extends Card {
 
-    private GameBoard gameBoard;
-    private Bank bank;
+    public CommunityChestCard(String description, CardEffect effect) {
+        super(description, effect);
+    }
 
     public CommunityChestCard(String description, Consumer<Player> effect) {
         super(description, effect);
     }
 
-    public void setGameBoard(GameBoard gameBoard) {
-        this.gameBoard = gameBoard;
+    public static CardDeck<CommunityChestCard> initializeCommunityChestCards() {
+        return initializeCommunityChestCards(BoardDefinition.classic());
     }
 
-    public void setBank(Bank bank) {
-        this.bank = bank;
+    /**
+     * Makes a game's deck of Community Chest cards from a board definition, in the definition's order.
+     * The cards are the board's shared ones; only the deck holding them is new.
+     *
+     * @param definition The board whose cards are dealt.
+     * @return The new deck.
+     */
+    public static CardDeck<CommunityChestCard> initializeCommunityChestCards(BoardDefinition definition) {
+        return new CardDeck<>(definition.getCommunityDeckCards());
     }
 
-    public static Stack<CommunityChestCard> initializeCommunityChestCards(GameBoard gameBoard, Bank bank) {
-        Stack<CommunityChestCard> communityDeck = new Stack<>();
-        communityDeck.add(new CommunityChestCard("Advance to Go (Collect $200).", player -> {player.setPosition(0); bank.payPlayer(player, 200);}));
-        communityDeck.add(new CommunityChestCard("Bank error in your favor. Collect $200.", player -> bank.payPlayer(player, 200)));
-        communityDeck.add(new CommunityChestCard("Doctor’s fee. Pay $50.", player -> bank.collectFromPlayer(player, 50)));
-        communityDeck.add(new CommunityChestCard("From sale of stock you get $50.", player -> bank.payPlayer(player, 50)));
-        communityDeck.add(new CommunityChestCard("Get Out of Jail Free.", Player::receiveGetOutOfJailFreeCard));
-        communityDeck.add(new CommunityChestCard("Go to Jail. Go directly to jail, do not pass Go, do not collect $200.", Player::goToJail));
-        communityDeck.add(new CommunityChestCard("Holiday fund matures. Receive $100.", player -> bank.payPlayer(player, 100)));
-        communityDeck.add(new CommunityChestCard("Income tax refund. Collect $20.", player -> bank.payPlayer(player, 20)));
-        communityDeck.add(new CommunityChestCard("It is your birthday. Collect $10 from every player.", player -> {
-            CommunityChestCard card = new CommunityChestCard("", null);
-            card.setGameBoard(gameBoard);
-            card.setBank(bank);
-            card.collectFromEachPlayer(player, 10);
-        }));
-        communityDeck.add(new CommunityChestCard("Life insurance matures. Collect $100.", player -> bank.payPlayer(player, 100)));
-        communityDeck.add(new CommunityChestCard("Pay hospital fees of $100.", player -> bank.collectFromPlayer(player, 100)));
-        communityDeck.add(new CommunityChestCard("Pay school fees of $50.", player -> bank.collectFromPlayer(player, 50)));
-        communityDeck.add(new CommunityChestCard("Receive $25 consultancy fee.", player -> bank.payPlayer(player, 25)));
-        communityDeck.add(new CommunityChestCard("You are assessed for street repair. $40 per house. $115 per hotel.", player -> {
-            // Implement the assessStreetRepairs logic here
-        }));
-        communityDeck.add(new CommunityChestCard("You have won second prize in a beauty contest. Collect $10.", player -> bank.payPlayer(player, 10)));
-        communityDeck.add(new CommunityChestCard("You inherit $100.", player -> bank.payPlayer(player, 100)));
-        return communityDeck;
+    /**
+     * Makes the Community Chest cards of a board from their definitions, in the definitions' order.
+     *
+     * @param definitions The card definitions.
+     * @return The cards.
+     */
+    static List<CommunityChestCard> fromDefinitions(List<CardDefinition> definitions) {
+        List<CommunityChestCard> cards = new ArrayList<>(definitions.size());
+        for (CardDefinition card : definitions) {
+            cards.add(new CommunityChestCard(card.getText(), card.getEffect()));
+        }
+        return List.copyOf(cards);
     }
 
-    public static void shuffleCommunityChestCards(Stack<CommunityChestCard> communityDeck) {
-        Collections.shuffle(communityDeck);
+    public static void shuffleCommunityChestCards(CardDeck<CommunityChestCard> communityDeck) {
+        communityDeck.shuffle(new Dice());
     }
 
-    public void collectFromEachPlayer(Player birthdayPlayer, int amount) {
-        for (Player player : gameBoard.getPlayers()) {
-            if (!player.equals(birthdayPlayer)) {
-                bank.collectFromPlayer(player, amount);
-                bank.payPlayer(birthdayPlayer, amount);
-            }
-        }
-        System.out.println(birthdayPlayer.getName() + " collected $" + amount + " from each player.");
+    public static void shuffleCommunityChestCards(CardDeck<CommunityChestCard> communityDeck, Dice dice) {
+        communityDeck.shuffle(dice);
     }
-}
\ No newline at end of file
+}
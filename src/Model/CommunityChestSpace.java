@@ -15,9 +15,15 @@ public class CommunityChestSpace extends Space {
     @Override
     public void landOn(Player player) {
         GameBoard gameBoard = player.getGameBoard();
-        CommunityChestCard card = gameBoard.getCommunityDeck().pop();
-        System.out.println(player.getName() + " drew a Community Chest card: " + card.getDescription());
+        CardDeck<CommunityChestCard> deck = gameBoard.getCommunityDeck();
+        CommunityChestCard card = deck.draw();
+        gameBoard.getEvents().publish(GameEventType.CARD_DRAWN, player, null, -1, 0, card);
         card.apply(player);
-        gameBoard.getCommunityDeck().push(card); // Optionally, put the card back at the bottom of the deck
+        if (card.isKept()) {
+            deck.withhold(card); // Back in the deck once the player uses it
+            player.holdCard(card);
+        } else {
+            deck.returnToBottom(card);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,1170 @@
+/**
+ * The CompactGameState is a struct-of-arrays form of a game for high-volume simulation.
+ * Players are numbered from 0 and their positions, cash and jail turns sit in int arrays;
+ * the owner and building level of every space sit in byte arrays indexed by board position.
+ * The fixed data of the board comes from a shared BoardTables instance.
+ *
+ * The rules run directly on the arrays: rolling, moving, collecting Go salary, buying,
+ * paying rent and tax, drawing Chance and Community Chest cards, going to and leaving jail,
+ * and bankruptcy. A player short of cash for a debt raises it as the TurnEngine does, by
+ * mortgaging and then selling buildings evenly; one who cannot goes bankrupt, paying their
+ * creditor only what they raised and handing the rest of their properties to the creditor,
+ * or back to the bank if they owed the bank. Each card deck is a ring of card ids whose effects come from the board
+ * tables, and kept Get Out of Jail Free cards are counted per player and deck. A state converts to and
+ * from a GameState without losing any of the fields above, so simulations can work on this
+ * layout while the GUI keeps using GameBoard.
+ *
+ * Whether a player buys the space they land on is not a rule but a choice, so playTurn asks a
+ * BuyPolicy given by the caller, such as the rollout policy of the MctsPlanner.
+ *
+ * A state also encodes itself into a ByteBuffer with writeTo and decodes with readFrom,
+ * which the GameJournal uses for its checkpoints.
+ *
+ * Every change to the state goes through a small helper that also updates a 64-bit Zobrist
+ * hash of the position, so hash() is always current and costs nothing to read. Search and
+ * caching code use it to recognise positions they have seen before, for example through a
+ * TranspositionTable.
+ */
+package Model;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class CompactGameState {
+    public static final byte UNOWNED = -1; // Owner of a space that belongs to the bank
+    public static final int NOT_IN_JAIL = -1; // Jail turns of a player who is not in jail
+    public static final int STARTING_CASH = 1500;
+    private static final int GO_SALARY = 200;
+    private static final int JAIL_FINE = 50;
+    private static final int MAX_DOUBLES = 3;
+    private static final int MAX_JAIL_TURNS = 3;
+    public static final int CHANCE_DECK = 0;
+    public static final int COMMUNITY_DECK = 1;
+    private static final int DECKS = 2;
+
+    private final BoardTables board; // Fixed data of the board
+    private final RentTable rentTable; // Rent lookup of the board
+    private final int playerCount;
+    private final int[] position; // Position of each player
+    private final int[] cash; // Money of each player
+    private final int[] jailTurns; // Failed attempts to leave jail, or NOT_IN_JAIL
+    private final byte[] jailCards; // Get Out of Jail Free cards held by each player
+    private final boolean[] bankrupt; // Players who have left the game
+    private final byte[] owner; // Owner of each space, or UNOWNED
+    private final byte[] buildings; // Houses on each space, HOTEL for a hotel
+    private final boolean[] mortgaged; // Mortgage flag of each space
+    private final byte[] groupOwned; // Spaces of each group held by each player, player * groups + group
+    private final CardEffect[][] deckEffects; // Effect of each card id of each deck
+    private final int[] deckJailCard; // Id of the Get Out of Jail Free card of each deck, or -1
+    private final byte[][] deckRing; // Card ids of each deck, the top card at its head
+    private final int[] deckHead; // Index of the top card of each deck
+    private final int[] deckCount; // Number of cards in each deck
+    private final byte[] heldCards; // Jail cards drawn from each deck held by each player, player * decks + deck
+    private int currentPlayer; // Player to move
+    private int doublesRolled; // Doubles the player to move rolled this turn, who rolls again if any
+    private long hash; // Zobrist hash of the position, kept up to date by every change
+
+    /**
+     * Constructs the starting position of a game: every player on Go with the starting cash.
+     *
+     * @param board       The fixed data of the board.
+     * @param playerCount The number of players.
+     * @throws IllegalArgumentException if the player count does not fit in a byte.
+     */
+    public CompactGameState(BoardTables board, int playerCount) {
+        if (playerCount < 1 || playerCount > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid number of players");
+        }
+        this.board = board;
+        this.rentTable = board.rentTable();
+        this.playerCount = playerCount;
+        this.position = new int[playerCount];
+        this.cash = new int[playerCount];
+        this.jailTurns = new int[playerCount];
+        this.jailCards = new byte[playerCount];
+        this.bankrupt = new boolean[playerCount];
+        this.owner = new byte[board.size()];
+        this.buildings = new byte[board.size()];
+        this.mortgaged = new boolean[board.size()];
+        this.groupOwned = new byte[playerCount * board.groupCount()];
+        this.deckEffects = new CardEffect[DECKS][];
+        this.deckEffects[CHANCE_DECK] = new CardEffect[board.chanceCardCount()];
+        this.deckEffects[COMMUNITY_DECK] = new CardEffect[board.communityCardCount()];
+        this.deckJailCard = new int[DECKS];
+        this.deckRing = new byte[DECKS][];
+        this.deckHead = new int[DECKS];
+        this.deckCount = new int[DECKS];
+        this.heldCards = new byte[playerCount * DECKS];
+        for (int deck = 0; deck < DECKS; deck++) {
+            CardEffect[] effects = deckEffects[deck];
+            deckJailCard[deck] = -1;
+            deckRing[deck] = new byte[effects.length];
+            for (int id = 0; id < effects.length; id++) {
+                effects[id] = deck == CHANCE_DECK ? board.chanceCard(id) : board.communityCard(id);
+                if (effects[id].getOp() == CardOp.JAIL_CARD) {
+                    deckJailCard[deck] = id;
+                }
+                deckRing[deck][id] = (byte) id;
+            }
+            deckCount[deck] = effects.length;
+        }
+        Arrays.fill(position, board.goPosition());
+        Arrays.fill(cash, STARTING_CASH);
+        Arrays.fill(jailTurns, NOT_IN_JAIL);
+        Arrays.fill(owner, UNOWNED);
+        this.hash = computeHash();
+    }
+
+    /**
+     * Constructs a copy of another state that shares its board tables.
+     *
+     * @param other The state to copy.
+     */
+    public CompactGameState(CompactGameState other) {
+        this.board = other.board;
+        this.rentTable = other.rentTable;
+        this.playerCount = other.playerCount;
+        this.position = other.position.clone();
+        this.cash = other.cash.clone();
+        this.jailTurns = other.jailTurns.clone();
+        this.jailCards = other.jailCards.clone();
+        this.bankrupt = other.bankrupt.clone();
+        this.owner = other.owner.clone();
+        this.buildings = other.buildings.clone();
+        this.mortgaged = other.mortgaged.clone();
+        this.groupOwned = other.groupOwned.clone();
+        this.deckEffects = other.deckEffects;
+        this.deckJailCard = other.deckJailCard;
+        this.deckRing = new byte[DECKS][];
+        for (int deck = 0; deck < DECKS; deck++) {
+            this.deckRing[deck] = other.deckRing[deck].clone();
+        }
+        this.deckHead = other.deckHead.clone();
+        this.deckCount = other.deckCount.clone();
+        this.heldCards = other.heldCards.clone();
+        this.currentPlayer = other.currentPlayer;
+        this.doublesRolled = other.doublesRolled;
+        this.hash = other.hash;
+    }
+
+    /**
+     * Reads the state of a game from the object model, using the tables of the game's board.
+     *
+     * @param game The game to read.
+     * @return The compact state.
+     */
+    public static CompactGameState fromGame(GameState game) {
+        return fromGame(game, game.getBoard().getTables());
+    }
+
+    /**
+     * Reads the state of a game from the object model.
+     *
+     * @param game  The game to read.
+     * @param board The fixed data of the game's board.
+     * @return The compact state.
+     */
+    public static CompactGameState fromGame(GameState game, BoardTables board) {
+        return fromBoard(game.getBoard(), board, game.getCurrentPlayerIndex());
+    }
+
+    /**
+     * Reads the state of the game on a board, with the specified player to move. Computer
+     * players use this to look ahead from the middle of their own turn.
+     *
+     * @param gameBoard     The board of the game to read.
+     * @param currentPlayer The index of the player to move.
+     * @return The compact state.
+     */
+    public static CompactGameState fromBoard(GameBoard gameBoard, int currentPlayer) {
+        return fromBoard(gameBoard, gameBoard.getTables(), currentPlayer);
+    }
+
+    private static CompactGameState fromBoard(GameBoard gameBoard, BoardTables board, int currentPlayer) {
+        List<Player> players = gameBoard.getPlayers();
+        CompactGameState state = new CompactGameState(board, players.size());
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            state.position[i] = player.getPosition();
+            state.cash[i] = player.getMoney();
+            state.jailTurns[i] = player.isInJail() ? player.getJailTurns() : NOT_IN_JAIL;
+            state.jailCards[i] = (byte) player.getGetOutOfJailFreeCards();
+            state.bankrupt[i] = player.isBankrupt();
+            for (Card card : player.getHeldCards()) {
+                int deck = card instanceof ChanceCard ? CHANCE_DECK : COMMUNITY_DECK;
+                state.heldCards[i * DECKS + deck]++;
+            }
+        }
+        state.readDeck(CHANCE_DECK, gameBoard.getChanceDeck());
+        state.readDeck(COMMUNITY_DECK, gameBoard.getCommunityDeck());
+        List<Space> spaces = gameBoard.getSpaces();
+        for (int space = 0; space < board.size(); space++) {
+            if (spaces.get(space) instanceof Property property) {
+                state.assign(space, property.isOwned() ? players.indexOf(property.getOwner()) : UNOWNED);
+                state.buildings[space] = (byte) (property.hasHotel() ? BoardTables.HOTEL : property.getHouseCount());
+                state.mortgaged[space] = property.isMortgaged();
+            }
+        }
+        state.currentPlayer = currentPlayer;
+        state.hash = state.computeHash();
+        return state;
+    }
+
+    private void readDeck(int deck, CardDeck<?> cards) {
+        deckHead[deck] = 0;
+        deckCount[deck] = 0;
+        for (Card card : cards) {
+            deckRing[deck][deckCount[deck]++] = (byte) cards.idOf(card);
+        }
+    }
+
+    private <T extends Card> void writeDeck(int deck, CardDeck<T> cards) {
+        List<T> order = new ArrayList<>(deckCount[deck]);
+        for (int i = 0; i < deckCount[deck]; i++) {
+            order.add(cards.getCard(deckRing[deck][(deckHead[deck] + i) % deckRing[deck].length]));
+        }
+        cards.restore(order);
+    }
+
+    /**
+     * Writes this state onto a game of the object model with the same board and number of players.
+     *
+     * @param game The game to update.
+     * @throws IllegalArgumentException if the game does not match this state.
+     */
+    public void applyTo(GameState game) {
+        List<Player> players = game.getPlayers();
+        List<Space> spaces = game.getBoard().getSpaces();
+        if (players.size() != playerCount || spaces.size() != board.size()) {
+            throw new IllegalArgumentException("Game does not match the compact state");
+        }
+        for (int i = 0; i < playerCount; i++) {
+            Player player = players.get(i);
+            player.setPosition(position[i]);
+            player.setMoney(cash[i]);
+            player.setBankrupt(bankrupt[i]);
+            player.setInJail(jailTurns[i] != NOT_IN_JAIL);
+            player.setJailTurns(Math.max(jailTurns[i], 0));
+            List<Card> held = new ArrayList<>();
+            for (int deck = 0; deck < DECKS; deck++) {
+                CardDeck<?> cards = deck == CHANCE_DECK ? game.getBoard().getChanceDeck() : game.getBoard().getCommunityDeck();
+                for (int n = 0; n < heldCards[i * DECKS + deck]; n++) {
+                    held.add(cards.getCard(deckJailCard[deck]));
+                }
+            }
+            player.setGetOutOfJailFreeCards(jailCards[i], held);
+            player.getProperties().clear();
+        }
+        for (int space = 0; space < board.size(); space++) {
+            if (spaces.get(space) instanceof Property property) {
+                Player newOwner = owner[space] == UNOWNED ? null : players.get(owner[space]);
+                property.setOwner(newOwner);
+                property.setMortgaged(mortgaged[space]);
+                property.setHasHotel(buildings[space] == BoardTables.HOTEL);
+                property.setHouseCount(buildings[space] == BoardTables.HOTEL ? 0 : buildings[space]);
+                if (newOwner != null) {
+                    newOwner.addProperty(property);
+                }
+            }
+        }
+        writeDeck(CHANCE_DECK, game.getBoard().getChanceDeck());
+        writeDeck(COMMUNITY_DECK, game.getBoard().getCommunityDeck());
+        game.setCurrentPlayerIndex(currentPlayer);
+    }
+
+    /**
+     * Shuffles both card decks with the given dice, Chance first, in the same way as CardDeck.
+     *
+     * @param dice The dice providing the random numbers.
+     */
+    public void shuffleDecks(Dice dice) {
+        for (int deck = 0; deck < DECKS; deck++) {
+            byte[] ring = deckRing[deck];
+            for (int i = deckCount[deck] - 1; i > 0; i--) {
+                int a = (deckHead[deck] + i) % ring.length;
+                int b = (deckHead[deck] + dice.nextInt(i + 1)) % ring.length;
+                byte id = ring[a];
+                ring[a] = ring[b];
+                ring[b] = id;
+            }
+        }
+    }
+
+    /**
+     * Plays the whole turn of the current player, including extra rolls for doubles,
+     * and passes the turn to the next player still in the game. A player in jail with a Get
+     * Out of Jail Free card uses it and then rolls as usual, as in the TurnEngine.
+     *
+     * @param dice   The dice of the game.
+     * @param policy The choice of each player to buy the unowned spaces they land on.
+     */
+    public void playTurn(Dice dice, BuyPolicy policy) {
+        int player = currentPlayer;
+        int rolled = doublesRolled;
+        changeDoublesRolled(0);
+        if (jailTurns[player] != NOT_IN_JAIL && jailCards[player] > 0) {
+            useJailCard(player);
+        }
+        if (jailTurns[player] != NOT_IN_JAIL) {
+            playJailTurn(player, dice, policy);
+        } else {
+            for (int doubles = rolled + 1; ; doubles++) {
+                int roll = dice.roll();
+                if (Dice.isDoubles(roll) && doubles == MAX_DOUBLES) {
+                    sendToJail(player);
+                    break;
+                }
+                move(player, roll, policy);
+                if (!Dice.isDoubles(roll) || jailTurns[player] != NOT_IN_JAIL || bankrupt[player]) {
+                    break;
+                }
+            }
+        }
+        advanceTurn();
+    }
+
+    /**
+     * Releases a player from jail with one of their Get Out of Jail Free cards, which goes
+     * back to the bottom of the deck it came from.
+     */
+    private void useJailCard(int player) {
+        changeJailCards(player, jailCards[player] - 1);
+        for (int deck = 0; deck < DECKS; deck++) {
+            if (heldCards[player * DECKS + deck] > 0) {
+                heldCards[player * DECKS + deck]--;
+                returnCard(deck, deckJailCard[deck]);
+                break;
+            }
+        }
+        changeJailTurns(player, NOT_IN_JAIL);
+    }
+
+    private void playJailTurn(int player, Dice dice, BuyPolicy policy) {
+        int roll = dice.roll();
+        if (Dice.isDoubles(roll)) {
+            changeJailTurns(player, NOT_IN_JAIL);
+            move(player, roll, policy);
+        } else if (jailTurns[player] + 1 >= MAX_JAIL_TURNS) {
+            pay(player, JAIL_FINE);
+            changeJailTurns(player, NOT_IN_JAIL);
+            if (!bankrupt[player]) {
+                move(player, roll, policy);
+            }
+        } else {
+            changeJailTurns(player, jailTurns[player] + 1);
+        }
+    }
+
+    /**
+     * Moves a player by a roll, collecting Go salary when passing Go, and lands on the new space.
+     *
+     * @param player The player to move.
+     * @param roll   The packed roll from Dice.roll().
+     * @param policy The choice of the player to buy the space if it is unowned.
+     */
+    public void move(int player, int roll, BuyPolicy policy) {
+        int from = position[player];
+        int to = board.advance(from, Dice.total(roll));
+        if (board.passesGo(from, to)) {
+            addCash(player, GO_SALARY);
+        }
+        changePosition(player, to);
+        land(player, to, roll, policy);
+    }
+
+    /**
+     * Applies the effect of a space to the player that landed on it. An unowned space is
+     * bought if the policy chooses to and the player can afford it.
+     */
+    private void land(int player, int space, int roll, BuyPolicy policy) {
+        switch (board.type(space)) {
+            case BoardTables.STREET, BoardTables.RAILROAD, BoardTables.UTILITY -> {
+                int spaceOwner = owner[space];
+                if (spaceOwner == UNOWNED) {
+                    if (cash[player] >= board.price(space) && policy.buys(this, player, space)) {
+                        buy(player, space);
+                    }
+                } else if (spaceOwner != player && !mortgaged[space]) {
+                    transfer(player, spaceOwner, rent(space, roll));
+                }
+            }
+            case BoardTables.TAX -> pay(player, board.tax(space));
+            case BoardTables.GO_TO_JAIL -> sendToJail(player);
+            case BoardTables.CHANCE -> drawCard(player, CHANCE_DECK, roll, policy);
+            case BoardTables.COMMUNITY_CHEST -> drawCard(player, COMMUNITY_DECK, roll, policy);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Draws the top card of a deck and applies its effect. Kept cards stay with the player,
+     * the others go back to the bottom of the deck. Custom cards have no effect here.
+     */
+    private void drawCard(int player, int deck, int roll, BuyPolicy policy) {
+        byte[] ring = deckRing[deck];
+        int id = ring[deckHead[deck]];
+        deckHead[deck] = deckHead[deck] + 1 == ring.length ? 0 : deckHead[deck] + 1;
+        deckCount[deck]--;
+        CardEffect effect = deckEffects[deck][id];
+        if (effect.getOp() == CardOp.JAIL_CARD) {
+            changeJailCards(player, jailCards[player] + 1);
+            heldCards[player * DECKS + deck]++;
+            return;
+        }
+        applyEffect(player, effect, roll, policy);
+        returnCard(deck, id);
+    }
+
+    private void returnCard(int deck, int id) {
+        byte[] ring = deckRing[deck];
+        ring[(deckHead[deck] + deckCount[deck]) % ring.length] = (byte) id;
+        deckCount[deck]++;
+    }
+
+    private void applyEffect(int player, CardEffect effect, int roll, BuyPolicy policy) {
+        int first = effect.getFirst();
+        int second = effect.getSecond();
+        switch (effect.getOp()) {
+            case MOVE_TO -> moveTo(player, first, second != 0, roll, policy);
+            case MOVE_RELATIVE -> moveTo(player, board.advance(position[player], first), first > 0, roll, policy);
+            case NEAREST -> {
+                int target = board.nextOfType(position[player], (byte) first);
+                int targetOwner = owner[target];
+                if (targetOwner != UNOWNED && targetOwner != player && !mortgaged[target]) {
+                    placeOn(player, target, true);
+                    int rent = first == BoardTables.UTILITY ? second * Dice.total(roll) : second * rent(target, roll);
+                    transfer(player, targetOwner, rent);
+                } else {
+                    moveTo(player, target, true, roll, policy);
+                }
+            }
+            case PAY -> pay(player, first);
+            case COLLECT -> addCash(player, first);
+            case PAY_EACH -> {
+                for (int other = 0; other < playerCount && !bankrupt[player]; other++) {
+                    if (other != player && !bankrupt[other]) {
+                        transfer(player, other, first);
+                    }
+                }
+            }
+            case COLLECT_EACH -> {
+                for (int other = 0; other < playerCount; other++) {
+                    if (other != player && !bankrupt[other]) {
+                        transfer(other, player, first);
+                    }
+                }
+            }
+            case REPAIRS -> pay(player, repairCost(player, first, second));
+            case GO_TO_JAIL -> sendToJail(player);
+            default -> {
+            }
+        }
+    }
+
+    private void placeOn(int player, int space, boolean collectGo) {
+        if (collectGo && board.passesGo(position[player], space)) {
+            addCash(player, GO_SALARY);
+        }
+        changePosition(player, space);
+    }
+
+    private void moveTo(int player, int space, boolean collectGo, int roll, BuyPolicy policy) {
+        placeOn(player, space, collectGo);
+        land(player, space, roll, policy);
+    }
+
+    /**
+     * Calculates what a player pays for repairs on their buildings.
+     *
+     * @param player   The player.
+     * @param perHouse The cost per house.
+     * @param perHotel The cost per hotel.
+     * @return The total cost.
+     */
+    public int repairCost(int player, int perHouse, int perHotel) {
+        int cost = 0;
+        for (int space = 0; space < board.size(); space++) {
+            if (owner[space] == player) {
+                cost += buildings[space] == BoardTables.HOTEL ? perHotel : buildings[space] * perHouse;
+            }
+        }
+        return cost;
+    }
+
+    /**
+     * Calculates the rent owed for landing on an owned space.
+     *
+     * @param space The position of the space.
+     * @param roll  The packed roll that brought the player there, used for utilities.
+     * @return The rent.
+     */
+    public int rent(int space, int roll) {
+        int owned = groupOwned[owner[space] * board.groupCount() + board.group(space)];
+        return rentTable.rent(space, buildings[space], owned, Dice.total(roll));
+    }
+
+    /**
+     * Hands a space to a new owner and keeps the group counts in step.
+     */
+    private void assign(int space, int player) {
+        int group = board.group(space);
+        if (owner[space] != UNOWNED) {
+            groupOwned[owner[space] * board.groupCount() + group]--;
+        }
+        hash ^= Zobrist.key(Zobrist.OWNER, space, owner[space]) ^ Zobrist.key(Zobrist.OWNER, space, player);
+        owner[space] = (byte) player;
+        if (player != UNOWNED) {
+            groupOwned[player * board.groupCount() + group]++;
+        }
+    }
+
+    private void changePosition(int player, int space) {
+        hash ^= Zobrist.key(Zobrist.POSITION, player, position[player]) ^ Zobrist.key(Zobrist.POSITION, player, space);
+        position[player] = space;
+    }
+
+    /**
+     * Adds to a player's cash. The hash only changes when the cash moves to another bucket.
+     */
+    private void addCash(int player, int amount) {
+        int before = Zobrist.cashBucket(cash[player]);
+        cash[player] += amount;
+        int after = Zobrist.cashBucket(cash[player]);
+        if (before != after) {
+            hash ^= Zobrist.key(Zobrist.CASH, player, before) ^ Zobrist.key(Zobrist.CASH, player, after);
+        }
+    }
+
+    private void changeJailTurns(int player, int turns) {
+        hash ^= Zobrist.key(Zobrist.JAIL, player, jailTurns[player]) ^ Zobrist.key(Zobrist.JAIL, player, turns);
+        jailTurns[player] = turns;
+    }
+
+    private void changeJailCards(int player, int cards) {
+        hash ^= Zobrist.key(Zobrist.JAIL_CARDS, player, jailCards[player]) ^ Zobrist.key(Zobrist.JAIL_CARDS, player, cards);
+        jailCards[player] = (byte) cards;
+    }
+
+    private void changeBankrupt(int player, boolean out) {
+        if (bankrupt[player] != out) {
+            hash ^= Zobrist.key(Zobrist.BANKRUPT, player, 1);
+            bankrupt[player] = out;
+        }
+    }
+
+    private void changeBuildings(int space, int level) {
+        hash ^= Zobrist.key(Zobrist.BUILDINGS, space, buildings[space]) ^ Zobrist.key(Zobrist.BUILDINGS, space, level);
+        buildings[space] = (byte) level;
+    }
+
+    private void changeMortgaged(int space, boolean flag) {
+        if (mortgaged[space] != flag) {
+            hash ^= Zobrist.key(Zobrist.MORTGAGED, space, 1);
+            mortgaged[space] = flag;
+        }
+    }
+
+    private void changeDoublesRolled(int doubles) {
+        hash ^= Zobrist.key(Zobrist.DOUBLES, 0, doublesRolled) ^ Zobrist.key(Zobrist.DOUBLES, 0, doubles);
+        doublesRolled = doubles;
+    }
+
+    private void changeCurrentPlayer(int player) {
+        hash ^= Zobrist.key(Zobrist.TO_MOVE, 0, currentPlayer) ^ Zobrist.key(Zobrist.TO_MOVE, 0, player);
+        currentPlayer = player;
+    }
+
+    /**
+     * Computes the Zobrist hash of the whole position from scratch. Every change after that
+     * updates the hash in place.
+     */
+    private long computeHash() {
+        long h = Zobrist.key(Zobrist.TO_MOVE, 0, currentPlayer) ^ Zobrist.key(Zobrist.DOUBLES, 0, doublesRolled);
+        for (int player = 0; player < playerCount; player++) {
+            h ^= Zobrist.key(Zobrist.POSITION, player, position[player])
+                    ^ Zobrist.key(Zobrist.CASH, player, Zobrist.cashBucket(cash[player]))
+                    ^ Zobrist.key(Zobrist.JAIL, player, jailTurns[player])
+                    ^ Zobrist.key(Zobrist.JAIL_CARDS, player, jailCards[player]);
+            if (bankrupt[player]) {
+                h ^= Zobrist.key(Zobrist.BANKRUPT, player, 1);
+            }
+        }
+        for (int space = 0; space < board.size(); space++) {
+            h ^= Zobrist.key(Zobrist.OWNER, space, owner[space]) ^ Zobrist.key(Zobrist.BUILDINGS, space, buildings[space]);
+            if (mortgaged[space]) {
+                h ^= Zobrist.key(Zobrist.MORTGAGED, space, 1);
+            }
+        }
+        return h;
+    }
+
+    /**
+     * Gets the Zobrist hash of the position: owners, building levels, mortgages, positions,
+     * jail turns, jail cards, bankruptcies, cash to the nearest Zobrist.CASH_BUCKET, the
+     * player to move and the doubles they rolled this turn. Positions that differ only in the order of the decks share a hash, as
+     * the order is hidden from the players.
+     *
+     * @return The hash.
+     */
+    public long hash() {
+        return hash;
+    }
+
+    /**
+     * Buys a space from the bank at its price.
+     *
+     * @param player The buyer.
+     * @param space  The position of the space.
+     */
+    public void buy(int player, int space) {
+        addCash(player, -board.price(space));
+        assign(space, player);
+    }
+
+    /**
+     * Moves money from one player to another. A payer short of cash raises it first, and one
+     * who cannot goes bankrupt, so the receiver gets only what the payer could raise.
+     *
+     * @param from   The paying player.
+     * @param to     The receiving player.
+     * @param amount The amount to move.
+     */
+    public void transfer(int from, int to, int amount) {
+        addCash(to, charge(from, amount, to));
+    }
+
+    /**
+     * Takes money from a player for the bank. A player short of cash raises it first, and one
+     * who cannot goes bankrupt.
+     *
+     * @param player The paying player.
+     * @param amount The amount to pay.
+     */
+    public void pay(int player, int amount) {
+        charge(player, amount, UNOWNED);
+    }
+
+    /**
+     * Takes a debt from a player, mortgaging and selling buildings as needed, and declares
+     * them bankrupt if they still cannot cover it.
+     *
+     * @return What the player paid, all their cash if they went bankrupt.
+     */
+    private int charge(int player, int amount, int creditor) {
+        raise(player, amount);
+        int paid = Math.max(0, Math.min(amount, cash[player]));
+        addCash(player, -paid);
+        if (paid < amount) {
+            declareBankrupt(player, creditor);
+        }
+        return paid;
+    }
+
+    /**
+     * Raises cash until a player holds an amount or has nothing left to sell, in the order of
+     * the least loss the LiquidationSolver prefers: mortgages first, then buildings, one at a
+     * time from the most built street so every group stays even, and the mortgages they free.
+     */
+    private void raise(int player, int amount) {
+        while (cash[player] < amount) {
+            int sale = UNOWNED;
+            for (int space = 0; space < board.size(); space++) {
+                if (owner[space] != player) {
+                    continue;
+                }
+                if (canMortgage(player, space)) {
+                    sale = space;
+                    break;
+                }
+                if (buildings[space] > 0 && (sale == UNOWNED || buildings[space] > buildings[sale])) {
+                    sale = space;
+                }
+            }
+            if (sale == UNOWNED) {
+                return;
+            }
+            if (buildings[sale] > 0) {
+                changeBuildings(sale, buildings[sale] - 1);
+                addCash(player, board.houseCost(sale) / 2);
+            } else {
+                mortgage(player, sale);
+            }
+        }
+    }
+
+    /**
+     * Takes a player out of the game. Their properties go to the player they owed, mortgages
+     * and all, or back to the bank, unmortgaged, if they owed the bank.
+     */
+    private void declareBankrupt(int player, int creditor) {
+        changeBankrupt(player, true);
+        changeJailTurns(player, NOT_IN_JAIL);
+        for (int space = 0; space < board.size(); space++) {
+            if (owner[space] == player) {
+                assign(space, creditor);
+                changeBuildings(space, 0);
+                if (creditor == UNOWNED) {
+                    changeMortgaged(space, false);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if a player may build on a street: they own its whole color group, none of the
+     * group is mortgaged, the street has no more buildings than the rest of the group and is
+     * not already a hotel, and they can pay for the building.
+     *
+     * @param player The player.
+     * @param space  The position of the street.
+     * @return True if the player may build there.
+     */
+    public boolean canBuild(int player, int space) {
+        if (board.type(space) != BoardTables.STREET || owner[space] != player
+                || buildings[space] >= BoardTables.HOTEL || cash[player] < board.houseCost(space)) {
+            return false;
+        }
+        for (int member : board.groupMembers(board.group(space))) {
+            if (owner[member] != player || mortgaged[member] || buildings[member] < buildings[space]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Builds a house on a street, or a hotel on four houses, at the street's house cost.
+     *
+     * @param player The owner of the street.
+     * @param space  The position of the street.
+     */
+    public void build(int player, int space) {
+        addCash(player, -board.houseCost(space));
+        changeBuildings(space, buildings[space] + 1);
+    }
+
+    /**
+     * Checks if a player may mortgage a space: they own it, it is not mortgaged and there are
+     * no buildings in its group.
+     *
+     * @param player The player.
+     * @param space  The position of the space.
+     * @return True if the player may mortgage it.
+     */
+    public boolean canMortgage(int player, int space) {
+        if (owner[space] != player || mortgaged[space]) {
+            return false;
+        }
+        for (int member : board.groupMembers(board.group(space))) {
+            if (buildings[member] > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Mortgages a space, paying its owner the mortgage value.
+     *
+     * @param player The owner of the space.
+     * @param space  The position of the space.
+     */
+    public void mortgage(int player, int space) {
+        changeMortgaged(space, true);
+        addCash(player, board.mortgageValue(space));
+    }
+
+    /**
+     * Hands Get Out of Jail Free cards from one player to another, as in a trade.
+     *
+     * @param from  The player giving the cards.
+     * @param to    The player receiving them.
+     * @param count The number of cards.
+     */
+    public void giveJailCards(int from, int to, int count) {
+        changeJailCards(from, jailCards[from] - count);
+        changeJailCards(to, jailCards[to] + count);
+        for (int deck = 0, left = count; deck < DECKS && left > 0; deck++) {
+            int moved = Math.min(left, heldCards[from * DECKS + deck]);
+            heldCards[from * DECKS + deck] -= moved;
+            heldCards[to * DECKS + deck] += moved;
+            left -= moved;
+        }
+    }
+
+    /**
+     * Pays the fine for a player in jail, who then rolls as usual on their turn.
+     *
+     * @param player The player in jail.
+     */
+    public void payJailFine(int player) {
+        changeJailTurns(player, NOT_IN_JAIL);
+        pay(player, JAIL_FINE);
+    }
+
+    /**
+     * Passes the turn to the next player still in the game without playing it, for positions
+     * read in the middle of a turn.
+     */
+    public void endTurn() {
+        changeDoublesRolled(0);
+        advanceTurn();
+    }
+
+    /**
+     * Leaves the turn with the player to move after they rolled doubles, for positions read in
+     * the middle of a turn. The next playTurn goes on with their extra roll and sends them to
+     * jail if it is their third doubles in a row.
+     *
+     * @param doubles The doubles the player has rolled this turn.
+     * @throws IllegalArgumentException if the player would not roll again after that many doubles.
+     */
+    public void rollAgain(int doubles) {
+        if (doubles < 1 || doubles >= MAX_DOUBLES) {
+            throw new IllegalArgumentException("A player rolls again after 1 to " + (MAX_DOUBLES - 1) + " doubles");
+        }
+        changeDoublesRolled(doubles);
+    }
+
+    /**
+     * Values everything a player has at what it cost: cash, the price of each space less the
+     * mortgage on it, and the cost of the buildings.
+     *
+     * @param player The player.
+     * @return The net worth, 0 for a bankrupt player.
+     */
+    public int netWorth(int player) {
+        if (bankrupt[player]) {
+            return 0;
+        }
+        int worth = cash[player];
+        for (int space = 0; space < board.size(); space++) {
+            if (owner[space] == player) {
+                worth += board.price(space) + buildings[space] * board.houseCost(space);
+                if (mortgaged[space]) {
+                    worth -= board.mortgageValue(space);
+                }
+            }
+        }
+        return worth;
+    }
+
+    /**
+     * Sends a player to jail.
+     *
+     * @param player The player to send.
+     */
+    public void sendToJail(int player) {
+        changePosition(player, board.jailPosition());
+        changeJailTurns(player, 0);
+    }
+
+    private void advanceTurn() {
+        for (int i = 1; i <= playerCount; i++) {
+            int next = (currentPlayer + i) % playerCount;
+            if (!bankrupt[next]) {
+                changeCurrentPlayer(next);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Checks if the game is over, which is when at most one player is left.
+     *
+     * @return True if the game is over, false otherwise.
+     */
+    public boolean isGameOver() {
+        int remaining = 0;
+        for (boolean out : bankrupt) {
+            if (!out) {
+                remaining++;
+            }
+        }
+        return remaining <= 1;
+    }
+
+    public BoardTables getBoard() {
+        return board;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public int getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    public void setCurrentPlayer(int currentPlayer) {
+        changeCurrentPlayer(currentPlayer);
+    }
+
+    public int getPosition(int player) {
+        return position[player];
+    }
+
+    public void setPosition(int player, int position) {
+        changePosition(player, position);
+    }
+
+    public int getCash(int player) {
+        return cash[player];
+    }
+
+    public void setCash(int player, int cash) {
+        addCash(player, cash - this.cash[player]);
+    }
+
+    public int getJailTurns(int player) {
+        return jailTurns[player];
+    }
+
+    public void setJailTurns(int player, int turns) {
+        changeJailTurns(player, turns);
+    }
+
+    public boolean isInJail(int player) {
+        return jailTurns[player] != NOT_IN_JAIL;
+    }
+
+    public int getJailCards(int player) {
+        return jailCards[player];
+    }
+
+    public void setJailCards(int player, int cards) {
+        changeJailCards(player, cards);
+    }
+
+    /**
+     * Takes the top card of a deck without applying it, for replaying a recorded draw.
+     *
+     * @return The card id.
+     */
+    int takeTop(int deck) {
+        byte[] ring = deckRing[deck];
+        int id = ring[deckHead[deck]];
+        deckHead[deck] = deckHead[deck] + 1 == ring.length ? 0 : deckHead[deck] + 1;
+        deckCount[deck]--;
+        return id;
+    }
+
+    /**
+     * Puts a card on the bottom of a deck, for replaying a recorded draw or a used jail card.
+     */
+    void putBottom(int deck, int id) {
+        returnCard(deck, id);
+    }
+
+    /**
+     * Checks if a card of a deck is kept by the player who draws it.
+     */
+    boolean isKept(int deck, int id) {
+        return deckEffects[deck][id].getOp() == CardOp.JAIL_CARD;
+    }
+
+    void setHeldCards(int player, int deck, int cards) {
+        heldCards[player * DECKS + deck] = (byte) cards;
+    }
+
+    /**
+     * Gets the number of bytes writeTo needs for this state.
+     *
+     * @return The encoded size.
+     */
+    public int encodedSize() {
+        int decks = 0;
+        for (int deck = 0; deck < DECKS; deck++) {
+            decks += 1 + deckCount[deck];
+        }
+        return 8 + playerCount * (4 + 4 + 4 + 1 + 1 + DECKS) + board.size() * 3 + decks;
+    }
+
+    /**
+     * Writes the state into a buffer. The board tables are not written; readFrom needs the same ones.
+     * Nor are doubles rolled in the middle of a turn: states are written between turns.
+     *
+     * @param out The buffer, with at least encodedSize() bytes remaining.
+     */
+    public void writeTo(ByteBuffer out) {
+        out.putInt(playerCount);
+        out.putInt(currentPlayer);
+        for (int player = 0; player < playerCount; player++) {
+            out.putInt(position[player]);
+            out.putInt(cash[player]);
+            out.putInt(jailTurns[player]);
+            out.put(jailCards[player]);
+            out.put((byte) (bankrupt[player] ? 1 : 0));
+            for (int deck = 0; deck < DECKS; deck++) {
+                out.put(heldCards[player * DECKS + deck]);
+            }
+        }
+        for (int space = 0; space < board.size(); space++) {
+            out.put(owner[space]);
+            out.put(buildings[space]);
+            out.put((byte) (mortgaged[space] ? 1 : 0));
+        }
+        for (int deck = 0; deck < DECKS; deck++) {
+            out.put((byte) deckCount[deck]);
+            for (int i = 0; i < deckCount[deck]; i++) {
+                out.put((byte) getDeckCard(deck, i));
+            }
+        }
+    }
+
+    /**
+     * Reads a state written by writeTo.
+     *
+     * @param board The fixed data of the board the state was written with.
+     * @param in    The buffer, positioned at the start of the state.
+     * @return The state.
+     * @throws IllegalArgumentException if the buffer does not hold a valid state for the board.
+     */
+    public static CompactGameState readFrom(BoardTables board, ByteBuffer in) {
+        try {
+            CompactGameState state = new CompactGameState(board, in.getInt());
+            state.currentPlayer = in.getInt();
+            for (int player = 0; player < state.playerCount; player++) {
+                state.position[player] = in.getInt();
+                state.cash[player] = in.getInt();
+                state.jailTurns[player] = in.getInt();
+                state.jailCards[player] = in.get();
+                state.bankrupt[player] = in.get() != 0;
+                for (int deck = 0; deck < DECKS; deck++) {
+                    state.heldCards[player * DECKS + deck] = in.get();
+                }
+            }
+            for (int space = 0; space < board.size(); space++) {
+                state.assign(space, in.get());
+                state.buildings[space] = in.get();
+                state.mortgaged[space] = in.get() != 0;
+            }
+            state.hash = state.computeHash();
+            for (int deck = 0; deck < DECKS; deck++) {
+                int count = in.get();
+                if (count < 0 || count > state.deckRing[deck].length) {
+                    throw new IllegalArgumentException("Invalid deck size " + count);
+                }
+                state.deckHead[deck] = 0;
+                state.deckCount[deck] = count;
+                for (int i = 0; i < count; i++) {
+                    state.deckRing[deck][i] = in.get();
+                }
+            }
+            return state;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated or invalid game state", e);
+        }
+    }
+
+    /**
+     * Gets the card at a position in a deck without drawing it.
+     *
+     * @param deck CHANCE_DECK or COMMUNITY_DECK.
+     * @param i    The position, 0 for the top card.
+     * @return The card id.
+     * @throws IndexOutOfBoundsException if the position is outside the deck.
+     */
+    public int getDeckCard(int deck, int i) {
+        if (i < 0 || i >= deckCount[deck]) {
+            throw new IndexOutOfBoundsException("No card at position " + i);
+        }
+        return deckRing[deck][(deckHead[deck] + i) % deckRing[deck].length];
+    }
+
+    public int getDeckSize(int deck) {
+        return deckCount[deck];
+    }
+
+    public int getHeldCards(int player, int deck) {
+        return heldCards[player * DECKS + deck];
+    }
+
+    public boolean isBankrupt(int player) {
+        return bankrupt[player];
+    }
+
+    void setBankrupt(int player, boolean bankrupt) {
+        changeBankrupt(player, bankrupt);
+    }
+
+    public int getOwner(int space) {
+        return owner[space];
+    }
+
+    public void setOwner(int space, int player) {
+        assign(space, player);
+    }
+
+    public int getBuildings(int space) {
+        return buildings[space];
+    }
+
+    public void setBuildings(int space, int level) {
+        changeBuildings(space, level);
+    }
+
+    public boolean isMortgaged(int space) {
+        return mortgaged[space];
+    }
+
+    public void setMortgaged(int space, boolean mortgaged) {
+        changeMortgaged(space, mortgaged);
+    }
+
+    /**
+     * Compares two states field by field. Decks are equal when they hold the same cards in
+     * the same order, wherever their rings start.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof CompactGameState state) || state.board != board || state.currentPlayer != currentPlayer
+                || state.doublesRolled != doublesRolled
+                || !Arrays.equals(state.position, position) || !Arrays.equals(state.cash, cash)
+                || !Arrays.equals(state.jailTurns, jailTurns) || !Arrays.equals(state.jailCards, jailCards)
+                || !Arrays.equals(state.bankrupt, bankrupt) || !Arrays.equals(state.owner, owner)
+                || !Arrays.equals(state.buildings, buildings) || !Arrays.equals(state.mortgaged, mortgaged)
+                || !Arrays.equals(state.heldCards, heldCards)) {
+            return false;
+        }
+        for (int deck = 0; deck < DECKS; deck++) {
+            if (state.deckCount[deck] != deckCount[deck]) {
+                return false;
+            }
+            for (int i = 0; i < deckCount[deck]; i++) {
+                if (state.getDeckCard(deck, i) != getDeckCard(deck, i)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(hash);
+    }
+
+    /**
+     * The choice of a player to buy an unowned space they landed on and can afford.
+     */
+    @FunctionalInterface
+    public interface BuyPolicy {
+        /**
+         * Decides whether a player buys a space.
+         *
+         * @param state  The position, with the player on the space.
+         * @param player The player.
+         * @param space  The position of the unowned space.
+         * @return True to buy the space.
+         */
+        boolean buys(CompactGameState state, int player, int space);
+    }
+}
@@ -6,7 +6,12 @@
  */
 package Model;
 
+import java.util.List;
+
 public class ComputerPlayer extends Player {
+    public static final int BUILD_RESERVE = 150; // Cash the player keeps back when building
+    private static final int BID_TURNS = 20; // Opponent turns a house bid expects to earn back over
+    private BuildPlanner builds; // Plans the player's buildings, made when first needed
 
     /**
      * Constructs a ComputerPlayer with the specified name, token, and game board.
@@ -20,31 +25,91 @@ public class ComputerPlayer extends Player {
     }
 
     /**
-     * Moves the computer player by the specified number of steps.
+     * Decides whether to buy a property the player landed on: the player buys whatever they can afford.
+     *
+     * @param property      The unowned property offered.
+     * @param doublesRolled The doubles the player rolled this turn if they roll again, otherwise 0.
+     * @return True to buy the property, false to decline it.
+     */
+    public boolean wantsToBuy(Property property, int doublesRolled) {
+        return getMoney() >= property.getPrice();
+    }
+
+    /**
+     * Decides whether to pay the fine to leave jail before rolling: the player always tries
+     * to roll doubles instead.
+     *
+     * @return True to pay the fine, false to roll for doubles.
+     */
+    public boolean wantsToPayJailFine() {
+        return false;
+    }
+
+    /**
+     * Chooses a street to build a house on before rolling: the first building of the plan that
+     * adds the most expected rent while keeping BUILD_RESERVE in cash.
      *
-     * @param steps The number of steps to move.
+     * @return The street to build on, or null to stop building.
      */
-    @Override
-    public void move(int steps) {
-        System.out.println(getName() + " (Computer) is moving...");
-        super.move(steps);
+    public Property chooseToBuild() {
+        List<PropertySpace> plan = buildPlanner().plan(this, BUILD_RESERVE).getBuilds();
+        return plan.isEmpty() ? null : plan.get(0);
     }
 
     /**
-     * Makes a decision for the computer player, such as buying a property if affordable.
+     * Bids for a house the bank has too few of, if the player's building plan starts with one.
+     * The player offers what the house is expected to earn over BID_TURNS opponent turns, as
+     * much as they can pay above the house price and BUILD_RESERVE.
+     *
+     * @return The bid, or null if the player wants no house now.
      */
-    public void makeDecision() {
-        // Example decision logic: Buy property if affordable
-        Space currentSpace = getGameBoard().getSpace(getPosition());
-        if (currentSpace instanceof PropertySpace property) {
-            if (!property.isOwned() && getMoney() >= property.getPrice()) {
-                System.out.println(getName() + " (Computer) decided to buy " + property.getName());
-                setMoney(getMoney() - property.getPrice());
-                property.setOwner(this);
-                addProperty(property);
-            } else {
-                System.out.println(getName() + " (Computer) decided not to buy " + property.getName());
-            }
+    public HouseBid bidForHouse() {
+        BuildPlan plan = buildPlanner().plan(this, BUILD_RESERVE);
+        if (plan.getBuilds().isEmpty()) {
+            return null;
+        }
+        PropertySpace street = plan.getBuilds().get(0);
+        if (street.hasHotel() || street.getHouseCount() == BoardTables.HOTEL - 1) {
+            return null;
+        }
+        double worth = plan.getRentGain() / plan.getBuilds().size() * BID_TURNS;
+        int spare = getMoney() - BUILD_RESERVE - street.getCostOfHouseHotel();
+        return new HouseBid(this, street, (int) Math.max(0, Math.min(spare, worth)));
+    }
+
+    private BuildPlanner buildPlanner() {
+        if (builds == null) {
+            builds = new BuildPlanner(getGameBoard());
         }
+        return builds;
+    }
+
+    /**
+     * Chooses a property to mortgage before rolling: the player never mortgages.
+     *
+     * @return The property to mortgage, or null to mortgage nothing.
+     */
+    public Property chooseToMortgage() {
+        return null;
+    }
+
+    /**
+     * Decides whether to accept a trade another player offers: the player accepts when the
+     * offered bundle is worth more at face value than the requested one.
+     *
+     * @param offer The trade, with this player as the recipient.
+     * @return True to accept the trade.
+     */
+    public boolean wantsTrade(TradeOffer offer) {
+        return offer.getOffered().faceValue() > offer.getRequested().faceValue();
+    }
+
+    /**
+     * Proposes a trade before rolling: the player never trades of their own accord.
+     *
+     * @return The trade to offer, or null to offer nothing.
+     */
+    public TradeOffer proposeTrade() {
+        return null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+/*
+ * ConsoleSubscriber.java
+ *
+ * Prints the events of a game to the console through GameLog, so a thread running quietly
+ * still prints nothing. Events are only turned into text while printing is enabled.
+ */
+package Model;
+
+public class ConsoleSubscriber implements GameEventSubscriber {
+
+    @Override
+    public void onEvent(GameEvent event) {
+        if (GameLog.isEnabled()) {
+            GameLog.log(event.describe());
+        }
+    }
+}
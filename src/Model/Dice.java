@@ -4,42 +4,266 @@
 
  * This class represents a Die object used in the game.
  * It provides functionality to roll two dice and keep track of the number of doubles rolled.
+ * Every game owns its own Dice, created from a seed or split off a parent Dice, so games
+ * running side by side never share a random stream and the same seed always replays the same game.
+ * The random stream is a SplitMix64 generator, the same algorithm as java.util.SplittableRandom.
+ *
+ * A roll is a packed int: bits 0-2 hold the first die, bits 3-5 the second die and bit 6 is set
+ * for doubles. Use die1, die2, total and isDoubles to read it. Rolling this way allocates nothing,
+ * and an optional roll buffer pre-generates rolls in bulk.
+ *
+ * writeState and readState copy the whole state of a Dice, including unused buffered rolls,
+ * so a saved game continues with exactly the rolls it would have had.
  */
 
 package Model;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Random;
+import java.util.List;
 
 public class Dice {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final int DOUBLES_FLAG = 1 << 6;
+    private static final int[] ROLLS = new int[36]; // Packed roll for each of the 36 outcomes
     private static Dice uniqueInstance;
     private int doublesRolled;
-    private final Random random;
+    private long seed; // Current state of the random stream
+    private long gamma; // Step added to the state on every draw
+    private int lastRoll; // Most recent packed roll, 0 before the first roll
+    private int[] rollBuffer; // Pre-generated rolls, or null when rolls are drawn one at a time
+    private int bufferIndex; // Next unused roll in the buffer
 
-    private Dice() {
+    static {
+        for (int i = 0; i < 36; i++) {
+            int die1 = i / 6 + 1;
+            int die2 = i % 6 + 1;
+            ROLLS[i] = die1 | (die2 << 3) | (die1 == die2 ? DOUBLES_FLAG : 0);
+        }
+    }
+
+    /**
+     * Constructs a Dice with a seed taken from the system clock.
+     */
+    public Dice() {
+        this(mix64(System.nanoTime()) ^ mix64(System.currentTimeMillis()));
+    }
+
+    /**
+     * Constructs a Dice with the specified seed.
+     *
+     * @param seed The seed of the random stream.
+     */
+    public Dice(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    private Dice(long seed, long gamma) {
         this.doublesRolled = 0;
-        this.random = new Random();
+        this.seed = seed;
+        this.gamma = gamma;
     }
 
-    public static Dice getInstance() {
+    /**
+     * Gets the shared Dice used by stand-alone tools such as DiceMain.
+     * Games create their own Dice through GameBoard instead.
+     *
+     * @return The shared Dice.
+     */
+    public static synchronized Dice getInstance() {
         if (uniqueInstance == null) {
             uniqueInstance = new Dice();
         }
         return uniqueInstance;
     }
 
+    /**
+     * Splits off a new, independent Dice from this one.
+     * The child's stream is fully determined by the state of this Dice.
+     *
+     * @return The new Dice.
+     */
+    public Dice split() {
+        return new Dice(nextLong(), mixGamma(nextSeed()));
+    }
+
+    /**
+     * Gets the Dice that the index-th call to split() on new Dice(seed) would return,
+     * without making the earlier splits. Parallel workers use it to give game number
+     * index the same dice no matter which worker plays it.
+     *
+     * @param seed  The seed of the parent Dice.
+     * @param index The number of splits made before this one.
+     * @return The new Dice.
+     */
+    public static Dice split(long seed, long index) {
+        long state = seed + 2 * index * GOLDEN_GAMMA;
+        return new Dice(mix64(state + GOLDEN_GAMMA), mixGamma(state + 2 * GOLDEN_GAMMA));
+    }
+
     public ArrayList<Integer> rollDice() {
+        int roll = roll();
         ArrayList<Integer> results = new ArrayList<>();
-        int die1 = random.nextInt(6) + 1;
-        int die2 = random.nextInt(6) + 1;
-        results.add(die1);
-        results.add(die2);
+        results.add(die1(roll));
+        results.add(die2(roll));
+        return results;
+    }
 
-        if (die1 == die2) {
+    /**
+     * Rolls both dice without allocating and counts doubles.
+     *
+     * @return The packed roll.
+     */
+    public int roll() {
+        int roll;
+        if (rollBuffer == null) {
+            roll = ROLLS[nextInt(36)];
+        } else {
+            if (bufferIndex == rollBuffer.length) {
+                fillRolls(rollBuffer);
+                bufferIndex = 0;
+            }
+            roll = rollBuffer[bufferIndex++];
+        }
+        if ((roll & DOUBLES_FLAG) != 0) {
             doublesRolled++;
         }
+        lastRoll = roll;
+        return roll;
+    }
 
-        return results;
+    /**
+     * Fills an array with packed rolls drawn from this Dice's stream.
+     * Filling does not count doubles; the rolls count once they are used.
+     *
+     * @param rolls The array to fill.
+     */
+    public void fillRolls(int[] rolls) {
+        for (int i = 0; i < rolls.length; i++) {
+            rolls[i] = ROLLS[nextInt(36)];
+        }
+    }
+
+    /**
+     * Turns on bulk mode: rolls are pre-generated into a buffer of the given size and
+     * handed out by roll(). The rolls are the same as without the buffer, but other draws
+     * from this Dice, such as split or shuffle, see the stream after the buffered rolls.
+     *
+     * @param size The number of rolls to generate at a time, or 0 to turn bulk mode off.
+     */
+    public void setRollBufferSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Buffer size cannot be negative");
+        }
+        rollBuffer = size == 0 ? null : new int[size];
+        bufferIndex = size;
+    }
+
+    /**
+     * Gets the number of bytes writeState needs.
+     *
+     * @return The encoded size.
+     */
+    public int stateSize() {
+        return 8 + 8 + 4 + 4 + 4 + 4 + (rollBuffer == null ? 0 : rollBuffer.length);
+    }
+
+    /**
+     * Writes the state of the random stream, the doubles count, the last roll and the roll buffer.
+     *
+     * @param out The buffer, with at least stateSize() bytes remaining.
+     */
+    public void writeState(ByteBuffer out) {
+        out.putLong(seed);
+        out.putLong(gamma);
+        out.putInt(doublesRolled);
+        out.putInt(lastRoll);
+        out.putInt(rollBuffer == null ? -1 : rollBuffer.length);
+        out.putInt(bufferIndex);
+        if (rollBuffer != null) {
+            for (int roll : rollBuffer) {
+                out.put((byte) roll); // A packed roll fits in seven bits
+            }
+        }
+    }
+
+    /**
+     * Replaces the state of this Dice with one written by writeState.
+     *
+     * @param in The buffer, positioned at the state.
+     * @throws IllegalArgumentException if the state is invalid.
+     */
+    public void readState(ByteBuffer in) {
+        long newSeed = in.getLong();
+        long newGamma = in.getLong();
+        int newDoubles = in.getInt();
+        int newLastRoll = in.getInt();
+        int bufferLength = in.getInt();
+        int newIndex = in.getInt();
+        if ((newGamma & 1) == 0 || bufferLength < -1 || newIndex < 0 || newIndex > Math.max(bufferLength, 0)) {
+            throw new IllegalArgumentException("Invalid dice state");
+        }
+        int[] buffer = bufferLength < 0 ? null : new int[bufferLength];
+        if (buffer != null) {
+            for (int i = 0; i < bufferLength; i++) {
+                buffer[i] = in.get();
+            }
+        }
+        this.seed = newSeed;
+        this.gamma = newGamma;
+        this.doublesRolled = newDoubles;
+        this.lastRoll = newLastRoll;
+        this.rollBuffer = buffer;
+        this.bufferIndex = newIndex;
+    }
+
+    /**
+     * Gets the most recent packed roll.
+     *
+     * @return The last roll, or 0 if the dice have not been rolled.
+     */
+    public int getLastRoll() {
+        return lastRoll;
+    }
+
+    /**
+     * Gets the value of the first die of a packed roll.
+     *
+     * @param roll The packed roll.
+     * @return The first die, from 1 to 6.
+     */
+    public static int die1(int roll) {
+        return roll & 7;
+    }
+
+    /**
+     * Gets the value of the second die of a packed roll.
+     *
+     * @param roll The packed roll.
+     * @return The second die, from 1 to 6.
+     */
+    public static int die2(int roll) {
+        return (roll >>> 3) & 7;
+    }
+
+    /**
+     * Gets the sum of both dice of a packed roll.
+     *
+     * @param roll The packed roll.
+     * @return The total, from 2 to 12.
+     */
+    public static int total(int roll) {
+        return (roll & 7) + ((roll >>> 3) & 7);
+    }
+
+    /**
+     * Checks whether a packed roll is a double.
+     *
+     * @param roll The packed roll.
+     * @return True if both dice show the same value.
+     */
+    public static boolean isDoubles(int roll) {
+        return (roll & DOUBLES_FLAG) != 0;
     }
 
     public int getDoublesRolled() {
@@ -49,4 +273,65 @@ public class Dice {
     public void resetDoublesRolled() {
         doublesRolled = 0;
     }
-}
\ No newline at end of file
+
+    /**
+     * Shuffles a list with this Dice's random stream.
+     *
+     * @param list The list to shuffle.
+     */
+    public <T> void shuffle(List<T> list) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = nextInt(i + 1);
+            list.set(j, list.set(i, list.get(j)));
+        }
+    }
+
+    /**
+     * Draws a uniformly distributed int between 0 (inclusive) and bound (exclusive).
+     *
+     * @param bound The upper bound, must be positive.
+     * @return The random value.
+     */
+    public int nextInt(int bound) {
+        int r = (int) (mix64(nextSeed()) >>> 33);
+        int m = bound - 1;
+        for (int u = r; u - (r = u % bound) + m < 0; ) {
+            u = (int) (mix64(nextSeed()) >>> 33);
+        }
+        return r;
+    }
+
+    /**
+     * Draws a random long.
+     *
+     * @return The random value.
+     */
+    public long nextLong() {
+        return mix64(nextSeed());
+    }
+
+    private long nextSeed() {
+        return seed += gamma;
+    }
+
+    /**
+     * Scrambles the bits of a value with the SplitMix64 finaliser. Different inputs always
+     * give different outputs.
+     *
+     * @param z The value.
+     * @return The scrambled value.
+     */
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int n = Long.bitCount(z ^ (z >>> 1));
+        return (n < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+}
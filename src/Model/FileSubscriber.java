@@ -0,0 +1,48 @@
+/*
+ * FileSubscriber.java
+ *
+ * Writes the events of a game to a text file, one line per event.
+ * The file is buffered; close the subscriber to flush it.
+ */
+package Model;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class FileSubscriber implements GameEventSubscriber, AutoCloseable {
+    private final BufferedWriter writer; // Buffered writer of the log file
+
+    /**
+     * Opens a log file, replacing any file already at the path.
+     *
+     * @param path The path of the file.
+     * @throws IOException if the file cannot be opened.
+     */
+    public FileSubscriber(Path path) throws IOException {
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void onEvent(GameEvent event) {
+        try {
+            writer.write(event.describe());
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Flushes and closes the file.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
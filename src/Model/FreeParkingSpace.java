@@ -14,7 +14,6 @@ public class FreeParkingSpace extends Space {
 
     @Override
     public void landOn(Player player) {
-        // Logic for landing on Free Parking space
-        System.out.println(player.getName() + " landed on Free Parking.");
+        // Nothing happens on Free Parking
     }
 }
@@ -17,16 +17,20 @@ import java.util.*;
  */
 public class GameBoard {
     private final List<Space> spaces; // List of all spaces on the board
-    private final Stack<ChanceCard> chanceDeck; // Deck of Chance cards
-    private final Stack<CommunityChestCard> communityDeck; // Deck of Community Chest cards
+    private final CardDeck<ChanceCard> chanceDeck; // Deck of Chance cards
+    private final CardDeck<CommunityChestCard> communityDeck; // Deck of Community Chest cards
     private final List<Player> players; // List of players in the game
     private final boolean isTestMode; // Indicates if the game is in test mode
     private final Bank bank; // The bank managing game finances
-    private final List<String> availableTokens = new ArrayList<>(Arrays.asList(
+    private final Dice dice; // The dice of this game
+    private final GameEventBus events; // Events of this game
+    private final BoardDefinition definition; // Fixed data of the board, shared by every game on it
+    private List<String> availableTokens; // Tokens nobody has chosen yet, copied from TOKENS when first needed
+    public static final List<String> TOKENS = List.of(
             "Boat", "Cannon", "Car", "Cat", "Dog", "Duck",
             "Hat", "Horse", "Iron", "Penguin", "Shoe",
             "Thimble" //missing Train, Wheelbarrow, Boot/Shoe
-    ));
+    );
 
     /**
      * Constructs a GameBoard with the specified players, test mode, and bank.
@@ -37,20 +41,75 @@ public class GameBoard {
      * @throws IllegalArgumentException if players or bank is null.
      */
     public GameBoard(List<Player> players, boolean isTestMode, Bank bank) {
+        this(players, isTestMode, bank, new Dice());
+    }
+
+    /**
+     * Constructs a GameBoard with the specified players, test mode, bank, and dice.
+     * The dice also shuffle the card decks, so a seeded Dice replays the same game.
+     *
+     * @param players   The list of players in the game.
+     * @param isTestMode Whether the game is in test mode.
+     * @param bank      The bank managing game finances.
+     * @param dice      The dice used by this game.
+     * @throws IllegalArgumentException if players, bank or dice is null.
+     */
+    public GameBoard(List<Player> players, boolean isTestMode, Bank bank, Dice dice) {
+        this(players, isTestMode, bank, dice, BoardDefinition.classic());
+    }
+
+    /**
+     * Constructs a GameBoard on a board definition. The spaces and cards of this game are made
+     * from the shared definition; only their changing state belongs to this game.
+     *
+     * @param players    The list of players in the game.
+     * @param isTestMode Whether the game is in test mode.
+     * @param bank       The bank managing game finances.
+     * @param dice       The dice used by this game.
+     * @param definition The board to play on.
+     * @throws IllegalArgumentException if any argument is null.
+     */
+    public GameBoard(List<Player> players, boolean isTestMode, Bank bank, Dice dice, BoardDefinition definition) {
         if (players == null) {
             throw new IllegalArgumentException("Players list cannot be null");
         }
         if (bank == null) {
             throw new IllegalArgumentException("Bank cannot be null");
         }
+        if (dice == null) {
+            throw new IllegalArgumentException("Dice cannot be null");
+        }
+        if (definition == null) {
+            throw new IllegalArgumentException("Board definition cannot be null");
+        }
 
         this.players = players;
         this.isTestMode = isTestMode;
         this.bank = bank;
-        this.spaces = new ArrayList<>();
-        this.chanceDeck = ChanceCard.initializeChanceCards(bank);
-        this.communityDeck = CommunityChestCard.initializeCommunityChestCards(this, bank);
+        this.dice = dice;
+        this.events = new GameEventBus(this);
+        bank.setEvents(events);
+        this.definition = definition;
+        this.spaces = new ArrayList<>(definition.size());
+        this.chanceDeck = ChanceCard.initializeChanceCards(definition);
+        this.communityDeck = CommunityChestCard.initializeCommunityChestCards(definition);
         initializeBoard();
+        if (bank.getAllProperties().isEmpty()) {
+            registerProperties();
+        }
+    }
+
+    /**
+     * Hands the board's properties to a bank that does not know any properties yet.
+     */
+    private void registerProperties() {
+        List<Property> properties = new ArrayList<>();
+        for (Space space : spaces) {
+            if (space instanceof Property property) {
+                properties.add(property);
+            }
+        }
+        bank.setProperties(properties);
     }
 
     /**
@@ -62,56 +121,19 @@ public class GameBoard {
         if (player != null) {
             players.add(player);
         } else {
-            System.out.println("Cannot add a null player.");
+            GameLog.log("Cannot add a null player.");
         }
     }
 
     private void initializeBoard() {
-        // Add spaces to the board
-        spaces.add(new GoSpace());
-        spaces.add(new PropertySpace("Mediterranean Avenue", 1, "Brown", 60, 2, 4, 10, 30, 90, 160, 250, 30, 50, bank));
-        spaces.add(new CommunityChestSpace());
-        spaces.add(new PropertySpace("Baltic Avenue", 3, "Brown", 60, 4, 8, 20, 60, 180, 320, 450, 30, 50, bank));
-        spaces.add(new TaxSpace("Income Tax", 4, 200, bank));
-        spaces.add(new RailroadSpace("Reading Railroad", 5, 200, 25, 100, 50, 100, 200)); // Added missing argument
-        spaces.add(new PropertySpace("Oriental Avenue", 6, "Light Blue", 100, 6, 12, 30, 90, 270, 400, 550, 50, 50, bank));
-        spaces.add(new ChanceSpace());
-        spaces.add(new PropertySpace("Vermont Avenue", 8, "Light Blue", 100, 6, 12, 30, 90, 270, 400, 550, 50, 50, bank));
-        spaces.add(new PropertySpace("Connecticut Avenue", 9, "Light Blue", 120, 8, 16, 40, 100, 300, 450, 600, 60, 50, bank));
-        spaces.add(new JailSpace());
-        spaces.add(new PropertySpace("St. Charles Place", 11, "Pink", 140, 10, 20, 50, 150, 450, 625, 750, 70, 100, bank));
-        spaces.add(new UtilitySpace("Electric Company", 12, 150, 4));
-        spaces.add(new PropertySpace("States Avenue", 13, "Pink", 140, 10, 20, 50, 150, 450, 625, 750, 70, 100, bank));
-        spaces.add(new PropertySpace("Virginia Avenue", 14, "Pink", 160, 12, 24, 60, 180, 500, 700, 900, 80, 100, bank));
-        spaces.add(new RailroadSpace("Pennsylvania Railroad", 15, 200, 25, 100, 50, 100, 200)); // Added missing argument
-        spaces.add(new PropertySpace("St. James Place", 16, "Orange", 180, 14, 28, 70, 200, 550, 750, 950, 90, 100, bank));
-        spaces.add(new CommunityChestSpace());
-        spaces.add(new PropertySpace("Tennessee Avenue", 18, "Orange", 180, 14, 28, 70, 200, 550, 750, 950, 90, 100, bank));
-        spaces.add(new PropertySpace("New York Avenue", 19, "Orange", 200, 16, 32, 80, 220, 600, 800, 1000, 100, 100, bank));
-        spaces.add(new FreeParkingSpace());
-        spaces.add(new PropertySpace("Kentucky Avenue", 21, "Red", 220, 18, 36, 90, 250, 700, 875, 1050, 110, 150, bank));
-        spaces.add(new ChanceSpace());
-        spaces.add(new PropertySpace("Indiana Avenue", 23, "Red", 220, 18, 36, 90, 250, 700, 875, 1050, 110, 150, bank));
-        spaces.add(new PropertySpace("Illinois Avenue", 24, "Red", 240, 20, 40, 100, 300, 750, 925, 1100, 120, 150, bank));
-        spaces.add(new RailroadSpace("B&O Railroad", 25, 200, 25, 100, 50, 100, 200)); // Added missing argument
-        spaces.add(new PropertySpace("Atlantic Avenue", 26, "Yellow", 260, 22, 44, 110, 330, 800, 975, 1150, 130, 150, bank));
-        spaces.add(new PropertySpace("Ventnor Avenue", 27, "Yellow", 260, 22, 44, 110, 330, 800, 975, 1150, 130, 150, bank));
-        spaces.add(new UtilitySpace("Water Works", 28, 150, 4));
-        spaces.add(new PropertySpace("Marvin Gardens", 29, "Yellow", 280, 24, 48, 120, 360, 850, 1025, 1200, 140, 150, bank));
-        spaces.add(new GoToJailSpace());
-        spaces.add(new PropertySpace("Pacific Avenue", 31, "Green", 300, 26, 52, 130, 390, 900, 1100, 1275, 150, 200, bank));
-        spaces.add(new PropertySpace("North Carolina Avenue", 32, "Green", 300, 26, 52, 130, 390, 900, 1100, 1275, 150, 200, bank));
-        spaces.add(new CommunityChestSpace());
-        spaces.add(new PropertySpace("Pennsylvania Avenue", 34, "Green", 320, 28, 56, 150, 450, 1000, 1200, 1400, 160, 200, bank));
-        spaces.add(new RailroadSpace("Short Line", 35, 200, 25, 100, 50, 100, 200)); // Added missing argument
-        spaces.add(new ChanceSpace());
-        spaces.add(new PropertySpace("Park Place", 37, "Dark Blue", 350, 35, 70, 175, 500, 1100, 1300, 1500, 175, 200, bank));
-        spaces.add(new TaxSpace("Luxury Tax", 38, 100, bank));
-        spaces.add(new PropertySpace("Boardwalk", 39, "Dark Blue", 400, 50, 100, 200, 600, 1400, 1700, 2000, 200, 200, bank));
+        // Add this game's spaces for the board's definitions
+        for (int position = 0; position < definition.size(); position++) {
+            spaces.add(definition.getSpace(position).newSpace(position, bank));
+        }
 
         // Shuffle decks
-        ChanceCard.shuffleChanceCards(chanceDeck);
-        CommunityChestCard.shuffleCommunityChestCards(communityDeck);
+        ChanceCard.shuffleChanceCards(chanceDeck, dice);
+        CommunityChestCard.shuffleCommunityChestCards(communityDeck, dice);
 
         // Assign tokens if not in test mode
         if (!isTestMode) {
@@ -124,15 +146,16 @@ public class GameBoard {
      */
     public void assignTokensToPlayers() {
         if (players == null || players.isEmpty()) {
-            System.out.println("No players to assign tokens to.");
+            GameLog.log("No players to assign tokens to.");
             return;
         }
 
+        List<String> availableTokens = getAvailableTokens();
         for (Player player : players) {
             if (player instanceof ComputerPlayer) {
                 String chosenToken = availableTokens.remove(0);
                 player.setToken(chosenToken);
-                System.out.println(player.getName() + " (Computer) has chosen the " + chosenToken + " token.");
+                GameLog.log(player.getName() + " (Computer) has chosen the " + chosenToken + " token.");
             } else {
                 System.out.println(player.getName() + ", choose your token from the following list:");
                 for (int j = 0; j < availableTokens.size(); j++) {
@@ -165,19 +188,41 @@ public class GameBoard {
      */
     public void movePlayer(Player player, int steps) {
         if (player == null || spaces.isEmpty()) {
-            System.out.println("Invalid player or board is not initialized.");
+            GameLog.log("Invalid player or board is not initialized.");
             return;
         }
 
+        moveTo(player, getTables().advance(player.getPosition(), steps), true);
+    }
+
+    /**
+     * Moves a player straight to a space and lands on it.
+     *
+     * @param player    The player to move.
+     * @param position  The position of the space.
+     * @param collectGo Whether the player collects $200 when the move passes Go.
+     */
+    public void moveTo(Player player, int position, boolean collectGo) {
+        placeOn(player, position, collectGo);
+        spaces.get(position).landOn(player);
+    }
+
+    /**
+     * Puts a player on a space without applying the space, for moves whose landing is
+     * handled by the caller.
+     *
+     * @param player    The player to move.
+     * @param position  The position of the space.
+     * @param collectGo Whether the player collects $200 when the move passes Go.
+     */
+    public void placeOn(Player player, int position, boolean collectGo) {
         int oldPosition = player.getPosition();
-        int newPosition = (oldPosition + steps) % spaces.size();
-        if (oldPosition > newPosition) {
-            bank.payPlayer(player, 200);
-            System.out.println(player.getName() + " passed Go and collected $200!");
+        if (collectGo && getTables().passesGo(oldPosition, position)) {
+            bank.payPlayer(player, 200, LedgerCategory.SALARY);
+            events.publish(GameEventType.PASSED_GO, player, position, 200);
         }
-        player.setPosition(newPosition);
-        System.out.println(player.getName() + " moved to " + spaces.get(newPosition).getName());
-        spaces.get(newPosition).landOn(player);
+        player.setPosition(position);
+        events.publish(GameEventType.MOVED, player, position, 0);
     }
 
     /**
@@ -199,7 +244,7 @@ public class GameBoard {
      *
      * @return The Chance deck.
      */
-    public Stack<ChanceCard> getChanceDeck() {
+    public CardDeck<ChanceCard> getChanceDeck() {
         return chanceDeck;
     }
 
@@ -208,10 +253,40 @@ public class GameBoard {
      *
      * @return The Community Chest deck.
      */
-    public Stack<CommunityChestCard> getCommunityDeck() {
+    public CardDeck<CommunityChestCard> getCommunityDeck() {
         return communityDeck;
     }
 
+    /**
+     * Finds which of this game's decks a card belongs to.
+     *
+     * @param card The card.
+     * @return The deck, or null if the card is in neither deck.
+     */
+    public CardDeck<?> deckOf(Card card) {
+        if (chanceDeck.idOf(card) >= 0) {
+            return chanceDeck;
+        }
+        if (communityDeck.idOf(card) >= 0) {
+            return communityDeck;
+        }
+        return null;
+    }
+
+    /**
+     * Puts a card a player kept back at the bottom of its deck after it has been used.
+     * Cards that are in neither deck are ignored.
+     *
+     * @param card The used card.
+     */
+    public void reinsert(Card card) {
+        if (card instanceof ChanceCard chance && chanceDeck.idOf(card) >= 0) {
+            chanceDeck.reinsert(chance);
+        } else if (card instanceof CommunityChestCard community && communityDeck.idOf(card) >= 0) {
+            communityDeck.reinsert(community);
+        }
+    }
+
     /**
      * Gets the list of spaces on the board.
      *
@@ -230,12 +305,61 @@ public class GameBoard {
         return players;
     }
 
+    /**
+     * Gets the dice used by this game.
+     *
+     * @return The dice.
+     */
+    public Dice getDice() {
+        return dice;
+    }
+
+    /**
+     * Gets the bus carrying the events of this game. Subscribe to it to follow the game.
+     *
+     * @return The event bus.
+     */
+    public GameEventBus getEvents() {
+        return events;
+    }
+
+    /**
+     * Gets the fixed data of the board as flat tables, including the rent table.
+     * The tables are compiled once per board definition and shared by every game on it.
+     *
+     * @return The board tables.
+     */
+    public BoardTables getTables() {
+        return definition.getTables();
+    }
+
+    /**
+     * Gets the fixed definition of the board, shared with every other game on it.
+     *
+     * @return The board definition.
+     */
+    public BoardDefinition getDefinition() {
+        return definition;
+    }
+
+    /**
+     * Gets the bank managing game finances.
+     *
+     * @return The bank.
+     */
+    public Bank getBank() {
+        return bank;
+    }
+
     /**
      * Gets the list of available tokens upon selection.
      *
      * @return The list of available tokens.
      */
     public List<String> getAvailableTokens() {
+        if (availableTokens == null) {
+            availableTokens = new ArrayList<>(TOKENS);
+        }
         return availableTokens;
     }
 
@@ -246,12 +370,6 @@ public class GameBoard {
      * @return The position of the nearest railroad.
      */
     public int getNearestRailroad(int currentPosition) {
-        int[] railroadPositions = {5, 15, 25, 35};
-        for (int pos : railroadPositions) {
-            if (pos > currentPosition) {
-                return pos;
-            }
-        }
-        return railroadPositions[0];
+        return getTables().nextOfType(currentPosition, BoardTables.RAILROAD);
     }
 }
\ No newline at end of file
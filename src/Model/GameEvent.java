@@ -0,0 +1,113 @@
+/**
+ * The GameEvent is one slot of a GameEventBus ring buffer. The bus fills a slot in place for
+ * every event it publishes, so publishing allocates nothing; the slot is overwritten once every
+ * subscriber has seen it. Which fields are set depends on the type, see GameEventType.
+ */
+package Model;
+
+public final class GameEvent {
+    private GameBoard board; // Board the event happened on, or null
+    private GameEventType type;
+    private Player player; // Player the event is about, or null
+    private Player other; // Second player, such as the owner receiving rent, or null
+    private int position; // Position of the space involved, or -1
+    private int amount; // Money or count carried by the event
+    private Card card; // Card drawn, or null
+
+    GameEvent() {
+    }
+
+    void set(GameBoard board, GameEventType type, Player player, Player other, int position, int amount, Card card) {
+        this.board = board;
+        this.type = type;
+        this.player = player;
+        this.other = other;
+        this.position = position;
+        this.amount = amount;
+        this.card = card;
+    }
+
+    public GameEventType getType() {
+        return type;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public Player getOther() {
+        return other;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+
+    public Card getCard() {
+        return card;
+    }
+
+    /**
+     * Gets the space the event happened on.
+     *
+     * @return The space, or null if the event has no position or no board.
+     */
+    public Space getSpace() {
+        return board == null || position < 0 ? null : board.getSpace(position);
+    }
+
+    /**
+     * Describes the event as a line of text, for subscribers that print it.
+     *
+     * @return The description.
+     */
+    public String describe() {
+        String name = player == null ? "" : player.getName();
+        Space space = getSpace();
+        String spaceName = space == null ? "space " + position : space.getName();
+        return switch (type) {
+            case ROLLED -> name + " rolled " + Dice.die1(amount) + " and " + Dice.die2(amount);
+            case MOVED -> name + " moved to " + spaceName;
+            case PASSED_GO -> name + " passed Go and collected $" + amount + "!";
+            case BOUGHT -> name + " bought " + spaceName;
+            case DECLINED -> name + " decided not to buy " + spaceName;
+            case RENT_PAID -> name + " landed on " + spaceName + " and paid $" + amount + " rent to " + other.getName();
+            case PAID -> name + " paid $" + amount + " to the Bank.";
+            case COLLECTED -> "The Bank paid $" + amount + " to " + name + ".";
+            case CARD_DRAWN -> name + " drew a " + (card instanceof ChanceCard ? "Chance" : "Community Chest")
+                    + " card: " + card.getDescription();
+            case JAILED -> name + " has been sent to Jail!";
+            case RELEASED -> amount > 0
+                    ? name + " paid $" + amount + " to get out of Jail!"
+                    : name + " rolled doubles and is released from Jail!";
+            case JAIL_CARD_USED -> name + " used a Get Out of Jail Free card.";
+            case STAYED_IN_JAIL -> name + " did not roll doubles and stays in Jail. Turns in jail: " + amount;
+            case ROLLED_DOUBLES -> amount >= 3
+                    ? name + " rolled doubles three times in a row and is sent to Jail!"
+                    : name + " rolled doubles and gets another turn!";
+            case HOUSE_BUILT -> name + " built a house on " + spaceName + "!";
+            case HOUSE_SOLD -> name + " sold a house on " + spaceName + " for $" + amount + ".";
+            case BUILD_REFUSED -> name + " cannot build more houses on " + spaceName + ".";
+            case BUILD_UNEVEN -> name + " must build houses evenly on unmortgaged streets before building on " + spaceName + ".";
+            case SOLD_OUT -> "The bank has no " + (amount == 1 ? "hotels" : "houses") + " left for " + spaceName + ".";
+            case CANNOT_AFFORD -> name + " doesn't have the $" + amount + " to build on " + spaceName + ".";
+            case HOUSE_AUCTIONED -> name + " won the auction for a house on " + spaceName + " for $" + amount + ".";
+            case ALREADY_OWNED -> spaceName + " is already owned by " + other.getName() + ".";
+            case MORTGAGED -> name + " mortgaged " + spaceName;
+            case UNMORTGAGED -> name + " unmortgaged " + spaceName;
+            case TRADED -> name + " traded with " + other.getName() + ".";
+            case BANKRUPT -> name + " could not pay $" + amount + " and is bankrupt!";
+            case TURN_ENDED -> "Turn ended. Next player: " + name;
+            case GAME_OVER -> "Game Over!";
+        };
+    }
+
+    @Override
+    public String toString() {
+        return describe();
+    }
+}
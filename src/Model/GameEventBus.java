@@ -0,0 +1,307 @@
+/**
+ * The GameEventBus carries the typed events of one game from the model to its subscribers:
+ * the console, log files, the GUI and statistics tools.
+ *
+ * Events are written into a preallocated ring of GameEvent slots and handed to every
+ * subscriber in order. By default the publishing thread dispatches each event straight away;
+ * after start() a daemon thread dispatches instead, so slow subscribers such as the console
+ * no longer hold up the game. A bus without subscribers returns from publish at once and
+ * does not even allocate its ring, so headless simulations pay nothing for events.
+ *
+ * A bus belongs to one game, but the Bank publishes from whichever thread calls it, so any
+ * number of threads may publish at once. Each claims the next sequence number atomically,
+ * fills that slot and then marks it ready; events are dispatched in sequence order, one
+ * thread at a time, as far as the slots are ready.
+ *
+ * A subscriber may publish while it handles an event. Its event goes to the back of the ring
+ * and is dispatched once the current one is done; if the ring is full it fails at once with
+ * an IllegalStateException, since the thread that would make room is the one waiting.
+ */
+package Model;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+public class GameEventBus {
+    public static final int DEFAULT_CAPACITY = 1024;
+    private static final GameEventSubscriber[] NO_SUBSCRIBERS = new GameEventSubscriber[0];
+    private static final long IDLE_NANOS = 200_000; // Pause of the dispatcher when the ring is empty
+
+    private final GameBoard board; // Board the events happen on, or null
+    private final int capacity; // Number of slots, a power of two
+    private volatile GameEventSubscriber[] subscribers = NO_SUBSCRIBERS; // Copied on every change
+    private volatile GameEvent[] ring; // Event slots, allocated with the first subscriber
+    private volatile AtomicLongArray ready; // Sequence last written to each slot
+    private final AtomicLong published = new AtomicLong(); // Sequence of the next slot to claim
+    private final AtomicLong dispatched = new AtomicLong(); // Sequence of the next event to dispatch
+    private volatile Thread dispatcher; // Thread dispatching events, or null to dispatch on publish
+    private volatile boolean running; // Whether the dispatcher should keep going
+    private final AtomicReference<Thread> draining = new AtomicReference<>(); // Publishing thread dispatching, or null
+
+    /**
+     * Constructs a bus with the default capacity.
+     *
+     * @param board The board the events happen on, or null.
+     */
+    public GameEventBus(GameBoard board) {
+        this(board, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a bus.
+     *
+     * @param board    The board the events happen on, or null.
+     * @param capacity The number of events the ring holds before publishing waits for dispatch.
+     * @throws IllegalArgumentException if the capacity is not a positive power of two.
+     */
+    public GameEventBus(GameBoard board, int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two");
+        }
+        this.board = board;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds a subscriber. It receives every event published from now on.
+     *
+     * @param subscriber The subscriber.
+     * @throws IllegalArgumentException if the subscriber is null.
+     */
+    public synchronized void subscribe(GameEventSubscriber subscriber) {
+        if (subscriber == null) {
+            throw new IllegalArgumentException("Subscriber cannot be null");
+        }
+        if (ring == null) {
+            GameEvent[] slots = new GameEvent[capacity];
+            AtomicLongArray written = new AtomicLongArray(capacity);
+            for (int i = 0; i < capacity; i++) {
+                slots[i] = new GameEvent();
+                written.set(i, -1);
+            }
+            ready = written;
+            ring = slots;
+        }
+        GameEventSubscriber[] current = subscribers;
+        GameEventSubscriber[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = subscriber;
+        subscribers = updated;
+    }
+
+    /**
+     * Removes a subscriber.
+     *
+     * @param subscriber The subscriber.
+     */
+    public synchronized void unsubscribe(GameEventSubscriber subscriber) {
+        GameEventSubscriber[] current = subscribers;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == subscriber) {
+                GameEventSubscriber[] updated = new GameEventSubscriber[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                subscribers = updated;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Checks if anyone listens to the bus.
+     *
+     * @return True if there is at least one subscriber.
+     */
+    public boolean hasSubscribers() {
+        return subscribers.length > 0;
+    }
+
+    /**
+     * Publishes an event about one player.
+     *
+     * @param type   The event type.
+     * @param player The player.
+     */
+    public void publish(GameEventType type, Player player) {
+        publish(type, player, null, -1, 0, null);
+    }
+
+    /**
+     * Publishes an event about one player, a space and an amount.
+     *
+     * @param type     The event type.
+     * @param player   The player.
+     * @param position The position of the space, or -1.
+     * @param amount   The amount.
+     */
+    public void publish(GameEventType type, Player player, int position, int amount) {
+        publish(type, player, null, position, amount, null);
+    }
+
+    /**
+     * Publishes an event. Fields the type does not use are ignored.
+     *
+     * @param type     The event type.
+     * @param player   The player the event is about, or null.
+     * @param other    The second player, or null.
+     * @param position The position of the space, or -1.
+     * @param amount   The amount.
+     * @param card     The card, or null.
+     * @throws IllegalStateException if a subscriber publishes while the ring is full.
+     */
+    public void publish(GameEventType type, Player player, Player other, int position, int amount, Card card) {
+        if (subscribers.length == 0) {
+            return;
+        }
+        Thread self = Thread.currentThread();
+        long sequence = self == draining.get() || self == dispatcher ? claimFromSubscriber() : published.getAndIncrement();
+        while (sequence - dispatched.get() >= capacity) {
+            if (dispatcher == null) {
+                drain();
+            }
+            Thread.onSpinWait();
+        }
+        int slot = (int) sequence & (capacity - 1);
+        ring[slot].set(board, type, player, other, position, amount, card);
+        ready.set(slot, sequence);
+        if (dispatcher == null) {
+            drain();
+        }
+    }
+
+    /**
+     * Claims a slot for an event a subscriber publishes while its thread is dispatching.
+     * Nothing else dispatches meanwhile, so waiting for room would wait forever; a full
+     * ring is refused before the slot is claimed, which leaves the ring in order.
+     */
+    private long claimFromSubscriber() {
+        while (true) {
+            long sequence = published.get();
+            if (sequence - dispatched.get() >= capacity) {
+                throw new IllegalStateException("A subscriber published into a full ring of " + capacity + " events");
+            }
+            if (published.compareAndSet(sequence, sequence + 1)) {
+                return sequence;
+            }
+        }
+    }
+
+    /**
+     * Hands every ready event that has not been dispatched yet to the subscribers, unless
+     * another thread is already doing so. A thread that finds the drain taken leaves its event
+     * to that thread, which checks for more before it lets go.
+     */
+    private void drain() {
+        Thread self = Thread.currentThread();
+        while (draining.get() == null && isReady(dispatched.get())) {
+            if (!draining.compareAndSet(null, self)) {
+                return; // Another thread took over and picks the event up
+            }
+            try {
+                dispatchAvailable();
+            } finally {
+                draining.set(null);
+            }
+        }
+    }
+
+    private boolean isReady(long sequence) {
+        return ready.get((int) sequence & (capacity - 1)) == sequence;
+    }
+
+    /**
+     * Dispatches the ready events in order. An event whose subscriber throws counts as
+     * dispatched, so it is not handed out again, and the exception is passed on.
+     */
+    private boolean dispatchAvailable() {
+        long next = dispatched.get();
+        if (!isReady(next)) {
+            return false;
+        }
+        do {
+            GameEvent event = ring[(int) next & (capacity - 1)];
+            try {
+                for (GameEventSubscriber subscriber : subscribers) {
+                    subscriber.onEvent(event);
+                }
+            } finally {
+                dispatched.lazySet(++next);
+            }
+        } while (isReady(next));
+        return true;
+    }
+
+    /**
+     * Starts a daemon thread that dispatches events, so publishing only fills a slot.
+     * Does nothing if the thread is already running.
+     */
+    public synchronized void start() {
+        if (dispatcher != null) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::dispatchLoop, "game-events");
+        thread.setDaemon(true);
+        dispatcher = thread;
+        thread.start();
+    }
+
+    private void dispatchLoop() {
+        while (running || dispatched.get() != published.get()) {
+            boolean busy;
+            try {
+                busy = dispatchAvailable();
+            } catch (RuntimeException e) {
+                e.printStackTrace(); // The event that failed has been skipped
+                continue;
+            }
+            if (!busy) {
+                LockSupport.parkNanos(this, IDLE_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Waits until every event published so far has been dispatched.
+     */
+    public void flush() {
+        if (dispatcher == null) {
+            drain();
+            return;
+        }
+        long target = published.get();
+        while (dispatched.get() < target) {
+            LockSupport.parkNanos(IDLE_NANOS);
+        }
+    }
+
+    /**
+     * Dispatches the remaining events and stops the dispatcher thread. Later events are
+     * dispatched on the publishing thread again.
+     */
+    public synchronized void stop() {
+        Thread thread = dispatcher;
+        if (thread == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        dispatcher = null;
+    }
+
+    /**
+     * Checks if a dispatcher thread is running.
+     *
+     * @return True after start() and before stop().
+     */
+    public boolean isAsync() {
+        return dispatcher != null;
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ * GameEventSubscriber.java
+ *
+ * Receiver of the events published on a GameEventBus.
+ * The console, files, the GUI and statistics tools each subscribe one.
+ */
+package Model;
+
+public interface GameEventSubscriber {
+
+    /**
+     * Called for every event published on the bus, in the order they were published.
+     * The event object is reused for later events, so a subscriber must copy anything it
+     * keeps after returning.
+     *
+     * @param event The event.
+     */
+    void onEvent(GameEvent event);
+}
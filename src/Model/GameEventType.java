@@ -0,0 +1,36 @@
+/**
+ * The GameEventType lists the kinds of event a GameEventBus carries. Each constant notes which
+ * fields of the GameEvent it fills in; fields it does not mention are null or -1.
+ */
+package Model;
+
+public enum GameEventType {
+    ROLLED,         // player rolled the dice, amount is the packed roll from Dice.roll()
+    MOVED,          // player moved to position
+    PASSED_GO,      // player passed Go and collected amount
+    BOUGHT,         // player bought the property at position for amount
+    DECLINED,       // player chose not to buy the property at position
+    RENT_PAID,      // player paid amount rent to other for the property at position
+    PAID,           // player paid amount to the bank
+    COLLECTED,      // player collected amount from the bank
+    CARD_DRAWN,     // player drew card
+    JAILED,         // player was sent to jail
+    RELEASED,       // player left jail, paying amount, 0 after rolling doubles
+    JAIL_CARD_USED, // player used a Get Out of Jail Free card, card if it came from a deck
+    STAYED_IN_JAIL, // player failed to roll doubles and has spent amount turns in jail
+    ROLLED_DOUBLES, // player rolled doubles amount times in a row
+    HOUSE_BUILT,    // player built a house on the property at position for amount
+    HOUSE_SOLD,     // player sold a house on the property at position back to the bank for amount
+    BUILD_REFUSED,  // player may not build on the property at position: they do not own its group whole, or it has a hotel
+    BUILD_UNEVEN,   // player may not build on the property at position before the rest of its group, or while any of it is mortgaged
+    SOLD_OUT,       // player could not build on the property at position, the bank having no houses left, or no hotels if amount is 1
+    CANNOT_AFFORD,  // player could not afford amount to build on the property at position
+    HOUSE_AUCTIONED, // player won the house for the property at position at auction, paying amount on top of its price
+    ALREADY_OWNED,  // player could not buy the property at position, which other owns
+    MORTGAGED,      // player mortgaged the property at position for amount
+    UNMORTGAGED,    // player paid amount to lift the mortgage on the property at position
+    TRADED,         // player traded with other, amount is the net cash player received
+    BANKRUPT,       // player could not pay a debt of amount and left the game
+    TURN_ENDED,     // the turn passed to player
+    GAME_OVER       // the game ended
+}
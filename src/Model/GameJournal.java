@@ -0,0 +1,388 @@
+/**
+ * The GameJournal records a game as an append-only stream of compact binary records, so the
+ * game can be replayed and audited afterwards. It subscribes to the game's GameEventBus and
+ * writes a record for every roll, buying decision and card draw, and for every change to a
+ * player's cash, position, jail state, jail cards or bankruptcy and to a property's owner,
+ * buildings or mortgage. Values are recorded as absolute, so replaying a record never depends on how the
+ * change came about. Every few turns a checkpoint holds the whole state as a CompactGameState.
+ *
+ * Records go into memory-mapped segment files in the journal's directory. Appending is a
+ * write into the mapped page, with no system call and no flush per record; a new segment is
+ * mapped when the current one is full. Each game has its own journal and no locks are taken,
+ * so many games can be journaled side by side. JournalReader rebuilds the game at any turn.
+ *
+ * Segment layout: a header of MAGIC and VERSION, then records of one type byte, an unsigned
+ * short subject (a player or a space, so boards of up to MAX_SUBJECT + 1 spaces) and an int value. A checkpoint record is followed by the length
+ * of the encoded state and the state itself. A zero type byte marks the end of a segment.
+ */
+package Model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+public class GameJournal implements GameEventSubscriber, AutoCloseable {
+    public static final int DEFAULT_SEGMENT_SIZE = 256 * 1024;
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 50;
+    public static final int MIN_SEGMENT_SIZE = 4096;
+
+    static final int MAGIC = 0x4D4A4E4C; // "MJNL"
+    static final int VERSION = 3;
+    static final int HEADER_SIZE = 8;
+    static final int RECORD_SIZE = 7;
+    static final int MAX_SUBJECT = 0xFFFF; // Largest player or space number a record holds
+
+    static final byte END = 0; // Unwritten space at the end of a segment
+    static final byte ROLL = 1; // Player, packed roll
+    static final byte POSITION = 2; // Player, position
+    static final byte CASH = 3; // Player, cash
+    static final byte JAIL = 4; // Player, jail turns or CompactGameState.NOT_IN_JAIL
+    static final byte JAIL_CARDS = 5; // Player, Get Out of Jail Free cards held
+    static final byte OWNER = 6; // Space, owning player or CompactGameState.UNOWNED
+    static final byte BUILDINGS = 7; // Space, building level
+    static final byte MORTGAGE = 8; // Space, 1 if mortgaged
+    static final byte DRAW = 9; // Player, deck << 8 | card id
+    static final byte REINSERT = 10; // Player, deck << 8 | card id of a used jail card
+    static final byte DECISION = 11; // Space, 1 if bought
+    static final byte TURN = 12; // Player to move, number of turns played
+    static final byte CHECKPOINT = 13; // 0, number of turns played; then length and state
+    static final byte BANKRUPT = 14; // Player, 1 if out of the game
+
+    private final Path directory; // Directory holding the segment files
+    private final GameState game;
+    private final List<Player> players;
+    private final List<Space> spaces;
+    private final BoardTables tables;
+    private final int segmentSize; // Size of each segment file
+    private final int checkpointInterval; // Turns between checkpoints
+    private final int[] cash; // Last recorded cash of each player
+    private final int[] position; // Last recorded position of each player
+    private final int[] jail; // Last recorded jail turns of each player
+    private final int[] jailCards; // Last recorded jail cards of each player
+    private final boolean[] out; // Last recorded bankruptcy of each player
+    private final int[] owner; // Last recorded owner of each space
+    private final int[] buildings; // Last recorded building level of each space
+    private final boolean[] mortgaged; // Last recorded mortgage flag of each space
+    private FileChannel channel; // Channel of the current segment
+    private MappedByteBuffer segment; // Current segment, positioned at the next record
+    private int segmentIndex = -1; // Number of the current segment
+    private int turn; // Turns played since the journal was opened
+
+    private GameJournal(Path directory, GameState game, int segmentSize, int checkpointInterval) {
+        this.directory = directory;
+        this.game = game;
+        this.players = game.getPlayers();
+        this.spaces = game.getBoard().getSpaces();
+        this.tables = game.getBoard().getTables();
+        this.segmentSize = segmentSize;
+        this.checkpointInterval = checkpointInterval;
+        this.cash = new int[players.size()];
+        this.position = new int[players.size()];
+        this.jail = new int[players.size()];
+        this.jailCards = new int[players.size()];
+        this.out = new boolean[players.size()];
+        this.owner = new int[spaces.size()];
+        this.buildings = new int[spaces.size()];
+        this.mortgaged = new boolean[spaces.size()];
+    }
+
+    /**
+     * Starts a journal of a game with the default segment size and checkpoint interval.
+     *
+     * @param directory A directory without segment files; it is created if missing.
+     * @param game      The game to record.
+     * @return The journal, already subscribed to the game's events.
+     * @throws IOException if the first segment cannot be created.
+     */
+    public static GameJournal open(Path directory, GameState game) throws IOException {
+        return open(directory, game, DEFAULT_SEGMENT_SIZE, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Starts a journal of a game. The current position is written as the checkpoint of turn 0.
+     *
+     * @param directory          A directory without segment files; it is created if missing.
+     * @param game               The game to record.
+     * @param segmentSize        The size of each segment file in bytes.
+     * @param checkpointInterval The number of turns between checkpoints.
+     * @return The journal, already subscribed to the game's events.
+     * @throws IOException if the first segment cannot be created, or already exists.
+     * @throws IllegalArgumentException if a size is out of range or the board has too many spaces to record.
+     * @throws IllegalStateException if the game's events are dispatched on another thread.
+     */
+    public static GameJournal open(Path directory, GameState game, int segmentSize, int checkpointInterval)
+            throws IOException {
+        if (segmentSize < MIN_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("Segments must hold at least " + MIN_SEGMENT_SIZE + " bytes");
+        }
+        if (checkpointInterval < 1) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive");
+        }
+        if (game.getBoard().getSpaces().size() > MAX_SUBJECT + 1) {
+            throw new IllegalArgumentException("A journal records boards of at most " + (MAX_SUBJECT + 1) + " spaces");
+        }
+        GameEventBus events = game.getBoard().getEvents();
+        if (events.isAsync()) {
+            throw new IllegalStateException("A journal must read the game on the game's own thread");
+        }
+        Files.createDirectories(directory);
+        GameJournal journal = new GameJournal(directory, game, segmentSize, checkpointInterval);
+        journal.nextSegment();
+        journal.remember();
+        journal.checkpoint();
+        events.subscribe(journal);
+        return journal;
+    }
+
+    /**
+     * Gets the path of a segment file.
+     *
+     * @param directory The journal directory.
+     * @param index     The number of the segment.
+     * @return The path.
+     */
+    static Path segmentPath(Path directory, int index) {
+        return directory.resolve(String.format("segment-%06d.journal", index));
+    }
+
+    private void nextSegment() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+        segmentIndex++;
+        channel = FileChannel.open(segmentPath(directory, segmentIndex),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        segment.putInt(MAGIC);
+        segment.putInt(VERSION);
+    }
+
+    private void ensureRoom(int bytes) {
+        if (segment.remaining() < bytes + 1) { // Keep one byte for the END marker
+            try {
+                nextSegment();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void write(byte type, int subject, int value) {
+        ensureRoom(RECORD_SIZE);
+        segment.put(type);
+        segment.putShort((short) subject);
+        segment.putInt(value);
+    }
+
+    /**
+     * Writes the whole state of the game as a checkpoint.
+     */
+    private void checkpoint() {
+        CompactGameState state = CompactGameState.fromGame(game, tables);
+        int size = state.encodedSize();
+        if (RECORD_SIZE + 4 + size + 1 > segmentSize - HEADER_SIZE) {
+            throw new IllegalStateException("Segments are too small for a checkpoint of " + size + " bytes");
+        }
+        ensureRoom(RECORD_SIZE + 4 + size);
+        segment.put(CHECKPOINT);
+        segment.putShort((short) 0);
+        segment.putInt(turn);
+        segment.putInt(size);
+        state.writeTo(segment);
+    }
+
+    /**
+     * Takes the current values of the game as the last recorded ones.
+     */
+    private void remember() {
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            cash[i] = player.getMoney();
+            position[i] = player.getPosition();
+            jail[i] = jailOf(player);
+            jailCards[i] = player.getGetOutOfJailFreeCards();
+            out[i] = player.isBankrupt();
+        }
+        for (int space = 0; space < spaces.size(); space++) {
+            if (spaces.get(space) instanceof Property property) {
+                owner[space] = ownerOf(property);
+                buildings[space] = levelOf(property);
+                mortgaged[space] = property.isMortgaged();
+            }
+        }
+    }
+
+    @Override
+    public void onEvent(GameEvent event) {
+        Player player = event.getPlayer();
+        switch (event.getType()) {
+            case ROLLED -> write(ROLL, players.indexOf(player), event.getAmount());
+            case CARD_DRAWN -> {
+                syncPlayer(players.indexOf(player));
+                Card card = event.getCard();
+                CardDeck<?> deck = game.getBoard().deckOf(card);
+                if (deck != null) {
+                    write(DRAW, players.indexOf(player), deckOf(card) << 8 | deck.idOf(card));
+                }
+            }
+            case JAIL_CARD_USED -> {
+                Card card = event.getCard();
+                CardDeck<?> deck = card == null ? null : game.getBoard().deckOf(card);
+                if (deck != null) {
+                    write(REINSERT, players.indexOf(player), deckOf(card) << 8 | deck.idOf(card));
+                }
+            }
+            case BOUGHT -> {
+                write(DECISION, event.getPosition(), 1);
+                syncSpace(event.getPosition());
+            }
+            case DECLINED -> write(DECISION, event.getPosition(), 0);
+            case MORTGAGED, UNMORTGAGED, HOUSE_BUILT, HOUSE_SOLD -> syncSpace(event.getPosition());
+            case TRADED, BANKRUPT -> {
+                for (int space = 0; space < spaces.size(); space++) {
+                    syncSpace(space);
+                }
+            }
+            case TURN_ENDED -> {
+                endTurn();
+                return;
+            }
+            default -> {
+            }
+        }
+        if (player != null) {
+            syncPlayer(players.indexOf(player));
+        }
+        if (event.getOther() != null) {
+            syncPlayer(players.indexOf(event.getOther()));
+        }
+    }
+
+    /**
+     * Records everything that changed during the turn, the end of the turn and, every few
+     * turns, a checkpoint.
+     */
+    private void endTurn() {
+        for (int i = 0; i < players.size(); i++) {
+            syncPlayer(i);
+        }
+        for (int space = 0; space < spaces.size(); space++) {
+            syncSpace(space);
+        }
+        turn++;
+        write(TURN, game.getCurrentPlayerIndex(), turn);
+        if (turn % checkpointInterval == 0) {
+            checkpoint();
+        }
+    }
+
+    private void syncPlayer(int i) {
+        if (i < 0) {
+            return;
+        }
+        Player player = players.get(i);
+        if (player.getMoney() != cash[i]) {
+            cash[i] = player.getMoney();
+            write(CASH, i, cash[i]);
+        }
+        if (player.getPosition() != position[i]) {
+            position[i] = player.getPosition();
+            write(POSITION, i, position[i]);
+        }
+        int jailTurns = jailOf(player);
+        if (jailTurns != jail[i]) {
+            jail[i] = jailTurns;
+            write(JAIL, i, jailTurns);
+        }
+        if (player.getGetOutOfJailFreeCards() != jailCards[i]) {
+            jailCards[i] = player.getGetOutOfJailFreeCards();
+            write(JAIL_CARDS, i, jailCards[i]);
+        }
+        if (player.isBankrupt() != out[i]) {
+            out[i] = player.isBankrupt();
+            write(BANKRUPT, i, out[i] ? 1 : 0);
+        }
+    }
+
+    private void syncSpace(int space) {
+        if (space < 0 || !(spaces.get(space) instanceof Property property)) {
+            return;
+        }
+        int currentOwner = ownerOf(property);
+        if (currentOwner != owner[space]) {
+            owner[space] = currentOwner;
+            write(OWNER, space, currentOwner);
+        }
+        int level = levelOf(property);
+        if (level != buildings[space]) {
+            buildings[space] = level;
+            write(BUILDINGS, space, level);
+        }
+        if (property.isMortgaged() != mortgaged[space]) {
+            mortgaged[space] = property.isMortgaged();
+            write(MORTGAGE, space, mortgaged[space] ? 1 : 0);
+        }
+    }
+
+    private int ownerOf(Property property) {
+        return property.isOwned() ? players.indexOf(property.getOwner()) : CompactGameState.UNOWNED;
+    }
+
+    private static int levelOf(Property property) {
+        return property.hasHotel() ? BoardTables.HOTEL : property.getHouseCount();
+    }
+
+    private static int jailOf(Player player) {
+        return player.isInJail() ? player.getJailTurns() : CompactGameState.NOT_IN_JAIL;
+    }
+
+    private static int deckOf(Card card) {
+        return card instanceof ChanceCard ? CompactGameState.CHANCE_DECK : CompactGameState.COMMUNITY_DECK;
+    }
+
+    /**
+     * Gets the number of turns recorded so far.
+     *
+     * @return The number of turns played since the journal was opened.
+     */
+    public int getTurn() {
+        return turn;
+    }
+
+    /**
+     * Stops recording and writes the mapped segment back to its file.
+     *
+     * @throws IOException if the segment cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        game.getBoard().getEvents().unsubscribe(this);
+        if (channel != null) {
+            segment.force();
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * Checks the header of a segment and positions the buffer at its first record.
+     *
+     * @param buffer The mapped segment.
+     * @throws IllegalArgumentException if the header is not a journal header of this version.
+     */
+    static void readHeader(ByteBuffer buffer) {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a game journal segment");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported journal version " + version);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * GameLog.java
+ *
+ * Central switch for the console messages printed by the model.
+ * Game events reach the console through a ConsoleSubscriber on the game's GameEventBus,
+ * which prints through here; the few messages that are not events are printed directly.
+ * Interactive play prints everything; headless simulations run their games through
+ * runQuietly, which silences only the threads playing them, so a batch running beside an
+ * interactive game never turns the game's messages off.
+ */
+package Model;
+
+import java.util.function.Supplier;
+
+public final class GameLog {
+    private static final ThreadLocal<Boolean> QUIET = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private GameLog() {
+    }
+
+    /**
+     * Prints a message to the console unless the calling thread is running quietly.
+     *
+     * @param message The message to print.
+     */
+    public static void log(String message) {
+        if (!QUIET.get()) {
+            System.out.println(message);
+        }
+    }
+
+    /**
+     * Checks whether model messages are printed on the calling thread.
+     *
+     * @return True unless the calling thread is running quietly.
+     */
+    public static boolean isEnabled() {
+        return !QUIET.get();
+    }
+
+    /**
+     * Runs a task with model messages silenced on the calling thread only.
+     *
+     * @param task The task to run.
+     */
+    public static void runQuietly(Runnable task) {
+        callQuietly(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs a task that computes a result with model messages silenced on the calling thread only.
+     *
+     * @param task The task to run.
+     * @return The task's result.
+     */
+    public static <T> T callQuietly(Supplier<T> task) {
+        Boolean wasQuiet = QUIET.get();
+        QUIET.set(Boolean.TRUE);
+        try {
+            return task.get();
+        } finally {
+            QUIET.set(wasQuiet);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/**
+ * The GameSnapshot saves a whole game into a compact binary form and restores it, so a game
+ * can be parked on disk and brought back later exactly where it stopped.
+ *
+ * A snapshot holds the board ownership, houses and hotels, mortgages, every player's cash,
+ * position, jail turns and jail cards, the order of both card decks, the state of the dice,
+ * the current player and the players' names and tokens. It is written straight into and read
+ * straight out of a ByteBuffer; the file methods map the file, so nothing is copied through
+ * an intermediate array.
+ *
+ * Layout, all big-endian:
+ *   header   MAGIC (int), VERSION (short), flags (short), board size (int), player count (int),
+ *            state size (int), dice size (int), players size (int), reserved (int)
+ *   state    CompactGameState.writeTo
+ *   dice     Dice.writeState
+ *   players  per player: computer flag (byte), name and token as length-prefixed UTF-8
+ * The section sizes in the header let a reader find every section without decoding the ones
+ * before it. Readers accept only their own VERSION; a format change must bump it.
+ */
+package Model;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class GameSnapshot {
+    public static final int MAGIC = 0x4D534E50; // "MSNP"
+    public static final short VERSION = 1;
+    public static final int HEADER_SIZE = 32;
+    private static final short GAME_OVER = 1; // Flag of a finished game
+
+    private GameSnapshot() {
+    }
+
+    /**
+     * Gets the number of bytes a snapshot of a game takes.
+     *
+     * @param game The game.
+     * @return The size of the snapshot.
+     */
+    public static int size(GameState game) {
+        return HEADER_SIZE + CompactGameState.fromGame(game).encodedSize() + game.getDice().stateSize()
+                + playersSize(game.getPlayers());
+    }
+
+    private static int playersSize(List<Player> players) {
+        int size = 0;
+        for (Player player : players) {
+            size += 1 + 2 + utf8(player.getName()).length + 2 + utf8(player.getToken()).length;
+        }
+        return size;
+    }
+
+    private static byte[] utf8(String text) {
+        return text == null ? new byte[0] : text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a snapshot of a game into a buffer.
+     *
+     * @param game The game to save.
+     * @param out  The buffer, with at least size(game) bytes remaining.
+     * @return The number of bytes written.
+     */
+    public static int write(GameState game, ByteBuffer out) {
+        int start = out.position();
+        CompactGameState state = CompactGameState.fromGame(game);
+        Dice dice = game.getDice();
+        List<Player> players = game.getPlayers();
+        out.putInt(MAGIC);
+        out.putShort(VERSION);
+        out.putShort(game.isGameOver() ? GAME_OVER : 0);
+        out.putInt(state.getBoard().size());
+        out.putInt(players.size());
+        out.putInt(state.encodedSize());
+        out.putInt(dice.stateSize());
+        out.putInt(playersSize(players));
+        out.putInt(0);
+        state.writeTo(out);
+        dice.writeState(out);
+        for (Player player : players) {
+            out.put((byte) (player instanceof ComputerPlayer ? 1 : 0));
+            putString(out, player.getName());
+            putString(out, player.getToken());
+        }
+        return out.position() - start;
+    }
+
+    private static void putString(ByteBuffer out, String text) {
+        byte[] bytes = utf8(text);
+        out.putShort((short) bytes.length);
+        out.put(bytes);
+    }
+
+    /**
+     * Restores a snapshot onto a game with the same board and number of players. The players'
+     * names and tokens are left as they are.
+     *
+     * @param in   The buffer, positioned at the snapshot.
+     * @param game The game to overwrite.
+     * @throws IllegalArgumentException if the buffer does not hold a snapshot for this game.
+     */
+    public static void restore(ByteBuffer in, GameState game) {
+        try {
+            int flags = readHeader(in, game.getBoard().getTables(), game.getPlayers().size());
+            CompactGameState.readFrom(game.getBoard().getTables(), in).applyTo(game);
+            game.getDice().readState(in);
+            game.setGameOver((flags & GAME_OVER) != 0);
+            skipPlayers(in, game.getPlayers().size());
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated game snapshot", e);
+        }
+    }
+
+    /**
+     * Builds a new game from a snapshot, with players of the saved names, tokens and kinds.
+     *
+     * @param in The buffer, positioned at the snapshot.
+     * @return The restored game.
+     * @throws IllegalArgumentException if the buffer does not hold a valid snapshot.
+     */
+    public static GameState read(ByteBuffer in) {
+        try {
+            ByteBuffer header = in.duplicate();
+            if (header.getInt() != MAGIC || header.getShort() != VERSION) {
+                throw new IllegalArgumentException("Not a game snapshot of version " + VERSION);
+            }
+            header.position(in.position() + 12);
+            int playerCount = header.getInt();
+            int stateSize = header.getInt();
+            int diceSize = header.getInt();
+            ByteBuffer names = in.duplicate();
+            names.position(in.position() + HEADER_SIZE + stateSize + diceSize);
+
+            List<Player> players = new ArrayList<>();
+            GameBoard board = new GameBoard(players, true, new Bank(new ArrayList<>()), new Dice(0L));
+            for (int i = 0; i < playerCount; i++) {
+                boolean computer = names.get() != 0;
+                String name = getString(names);
+                String token = getString(names);
+                Player player = computer ? new ComputerPlayer(name, token, board) : new Player(name, token, board);
+                player.setPlayerIndex(i);
+                players.add(player);
+            }
+            GameState game = new GameState(board);
+            restore(in, game);
+            return game;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated game snapshot", e);
+        }
+    }
+
+    private static String getString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getShort()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void skipPlayers(ByteBuffer in, int playerCount) {
+        for (int i = 0; i < playerCount; i++) {
+            in.get();
+            for (int field = 0; field < 2; field++) {
+                int length = in.getShort();
+                in.position(in.position() + length);
+            }
+        }
+    }
+
+    /**
+     * Checks the header against the game it is restored onto.
+     *
+     * @return The flags.
+     */
+    private static int readHeader(ByteBuffer in, BoardTables board, int playerCount) {
+        if (in.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a game snapshot");
+        }
+        short version = in.getShort();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported snapshot version " + version);
+        }
+        int flags = in.getShort();
+        if (in.getInt() != board.size()) {
+            throw new IllegalArgumentException("The snapshot is of a different board");
+        }
+        if (in.getInt() != playerCount) {
+            throw new IllegalArgumentException("The snapshot has a different number of players");
+        }
+        in.position(in.position() + 16); // Section sizes and reserved word
+        return flags;
+    }
+
+    /**
+     * Saves a game to a file, replacing any file at the path.
+     *
+     * @param game The game to save.
+     * @param path The file.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void save(GameState game, Path path) throws IOException {
+        int size = size(game);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            write(game, out);
+        }
+    }
+
+    /**
+     * Loads a game saved with save.
+     *
+     * @param path The file.
+     * @return The restored game.
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalArgumentException if the file is not a valid snapshot.
+     */
+    public static GameState load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+}
@@ -5,7 +5,7 @@
  *
  * Responsibilities:
  * - Tracks the current player and their actions.
- * - Manages the flow of the game, including handling turns and jail conditions.
+ * - Manages the flow of the game; the turns themselves are played by its TurnEngine.
  * - Provides access to the game board, dice, and players.
  *
  * Fixed by Collin Castro and refactored by Kristian Wright.
@@ -18,6 +18,7 @@ public class GameState {
     private final GameBoard board; // The game board
     private final Dice dice; // The dice used in the game
     private final List<Player> players; // List of players in the game
+    private final TurnEngine engine; // Plays the turns by the rules
     private int currentPlayerIndex; // Index of the current player
     private boolean gameOver; // Flag indicating if the game is over
 
@@ -28,10 +29,11 @@ public class GameState {
      */
     public GameState(GameBoard board) {
         this.board = board;
-        this.dice = Dice.getInstance();
+        this.dice = board.getDice();
         this.players = board.getPlayers();
         this.currentPlayerIndex = 0;
         this.gameOver = false;
+        this.engine = new TurnEngine(this);
     }
 
     /**
@@ -47,59 +49,24 @@ public class GameState {
      * Advances to the next player's turn.
      */
     public void nextTurn() {
-        currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
-        dice.resetDoublesRolled();
+        engine.endTurn();
     }
 
     /**
-     * Handles the current player's turn.
+     * Handles one roll of the current player's turn. The turn passes on unless the player
+     * rolled doubles.
      */
     public void handleTurn() {
-        Player current = getCurrentPlayer();
-        if (current.isInJail()) {
-            handleJailTurn(current);
-            return;
-        }
-
-        List<Integer> roll = dice.rollDice();
-        int total = roll.get(0) + roll.get(1);
-        board.movePlayer(current, total);
-
-        if (current instanceof ComputerPlayer) {
-            ((ComputerPlayer) current).makeDecision();
-        }
-
-        if (dice.getDoublesRolled() > 0) {
-            System.out.println(current.getName() + " rolled doubles and gets another turn!");
-        } else {
-            nextTurn();
-        }
+        engine.playTurn();
     }
 
     /**
-     * Handles the turn of a player in jail.
+     * Gets the engine that plays the game's turns.
      *
-     * @param player The player in jail.
+     * @return The turn engine.
      */
-    private void handleJailTurn(Player player) {
-        if (player.hasGetOutOfJailFreeCard()) {
-            System.out.println(player.getName() + " used a Get Out of Jail Free card.");
-            player.receiveGetOutOfJailFreeCard(); // Resets flag
-            player.setPosition(10);
-            player.getDice().resetDoublesRolled();
-            player.move(1); // Move out of jail
-            player.goToJail(); // Should release the player
-        } else {
-            List<Integer> roll = player.getDice().rollDice();
-            if (roll.get(0).equals(roll.get(1))) {
-                System.out.println(player.getName() + " rolled doubles and is released from jail!");
-                player.setPosition((player.getPosition() + roll.get(0) + roll.get(1)) % 40);
-                player.goToJail(); // Should release the player
-            } else {
-                System.out.println(player.getName() + " did not roll doubles and stays in jail.");
-                nextTurn();
-            }
-        }
+    public TurnEngine getTurnEngine() {
+        return engine;
     }
 
     /**
@@ -116,7 +83,7 @@ public class GameState {
      */
     public void endGame() {
         this.gameOver = true;
-        System.out.println("Game Over!");
+        board.getEvents().publish(GameEventType.GAME_OVER, null);
     }
 
     // Interface methods for Controller and View
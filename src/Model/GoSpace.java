@@ -14,6 +14,6 @@ public class GoSpace extends Space {
 
     @Override
     public void landOn(Player player) {
-        System.out.println(player.getName() + " landed on Go.");
+        // Nothing happens; the salary is paid when a move passes Go
     }
 }
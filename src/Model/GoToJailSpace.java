@@ -15,6 +15,5 @@ public class GoToJailSpace extends Space {
     @Override
     public void landOn(Player player) {
         player.goToJail(); // Send player to Jail
-        System.out.println(player.getName() + " landed on Go To Jail and is sent to Jail.");
     }
 }
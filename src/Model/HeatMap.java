@@ -0,0 +1,137 @@
+/**
+ * The HeatMap holds per-space landing counts and rent collected, broken down by turn bucket.
+ * Counts are kept in flat primitive arrays: the entry for a bucket and position is at
+ * bucket * spaces + position.
+ */
+package Model;
+
+public class HeatMap {
+    private final int spaces; // Number of spaces on the board
+    private final int buckets; // Number of turn buckets
+    private final int bucketWidth; // Number of turns in one bucket
+    private final long[] landings; // Landing counts per bucket and position
+    private final long[] rent; // Rent collected per bucket and position
+    private int games; // Number of games counted
+    private long turns; // Number of turns counted
+
+    /**
+     * Constructs an empty HeatMap.
+     *
+     * @param spaces      The number of spaces on the board.
+     * @param buckets     The number of turn buckets.
+     * @param bucketWidth The number of turns in one bucket.
+     */
+    public HeatMap(int spaces, int buckets, int bucketWidth) {
+        this.spaces = spaces;
+        this.buckets = buckets;
+        this.bucketWidth = bucketWidth;
+        this.landings = new long[spaces * buckets];
+        this.rent = new long[spaces * buckets];
+    }
+
+    void addLanding(int bucket, int position) {
+        landings[bucket * spaces + position]++;
+    }
+
+    void addRent(int bucket, int position, int amount) {
+        rent[bucket * spaces + position] += amount;
+    }
+
+    void addGame(long gameTurns) {
+        games++;
+        turns += gameTurns;
+    }
+
+    /**
+     * Adds the counts of another heat map into this one.
+     *
+     * @param other The heat map to add.
+     * @return This heat map.
+     */
+    HeatMap merge(HeatMap other) {
+        for (int i = 0; i < landings.length; i++) {
+            landings[i] += other.landings[i];
+            rent[i] += other.rent[i];
+        }
+        games += other.games;
+        turns += other.turns;
+        return this;
+    }
+
+    /**
+     * Gets the total number of landings on each space.
+     *
+     * @return The landing counts, indexed by board position.
+     */
+    public long[] getLandings() {
+        return sumBuckets(landings);
+    }
+
+    /**
+     * Gets the total rent collected by each space.
+     *
+     * @return The rent collected, indexed by board position.
+     */
+    public long[] getRent() {
+        return sumBuckets(rent);
+    }
+
+    /**
+     * Gets the number of landings on each space during one turn bucket.
+     *
+     * @param bucket The bucket, covering turns bucket * bucketWidth up to the next bucket.
+     * @return The landing counts, indexed by board position.
+     */
+    public long[] getLandings(int bucket) {
+        return copyBucket(landings, bucket);
+    }
+
+    /**
+     * Gets the rent collected by each space during one turn bucket.
+     *
+     * @param bucket The bucket, covering turns bucket * bucketWidth up to the next bucket.
+     * @return The rent collected, indexed by board position.
+     */
+    public long[] getRent(int bucket) {
+        return copyBucket(rent, bucket);
+    }
+
+    public int getSpaces() {
+        return spaces;
+    }
+
+    public int getBuckets() {
+        return buckets;
+    }
+
+    public int getBucketWidth() {
+        return bucketWidth;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public long getTurns() {
+        return turns;
+    }
+
+    private long[] sumBuckets(long[] counts) {
+        long[] totals = new long[spaces];
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            for (int position = 0; position < spaces; position++) {
+                totals[position] += counts[bucket * spaces + position];
+            }
+        }
+        return totals;
+    }
+
+    private long[] copyBucket(long[] counts, int bucket) {
+        if (bucket < 0 || bucket >= buckets) {
+            throw new IndexOutOfBoundsException("Invalid turn bucket.");
+        }
+        long[] copy = new long[spaces];
+        System.arraycopy(counts, bucket * spaces, copy, 0, spaces);
+        return copy;
+    }
+}
@@ -0,0 +1,45 @@
+/**
+ * The HouseBid is a player's bid in an auction for a house the bank has too few of: the street
+ * they would build on and what they offer on top of the house price.
+ */
+package Model;
+
+public final class HouseBid {
+    private final Player bidder; // The player bidding
+    private final PropertySpace street; // The street the house would go on
+    private final int amount; // Offered on top of the house price
+
+    /**
+     * Constructs a bid.
+     *
+     * @param bidder The player bidding.
+     * @param street The street the house would go on.
+     * @param amount The amount offered on top of the house price.
+     * @throws IllegalArgumentException if the amount is negative.
+     */
+    public HouseBid(Player bidder, PropertySpace street, int amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("A bid cannot be negative: " + amount);
+        }
+        this.bidder = bidder;
+        this.street = street;
+        this.amount = amount;
+    }
+
+    public Player getBidder() {
+        return bidder;
+    }
+
+    public PropertySpace getStreet() {
+        return street;
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+
+    @Override
+    public String toString() {
+        return bidder.getName() + " bids $" + amount + " for a house on " + street.getName();
+    }
+}
@@ -0,0 +1,186 @@
+/**
+ * The JournalReader rebuilds a game recorded by a GameJournal at any turn. It maps the segment
+ * files read-only, indexes the checkpoints once, and for a requested turn loads the nearest
+ * checkpoint at or before it and replays the records that follow up to the end of that turn.
+ */
+package Model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+public class JournalReader {
+    private final BoardTables board; // Fixed data of the recorded game's board
+    private final List<ByteBuffer> segments; // Mapped segments, in order
+    private final List<int[]> checkpoints; // Turn, segment and offset of each checkpoint's state
+    private int lastTurn; // Number of turns recorded
+
+    /**
+     * Opens the journal in a directory.
+     *
+     * @param directory The directory the journal was written to.
+     * @param board     The fixed data of the recorded game's board.
+     * @throws IOException if a segment cannot be read.
+     * @throws IllegalArgumentException if the directory holds no journal or a segment is invalid.
+     */
+    public JournalReader(Path directory, BoardTables board) throws IOException {
+        this.board = board;
+        this.segments = new ArrayList<>();
+        this.checkpoints = new ArrayList<>();
+        for (int index = 0; Files.exists(GameJournal.segmentPath(directory, index)); index++) {
+            try (FileChannel channel = FileChannel.open(GameJournal.segmentPath(directory, index), StandardOpenOption.READ)) {
+                ByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                GameJournal.readHeader(segment);
+                segments.add(segment);
+            }
+        }
+        if (segments.isEmpty()) {
+            throw new IllegalArgumentException("No journal in " + directory);
+        }
+        index();
+    }
+
+    /**
+     * Finds the checkpoints and the last recorded turn.
+     */
+    private void index() {
+        for (int s = 0; s < segments.size(); s++) {
+            ByteBuffer segment = segments.get(s).duplicate();
+            segment.position(GameJournal.HEADER_SIZE);
+            while (segment.remaining() >= GameJournal.RECORD_SIZE) {
+                byte type = segment.get();
+                if (type == GameJournal.END) {
+                    break;
+                }
+                segment.getShort();
+                int value = segment.getInt();
+                if (type == GameJournal.TURN) {
+                    lastTurn = value;
+                } else if (type == GameJournal.CHECKPOINT) {
+                    int length = segment.getInt();
+                    checkpoints.add(new int[]{value, s, segment.position()});
+                    segment.position(segment.position() + length);
+                }
+            }
+        }
+        if (checkpoints.isEmpty()) {
+            throw new IllegalArgumentException("The journal has no checkpoint");
+        }
+    }
+
+    /**
+     * Gets the number of turns recorded.
+     *
+     * @return The last turn that can be rebuilt.
+     */
+    public int getLastTurn() {
+        return lastTurn;
+    }
+
+    /**
+     * Rebuilds the state of the game after a number of turns.
+     *
+     * @param turn The number of turns played, from 0 to getLastTurn().
+     * @return The state.
+     * @throws IllegalArgumentException if the turn was not recorded.
+     * @throws IllegalStateException if the records do not match the checkpoint they follow.
+     */
+    public CompactGameState stateAt(int turn) {
+        if (turn < 0 || turn > lastTurn) {
+            throw new IllegalArgumentException("Turn " + turn + " is not in the journal");
+        }
+        int[] checkpoint = checkpoints.get(0);
+        for (int[] candidate : checkpoints) {
+            if (candidate[0] <= turn && candidate[0] >= checkpoint[0]) {
+                checkpoint = candidate;
+            }
+        }
+        ByteBuffer segment = segments.get(checkpoint[1]).duplicate();
+        segment.position(checkpoint[2]);
+        CompactGameState state = CompactGameState.readFrom(board, segment);
+        if (checkpoint[0] == turn) {
+            return state;
+        }
+        for (int s = checkpoint[1]; s < segments.size(); s++) {
+            if (s > checkpoint[1]) {
+                segment = segments.get(s).duplicate();
+                segment.position(GameJournal.HEADER_SIZE);
+            }
+            if (replay(state, segment, turn)) {
+                return state;
+            }
+        }
+        throw new IllegalStateException("The journal ends before turn " + turn);
+    }
+
+    /**
+     * Applies the records of a segment to a state until the end of a turn.
+     *
+     * @return True if the turn was reached.
+     */
+    private boolean replay(CompactGameState state, ByteBuffer segment, int turn) {
+        while (segment.remaining() >= GameJournal.RECORD_SIZE) {
+            byte type = segment.get();
+            if (type == GameJournal.END) {
+                return false;
+            }
+            int subject = segment.getShort() & GameJournal.MAX_SUBJECT;
+            int value = segment.getInt();
+            switch (type) {
+                case GameJournal.POSITION -> state.setPosition(subject, value);
+                case GameJournal.CASH -> state.setCash(subject, value);
+                case GameJournal.JAIL -> state.setJailTurns(subject, value);
+                case GameJournal.JAIL_CARDS -> state.setJailCards(subject, value);
+                case GameJournal.BANKRUPT -> state.setBankrupt(subject, value != 0);
+                case GameJournal.OWNER -> state.setOwner(subject, value);
+                case GameJournal.BUILDINGS -> state.setBuildings(subject, value);
+                case GameJournal.MORTGAGE -> state.setMortgaged(subject, value != 0);
+                case GameJournal.DRAW -> replayDraw(state, subject, value >> 8, value & 0xFF);
+                case GameJournal.REINSERT -> {
+                    int deck = value >> 8;
+                    state.setHeldCards(subject, deck, state.getHeldCards(subject, deck) - 1);
+                    state.putBottom(deck, value & 0xFF);
+                }
+                case GameJournal.TURN -> {
+                    state.setCurrentPlayer(subject);
+                    if (value == turn) {
+                        return true;
+                    }
+                }
+                case GameJournal.CHECKPOINT -> segment.position(segment.position() + 4 + segment.getInt(segment.position()));
+                default -> {
+                    // Rolls and decisions are kept for auditing and do not change the state
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void replayDraw(CompactGameState state, int player, int deck, int id) {
+        int top = state.takeTop(deck);
+        if (top != id) {
+            throw new IllegalStateException("The journal drew card " + id + " but the deck had " + top + " on top");
+        }
+        if (state.isKept(deck, id)) {
+            state.setHeldCards(player, deck, state.getHeldCards(player, deck) + 1);
+        } else {
+            state.putBottom(deck, id);
+        }
+    }
+
+    /**
+     * Rebuilds a game after a number of turns, writing the state onto a game of the object model.
+     *
+     * @param game A game with the same board and number of players as the recorded one.
+     * @param turn The number of turns played.
+     * @throws IllegalArgumentException if the turn was not recorded or the game does not match.
+     */
+    public void restore(GameState game, int turn) {
+        stateAt(turn).applyTo(game);
+    }
+}
@@ -0,0 +1,353 @@
+/**
+ * The LandingProbabilitySolver computes the long-run probability of a token resting on each space
+ * of a GameBoard, as a Markov chain over the board.
+ *
+ * A state is a position together with the number of doubles already rolled this turn (0 to 2),
+ * plus three states for the first, second and third turn in jail. From each state all 36 rolls
+ * are followed: a third double goes to jail, Go To Jail spaces go to jail, and a Chance or
+ * Community Chest space spreads over the outcomes of every card in its deck. A card that moves
+ * the token onto another card space or Go To Jail is followed on, as in the game, so Go Back 3
+ * Spaces from Chance 36 spreads again over the Community Chest deck at 33. Card outcomes are
+ * read from the cards' effects, so the chain follows the deck definitions rather than a
+ * hard-coded list. Custom cards without instructions are applied to a probe player on a
+ * scratch board instead.
+ *
+ * Players in jail try to roll doubles and pay the fine after the third failed attempt.
+ * The stationary distribution is found by power iteration over a sparse transition matrix.
+ */
+package Model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class LandingProbabilitySolver {
+    private static final int MAX_DOUBLES = 3; // Doubles in a row that send a player to jail
+    private static final int JAIL_STATES = 3; // Turns a player can spend in jail
+    private static final double TOLERANCE = 1e-13; // Convergence threshold of the power iteration
+    private static final int MAX_ITERATIONS = 10_000;
+    private static final int JAIL = -1; // Place of a token sent to jail
+
+    private final int size; // Number of spaces on the board
+    private final int jailPosition; // Position of the Jail space
+    private final BoardTables tables; // Fixed data of the board
+    private final int stateCount; // Number of Markov states
+    private final Arrivals[] destinations; // Where a token landing on each space ends up
+    private final int[] rowStart; // Transition matrix rows in compressed sparse row form
+    private final int[] targets; // Target state of each transition
+    private final double[] weights; // Probability of each transition
+    private double[] distribution; // Stationary distribution over states, once solved
+
+    /**
+     * Constructs a solver for the specified board and builds its transition matrix.
+     *
+     * @param board The board to solve.
+     * @throws IllegalArgumentException if the board has no Jail space.
+     */
+    public LandingProbabilitySolver(GameBoard board) {
+        this.tables = board.getTables();
+        this.size = tables.size();
+        this.jailPosition = tables.jailPosition();
+        this.stateCount = size * MAX_DOUBLES + JAIL_STATES;
+
+        this.destinations = resolveDestinations(board);
+        this.rowStart = new int[stateCount + 1];
+        int[] targetBuffer = new int[stateCount * 16];
+        double[] weightBuffer = new double[stateCount * 16];
+        double[] row = new double[stateCount];
+        int next = 0;
+        for (int state = 0; state < stateCount; state++) {
+            Arrays.fill(row, 0);
+            if (state < size * MAX_DOUBLES) {
+                rollFrom(state / MAX_DOUBLES, state % MAX_DOUBLES, row);
+            } else {
+                rollFromJail(state - size * MAX_DOUBLES, row);
+            }
+            rowStart[state] = next;
+            for (int target = 0; target < stateCount; target++) {
+                if (row[target] > 0) {
+                    if (next == targetBuffer.length) {
+                        targetBuffer = Arrays.copyOf(targetBuffer, next * 2);
+                        weightBuffer = Arrays.copyOf(weightBuffer, next * 2);
+                    }
+                    targetBuffer[next] = target;
+                    weightBuffer[next] = row[target];
+                    next++;
+                }
+            }
+        }
+        rowStart[stateCount] = next;
+        this.targets = Arrays.copyOf(targetBuffer, next);
+        this.weights = Arrays.copyOf(weightBuffer, next);
+    }
+
+    /**
+     * Computes the long-run probability of a token resting on each space.
+     * Turns spent in jail count towards the Jail space.
+     *
+     * @return The probabilities, indexed by board position. They sum to 1.
+     */
+    public double[] solve() {
+        double[] states = stationaryDistribution();
+        double[] landing = new double[size];
+        for (int position = 0; position < size; position++) {
+            for (int doubles = 0; doubles < MAX_DOUBLES; doubles++) {
+                landing[position] += states[position * MAX_DOUBLES + doubles];
+            }
+        }
+        landing[jailPosition] += getJailProbability();
+        return landing;
+    }
+
+    /**
+     * Gets the long-run probability of a token being in jail, as opposed to just visiting.
+     *
+     * @return The probability of being in jail.
+     */
+    public double getJailProbability() {
+        double[] states = stationaryDistribution();
+        double inJail = 0;
+        for (int turn = 0; turn < JAIL_STATES; turn++) {
+            inJail += states[jailState(turn)];
+        }
+        return inJail;
+    }
+
+    /**
+     * Gets the chance that a token landing on a space ends its move on another, after every
+     * card it draws on the way and Go To Jail.
+     *
+     * @param landed   The space the roll lands on.
+     * @param position The space the move ends on. Being sent to jail counts as the Jail space.
+     * @return The probability.
+     */
+    public double getArrivalProbability(int landed, int position) {
+        Arrivals arrivals = destinations[landed];
+        double chance = 0;
+        for (int i = 0; i < arrivals.places.length; i++) {
+            int place = arrivals.places[i] < 0 ? jailPosition : arrivals.places[i];
+            if (place == position) {
+                chance += arrivals.chances[i];
+            }
+        }
+        return chance;
+    }
+
+    private double[] stationaryDistribution() {
+        if (distribution != null) {
+            return distribution;
+        }
+        double[] current = new double[stateCount];
+        double[] next = new double[stateCount];
+        current[0] = 1.0;
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            Arrays.fill(next, 0);
+            for (int state = 0; state < stateCount; state++) {
+                double mass = current[state];
+                if (mass == 0) {
+                    continue;
+                }
+                for (int i = rowStart[state]; i < rowStart[state + 1]; i++) {
+                    next[targets[i]] += mass * weights[i];
+                }
+            }
+            double change = 0;
+            for (int state = 0; state < stateCount; state++) {
+                change += Math.abs(next[state] - current[state]);
+            }
+            double[] swap = current;
+            current = next;
+            next = swap;
+            if (change < TOLERANCE) {
+                break;
+            }
+        }
+        distribution = current;
+        return distribution;
+    }
+
+    /**
+     * Builds the transition probabilities of a roll from a free position.
+     */
+    private void rollFrom(int position, int doubles, double[] row) {
+        for (int die1 = 1; die1 <= 6; die1++) {
+            for (int die2 = 1; die2 <= 6; die2++) {
+                boolean isDoubles = die1 == die2;
+                if (isDoubles && doubles == MAX_DOUBLES - 1) {
+                    row[jailState(0)] += 1.0 / 36;
+                    continue;
+                }
+                int nextDoubles = isDoubles ? doubles + 1 : 0;
+                land(tables.advance(position, die1 + die2), nextDoubles, 1.0 / 36, row);
+            }
+        }
+    }
+
+    /**
+     * Builds the transition probabilities of a roll from jail.
+     */
+    private void rollFromJail(int turn, double[] row) {
+        for (int die1 = 1; die1 <= 6; die1++) {
+            for (int die2 = 1; die2 <= 6; die2++) {
+                int landed = tables.advance(jailPosition, die1 + die2);
+                if (die1 == die2 || turn == JAIL_STATES - 1) {
+                    land(landed, 0, 1.0 / 36, row);
+                } else {
+                    row[jailState(turn + 1)] += 1.0 / 36;
+                }
+            }
+        }
+    }
+
+    /**
+     * Spreads a landing over the places the token can end up, following cards and Go To Jail.
+     */
+    private void land(int position, int doubles, double probability, double[] row) {
+        Arrivals arrivals = destinations[position];
+        for (int i = 0; i < arrivals.places.length; i++) {
+            int place = arrivals.places[i];
+            if (place < 0) {
+                row[jailState(0)] += probability * arrivals.chances[i];
+            } else {
+                row[place * MAX_DOUBLES + doubles] += probability * arrivals.chances[i];
+            }
+        }
+    }
+
+    private int jailState(int turn) {
+        return size * MAX_DOUBLES + turn;
+    }
+
+    /**
+     * Works out where a token that lands on each space ends up.
+     */
+    private Arrivals[] resolveDestinations(GameBoard board) {
+        int[][] moves = new int[size][];
+        for (int position = 0; position < size; position++) {
+            moves[position] = switch (tables.type(position)) {
+                case BoardTables.GO_TO_JAIL -> new int[]{JAIL};
+                case BoardTables.CHANCE -> cardOutcomes(board.getChanceDeck(), position);
+                case BoardTables.COMMUNITY_CHEST -> cardOutcomes(board.getCommunityDeck(), position);
+                default -> null;
+            };
+        }
+        Arrivals[] arrivals = new Arrivals[size];
+        Arrivals[] resolved = new Arrivals[size];
+        boolean[] drawing = new boolean[size];
+        for (int position = 0; position < size; position++) {
+            double[] spread = new double[size + 1];
+            follow(position, 1.0, moves, drawing, resolved, spread);
+            arrivals[position] = new Arrivals(spread);
+        }
+        return arrivals;
+    }
+
+    /**
+     * Adds where a token landing on a space ends up, with a probability, to a spread indexed by
+     * position, with jail last. A card leading back to a space already drawing on this move
+     * stops there, so a loop of cards cannot recurse forever. The arrivals of a card space are
+     * kept once worked out, unless a loop was cut short inside them, so every space is followed
+     * once however many cards lead to it.
+     *
+     * @return True if a loop was cut short.
+     */
+    private boolean follow(int position, double probability, int[][] moves, boolean[] drawing,
+                           Arrivals[] resolved, double[] spread) {
+        if (moves[position] == null || drawing[position]) {
+            spread[position] += probability;
+            return drawing[position];
+        }
+        if (resolved[position] != null) {
+            resolved[position].addTo(spread, probability);
+            return false;
+        }
+        drawing[position] = true;
+        double[] own = new double[size + 1];
+        double share = 1.0 / moves[position].length;
+        boolean cut = false;
+        for (int move : moves[position]) {
+            if (move == JAIL) {
+                own[size] += share;
+            } else if (move == position) {
+                own[position] += share;
+            } else {
+                cut |= follow(move, share, moves, drawing, resolved, own);
+            }
+        }
+        drawing[position] = false;
+        Arrivals arrivals = new Arrivals(own);
+        if (!cut) {
+            resolved[position] = arrivals;
+        }
+        arrivals.addTo(spread, probability);
+        return cut;
+    }
+
+    /**
+     * Gets the place each card of a deck moves a token on a space to, JAIL for jail.
+     */
+    private int[] cardOutcomes(CardDeck<? extends Card> deck, int position) {
+        int[] outcomes = new int[deck.getCardCount()];
+        for (int id = 0; id < outcomes.length; id++) {
+            Card card = deck.getCard(id);
+            CardEffect effect = card.getEffect();
+            outcomes[id] = switch (effect.getOp()) {
+                case MOVE_TO -> effect.getFirst();
+                case MOVE_RELATIVE -> tables.advance(position, effect.getFirst());
+                case NEAREST -> tables.nextOfType(position, (byte) effect.getFirst());
+                case GO_TO_JAIL -> JAIL;
+                case CUSTOM -> probe(card, position);
+                default -> position;
+            };
+        }
+        return outcomes;
+    }
+
+    /**
+     * Applies a custom card to a probe player on a scratch board and reads where it ends up.
+     */
+    private int probe(Card card, int position) {
+        List<Player> probes = new ArrayList<>();
+        GameBoard scratch = new GameBoard(probes, true, new Bank(new ArrayList<>()), new Dice(0));
+        Player probe = new Player("Probe", "Probe", scratch);
+        probes.add(probe);
+        probe.setPosition(position);
+        GameLog.runQuietly(() -> card.apply(probe));
+        return probe.isInJail() ? JAIL : Math.floorMod(probe.getPosition(), size);
+    }
+
+    /**
+     * The places a token landing on one space can end up, JAIL for jail, with their chances.
+     */
+    private static final class Arrivals {
+        private final int[] places;
+        private final double[] chances;
+
+        private Arrivals(double[] spread) {
+            int count = 0;
+            for (double chance : spread) {
+                if (chance > 0) {
+                    count++;
+                }
+            }
+            this.places = new int[count];
+            this.chances = new double[count];
+            int jail = spread.length - 1;
+            for (int place = 0, i = 0; place < spread.length; place++) {
+                if (spread[place] > 0) {
+                    places[i] = place == jail ? JAIL : place;
+                    chances[i++] = spread[place];
+                }
+            }
+        }
+
+        /**
+         * Adds the arrivals, scaled by a probability, to a spread indexed by position with jail last.
+         */
+        private void addTo(double[] spread, double probability) {
+            for (int i = 0; i < places.length; i++) {
+                spread[places[i] == JAIL ? spread.length - 1 : places[i]] += probability * chances[i];
+            }
+        }
+    }
+}
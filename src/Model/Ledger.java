@@ -0,0 +1,255 @@
+/**
+ * The Ledger records every cash movement of a game as a double-entry: an amount leaves one
+ * account and enters another, with a LedgerCategory saying what it was for. Account 0 is the
+ * bank; each player gets an account the first time money moves for them. Because every entry
+ * has both sides, the money of all accounts together never changes, and a player's balance
+ * can be reconciled against their starting cash plus their net.
+ *
+ * Entries are packed into one long each and appended to fixed-size chunks of an atomic array,
+ * so millions of them take little memory and are never copied. A writer reserves a slot with
+ * one atomic increment and writes its entry there, so writers guarding different players run
+ * side by side. Running totals of income and spending per account, per account and category,
+ * and moved per category are updated with every entry, so every query is O(1) however long the
+ * ledger grows.
+ */
+package Model;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class Ledger {
+    public static final int BANK = 0; // Account of the bank
+    public static final int MAX_ACCOUNTS = 32; // Accounts a ledger can hold, the bank's included
+    private static final int CHUNK_BITS = 12; // Entries per chunk, as a power of two
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final LedgerCategory[] CATEGORIES = LedgerCategory.values();
+    private static final long WRITTEN = 1L << 63; // Set in every entry, so a slot still 0 is not written yet
+
+    private volatile AtomicLongArray[] chunks = new AtomicLongArray[4]; // Entries, CHUNK_SIZE to a chunk
+    private final AtomicLong size = new AtomicLong(); // Slots reserved by writers
+    private final Player[] accounts = new Player[MAX_ACCOUNTS]; // Player of each account, null for the bank
+    private int accountCount = 1; // Accounts handed out, the bank's included
+    private final AtomicLongArray income = new AtomicLongArray(MAX_ACCOUNTS); // Money received by each account
+    private final AtomicLongArray spending = new AtomicLongArray(MAX_ACCOUNTS); // Money paid by each account
+    private final AtomicLongArray incomeBy = new AtomicLongArray(MAX_ACCOUNTS * CATEGORIES.length); // Per account and category
+    private final AtomicLongArray spendingBy = new AtomicLongArray(MAX_ACCOUNTS * CATEGORIES.length); // Per account and category
+    private final AtomicLongArray moved = new AtomicLongArray(CATEGORIES.length); // Money moved in each category
+
+    /**
+     * Records a cash movement.
+     *
+     * @param from     The player paying, or null for the bank.
+     * @param to       The player being paid, or null for the bank.
+     * @param amount   The amount, not negative.
+     * @param category What the money was for.
+     * @return The number of the entry.
+     * @throws IllegalArgumentException if the amount is negative.
+     */
+    public long record(Player from, Player to, int amount, LedgerCategory category) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("A ledger entry cannot be negative: " + amount);
+        }
+        int debit = account(from);
+        int credit = account(to);
+        int kind = category.ordinal();
+        long index = size.getAndIncrement();
+        chunk(index).set((int) (index & (CHUNK_SIZE - 1)),
+                WRITTEN | ((long) credit << 48) | ((long) debit << 40) | ((long) kind << 32) | amount);
+        spending.addAndGet(debit, amount);
+        income.addAndGet(credit, amount);
+        spendingBy.addAndGet(debit * CATEGORIES.length + kind, amount);
+        incomeBy.addAndGet(credit * CATEGORIES.length + kind, amount);
+        moved.addAndGet(kind, amount);
+        return index;
+    }
+
+    /**
+     * Gets the chunk holding an entry, adding chunks as the ledger grows.
+     */
+    private AtomicLongArray chunk(long index) {
+        int number = (int) (index >>> CHUNK_BITS);
+        AtomicLongArray[] current = chunks;
+        if (number < current.length && current[number] != null) {
+            return current[number];
+        }
+        synchronized (this) {
+            current = chunks;
+            if (number >= current.length) {
+                AtomicLongArray[] grown = new AtomicLongArray[Math.max(current.length * 2, number + 1)];
+                System.arraycopy(current, 0, grown, 0, current.length);
+                current = grown;
+            }
+            if (current[number] == null) {
+                current[number] = new AtomicLongArray(CHUNK_SIZE);
+            }
+            chunks = current;
+            return current[number];
+        }
+    }
+
+    /**
+     * Gets the account of a player, opening one the first time the player is seen.
+     *
+     * @param player The player, or null for the bank.
+     * @return The account.
+     * @throws IllegalStateException if the ledger has no accounts left.
+     */
+    public int account(Player player) {
+        if (player == null) {
+            return BANK;
+        }
+        int account = player.getLedgerAccount();
+        if (account > 0 && account < MAX_ACCOUNTS && accounts[account] == player) {
+            return account;
+        }
+        synchronized (this) {
+            for (int i = 1; i < accountCount; i++) {
+                if (accounts[i] == player) {
+                    player.setLedgerAccount(i);
+                    return i;
+                }
+            }
+            if (accountCount == MAX_ACCOUNTS) {
+                throw new IllegalStateException("The ledger has no accounts left");
+            }
+            accounts[accountCount] = player;
+            player.setLedgerAccount(accountCount);
+            return accountCount++;
+        }
+    }
+
+    /**
+     * Finds the account of a player without opening one.
+     *
+     * @return The account, or -1 if nothing was ever recorded for the player.
+     */
+    private int find(Player player) {
+        if (player == null) {
+            return BANK;
+        }
+        int account = player.getLedgerAccount();
+        if (account > 0 && account < MAX_ACCOUNTS && accounts[account] == player) {
+            return account;
+        }
+        synchronized (this) {
+            for (int i = 1; i < accountCount; i++) {
+                if (accounts[i] == player) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the number of entries recorded.
+     *
+     * @return The number of entries.
+     */
+    public long size() {
+        return size.get();
+    }
+
+    /**
+     * Gets a recorded entry, to be read with amount, category, debit and credit.
+     *
+     * @param index The number of the entry.
+     * @return The packed entry, or 0 if a writer has reserved the slot but not yet filled it.
+     * @throws IndexOutOfBoundsException if there is no such entry.
+     */
+    public long getEntry(long index) {
+        if (index < 0 || index >= size.get()) {
+            throw new IndexOutOfBoundsException("No ledger entry " + index);
+        }
+        return chunk(index).get((int) (index & (CHUNK_SIZE - 1)));
+    }
+
+    public static int amount(long entry) {
+        return (int) entry;
+    }
+
+    public static LedgerCategory category(long entry) {
+        return CATEGORIES[(int) (entry >>> 32) & 0xff];
+    }
+
+    /**
+     * Gets the account an entry took the money from.
+     */
+    public static int debit(long entry) {
+        return (int) (entry >>> 40) & 0xff;
+    }
+
+    /**
+     * Gets the account an entry paid the money to.
+     */
+    public static int credit(long entry) {
+        return (int) (entry >>> 48) & 0xff;
+    }
+
+    /**
+     * Gets the money a player, or the bank, has received.
+     *
+     * @param player The player, or null for the bank.
+     * @return The income.
+     */
+    public long getIncome(Player player) {
+        int account = find(player);
+        return account < 0 ? 0 : income.get(account);
+    }
+
+    /**
+     * Gets the money a player, or the bank, has received for one purpose.
+     *
+     * @param player   The player, or null for the bank.
+     * @param category The purpose.
+     * @return The income.
+     */
+    public long getIncome(Player player, LedgerCategory category) {
+        int account = find(player);
+        return account < 0 ? 0 : incomeBy.get(account * CATEGORIES.length + category.ordinal());
+    }
+
+    /**
+     * Gets the money a player, or the bank, has paid.
+     *
+     * @param player The player, or null for the bank.
+     * @return The spending.
+     */
+    public long getSpending(Player player) {
+        int account = find(player);
+        return account < 0 ? 0 : spending.get(account);
+    }
+
+    /**
+     * Gets the money a player, or the bank, has paid for one purpose.
+     *
+     * @param player   The player, or null for the bank.
+     * @param category The purpose.
+     * @return The spending.
+     */
+    public long getSpending(Player player, LedgerCategory category) {
+        int account = find(player);
+        return account < 0 ? 0 : spendingBy.get(account * CATEGORIES.length + category.ordinal());
+    }
+
+    /**
+     * Gets the money a player, or the bank, has gained or lost overall.
+     *
+     * @param player The player, or null for the bank.
+     * @return The income less the spending.
+     */
+    public long getNet(Player player) {
+        int account = find(player);
+        return account < 0 ? 0 : income.get(account) - spending.get(account);
+    }
+
+    /**
+     * Gets the money moved for one purpose by everyone.
+     *
+     * @param category The purpose.
+     * @return The total.
+     */
+    public long getMoved(LedgerCategory category) {
+        return moved.get(category.ordinal());
+    }
+}
@@ -0,0 +1,18 @@
+/**
+ * The LedgerCategory says what a cash movement recorded in the Ledger was for.
+ */
+package Model;
+
+public enum LedgerCategory {
+    RENT,     // Rent paid by one player to another
+    TAX,      // Income and luxury tax paid to the bank
+    SALARY,   // Salary collected for passing Go
+    CARD,     // Payments made or collected by Chance and Community Chest cards
+    PURCHASE, // Properties bought from the bank
+    BUILDING, // Houses and hotels bought from the bank
+    MORTGAGE, // Mortgages taken from and repaid to the bank
+    FINE,     // Fines paid to leave jail
+    TRADE,    // Cash changing hands in trades between players
+    BANKRUPTCY, // Payments a bankrupt player could not cover, taken back from their creditors
+    OTHER     // Anything else, such as payments made directly through the bank
+}
@@ -0,0 +1,62 @@
+/**
+ * The LiquidationPlan is the answer of the LiquidationSolver: the houses a player sells back to
+ * the bank and the properties they mortgage to raise cash, with the cash raised and what the
+ * player loses for good by raising it. Houses are listed one entry per house, in an order that
+ * keeps every color group evenly built, so they can be sold one after another as listed.
+ */
+package Model;
+
+import java.util.List;
+
+public final class LiquidationPlan {
+    private final boolean feasible; // Whether the plan raises the amount asked for
+    private final List<PropertySpace> houseSales; // Street of each house sold, in selling order
+    private final List<Property> mortgages; // Properties mortgaged, after the houses are sold
+    private final int raised; // Cash the plan raises
+    private final int loss; // Value the player loses for good
+
+    LiquidationPlan(boolean feasible, List<PropertySpace> houseSales, List<Property> mortgages, int raised, int loss) {
+        this.feasible = feasible;
+        this.houseSales = List.copyOf(houseSales);
+        this.mortgages = List.copyOf(mortgages);
+        this.raised = raised;
+        this.loss = loss;
+    }
+
+    /**
+     * Checks whether the plan raises the amount asked for. A player with no feasible plan is bankrupt.
+     *
+     * @return True if the plan raises enough.
+     */
+    public boolean isFeasible() {
+        return feasible;
+    }
+
+    public List<PropertySpace> getHouseSales() {
+        return houseSales;
+    }
+
+    public List<Property> getMortgages() {
+        return mortgages;
+    }
+
+    public int getCashRaised() {
+        return raised;
+    }
+
+    /**
+     * Gets the value the player loses for good: half the cost of every house sold and the
+     * interest due when the mortgages are lifted.
+     *
+     * @return The loss.
+     */
+    public int getLoss() {
+        return loss;
+    }
+
+    @Override
+    public String toString() {
+        return (feasible ? "Raise $" : "Cannot raise enough, at most $") + raised + " losing $" + loss
+                + " by selling " + houseSales.size() + " houses and mortgaging " + mortgages.size() + " properties";
+    }
+}
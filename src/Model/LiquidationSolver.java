@@ -0,0 +1,269 @@
+/**
+ * The LiquidationSolver finds the cheapest way for a player to raise the cash to pay a debt.
+ * Cash comes from selling houses back to the bank at half their cost, which loses the other
+ * half, and from mortgaging properties, which loses the 10% interest due when the mortgage is
+ * lifted. The rules limit the mixes: houses leave a color group evenly, a street is sold down
+ * from the most built one, and no property of a group can be mortgaged while it has buildings.
+ *
+ * The rules only tie properties within one group, so the solver walks the groups one at a time
+ * with a dynamic program over the cash raised, keeping the least loss of every total. A group
+ * is either sold down by 0, 1, 2 ... houses, short of bare, or sold bare and then each of its
+ * properties mortgaged or not, one property at a time, so the work grows with the number of
+ * properties rather than with the subsets of a group. Cash is counted in units of the greatest
+ * common divisor of all the amounts and capped at the debt, so the table stays a few hundred
+ * entries wide and a plan takes microseconds.
+ */
+package Model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class LiquidationSolver {
+    private static final int UNREACHABLE = Integer.MAX_VALUE; // Loss of a cash total no mix reaches
+
+    private LiquidationSolver() {
+    }
+
+    /**
+     * Finds the plan that raises at least an amount for a player while losing the least.
+     *
+     * @param player The player who must pay.
+     * @param amount The cash to raise.
+     * @return The plan, infeasible and empty if even selling and mortgaging everything falls short.
+     */
+    public static LiquidationPlan solve(Player player, int amount) {
+        if (amount <= 0) {
+            return new LiquidationPlan(true, List.of(), List.of(), 0, 0);
+        }
+        List<Group> groups = groupsOf(player);
+        int unit = 0;
+        int most = 0;
+        for (Group group : groups) {
+            for (int k = 1; k < group.saleCash.length; k++) {
+                unit = gcd(unit, group.saleCash[k]);
+            }
+            most += group.saleCash[group.houses];
+            for (int member : group.free) {
+                unit = gcd(unit, group.members[member].mortgageLoan());
+                most += group.members[member].mortgageLoan();
+            }
+        }
+        if (most < amount) {
+            return new LiquidationPlan(false, List.of(), List.of(), most, 0);
+        }
+
+        // loss[c] is the least loss raising c units, or at least c units for the last entry
+        int cap = (amount + unit - 1) / unit;
+        int[] loss = new int[cap + 1];
+        Arrays.fill(loss, UNREACHABLE);
+        loss[0] = 0;
+        Step[] steps = new Step[groups.size()];
+        for (int g = 0; g < groups.size(); g++) {
+            steps[g] = new Step(groups.get(g), cap);
+            loss = steps[g].advance(loss, unit);
+        }
+
+        List<PropertySpace> sales = new ArrayList<>();
+        List<Property> mortgages = new ArrayList<>();
+        int raised = 0;
+        int c = cap;
+        for (int g = groups.size() - 1; g >= 0; g--) {
+            Group group = groups.get(g);
+            Step step = steps[g];
+            int sold = group.houses;
+            if (step.bare[c]) {
+                for (int j = group.free.length - 1; j >= 0; j--) {
+                    int before = step.mortgageFrom[j][c];
+                    if (step.mortgaged[j][c]) {
+                        Property property = group.members[group.free[j]];
+                        mortgages.add(property);
+                        raised += property.mortgageLoan();
+                    }
+                    c = before;
+                }
+                c = step.bareFrom[c];
+            } else {
+                sold = step.sold[c];
+                c = step.saleFrom[c];
+            }
+            raised += group.saleCash[sold];
+            for (int i = 0; i < sold; i++) {
+                sales.add((PropertySpace) group.members[group.sequence[i]]);
+            }
+        }
+        return new LiquidationPlan(true, sales, mortgages, raised, loss[cap]);
+    }
+
+    /**
+     * Lists the choices of every group the player owns property in.
+     */
+    private static List<Group> groupsOf(Player player) {
+        List<List<Property>> byGroup = new ArrayList<>();
+        for (Property property : player.getProperties()) {
+            if (property.getGroup() != null) {
+                int id = property.getGroup().getId();
+                while (byGroup.size() <= id) {
+                    byGroup.add(new ArrayList<>());
+                }
+                byGroup.get(id).add(property);
+            }
+        }
+        List<Group> groups = new ArrayList<>();
+        for (List<Property> members : byGroup) {
+            if (!members.isEmpty()) {
+                groups.add(new Group(members.toArray(new Property[0])));
+            }
+        }
+        return groups;
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    /**
+     * The choices of one color group: selling the first k houses of the selling sequence raises
+     * saleCash[k] and loses saleLoss[k], and once all its houses are sold each free member can
+     * be mortgaged.
+     */
+    private static final class Group {
+        private final Property[] members; // The player's properties in the group
+        private final int houses; // Houses and hotels standing on the group, a hotel counting as five
+        private final int[] sequence; // Member each house is sold from, most built first
+        private final int[] saleCash; // Cash raised selling the first k houses
+        private final int[] saleLoss; // Value lost selling the first k houses
+        private final int[] free; // Members not yet mortgaged
+
+        private Group(Property[] members) {
+            this.members = members;
+            int[] levels = new int[members.length];
+            int standing = 0;
+            int unmortgaged = 0;
+            for (int i = 0; i < members.length; i++) {
+                levels[i] = members[i].hasHotel() ? BoardTables.HOTEL : members[i].getHouseCount();
+                standing += levels[i];
+                if (!members[i].isMortgaged()) {
+                    unmortgaged++;
+                }
+            }
+            this.houses = standing;
+            this.free = new int[unmortgaged];
+            for (int i = 0, f = 0; i < members.length; i++) {
+                if (!members[i].isMortgaged()) {
+                    free[f++] = i;
+                }
+            }
+
+            // Sell from the most built street each time, which keeps the group even
+            this.sequence = new int[houses];
+            this.saleCash = new int[houses + 1];
+            this.saleLoss = new int[houses + 1];
+            for (int k = 0; k < houses; k++) {
+                int top = 0;
+                for (int i = 1; i < members.length; i++) {
+                    if (levels[i] >= levels[top]) {
+                        top = i;
+                    }
+                }
+                levels[top]--;
+                sequence[k] = top;
+                int cost = ((PropertySpace) members[top]).getCostOfHouseHotel();
+                saleCash[k + 1] = saleCash[k] + cost / 2;
+                saleLoss[k + 1] = saleLoss[k] + cost - cost / 2;
+            }
+        }
+    }
+
+    /**
+     * The dynamic program's step over one group, remembering for every cash total reached how
+     * it was reached, so the plan can be traced back from the debt.
+     */
+    private static final class Step {
+        private final Group group;
+        private final int[] sold; // Houses sold to reach each total, short of bare
+        private final int[] saleFrom; // Total before the sales
+        private final int[] bareFrom; // Total before selling every house
+        private final boolean[] bare; // Whether each total is best reached with the group bare
+        private final boolean[][] mortgaged; // Whether each free member is mortgaged, by total after it
+        private final int[][] mortgageFrom; // Total before each free member's choice
+
+        private Step(Group group, int cap) {
+            this.group = group;
+            this.sold = new int[cap + 1];
+            this.saleFrom = new int[cap + 1];
+            this.bareFrom = new int[cap + 1];
+            this.bare = new boolean[cap + 1];
+            this.mortgaged = new boolean[group.free.length][cap + 1];
+            this.mortgageFrom = new int[group.free.length][cap + 1];
+        }
+
+        /**
+         * Takes the least losses before the group to the least losses after it.
+         */
+        private int[] advance(int[] loss, int unit) {
+            int cap = loss.length - 1;
+            int[] partial = unreachable(cap);
+            int[] stripped = unreachable(cap);
+            for (int c = 0; c <= cap; c++) {
+                if (loss[c] == UNREACHABLE) {
+                    continue;
+                }
+                for (int k = 0; k <= group.houses; k++) {
+                    int reached = Math.min(cap, c + group.saleCash[k] / unit);
+                    int total = loss[c] + group.saleLoss[k];
+                    if (k < group.houses && total < partial[reached]) {
+                        partial[reached] = total;
+                        sold[reached] = k;
+                        saleFrom[reached] = c;
+                    } else if (k == group.houses && total < stripped[reached]) {
+                        stripped[reached] = total;
+                        bareFrom[reached] = c;
+                    }
+                }
+            }
+
+            for (int j = 0; j < group.free.length; j++) {
+                Property property = group.members[group.free[j]];
+                int cash = property.mortgageLoan() / unit;
+                int interest = property.unmortgageCost() - property.mortgageLoan();
+                int[] after = unreachable(cap);
+                for (int c = 0; c <= cap; c++) {
+                    if (stripped[c] == UNREACHABLE) {
+                        continue;
+                    }
+                    if (stripped[c] < after[c]) {
+                        after[c] = stripped[c];
+                        mortgaged[j][c] = false;
+                        mortgageFrom[j][c] = c;
+                    }
+                    int reached = Math.min(cap, c + cash);
+                    if (stripped[c] + interest < after[reached]) {
+                        after[reached] = stripped[c] + interest;
+                        mortgaged[j][reached] = true;
+                        mortgageFrom[j][reached] = c;
+                    }
+                }
+                stripped = after;
+            }
+
+            int[] next = new int[cap + 1];
+            for (int c = 0; c <= cap; c++) {
+                bare[c] = stripped[c] < partial[c];
+                next[c] = bare[c] ? stripped[c] : partial[c];
+            }
+            return next;
+        }
+
+        private static int[] unreachable(int cap) {
+            int[] loss = new int[cap + 1];
+            Arrays.fill(loss, UNREACHABLE);
+            return loss;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/**
+ * The MctsComputerPlayer is a computer player that looks ahead before each choice. Whether to
+ * buy a property, pay its way out of jail, build a house or mortgage a property is decided by
+ * an MctsPlanner, which plays the candidates out on copies of the game within a fixed time
+ * budget. Trades are weighed the same way, by a TradeEvaluator on the same planner. Choices
+ * with a single candidate, such as a property the player cannot afford, are settled without
+ * searching.
+ */
+package Model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class MctsComputerPlayer extends ComputerPlayer {
+    private static final int CASH_RESERVE = 150; // Cash below which the player considers mortgaging
+    private final MctsPlanner planner; // Search that makes the player's decisions
+    private final TradeEvaluator trades; // Evaluator of trades, on the same planner
+
+    /**
+     * Constructs an MctsComputerPlayer that decides within the default time budget.
+     *
+     * @param name      The name of the computer player.
+     * @param token     The token representing the computer player on the board.
+     * @param gameBoard The game board the player is part of.
+     */
+    public MctsComputerPlayer(String name, String token, GameBoard gameBoard) {
+        this(name, token, gameBoard, new MctsPlanner(MctsPlanner.DEFAULT_BUDGET_MILLIS));
+    }
+
+    /**
+     * Constructs an MctsComputerPlayer that decides with the specified planner. Planners may
+     * be shared by several players.
+     *
+     * @param name      The name of the computer player.
+     * @param token     The token representing the computer player on the board.
+     * @param gameBoard The game board the player is part of.
+     * @param planner   The planner making the decisions.
+     */
+    public MctsComputerPlayer(String name, String token, GameBoard gameBoard, MctsPlanner planner) {
+        super(name, token, gameBoard);
+        this.planner = planner;
+        this.trades = new TradeEvaluator(planner);
+    }
+
+    /**
+     * Decides whether to buy a property by playing out buying and declining it. Both go on with
+     * the rest of the turn, so a player who rolled doubles still rolls again.
+     *
+     * @param property      The unowned property offered.
+     * @param doublesRolled The doubles the player rolled this turn if they roll again, otherwise 0.
+     * @return True to buy the property, false to decline it.
+     */
+    @Override
+    public boolean wantsToBuy(Property property, int doublesRolled) {
+        if (!super.wantsToBuy(property, doublesRolled)) {
+            return false;
+        }
+        int me = index();
+        int space = property.getLocation();
+        Consumer<CompactGameState> restOfTurn = doublesRolled > 0
+                ? state -> state.rollAgain(doublesRolled)
+                : CompactGameState::endTurn;
+        List<Consumer<CompactGameState>> actions = List.of(
+                state -> {
+                    state.buy(me, space);
+                    restOfTurn.accept(state);
+                },
+                restOfTurn);
+        return planner.choose(CompactGameState.fromBoard(getGameBoard(), me), me, actions) == 0;
+    }
+
+    /**
+     * Decides whether to pay the fine to leave jail by playing out paying and rolling for doubles.
+     *
+     * @return True to pay the fine, false to roll for doubles.
+     */
+    @Override
+    public boolean wantsToPayJailFine() {
+        if (!isInJail() || getMoney() < TurnEngine.JAIL_FINE) {
+            return false;
+        }
+        int me = index();
+        List<Consumer<CompactGameState>> actions = List.of(
+                state -> {
+                },
+                state -> state.payJailFine(me));
+        return planner.choose(CompactGameState.fromBoard(getGameBoard(), me), me, actions) == 1;
+    }
+
+    /**
+     * Chooses a street to build on, or none, by playing out each house or hotel the player may build.
+     *
+     * @return The street to build on, or null to stop building.
+     */
+    @Override
+    public Property chooseToBuild() {
+        int me = index();
+        CompactGameState position = CompactGameState.fromBoard(getGameBoard(), me);
+        List<Integer> spaces = new ArrayList<>();
+        for (Property property : getProperties()) {
+            int space = property.getLocation();
+            if (position.canBuild(me, space)) {
+                spaces.add(space);
+            }
+        }
+        return choose(position, me, spaces, CompactGameState::build);
+    }
+
+    /**
+     * Chooses a property to mortgage, or none, by playing out each mortgage the player may take.
+     * The player only considers mortgaging when short of cash.
+     *
+     * @return The property to mortgage, or null to mortgage nothing.
+     */
+    @Override
+    public Property chooseToMortgage() {
+        if (getMoney() >= CASH_RESERVE) {
+            return null;
+        }
+        int me = index();
+        CompactGameState position = CompactGameState.fromBoard(getGameBoard(), me);
+        List<Integer> spaces = new ArrayList<>();
+        for (Property property : getProperties()) {
+            if (position.canMortgage(me, property.getLocation())) {
+                spaces.add(property.getLocation());
+            }
+        }
+        return choose(position, me, spaces, CompactGameState::mortgage);
+    }
+
+    /**
+     * Chooses between doing nothing and one action on each of the spaces.
+     *
+     * @return The property chosen, or null to do nothing.
+     */
+    private Property choose(CompactGameState position, int me, List<Integer> spaces, SpaceAction action) {
+        if (spaces.isEmpty()) {
+            return null;
+        }
+        List<Consumer<CompactGameState>> actions = new ArrayList<>(spaces.size() + 1);
+        actions.add(state -> {
+        });
+        for (int space : spaces) {
+            actions.add(state -> action.apply(state, me, space));
+        }
+        int chosen = planner.choose(position, me, actions);
+        return chosen == 0 ? null : (Property) getGameBoard().getSpace(spaces.get(chosen - 1));
+    }
+
+    /**
+     * Decides whether to accept a trade by playing out the game with and without it.
+     *
+     * @param offer The trade, with this player as the recipient.
+     * @return True to accept the trade.
+     */
+    @Override
+    public boolean wantsTrade(TradeOffer offer) {
+        return trades.accepts(offer);
+    }
+
+    /**
+     * Proposes the trade that does most for the player, if any does enough.
+     *
+     * @return The trade to offer, or null to offer nothing.
+     */
+    @Override
+    public TradeOffer proposeTrade() {
+        return trades.propose(this);
+    }
+
+    private int index() {
+        return getGameBoard().getPlayers().indexOf(this);
+    }
+
+    public MctsPlanner getPlanner() {
+        return planner;
+    }
+
+    /**
+     * An action of a player on one space of a CompactGameState.
+     */
+    private interface SpaceAction {
+        void apply(CompactGameState state, int player, int space);
+    }
+}
@@ -0,0 +1,324 @@
+/**
+ * The MctsPlanner chooses between the candidate actions of a computer player by Monte Carlo
+ * tree search on CompactGameStates. Each rollout copies the position one candidate leads to,
+ * shuffles the copy's decks (the real order is hidden from the player) and plays the game on for
+ * a fixed number of turns with the simple policy BUY_WHAT_YOU_CAN for every player. The
+ * player's share of the net worth left on the table is the reward of the rollout.
+ *
+ * The dice make every position after the first roll a chance node, so the tree is kept to its
+ * root: the candidates are arms of a UCB1 bandit and the rollouts below them sample the rest
+ * of the game. Workers on a fork-join pool run rollouts side by side and share the counts of
+ * the root through atomic arrays; a rollout in flight counts against its arm, so concurrent
+ * workers spread over the candidates instead of piling onto one.
+ *
+ * Every decision has a hard time budget. The calling thread runs rollouts itself until the
+ * deadline and then returns the candidate with the most finished rollouts, whatever the pool
+ * workers are doing; rollouts still running at the deadline are abandoned. A busy pool, for
+ * example one shared by many computer seats, only means fewer rollouts, never a later answer.
+ * With no finished rollouts at all the first candidate is chosen, so callers list their
+ * default action first.
+ *
+ * A planner may be given a TranspositionTable, which can be shared by any number of planners
+ * and threads. A search then starts each candidate from the evaluation the table holds for the
+ * position the candidate leads to, and writes the candidates' evaluations back when it ends,
+ * so positions reached again, by this player or another, are not searched from scratch.
+ */
+package Model;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+public class MctsPlanner {
+    public static final long DEFAULT_BUDGET_MILLIS = 200; // Time a decision may take by default
+    public static final int DEFAULT_HORIZON = 60; // Turns a rollout plays before the position is scored
+    public static final CompactGameState.BuyPolicy BUY_WHAT_YOU_CAN =
+            (state, player, space) -> true; // Rollout policy: players buy every space they can afford
+    private static final double EXPLORATION = Math.sqrt(2); // UCB1 exploration constant
+    private static final long REWARD_SCALE = 1_000_000; // Fixed-point scale of the summed rewards
+    private static final int DEADLINE_CHECK = 8; // Turns a rollout plays between looks at the clock
+
+    private final long budgetNanos; // Time budget of one decision
+    private final int horizon; // Turns a rollout plays
+    private final ForkJoinPool pool; // Pool running the rollouts beside the caller
+    private final long seed; // Seed every search's dice are derived from
+    private final AtomicLong searches = new AtomicLong(); // Searches started, numbering their dice
+    private final LongAdder rollouts = new LongAdder(); // Rollouts finished by all searches
+    private final TranspositionTable table; // Evaluations shared between searches, or null
+
+    /**
+     * Constructs a planner with the specified budget that runs on the common fork-join pool.
+     *
+     * @param budgetMillis The time budget of one decision in milliseconds.
+     */
+    public MctsPlanner(long budgetMillis) {
+        this(budgetMillis, DEFAULT_HORIZON, ForkJoinPool.commonPool(), new Dice().nextLong());
+    }
+
+    /**
+     * Constructs a planner.
+     *
+     * @param budgetMillis The time budget of one decision in milliseconds.
+     * @param horizon      The number of turns a rollout plays.
+     * @param pool         The pool running rollouts beside the caller.
+     * @param seed         The seed the rollouts' dice are derived from.
+     * @throws IllegalArgumentException if the budget or horizon is not positive.
+     */
+    public MctsPlanner(long budgetMillis, int horizon, ForkJoinPool pool, long seed) {
+        this(budgetMillis, horizon, pool, seed, null);
+    }
+
+    /**
+     * Constructs a planner that shares evaluations through a transposition table.
+     *
+     * @param budgetMillis The time budget of one decision in milliseconds.
+     * @param horizon      The number of turns a rollout plays.
+     * @param pool         The pool running rollouts beside the caller.
+     * @param seed         The seed the rollouts' dice are derived from.
+     * @param table        The table of evaluations, or null to search every decision afresh.
+     * @throws IllegalArgumentException if the budget or horizon is not positive.
+     */
+    public MctsPlanner(long budgetMillis, int horizon, ForkJoinPool pool, long seed, TranspositionTable table) {
+        if (budgetMillis < 1 || horizon < 1) {
+            throw new IllegalArgumentException("Budget and horizon must be positive");
+        }
+        this.budgetNanos = budgetMillis * 1_000_000L;
+        this.horizon = horizon;
+        this.pool = pool;
+        this.seed = seed;
+        this.table = table;
+    }
+
+    /**
+     * Chooses the candidate action that does best for a player within the time budget.
+     * Actions are applied to copies of the position and must leave the copy ready for
+     * CompactGameState.playTurn: once the player has rolled, an action ends the turn or leaves
+     * it to roll again after doubles.
+     *
+     * @param state   The position to decide in. It is not changed.
+     * @param player  The player deciding.
+     * @param actions The candidates, the default action first.
+     * @return The index of the chosen action.
+     * @throws IllegalArgumentException if there are no actions.
+     */
+    public int choose(CompactGameState state, int player, List<Consumer<CompactGameState>> actions) {
+        if (actions.isEmpty()) {
+            throw new IllegalArgumentException("Nothing to choose from");
+        }
+        if (actions.size() == 1) {
+            return 0;
+        }
+        return search(state, player, actions).best();
+    }
+
+    /**
+     * Estimates how well each candidate action does for a player within the time budget.
+     * The estimate is the mean reward of the candidate's rollouts: the player's expected share
+     * of the net worth left on the table, which stands in for their chance of winning. The
+     * search spends more rollouts on the better candidates, so their estimates are the sharper.
+     *
+     * @param state   The position to decide in. It is not changed.
+     * @param player  The player deciding.
+     * @param actions The candidates.
+     * @return The estimate of each candidate, NaN if it was not played out in time.
+     * @throws IllegalArgumentException if there are no actions.
+     */
+    public double[] evaluate(CompactGameState state, int player, List<Consumer<CompactGameState>> actions) {
+        if (actions.isEmpty()) {
+            throw new IllegalArgumentException("Nothing to evaluate");
+        }
+        return search(state, player, actions).means();
+    }
+
+    /**
+     * Searches the candidates until the deadline, on the calling thread and the pool.
+     */
+    private Search search(CompactGameState state, int player, List<Consumer<CompactGameState>> actions) {
+        Search search = new Search(state, player, actions, System.nanoTime() + budgetNanos, searches.getAndIncrement());
+        int helpers = Math.max(pool.getParallelism() - 1, 0);
+        ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[helpers];
+        for (int worker = 0; worker < helpers; worker++) {
+            int index = worker + 1;
+            tasks[worker] = pool.submit(() -> search.run(index));
+        }
+        search.run(0);
+        for (ForkJoinTask<?> task : tasks) {
+            task.cancel(false);
+        }
+        if (table != null) {
+            search.remember();
+        }
+        return search;
+    }
+
+    /**
+     * Gets the number of rollouts this planner has finished, over all its searches.
+     *
+     * @return The number of rollouts.
+     */
+    public long getRollouts() {
+        return rollouts.sum();
+    }
+
+    public long getBudgetMillis() {
+        return budgetNanos / 1_000_000L;
+    }
+
+    public TranspositionTable getTable() {
+        return table;
+    }
+
+    /**
+     * The statistics of one decision, shared by the workers searching it.
+     */
+    private class Search {
+        private final CompactGameState[] children; // Position after each candidate, only ever copied
+        private final long[] hashes; // Transposition key of each child for the deciding player
+        private final int player; // Player deciding
+        private final long deadline; // System.nanoTime() when the answer is due
+        private final long number; // Number of the search, for its dice
+        private final AtomicLongArray visits; // Finished rollouts of each candidate
+        private final AtomicLongArray inFlight; // Running rollouts of each candidate
+        private final AtomicLongArray reward; // Summed rewards of each candidate, times REWARD_SCALE
+        private final AtomicLong total = new AtomicLong(); // Rollouts started over all candidates
+
+        private Search(CompactGameState root, int player, List<Consumer<CompactGameState>> actions,
+                       long deadline, long number) {
+            this.children = new CompactGameState[actions.size()];
+            this.hashes = new long[actions.size()];
+            this.player = player;
+            this.deadline = deadline;
+            this.number = number;
+            this.visits = new AtomicLongArray(actions.size());
+            this.inFlight = new AtomicLongArray(actions.size());
+            this.reward = new AtomicLongArray(actions.size());
+            for (int action = 0; action < children.length; action++) {
+                children[action] = new CompactGameState(root);
+                actions.get(action).accept(children[action]);
+                hashes[action] = TranspositionTable.key(children[action].hash(), player);
+                long entry = table == null ? TranspositionTable.MISSING : table.probe(hashes[action]);
+                if (entry != TranspositionTable.MISSING) {
+                    int count = TranspositionTable.count(entry);
+                    visits.set(action, count);
+                    total.addAndGet(count);
+                    reward.set(action, Math.round((double) TranspositionTable.mean(entry) * count * REWARD_SCALE));
+                }
+            }
+        }
+
+        /**
+         * Writes the evaluation of every searched candidate to the transposition table.
+         */
+        private void remember() {
+            for (int action = 0; action < children.length; action++) {
+                long finished = visits.get(action);
+                if (finished > 0) {
+                    float mean = (float) (reward.get(action) / (double) (finished * REWARD_SCALE));
+                    table.store(hashes[action], mean, (int) Math.min(finished, Integer.MAX_VALUE));
+                }
+            }
+        }
+
+        /**
+         * Runs rollouts until the deadline. Worker i of search n always uses the same dice.
+         */
+        private void run(int worker) {
+            Dice dice = Dice.split(seed ^ number, worker);
+            while (System.nanoTime() < deadline) {
+                int action = select();
+                inFlight.incrementAndGet(action);
+                double score = rollout(action, dice);
+                inFlight.decrementAndGet(action);
+                if (score < 0) {
+                    return;
+                }
+                reward.addAndGet(action, Math.round(score * REWARD_SCALE));
+                visits.incrementAndGet(action);
+                rollouts.increment();
+            }
+        }
+
+        /**
+         * Picks the candidate with the highest UCB1 bound, trying every candidate once first.
+         */
+        private int select() {
+            double logTotal = Math.log(total.incrementAndGet());
+            int best = 0;
+            double bestBound = Double.NEGATIVE_INFINITY;
+            for (int action = 0; action < children.length; action++) {
+                long finished = visits.get(action);
+                long tried = finished + inFlight.get(action);
+                if (tried == 0) {
+                    return action;
+                }
+                double mean = finished == 0 ? 0 : reward.get(action) / (double) (finished * REWARD_SCALE);
+                double bound = mean + EXPLORATION * Math.sqrt(logTotal / tried);
+                if (bound > bestBound) {
+                    bestBound = bound;
+                    best = action;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Plays one rollout of a candidate.
+         *
+         * @return The reward, or -1 if the deadline passed first.
+         */
+        private double rollout(int action, Dice dice) {
+            CompactGameState state = new CompactGameState(children[action]);
+            state.shuffleDecks(dice);
+            for (int turn = 0; turn < horizon && !state.isGameOver(); turn++) {
+                if (turn % DEADLINE_CHECK == 0 && System.nanoTime() >= deadline) {
+                    return -1;
+                }
+                state.playTurn(dice, BUY_WHAT_YOU_CAN);
+            }
+            return score(state);
+        }
+
+        /**
+         * Scores a position as the player's share of the net worth of the players left.
+         */
+        private double score(CompactGameState state) {
+            long all = 0;
+            for (int other = 0; other < state.getPlayerCount(); other++) {
+                all += Math.max(state.netWorth(other), 0);
+            }
+            int own = Math.max(state.netWorth(player), 0);
+            return all == 0 ? 0 : own / (double) all;
+        }
+
+        /**
+         * Gets the mean reward of each candidate, NaN for candidates without finished rollouts.
+         */
+        private double[] means() {
+            double[] means = new double[children.length];
+            for (int action = 0; action < children.length; action++) {
+                long finished = visits.get(action);
+                means[action] = finished == 0 ? Double.NaN : reward.get(action) / (double) (finished * REWARD_SCALE);
+            }
+            return means;
+        }
+
+        /**
+         * Gets the candidate with the most finished rollouts, breaking ties by mean reward.
+         */
+        private int best() {
+            int best = 0;
+            for (int action = 1; action < children.length; action++) {
+                long difference = visits.get(action) - visits.get(best);
+                if (difference > 0 || difference == 0 && visits.get(action) > 0
+                        && reward.get(action) > reward.get(best)) {
+                    best = action;
+                }
+            }
+            return best;
+        }
+    }
+}
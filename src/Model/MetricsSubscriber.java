@@ -0,0 +1,45 @@
+/*
+ * MetricsSubscriber.java
+ *
+ * Counts the events of a game without formatting any text: how many events of each type
+ * were published, how often each space was landed on and how much rent each space collected.
+ */
+package Model;
+
+public class MetricsSubscriber implements GameEventSubscriber {
+    private final long[] counts = new long[GameEventType.values().length]; // Events per type
+    private final long[] landings; // Moves ending on each space
+    private final long[] rent; // Rent collected by each space
+
+    /**
+     * Constructs the counters for a board.
+     *
+     * @param spaces The number of spaces on the board.
+     */
+    public MetricsSubscriber(int spaces) {
+        this.landings = new long[spaces];
+        this.rent = new long[spaces];
+    }
+
+    @Override
+    public void onEvent(GameEvent event) {
+        counts[event.getType().ordinal()]++;
+        if (event.getType() == GameEventType.MOVED) {
+            landings[event.getPosition()]++;
+        } else if (event.getType() == GameEventType.RENT_PAID && event.getPosition() >= 0) {
+            rent[event.getPosition()] += event.getAmount();
+        }
+    }
+
+    public long getCount(GameEventType type) {
+        return counts[type.ordinal()];
+    }
+
+    public long getLandings(int position) {
+        return landings[position];
+    }
+
+    public long getRent(int position) {
+        return rent[position];
+    }
+}
@@ -0,0 +1,170 @@
+/**
+ * The MonteCarloHeatMap plays headless games on a fork-join pool and counts, for every space,
+ * how often it was landed on and how much rent it collected, broken down by turn number.
+ *
+ * The range of games is split recursively. Each leaf plays its games into its own counters,
+ * and the counters are added together as the tasks join, so workers never write to shared
+ * memory. Game number i always uses Dice.split(seed, i), so a run with the same seed gives
+ * the same heat map regardless of how the work was split.
+ */
+package Model;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class MonteCarloHeatMap {
+    private static final int GAMES_PER_LEAF = 8; // Games a task plays itself instead of splitting
+
+    private final int playersPerGame; // Number of computer players in each game
+    private final int turnsPerGame; // Maximum number of turns in a single game
+    private final int bucketWidth; // Number of turns counted together in one bucket
+    private final ForkJoinPool pool; // Pool running the games
+
+    /**
+     * Constructs a MonteCarloHeatMap that runs on the common fork-join pool.
+     *
+     * @param playersPerGame The number of computer players in each game.
+     * @param turnsPerGame   The maximum number of turns in a single game.
+     * @param bucketWidth    The number of turns counted together in one bucket.
+     */
+    public MonteCarloHeatMap(int playersPerGame, int turnsPerGame, int bucketWidth) {
+        this(playersPerGame, turnsPerGame, bucketWidth, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a MonteCarloHeatMap that runs on the specified pool.
+     *
+     * @param playersPerGame The number of computer players in each game.
+     * @param turnsPerGame   The maximum number of turns in a single game.
+     * @param bucketWidth    The number of turns counted together in one bucket.
+     * @param pool           The pool running the games.
+     * @throws IllegalArgumentException if any argument is out of range.
+     */
+    public MonteCarloHeatMap(int playersPerGame, int turnsPerGame, int bucketWidth, ForkJoinPool pool) {
+        if (playersPerGame < 2) {
+            throw new IllegalArgumentException("A game needs at least two players");
+        }
+        if (turnsPerGame < 1 || bucketWidth < 1) {
+            throw new IllegalArgumentException("Turn counts must be positive");
+        }
+        this.playersPerGame = playersPerGame;
+        this.turnsPerGame = turnsPerGame;
+        this.bucketWidth = bucketWidth;
+        this.pool = pool;
+    }
+
+    /**
+     * Plays the specified number of games and returns the combined statistics.
+     *
+     * @param games The number of games to play.
+     * @param seed  The seed every game's dice are derived from.
+     * @return The heat map of all games.
+     */
+    public HeatMap run(int games, long seed) {
+        HeatMap heatMap = pool.invoke(new GamesTask(0, games, seed));
+        return heatMap != null ? heatMap : new HeatMap(0, bucketCount(), bucketWidth);
+    }
+
+    private int bucketCount() {
+        return (turnsPerGame + bucketWidth - 1) / bucketWidth;
+    }
+
+    /**
+     * Plays one game into the leaf's counters.
+     */
+    private long playGame(GameState game, HeatMap counters) {
+        CountingSubscriber subscriber = new CountingSubscriber(counters);
+        game.getBoard().getEvents().subscribe(subscriber);
+
+        int turns = 0;
+        while (!game.isGameOver() && turns < turnsPerGame) {
+            subscriber.bucket = turns / bucketWidth;
+            game.handleTurn();
+            turns++;
+        }
+        return turns;
+    }
+
+    /**
+     * Counts the landings and rent of one game into a heat map.
+     */
+    private static class CountingSubscriber implements GameEventSubscriber {
+        private final HeatMap counters;
+        private int bucket; // Bucket of the turn being played
+
+        private CountingSubscriber(HeatMap counters) {
+            this.counters = counters;
+        }
+
+        @Override
+        public void onEvent(GameEvent event) {
+            if (event.getType() == GameEventType.MOVED) {
+                counters.addLanding(bucket, event.getPosition());
+            } else if (event.getType() == GameEventType.RENT_PAID) {
+                counters.addRent(bucket, event.getPosition(), event.getAmount());
+            }
+        }
+    }
+
+    /**
+     * Plays a range of games, splitting it in half until it is small enough to play directly.
+     */
+    private class GamesTask extends RecursiveTask<HeatMap> {
+        private final int from; // First game of the range
+        private final int to; // One past the last game of the range
+        private final long seed;
+
+        private GamesTask(int from, int to, long seed) {
+            this.from = from;
+            this.to = to;
+            this.seed = seed;
+        }
+
+        @Override
+        protected HeatMap compute() {
+            if (to - from <= GAMES_PER_LEAF) {
+                return GameLog.callQuietly(this::playLeaf);
+            }
+            int middle = (from + to) >>> 1;
+            GamesTask left = new GamesTask(from, middle, seed);
+            left.fork();
+            HeatMap right = new GamesTask(middle, to, seed).compute();
+            HeatMap joined = left.join();
+            return joined == null ? right : right == null ? joined : joined.merge(right);
+        }
+
+        /**
+         * Plays the games of a leaf into its own counters, on whichever thread runs the leaf.
+         */
+        private HeatMap playLeaf() {
+            HeatMap counters = null;
+            for (int i = from; i < to; i++) {
+                GameState game = BatchSimulator.newHeadlessGame(playersPerGame, Dice.split(seed, i));
+                if (counters == null) {
+                    counters = new HeatMap(game.getBoard().getSpaces().size(), bucketCount(), bucketWidth);
+                }
+                counters.addGame(playGame(game, counters));
+            }
+            return counters;
+        }
+    }
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int players = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int turns = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : new Dice().nextLong();
+
+        long start = System.nanoTime();
+        HeatMap heatMap = new MonteCarloHeatMap(players, turns, 10).run(games, seed);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long[] landings = heatMap.getLandings();
+        long[] rent = heatMap.getRent();
+        for (int position = 0; position < landings.length; position++) {
+            System.out.printf("%2d  landings %10d  rent %12d%n", position, landings[position], rent[position]);
+        }
+        System.out.printf("%d games, %d turns in %.3f s (%.1f turns/s)%n",
+                heatMap.getGames(), heatMap.getTurns(), seconds, heatMap.getTurns() / seconds);
+    }
+}
@@ -0,0 +1,205 @@
+/**
+ * The OwnershipIndex tracks who owns which of a bank's properties. Every property gets a slot,
+ * its index in the bank's list, and the index keeps:
+ *  - a bitset of the slots each player owns
+ *  - how many properties of each color group each player owns, by group id
+ *  - a bitset of the slots still owned by the bank
+ *
+ * The index is updated whenever a property changes owner, so checking a full color group is
+ * a pair of array reads and listing unowned properties walks only the set bits. The index has
+ * no locks of its own: the Bank changes it only while holding every one of its stripes.
+ */
+package Model;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+class OwnershipIndex {
+    private final Property[] properties; // Property in each slot
+    private final int[] groupSize; // Number of properties in each group, by group id
+    private final BitSet[] groupSlots; // Slots of each group, by group id
+    private final BitSet unowned; // Slots owned by the bank
+    private final Map<Player, Holdings> holdings = new IdentityHashMap<>(); // Holdings of each owner
+
+    /**
+     * Slots and group counts of one owner.
+     */
+    private static final class Holdings {
+        private final BitSet slots = new BitSet();
+        private final int[] groupCounts;
+
+        private Holdings(int groups) {
+            this.groupCounts = new int[groups];
+        }
+    }
+
+    /**
+     * Builds the index from the current owners of a list of properties.
+     *
+     * @param properties The properties, in slot order.
+     */
+    OwnershipIndex(List<Property> properties) {
+        this.properties = properties.toArray(new Property[0]);
+        int groups = 0;
+        for (Property property : this.properties) {
+            if (property.getGroup() != null) {
+                groups = Math.max(groups, property.getGroup().getId() + 1);
+            }
+        }
+        this.groupSize = new int[groups];
+        this.groupSlots = new BitSet[groups];
+        for (int i = 0; i < groupSlots.length; i++) {
+            groupSlots[i] = new BitSet(this.properties.length);
+        }
+        this.unowned = new BitSet(this.properties.length);
+        for (int slot = 0; slot < this.properties.length; slot++) {
+            Property property = this.properties[slot];
+            property.setSlot(slot);
+            ColorGroup group = property.getGroup();
+            if (group != null) {
+                groupSize[group.getId()]++;
+                groupSlots[group.getId()].set(slot);
+            }
+            if (property.isOwned()) {
+                add(property.getOwner(), slot, group);
+            } else {
+                unowned.set(slot);
+            }
+        }
+    }
+
+    /**
+     * Records a change of owner.
+     *
+     * @param property The property that changed owner.
+     * @param previous The previous owner, or null for the bank.
+     * @param owner    The new owner, or null for the bank.
+     */
+    void ownerChanged(Property property, Player previous, Player owner) {
+        int slot = slotOf(property);
+        if (slot < 0 || previous == owner) {
+            return;
+        }
+        ColorGroup group = property.getGroup();
+        if (previous != null) {
+            Holdings old = holdings.get(previous);
+            if (old != null) {
+                old.slots.clear(slot);
+                if (group != null) {
+                    old.groupCounts[group.getId()]--;
+                }
+            }
+        } else {
+            unowned.clear(slot);
+        }
+        if (owner != null) {
+            add(owner, slot, group);
+        } else {
+            unowned.set(slot);
+        }
+    }
+
+    private void add(Player owner, int slot, ColorGroup group) {
+        Holdings entry = holdings.computeIfAbsent(owner, player -> new Holdings(groupSize.length));
+        entry.slots.set(slot);
+        if (group != null) {
+            entry.groupCounts[group.getId()]++;
+        }
+    }
+
+    /**
+     * Gets the id of a group if any of the indexed properties is in it.
+     *
+     * @return The group id, or -1 if no property has that id.
+     */
+    private int idOf(ColorGroup group) {
+        int id = group == null ? -1 : group.getId();
+        return id < groupSize.length ? id : -1;
+    }
+
+    private int slotOf(Property property) {
+        int slot = property.getSlot();
+        return slot >= 0 && slot < properties.length && properties[slot] == property ? slot : -1;
+    }
+
+    /**
+     * Checks if a player owns every property of a group.
+     *
+     * @param player The player.
+     * @param group  The group.
+     * @return True if the group is not empty and the player owns all of it.
+     */
+    boolean ownsFullGroup(Player player, ColorGroup group) {
+        int size = groupSize(group);
+        return size > 0 && countOwned(player, group) == size;
+    }
+
+    /**
+     * Counts the properties of a group a player owns.
+     *
+     * @param player The player.
+     * @param group  The group.
+     * @return The number of properties owned.
+     */
+    int countOwned(Player player, ColorGroup group) {
+        int id = idOf(group);
+        Holdings entry = holdings.get(player);
+        return entry == null || id < 0 ? 0 : entry.groupCounts[id];
+    }
+
+    int groupSize(ColorGroup group) {
+        int id = idOf(group);
+        return id < 0 ? 0 : groupSize[id];
+    }
+
+    /**
+     * Lists the properties still owned by the bank, in slot order.
+     *
+     * @return The unowned properties.
+     */
+    List<Property> unownedProperties() {
+        return collect(unowned);
+    }
+
+    /**
+     * Lists the unowned properties of a group, in slot order.
+     *
+     * @param group The group.
+     * @return The unowned properties of the group.
+     */
+    List<Property> unownedProperties(ColorGroup group) {
+        int id = idOf(group);
+        if (id < 0) {
+            return new ArrayList<>();
+        }
+        BitSet slots = (BitSet) unowned.clone();
+        slots.and(groupSlots[id]);
+        return collect(slots);
+    }
+
+    /**
+     * Lists the properties a player owns, in slot order.
+     *
+     * @param player The player.
+     * @return The player's properties.
+     */
+    List<Property> ownedProperties(Player player) {
+        Holdings entry = holdings.get(player);
+        return entry == null ? List.of() : collect(entry.slots);
+    }
+
+    int unownedCount() {
+        return unowned.cardinality();
+    }
+
+    private List<Property> collect(BitSet slots) {
+        List<Property> result = new ArrayList<>(slots.cardinality());
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            result.add(properties[slot]);
+        }
+        return result;
+    }
+}
@@ -19,13 +19,17 @@ public class Player {
     private int playerIndex;
     final private String name;
     private String token;
-    private int money;
+    private volatile int money; // Changed under the Bank's locks, read from any thread
     private int position;
     final private List<Property> properties;
     private boolean inJail;
-    private boolean hasGetOutOfJailFreeCard;
-    private final Dice dice;
+    private int jailTurns;
+    private int getOutOfJailFreeCards; // Number of Get Out of Jail Free cards held
+    private final List<Card> heldCards; // Drawn cards the player keeps until they are used
     private GameBoard gameBoard;
+    private boolean bankrupt; // Whether the player could not pay a debt and left the game
+    private final Map<Player, Integer> debts = new LinkedHashMap<>(); // Payments made beyond the player's money, by creditor, null for the bank
+    private int ledgerAccount; // Account of the player in the bank's Ledger, 0 until money first moves
 
     /**
      * Constructs a Player with the specified name, token, and game board.
@@ -41,10 +45,10 @@ public class Player {
         this.position = 0;
         this.properties = new ArrayList<>();
         this.inJail = false;
-        int jailTurns = 0;
-        this.hasGetOutOfJailFreeCard = false;
+        this.jailTurns = 0;
+        this.getOutOfJailFreeCards = 0;
+        this.heldCards = new ArrayList<>();
         this.gameBoard = gameBoard;
-        this.dice = Dice.getInstance();
     }
 
     /**
@@ -53,9 +57,8 @@ public class Player {
      * @param steps the number of steps to move
      */
     public void move(int steps) {
-        position = (position + steps) % 40;
-        Space newSpace = gameBoard.getSpace(position);
-        System.out.println(token + " moved to " + newSpace.getName());
+        position = gameBoard.getTables().advance(position, steps);
+        gameBoard.getEvents().publish(GameEventType.MOVED, this, position, 0);
     }
 
     /**
@@ -63,8 +66,82 @@ public class Player {
      */
     public void goToJail() {
         this.inJail = true;
-        this.position = 10;
-        System.out.println(token + " is sent to Jail.");
+        this.jailTurns = 0;
+        this.position = (gameBoard != null ? gameBoard.getTables() : BoardDefinition.classic().getTables()).jailPosition();
+        if (gameBoard != null) {
+            gameBoard.getEvents().publish(GameEventType.JAILED, this);
+        }
+    }
+
+    /**
+     * Releases the player from jail. The player stays on the Jail space.
+     */
+    public void releaseFromJail() {
+        this.inJail = false;
+        this.jailTurns = 0;
+    }
+
+    /**
+     * Returns whether the player has gone bankrupt and left the game.
+     *
+     * @return true if the player is bankrupt
+     */
+    public boolean isBankrupt() {
+        return bankrupt;
+    }
+
+    /**
+     * Sets whether the player has gone bankrupt.
+     *
+     * @param bankrupt true if the player is bankrupt
+     */
+    public void setBankrupt(boolean bankrupt) {
+        this.bankrupt = bankrupt;
+    }
+
+    /**
+     * Records that part of a payment went beyond the player's money. Called by the Bank under
+     * the player's lock.
+     *
+     * @param creditor The player paid, or null for the bank.
+     * @param amount   The part of the payment the player could not cover.
+     */
+    void owe(Player creditor, int amount) {
+        debts.merge(creditor, amount, Integer::sum);
+    }
+
+    /**
+     * Gets the payments the player made beyond their money since their debts were last settled.
+     *
+     * @return The uncovered amounts by creditor, null for the bank.
+     */
+    Map<Player, Integer> getDebts() {
+        return debts;
+    }
+
+    /**
+     * Forgets the player's debts, once they are paid or settled in bankruptcy.
+     */
+    void clearDebts() {
+        debts.clear();
+    }
+
+    /**
+     * Returns the number of turns the player has spent in jail.
+     *
+     * @return the number of failed attempts to leave jail
+     */
+    public int getJailTurns() {
+        return jailTurns;
+    }
+
+    /**
+     * Sets the number of turns the player has spent in jail.
+     *
+     * @param jailTurns the new number of turns in jail
+     */
+    public void setJailTurns(int jailTurns) {
+        this.jailTurns = jailTurns;
     }
 
     /**
@@ -139,20 +216,113 @@ public class Player {
         return inJail;
     }
 
+    /**
+     * Sets whether the player is in jail without moving them.
+     *
+     * @param inJail true if the player is in jail, false otherwise
+     */
+    public void setInJail(boolean inJail) {
+        this.inJail = inJail;
+    }
+
     /**
      * Returns whether the player has a Get Out of Jail Free card.
      *
      * @return true if the player has a Get Out of Jail Free card, false otherwise
      */
     public boolean hasGetOutOfJailFreeCard() {
-        return hasGetOutOfJailFreeCard;
+        return getOutOfJailFreeCards > 0;
+    }
+
+    /**
+     * Returns the number of Get Out of Jail Free cards the player holds.
+     *
+     * @return the number of Get Out of Jail Free cards
+     */
+    public int getGetOutOfJailFreeCards() {
+        return getOutOfJailFreeCards;
     }
 
     /**
      * Gives the player a Get Out of Jail Free card.
      */
     public void receiveGetOutOfJailFreeCard() {
-        this.hasGetOutOfJailFreeCard = true;
+        this.getOutOfJailFreeCards++;
+    }
+
+    /**
+     * Keeps a drawn card so it can be returned to its deck once it is used.
+     *
+     * @param card the card the player keeps
+     */
+    public void holdCard(Card card) {
+        heldCards.add(card);
+    }
+
+    /**
+     * Returns the drawn cards the player keeps until they are used.
+     *
+     * @return the held cards
+     */
+    public List<Card> getHeldCards() {
+        return Collections.unmodifiableList(heldCards);
+    }
+
+    /**
+     * Hands Get Out of Jail Free cards to another player in a trade, along with the deck cards
+     * behind them, so the new holder returns them to their decks when they are used.
+     *
+     * @param to    The player receiving the cards.
+     * @param count The number of cards.
+     */
+    void giveJailCards(Player to, int count) {
+        getOutOfJailFreeCards -= count;
+        to.getOutOfJailFreeCards += count;
+        for (int i = 0; i < count && !heldCards.isEmpty(); i++) {
+            to.heldCards.add(heldCards.remove(heldCards.size() - 1));
+        }
+    }
+
+    /**
+     * Returns the held card the next useGetOutOfJailFreeCard() would return to its deck.
+     *
+     * @return the last held card, or null if the player holds none
+     */
+    Card getLastHeldCard() {
+        return heldCards.isEmpty() ? null : heldCards.get(heldCards.size() - 1);
+    }
+
+    /**
+     * Replaces the player's Get Out of Jail Free cards, for restoring a saved or simulated state.
+     * The decks of the held cards are restored separately.
+     *
+     * @param count the number of Get Out of Jail Free cards
+     * @param held  the drawn cards among them
+     */
+    void setGetOutOfJailFreeCards(int count, List<Card> held) {
+        this.getOutOfJailFreeCards = count;
+        heldCards.clear();
+        heldCards.addAll(held);
+    }
+
+    /**
+     * Uses one of the player's Get Out of Jail Free cards. A card drawn from a deck
+     * goes back to the bottom of that deck.
+     *
+     * @return true if the player had a card to use, false otherwise
+     */
+    public boolean useGetOutOfJailFreeCard() {
+        if (getOutOfJailFreeCards == 0) {
+            return false;
+        }
+        this.getOutOfJailFreeCards--;
+        if (!heldCards.isEmpty()) {
+            Card card = heldCards.remove(heldCards.size() - 1);
+            if (gameBoard != null) {
+                gameBoard.reinsert(card);
+            }
+        }
+        return true;
     }
 
     /**
@@ -190,12 +360,12 @@ public class Player {
     }
 
     /**
-     * Returns the dice used by the player.
+     * Returns the dice used by the player, which are the dice of the player's game.
      *
      * @return the dice used by the player
      */
     public Dice getDice() {
-        return dice;
+        return gameBoard != null ? gameBoard.getDice() : Dice.getInstance();
     }
 
     public void setPlayerIndex(int index) {
@@ -205,29 +375,37 @@ public class Player {
     public int getPlayerIndex() {
         return playerIndex;
     }
+    int getLedgerAccount() {
+        return ledgerAccount;
+    }
+
+    void setLedgerAccount(int account) {
+        this.ledgerAccount = account;
+    }
+
     public void adjustMoney(int amount) {
         this.money += amount;
     }
 
     /**
      * Checks if the player owns all properties of a specific color group.
+     *
+     * @param colorGroup the display name of the color group
+     * @return true if the player owns the whole group, false otherwise
      */
     public boolean ownsFullColorGroup(String colorGroup) {
-        int totalInGroup = 0;
-        int ownedInGroup = 0;
-
-        for (Space space : gameBoard.getSpaces()) {
-            if (space instanceof PropertySpace propSpace) {
-                if (propSpace.getColorGroup().equalsIgnoreCase(colorGroup)) {
-                    totalInGroup++;
-                    if (propSpace.getOwner() == this) {
-                        ownedInGroup++;
-                    }
-                }
-            }
-        }
+        ColorGroup group = gameBoard.getDefinition().findGroup(colorGroup);
+        return group != null && ownsFullColorGroup(group);
+    }
 
-        return totalInGroup > 0 && totalInGroup == ownedInGroup;
+    /**
+     * Checks if the player owns all properties of a specific color group.
+     *
+     * @param group the color group
+     * @return true if the player owns the whole group, false otherwise
+     */
+    public boolean ownsFullColorGroup(ColorGroup group) {
+        return gameBoard.getBank().ownsFullColorGroup(this, group);
     }
 
 }
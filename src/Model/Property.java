@@ -6,18 +6,21 @@ package Model;
  * This class extends the Space class and implements the logic for buying properties,
  * paying rent, mortgaging, and unmortgaging.
  *
+ * The fixed data of a property (name, price, group, rents, mortgage value and house cost) is
+ * read from its SpaceDefinition, which every game on the board shares. The property itself
+ * only holds what belongs to one game: its owner, buildings and mortgage.
+ *
  * Created by Kristian Wright modified by Collin Cabral-Castro
  */
 public class Property extends Space {
-    private final String name;
-    private final int price;
-    private final int baseRent;
-    private final String colorGroup;
+    private final SpaceDefinition definition; // Fixed data, shared by every game on the board
+    private final int location;
     private Player owner;
     private boolean mortgaged;
     private int houseCount;
     private boolean hasHotel;
     private final Bank bank;
+    private int slot = -1; // Index of the property in its bank's ownership index
 
     /**
      * Constructs a Property with the given name, price, and color group.
@@ -28,11 +31,33 @@ public class Property extends Space {
      * @param bank The bank managing the property transactions.
      */
     public Property(String name, int price, String colorGroup, Bank bank) {
-        super(name); // Assuming Space has a constructor that takes a name
-        this.name = name;
-        this.price = price;
-        this.baseRent = calculateBaseRent(price);
-        this.colorGroup = colorGroup;
+        this(name, -1, price, colorGroup, bank);
+    }
+
+    /**
+     * Constructs a Property at a known location on the board.
+     *
+     * @param name The name of the property.
+     * @param location The position of the property on the board, or -1 if it is not on a board.
+     * @param price The price of the property.
+     * @param colorGroup The color group of the property.
+     * @param bank The bank managing the property transactions.
+     */
+    public Property(String name, int location, int price, String colorGroup, Bank bank) {
+        this(SpaceDefinition.unlisted(name, colorGroup, price), location, bank);
+    }
+
+    /**
+     * Constructs the property of one game for a space of a board definition.
+     *
+     * @param definition The shared definition of the space.
+     * @param location The position of the property on the board, or -1 if it is not on a board.
+     * @param bank The bank managing the property transactions.
+     */
+    protected Property(SpaceDefinition definition, int location, Bank bank) {
+        super(definition.getName());
+        this.definition = definition;
+        this.location = location;
         this.bank = bank;
         this.owner = null; // Initially unowned
         this.mortgaged = false;
@@ -57,12 +82,12 @@ public class Property extends Space {
      */
     public void buy(Player player) {
         if (this.owner == null) {
-            this.owner = player;
-            bank.collectFromPlayer(player, this.price);
+            setOwner(player);
+            bank.collectFromPlayer(player, getPrice(), LedgerCategory.PURCHASE);
             player.addProperty(this);
-            System.out.println(player.getName() + " bought " + this.name);
+            bank.getEvents().publish(GameEventType.BOUGHT, player, location, getPrice());
         } else {
-            System.out.println(this.name + " is already owned.");
+            bank.getEvents().publish(GameEventType.ALREADY_OWNED, player, owner, location, getPrice(), null);
         }
     }
 
@@ -73,46 +98,101 @@ public class Property extends Space {
      */
     public void payRent(Player player) {
         if (this.owner != null && this.owner != player && !this.mortgaged) {
-            int rentAmount = calculateRent();
-            bank.collectFromPlayer(player, rentAmount);
-            bank.payPlayer(this.owner, rentAmount);
-            System.out.println(player.getName() + " paid $" + rentAmount + " rent to " + this.owner.getName());
+            payRent(player, calculateRent(Dice.total(player.getDice().getLastRoll())));
+        }
+    }
+
+    /**
+     * Pays a set amount of rent to the owner of the property, for cards that change the rent.
+     *
+     * @param player The player paying the rent.
+     * @param rentAmount The rent to pay.
+     */
+    public void payRent(Player player, int rentAmount) {
+        if (this.owner != null && this.owner != player) {
+            bank.transfer(player, this.owner, rentAmount, LedgerCategory.RENT);
+            bank.getEvents().publish(GameEventType.RENT_PAID, player, this.owner, location, rentAmount, null);
         }
     }
 
     /**
-     * Calculates the rent for the property based on the number of houses or hotels.
+     * Calculates the rent for the property using the last roll of the owner's dice.
      *
      * @return The rent amount.
      */
     public int calculateRent() {
-        if (hasHotel) return baseRent * 50;
-        if (houseCount > 0) return baseRent * (houseCount * 5);
-        return baseRent;
+        return owner == null ? 0 : calculateRent(Dice.total(owner.getDice().getLastRoll()));
+    }
+
+    /**
+     * Calculates the rent for the property from the board's rent table, based on the
+     * buildings on it, how much of its group the owner holds and the dice total.
+     * A property that is not on a board charges its base rent.
+     *
+     * @param diceTotal The dice total that brought the paying player here.
+     * @return The rent amount.
+     */
+    public int calculateRent(int diceTotal) {
+        GameBoard gameBoard = owner == null ? null : owner.getGameBoard();
+        ColorGroup group = getGroup();
+        if (gameBoard == null || bank == null || location < 0 || group == null) {
+            return calculateBaseRent(getPrice());
+        }
+        int level = hasHotel ? BoardTables.HOTEL : houseCount;
+        return gameBoard.getTables().rentTable().rent(location, level, bank.countOwned(owner, group), diceTotal);
     }
 
     /**
-     * Mortgages the property, giving the owner half its price.
+     * Mortgages the property, giving the owner its mortgage value.
      */
     public void mortgage() {
         if (!mortgaged) {
             mortgaged = true;
-            bank.payPlayer(owner, price / 2);
-            System.out.println(owner.getName() + " mortgaged " + this.name);
+            bank.payPlayer(owner, mortgageLoan(), LedgerCategory.MORTGAGE);
+            bank.getEvents().publish(GameEventType.MORTGAGED, owner, location, mortgageLoan());
         }
     }
 
+    /**
+     * Gets the cash mortgaging the property pays its owner.
+     *
+     * @return The mortgage value from the board definition.
+     */
+    int mortgageLoan() {
+        return getMortgageValue();
+    }
+
+    /**
+     * Gets the cash lifting the mortgage costs: the loan plus 10% interest.
+     *
+     * @return 110% of the mortgage value, rounded down.
+     */
+    int unmortgageCost() {
+        return getMortgageValue() * 11 / 10;
+    }
+
     /**
      * Unmortgages the property, charging the owner 10% interest.
      */
     public void unmortgage() {
         if (mortgaged) {
             mortgaged = false;
-            bank.collectFromPlayer(owner, (int) (price * 0.55)); // 10% interest
-            System.out.println(owner.getName() + " unmortgaged " + this.name);
+            int cost = unmortgageCost();
+            bank.collectFromPlayer(owner, cost, LedgerCategory.MORTGAGE);
+            bank.getEvents().publish(GameEventType.UNMORTGAGED, owner, location, cost);
         }
     }
 
+    /**
+     * Sets whether the property is mortgaged without moving any money.
+     * Used when a saved or simulated position is copied back onto the board.
+     *
+     * @param mortgaged True if the property is mortgaged, false otherwise.
+     */
+    public void setMortgaged(boolean mortgaged) {
+        this.mortgaged = mortgaged;
+    }
+
     /**
      * Checks if the property is owned.
      *
@@ -137,6 +217,17 @@ public class Property extends Space {
      * @param owner The new owner of the property.
      */
     public void setOwner(Player owner) {
+        if (bank != null) {
+            bank.changeOwner(this, owner);
+        } else {
+            this.owner = owner;
+        }
+    }
+
+    /**
+     * Sets the owner field only. Called by Bank.changeOwner under its locks.
+     */
+    void assignOwner(Player owner) {
         this.owner = owner;
     }
 
@@ -146,7 +237,16 @@ public class Property extends Space {
      * @return The name of the property.
      */
     public String getName() {
-        return name;
+        return definition.getName();
+    }
+
+    /**
+     * Gets the position of the property on the board.
+     *
+     * @return The position, or -1 if the property is not on a board.
+     */
+    public int getLocation() {
+        return location;
     }
 
     /**
@@ -155,7 +255,25 @@ public class Property extends Space {
      * @return The price of the property.
      */
     public int getPrice() {
-        return this.price;
+        return definition.getPrice();
+    }
+
+    /**
+     * Gets the amount the bank lends on the property.
+     *
+     * @return The mortgage value from the board definition.
+     */
+    public int getMortgageValue() {
+        return definition.getMortgageValue();
+    }
+
+    /**
+     * Gets the fixed data of the property, shared by every game on the board.
+     *
+     * @return The space definition.
+     */
+    public SpaceDefinition getDefinition() {
+        return definition;
     }
 
     /**
@@ -173,7 +291,25 @@ public class Property extends Space {
      * @return The color group of the property.
      */
     public String getColorGroup() {
-        return this.colorGroup;
+        ColorGroup group = getGroup();
+        return group == null ? null : group.getDisplayName();
+    }
+
+    /**
+     * Gets the group of the property.
+     *
+     * @return The group, or null if the property has none.
+     */
+    public ColorGroup getGroup() {
+        return definition.getGroup();
+    }
+
+    int getSlot() {
+        return slot;
+    }
+
+    void setSlot(int slot) {
+        this.slot = slot;
     }
 
     /**
@@ -186,12 +322,17 @@ public class Property extends Space {
     }
 
     /**
-     * Sets the number of houses on the property.
+     * Sets the number of houses on the property, taking them from or returning them to the
+     * bank's supply.
      *
      * @param houseCount The new number of houses.
      */
     public void setHouseCount(int houseCount) {
+        int built = houseCount - this.houseCount;
         this.houseCount = houseCount;
+        if (bank != null && built != 0) {
+            bank.buildingsChanged(built, 0);
+        }
     }
 
     /**
@@ -204,12 +345,16 @@ public class Property extends Space {
     }
 
     /**
-     * Sets whether the property has a hotel.
+     * Sets whether the property has a hotel, taking it from or returning it to the bank's supply.
      *
      * @param hasHotel True if the property has a hotel, false otherwise.
      */
     public void setHasHotel(boolean hasHotel) {
+        boolean had = this.hasHotel;
         this.hasHotel = hasHotel;
+        if (bank != null && had != hasHotel) {
+            bank.buildingsChanged(0, hasHotel ? 1 : -1);
+        }
     }
 
     /**
@@ -228,17 +373,8 @@ public class Property extends Space {
      */
     @Override
     public void landOn(Player player) {
-        if (owner == null) {
-            System.out.println(player.getName() + " landed on " + name + " which is unowned.");
-        } else if (owner != player) {
-            int rent = calculateRent();
-            bank.collectFromPlayer(player, rent);
-            bank.payPlayer(owner, rent);
-            System.out.println(player.getName() + " landed on " + name + " and paid $" + rent + " rent to " + owner.getName());
-        } else {
-            System.out.println(player.getName() + " landed on their own property " + name + ".");
+        if (owner != null && owner != player) {
+            payRent(player);
         }
     }
-
-
 }
\ No newline at end of file
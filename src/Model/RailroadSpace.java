@@ -2,38 +2,33 @@
  * RailroadSpace.java
  *
  * This class represents a railroad space on the board in a Monopoly-like game.
- * It extends the Space class and includes properties and methods specific to railroad spaces.
+ * It extends the Property class so that railroads can be bought, owned and mortgaged,
+ * and reads the rent for owning one to four railroads from its definition.
  *
  * Remodeled by Finn Dempsey
  */
 package Model;
 
-public class RailroadSpace extends Space {
-    private final int price;
-    private Player owner;
+public class RailroadSpace extends Property {
 
-    public RailroadSpace(String name, int location, int price, int costWithOne, int costWithTwo,
-                         int costWithThree, int costWithFour, int mortgageValue) {
-        super(name);
-        this.price = price;
-        this.owner = null; // Initially unowned
+    /**
+     * Constructs the RailroadSpace of one game for a railroad of a board definition.
+     *
+     * @param definition The shared definition of the railroad.
+     * @param location   The location of the railroad on the board.
+     * @param bank       The bank managing the railroad.
+     */
+    public RailroadSpace(SpaceDefinition definition, int location, Bank bank) {
+        super(definition, location, bank);
     }
 
-    @Override
-    public void landOn(Player player) {
-        // Logic for landing on Railroad space
-        System.out.println(player.getName() + " landed on " + name + " Railroad.");
-    }
-
-    public int getPrice() {
-        return price;
-    }
-
-    public boolean isOwned() {
-        return owner != null;
-    }
-
-    public Player getOwner() {
-        return owner;
+    /**
+     * Gets the rent charged when the owner has the given number of railroads.
+     *
+     * @param railroadsOwned The number of railroads owned, from 1 to 4.
+     * @return The rent.
+     */
+    public int getRent(int railroadsOwned) {
+        return getDefinition().getRent(railroadsOwned);
     }
 }
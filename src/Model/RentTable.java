@@ -0,0 +1,79 @@
+/**
+ * The RentTable precomputes the rent of every ownable space in every situation, so resolving
+ * rent on a landing is a single array read.
+ *
+ * The table is indexed by space, building level, the number of spaces of the space's group the
+ * owner holds, and the dice total. The owned count covers the monopoly flag of a street (the
+ * owner holds the whole group), the number of railroads owned and the number of utilities owned,
+ * since every space belongs to exactly one group. The owned axis is as long as the largest group
+ * of the board, so loaded boards with big groups fit. Railroads have four rent tiers, and owning
+ * more than four charges the four-railroad rent. Entries that cannot occur in play, such as
+ * houses on a railroad, hold the rent the space would charge without them.
+ */
+package Model;
+
+public class RentTable {
+    public static final int LEVELS = BoardTables.HOTEL + 1; // No buildings, one to four houses, hotel
+    public static final int DICE = 13; // Dice totals from 0 to 12
+    private static final int RAILROAD_TIERS = 4; // Railroads owned that raise the rent
+
+    private static final int UTILITY_ONE = 4; // Multiplier of the dice total for one utility
+    private static final int UTILITY_BOTH = 10; // Multiplier of the dice total for both utilities
+
+    private final int owned; // Owned counts per space and level: zero to the largest group size
+    private final int[] rent; // Rent per space, level, owned count and dice total
+
+    /**
+     * Builds the table from the fixed data of a board.
+     *
+     * @param board The board tables.
+     */
+    public RentTable(BoardTables board) {
+        int largest = 0;
+        for (int g = 0; g < board.groupCount(); g++) {
+            largest = Math.max(largest, board.groupSize(g));
+        }
+        this.owned = largest + 1;
+        this.rent = new int[board.size() * LEVELS * owned * DICE];
+        for (int position = 0; position < board.size(); position++) {
+            for (int level = 0; level < LEVELS; level++) {
+                for (int count = 0; count < owned; count++) {
+                    for (int total = 0; total < DICE; total++) {
+                        rent[index(position, level, count, total)] = compute(board, position, level, count, total);
+                    }
+                }
+            }
+        }
+    }
+
+    private static int compute(BoardTables board, int position, int level, int owned, int total) {
+        return switch (board.type(position)) {
+            case BoardTables.STREET -> {
+                if (level > 0) {
+                    yield board.rent(position, level + 1);
+                }
+                yield board.rent(position, owned >= board.groupSize(board.group(position)) ? 1 : 0);
+            }
+            case BoardTables.RAILROAD -> owned > 0 ? board.rent(position, Math.min(owned, RAILROAD_TIERS)) : 0;
+            case BoardTables.UTILITY -> total * (owned >= 2 ? UTILITY_BOTH : owned == 1 ? UTILITY_ONE : 0);
+            default -> 0;
+        };
+    }
+
+    private int index(int position, int level, int count, int total) {
+        return ((position * LEVELS + level) * owned + count) * DICE + total;
+    }
+
+    /**
+     * Looks up the rent of a space.
+     *
+     * @param position The position of the space.
+     * @param level    The building level: 0 to 4 houses, or BoardTables.HOTEL.
+     * @param count    The number of spaces of the group the owner holds.
+     * @param total    The dice total that brought the player to the space.
+     * @return The rent.
+     */
+    public int rent(int position, int level, int count, int total) {
+        return rent[index(position, level, count, total)];
+    }
+}
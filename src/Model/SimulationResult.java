@@ -0,0 +1,88 @@
+/**
+ * The SimulationResult holds the totals of a batch of headless games
+ * and derives throughput figures from them.
+ */
+package Model;
+
+public class SimulationResult {
+    private final int games; // Number of games played
+    private final long turns; // Number of turns played across all games
+    private final int bankruptcies; // Number of players who went bankrupt across all games
+    private final long elapsedNanos; // Wall-clock time of the batch
+
+    /**
+     * Constructs a SimulationResult with the specified totals.
+     *
+     * @param games        The number of games played.
+     * @param turns        The number of turns played.
+     * @param bankruptcies The number of players who went bankrupt across all games.
+     * @param elapsedNanos The wall-clock time of the batch in nanoseconds.
+     */
+    public SimulationResult(int games, long turns, int bankruptcies, long elapsedNanos) {
+        this.games = games;
+        this.turns = turns;
+        this.bankruptcies = bankruptcies;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Adds the totals of another result to this one.
+     *
+     * @param other The result to add.
+     * @return A new result holding the combined totals.
+     */
+    public SimulationResult combine(SimulationResult other) {
+        return new SimulationResult(games + other.games, turns + other.turns,
+                bankruptcies + other.bankruptcies, Math.max(elapsedNanos, other.elapsedNanos));
+    }
+
+    /**
+     * Returns a copy of this result with the specified elapsed time.
+     *
+     * @param elapsedNanos The wall-clock time of the batch in nanoseconds.
+     * @return The updated result.
+     */
+    public SimulationResult withElapsedNanos(long elapsedNanos) {
+        return new SimulationResult(games, turns, bankruptcies, elapsedNanos);
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public long getTurns() {
+        return turns;
+    }
+
+    public int getBankruptcies() {
+        return bankruptcies;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the number of games completed per second.
+     *
+     * @return The games per second, or 0 if no time was recorded.
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Gets the number of turns played per second.
+     *
+     * @return The turns per second, or 0 if no time was recorded.
+     */
+    public double getTurnsPerSecond() {
+        return elapsedNanos == 0 ? 0 : turns * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d games, %d turns, %d bankruptcies in %.3f s (%.1f games/s, %.1f turns/s)",
+                games, turns, bankruptcies, elapsedNanos / 1e9, getGamesPerSecond(), getTurnsPerSecond());
+    }
+}
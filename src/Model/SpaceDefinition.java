@@ -0,0 +1,238 @@
+/**
+ * The SpaceDefinition holds the fixed data of one space of a board: its kind, name, color
+ * group, price, rent tiers, house cost, mortgage value and tax. It never changes, so a single
+ * instance serves every game played on the board; the state that does change during a game,
+ * such as the owner and the buildings, belongs to the Space objects of that game or to its
+ * CompactGameState.
+ *
+ * Definitions are made with the factory methods, one for each kind of space, and turned into
+ * the Space of a particular game with newSpace. The spaces keep a reference to their definition
+ * and read its data from there instead of copying it.
+ */
+package Model;
+
+public final class SpaceDefinition {
+    private final byte type; // Kind of space, one of the BoardTables type constants
+    private final String name; // Name printed on the board
+    private final ColorGroup group; // Group of an ownable space, null for the others
+    private final int price; // Purchase price, 0 for spaces that cannot be bought
+    private final int[] rents; // Rent tiers as described by BoardTables.rent
+    private final int houseCost; // Price of one house or hotel
+    private final int mortgageValue; // Amount the bank lends on the space
+    private final int tax; // Tax due on a tax space
+
+    private SpaceDefinition(byte type, String name, ColorGroup group, int price, int[] rents,
+                            int houseCost, int mortgageValue, int tax) {
+        this.type = type;
+        this.name = name;
+        this.group = group;
+        this.price = price;
+        this.rents = rents;
+        this.houseCost = houseCost;
+        this.mortgageValue = mortgageValue;
+        this.tax = tax;
+    }
+
+    private static SpaceDefinition plain(byte type, String name) {
+        return new SpaceDefinition(type, name, null, 0, new int[BoardTables.RENT_TIERS], 0, 0, 0);
+    }
+
+    public static SpaceDefinition go() {
+        return plain(BoardTables.GO, "Go");
+    }
+
+    public static SpaceDefinition jail() {
+        return plain(BoardTables.JAIL, "Jail");
+    }
+
+    public static SpaceDefinition goToJail() {
+        return plain(BoardTables.GO_TO_JAIL, "Go To Jail");
+    }
+
+    public static SpaceDefinition freeParking() {
+        return plain(BoardTables.FREE_PARKING, "Free Parking");
+    }
+
+    public static SpaceDefinition chance() {
+        return plain(BoardTables.CHANCE, "Chance");
+    }
+
+    public static SpaceDefinition communityChest() {
+        return plain(BoardTables.COMMUNITY_CHEST, "Community Chest");
+    }
+
+    /**
+     * Defines a tax space.
+     *
+     * @param name   The name of the space.
+     * @param amount The tax due when landing on it.
+     * @return The definition.
+     */
+    public static SpaceDefinition tax(String name, int amount) {
+        return new SpaceDefinition(BoardTables.TAX, name, null, 0, new int[BoardTables.RENT_TIERS], 0, 0, amount);
+    }
+
+    /**
+     * Defines a street.
+     *
+     * @param name          The name of the street.
+     * @param group         The color group of the street.
+     * @param price         The purchase price.
+     * @param rents         The site rent, the color set rent, the rents with one to four houses and the hotel rent.
+     * @param mortgageValue The amount the bank lends on the street.
+     * @param houseCost     The price of one house or hotel.
+     * @return The definition.
+     * @throws IllegalArgumentException if the group is not a street group or the rents are not seven tiers.
+     */
+    public static SpaceDefinition street(String name, ColorGroup group, int price, int[] rents,
+                                         int mortgageValue, int houseCost) {
+        if (group == null || group.getKind() != ColorGroup.Kind.STREET) {
+            throw new IllegalArgumentException(name + " needs a color group");
+        }
+        if (rents.length != BoardTables.RENT_TIERS) {
+            throw new IllegalArgumentException(name + " needs " + BoardTables.RENT_TIERS + " rent tiers");
+        }
+        return new SpaceDefinition(BoardTables.STREET, name, group, price, rents.clone(), houseCost, mortgageValue, 0);
+    }
+
+    /**
+     * Defines a railroad.
+     *
+     * @param name          The name of the railroad.
+     * @param price         The purchase price.
+     * @param rents         The rents for owning one to four railroads.
+     * @param mortgageValue The amount the bank lends on the railroad.
+     * @return The definition.
+     * @throws IllegalArgumentException if the rents are not four tiers.
+     */
+    public static SpaceDefinition railroad(String name, int price, int[] rents, int mortgageValue) {
+        return railroad(name, ColorGroup.RAILROAD, price, rents, mortgageValue);
+    }
+
+    /**
+     * Defines a railroad of a board's own railroad group.
+     *
+     * @param name          The name of the railroad.
+     * @param group         The railroad group.
+     * @param price         The purchase price.
+     * @param rents         The rents for owning one to four railroads.
+     * @param mortgageValue The amount the bank lends on the railroad.
+     * @return The definition.
+     * @throws IllegalArgumentException if the group is not a railroad group or the rents are not four tiers.
+     */
+    public static SpaceDefinition railroad(String name, ColorGroup group, int price, int[] rents, int mortgageValue) {
+        if (group == null || group.getKind() != ColorGroup.Kind.RAILROAD) {
+            throw new IllegalArgumentException(name + " needs a railroad group");
+        }
+        if (rents.length != 4) {
+            throw new IllegalArgumentException(name + " needs 4 rent tiers");
+        }
+        int[] tiers = new int[BoardTables.RENT_TIERS];
+        System.arraycopy(rents, 0, tiers, 1, 4);
+        return new SpaceDefinition(BoardTables.RAILROAD, name, group, price, tiers, 0, mortgageValue, 0);
+    }
+
+    /**
+     * Defines a utility.
+     *
+     * @param name          The name of the utility.
+     * @param price         The purchase price.
+     * @param mortgageValue The amount the bank lends on the utility.
+     * @return The definition.
+     */
+    public static SpaceDefinition utility(String name, int price, int mortgageValue) {
+        return utility(name, ColorGroup.UTILITY, price, mortgageValue);
+    }
+
+    /**
+     * Defines a utility of a board's own utility group.
+     *
+     * @param name          The name of the utility.
+     * @param group         The utility group.
+     * @param price         The purchase price.
+     * @param mortgageValue The amount the bank lends on the utility.
+     * @return The definition.
+     * @throws IllegalArgumentException if the group is not a utility group.
+     */
+    public static SpaceDefinition utility(String name, ColorGroup group, int price, int mortgageValue) {
+        if (group == null || group.getKind() != ColorGroup.Kind.UTILITY) {
+            throw new IllegalArgumentException(name + " needs a utility group");
+        }
+        return new SpaceDefinition(BoardTables.UTILITY, name, group, price,
+                new int[BoardTables.RENT_TIERS], 0, mortgageValue, 0);
+    }
+
+    /**
+     * Defines a property that is not part of a board, for properties built on their own.
+     * Its mortgage value is half the price and its group is found by name.
+     *
+     * @param name       The name of the property.
+     * @param colorGroup The display name of its group, which may not name any group.
+     * @param price      The purchase price.
+     * @return The definition.
+     */
+    static SpaceDefinition unlisted(String name, String colorGroup, int price) {
+        return new SpaceDefinition(BoardTables.STREET, name, ColorGroup.fromName(colorGroup), price,
+                new int[BoardTables.RENT_TIERS], 0, price / 2, 0);
+    }
+
+    /**
+     * Creates the Space of one game for this definition.
+     *
+     * @param position The position of the space on the board.
+     * @param bank     The bank of the game.
+     * @return A new space in its starting state.
+     */
+    public Space newSpace(int position, Bank bank) {
+        return switch (type) {
+            case BoardTables.GO -> new GoSpace();
+            case BoardTables.STREET -> new PropertySpace(this, position, bank);
+            case BoardTables.RAILROAD -> new RailroadSpace(this, position, bank);
+            case BoardTables.UTILITY -> new UtilitySpace(this, position, bank);
+            case BoardTables.TAX -> new TaxSpace(this, bank);
+            case BoardTables.CHANCE -> new ChanceSpace();
+            case BoardTables.COMMUNITY_CHEST -> new CommunityChestSpace();
+            case BoardTables.JAIL -> new JailSpace();
+            case BoardTables.GO_TO_JAIL -> new GoToJailSpace();
+            default -> new FreeParkingSpace();
+        };
+    }
+
+    public byte getType() {
+        return type;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ColorGroup getGroup() {
+        return group;
+    }
+
+    public int getPrice() {
+        return price;
+    }
+
+    /**
+     * Gets one rent tier of the space, numbered as in BoardTables.rent.
+     *
+     * @param tier The tier.
+     * @return The rent.
+     */
+    public int getRent(int tier) {
+        return rents[tier];
+    }
+
+    public int getHouseCost() {
+        return houseCost;
+    }
+
+    public int getMortgageValue() {
+        return mortgageValue;
+    }
+
+    public int getTax() {
+        return tax;
+    }
+}
@@ -9,22 +9,25 @@
 package Model;
 
 public class TaxSpace extends Space {
-    private final int taxAmount;
+    private final SpaceDefinition definition; // Fixed data, shared by every game on the board
     private final Bank bank;
 
     public TaxSpace(String name, int location, int taxAmount, Bank bank) {
-        super(name);
-        this.taxAmount = taxAmount;
+        this(SpaceDefinition.tax(name, taxAmount), bank);
+    }
+
+    public TaxSpace(SpaceDefinition definition, Bank bank) {
+        super(definition.getName());
+        this.definition = definition;
         this.bank = bank;
     }
 
     @Override
     public void landOn(Player player) {
-        bank.collectFromPlayer(player, taxAmount);
-        System.out.println(player.getName() + " landed on " + name + " and paid $" + taxAmount + ".");
+        bank.collectFromPlayer(player, definition.getTax(), LedgerCategory.TAX);
     }
 
     public int getTaxAmount() {
-        return taxAmount;
+        return definition.getTax();
     }
 }
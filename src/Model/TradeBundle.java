@@ -0,0 +1,91 @@
+/**
+ * The TradeBundle is what one side of a trade hands over: any number of properties, an
+ * amount of cash and a number of Get Out of Jail Free cards. Bundles are immutable, so an
+ * offer can be shown, evaluated and executed without changing under the players.
+ */
+package Model;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+public final class TradeBundle {
+    public static final TradeBundle NOTHING = new TradeBundle(List.of(), 0, 0);
+
+    private final List<Property> properties; // Properties handed over
+    private final int cash; // Cash handed over
+    private final int jailCards; // Get Out of Jail Free cards handed over
+
+    /**
+     * Constructs a bundle.
+     *
+     * @param properties The properties handed over.
+     * @param cash       The cash handed over.
+     * @param jailCards  The number of Get Out of Jail Free cards handed over.
+     * @throws IllegalArgumentException if an amount is negative or a property is listed twice.
+     */
+    public TradeBundle(List<Property> properties, int cash, int jailCards) {
+        if (cash < 0 || jailCards < 0) {
+            throw new IllegalArgumentException("A trade cannot hand over a negative amount");
+        }
+        if (new HashSet<>(properties).size() != properties.size()) {
+            throw new IllegalArgumentException("A property can only be handed over once");
+        }
+        this.properties = List.copyOf(properties);
+        this.cash = cash;
+        this.jailCards = jailCards;
+    }
+
+    public static TradeBundle cash(int amount) {
+        return new TradeBundle(List.of(), amount, 0);
+    }
+
+    public static TradeBundle property(Property property) {
+        return new TradeBundle(List.of(property), 0, 0);
+    }
+
+    public List<Property> getProperties() {
+        return properties;
+    }
+
+    public int getCash() {
+        return cash;
+    }
+
+    public int getJailCards() {
+        return jailCards;
+    }
+
+    public boolean isEmpty() {
+        return properties.isEmpty() && cash == 0 && jailCards == 0;
+    }
+
+    /**
+     * Values the bundle at face value: the price of each property, the cash, and the jail fine
+     * for each Get Out of Jail Free card.
+     *
+     * @return The face value.
+     */
+    public int faceValue() {
+        int value = cash + jailCards * TurnEngine.JAIL_FINE;
+        for (Property property : properties) {
+            value += property.getPrice();
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        List<String> parts = new ArrayList<>();
+        for (Property property : properties) {
+            parts.add(property.getName());
+        }
+        if (cash > 0) {
+            parts.add("$" + cash);
+        }
+        if (jailCards > 0) {
+            parts.add(jailCards + " Get Out of Jail Free card" + (jailCards > 1 ? "s" : ""));
+        }
+        return parts.isEmpty() ? "nothing" : String.join(", ", parts);
+    }
+}
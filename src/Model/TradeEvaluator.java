@@ -0,0 +1,179 @@
+/**
+ * The TradeEvaluator lets computer players haggle. It scores a trade for one of the players
+ * as the change in their expected share of the wealth on the table, which stands in for
+ * their chance of winning: an MctsPlanner plays the game on from the current position with
+ * and without the trade and compares the two.
+ *
+ * To propose a trade the evaluator lists candidate bundles, such as buying a property that
+ * adds to a color group the proposer has started, for cash at several prices or in exchange
+ * for a lone property of the proposer's, and searches all of them together so the rollouts
+ * run in parallel and spread over the promising candidates. Every answer comes within the
+ * planner's time budget, however many candidates there are, so games with several computer
+ * players never stall while they trade.
+ */
+package Model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class TradeEvaluator {
+    public static final double MIN_GAIN = 0.01; // Gain in expected share a trade must bring to be worth it
+    private static final double[] MARKUPS = {1.0, 1.5, 2.0}; // Prices offered for a property, times its price
+    private static final int MAX_CANDIDATES = 24; // Trades searched in one proposal
+
+    private final MctsPlanner planner; // Search scoring the trades
+
+    /**
+     * Constructs an evaluator that scores trades with the specified planner.
+     *
+     * @param planner The planner.
+     */
+    public TradeEvaluator(MctsPlanner planner) {
+        this.planner = planner;
+    }
+
+    /**
+     * Scores a trade for one of its two players, on the proposer's turn.
+     *
+     * @param offer  The trade.
+     * @param player The player scoring it.
+     * @return The change in the player's expected share of the wealth, NaN if there was no time to tell.
+     */
+    public double score(TradeOffer offer, Player player) {
+        GameBoard board = player.getGameBoard();
+        List<Player> players = board.getPlayers();
+        int proposer = players.indexOf(offer.getProposer());
+        List<Consumer<CompactGameState>> actions = List.of(state -> {
+        }, action(offer, players));
+        double[] means = planner.evaluate(CompactGameState.fromBoard(board, proposer), players.indexOf(player), actions);
+        return means[1] - means[0];
+    }
+
+    /**
+     * Decides whether the recipient of a trade should accept it.
+     *
+     * @param offer The trade.
+     * @return True if the trade can be executed and gains the recipient at least MIN_GAIN.
+     */
+    public boolean accepts(TradeOffer offer) {
+        Bank bank = offer.getRecipient().getGameBoard().getBank();
+        return bank.canTrade(offer) && score(offer, offer.getRecipient()) >= MIN_GAIN;
+    }
+
+    /**
+     * Finds the trade that does most for a player, searching the candidates together.
+     *
+     * @param proposer The player looking for a trade, on their own turn.
+     * @return The best trade, or null if none gains the player at least MIN_GAIN.
+     */
+    public TradeOffer propose(Player proposer) {
+        List<TradeOffer> candidates = candidates(proposer);
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        GameBoard board = proposer.getGameBoard();
+        List<Player> players = board.getPlayers();
+        int me = players.indexOf(proposer);
+        List<Consumer<CompactGameState>> actions = new ArrayList<>(candidates.size() + 1);
+        actions.add(state -> {
+        });
+        for (TradeOffer candidate : candidates) {
+            actions.add(action(candidate, players));
+        }
+        double[] means = planner.evaluate(CompactGameState.fromBoard(board, me), me, actions);
+        if (Double.isNaN(means[0])) {
+            return null;
+        }
+        int best = -1;
+        for (int i = 1; i < means.length; i++) {
+            if (means[i] - means[0] >= MIN_GAIN && (best < 0 || means[i] > means[best])) {
+                best = i;
+            }
+        }
+        return best < 0 ? null : candidates.get(best - 1);
+    }
+
+    /**
+     * Lists the trades worth searching for a player: each property of another player that adds
+     * to a group the player has started, offered for cash at each markup and for each of the
+     * player's lone properties.
+     *
+     * @param proposer The player.
+     * @return The candidates, at most MAX_CANDIDATES.
+     */
+    List<TradeOffer> candidates(Player proposer) {
+        Bank bank = proposer.getGameBoard().getBank();
+        List<Property> spares = new ArrayList<>();
+        for (Property property : proposer.getProperties()) {
+            if (bank.countOwned(proposer, property.getGroup()) == 1) {
+                spares.add(property);
+            }
+        }
+        List<TradeOffer> candidates = new ArrayList<>();
+        for (Player other : proposer.getGameBoard().getPlayers()) {
+            if (other == proposer || other.isBankrupt()) {
+                continue;
+            }
+            for (Property wanted : other.getProperties()) {
+                if (bank.countOwned(proposer, wanted.getGroup()) == 0) {
+                    continue;
+                }
+                TradeBundle requested = TradeBundle.property(wanted);
+                for (double markup : MARKUPS) {
+                    int price = (int) (wanted.getPrice() * markup);
+                    if (price <= proposer.getMoney()) {
+                        add(candidates, bank, new TradeOffer(proposer, TradeBundle.cash(price), other, requested));
+                    }
+                }
+                for (Property spare : spares) {
+                    if (spare.getGroup() != wanted.getGroup()) {
+                        add(candidates, bank, new TradeOffer(proposer, TradeBundle.property(spare), other, requested));
+                    }
+                }
+                if (candidates.size() >= MAX_CANDIDATES) {
+                    return candidates.subList(0, MAX_CANDIDATES);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private static void add(List<TradeOffer> candidates, Bank bank, TradeOffer offer) {
+        if (bank.canTrade(offer)) {
+            candidates.add(offer);
+        }
+    }
+
+    /**
+     * Turns a trade into an action on a CompactGameState of the same game.
+     */
+    private static Consumer<CompactGameState> action(TradeOffer offer, List<Player> players) {
+        int proposer = players.indexOf(offer.getProposer());
+        int recipient = players.indexOf(offer.getRecipient());
+        int[] offered = locations(offer.getOffered());
+        int[] requested = locations(offer.getRequested());
+        TradeBundle give = offer.getOffered();
+        TradeBundle take = offer.getRequested();
+        return state -> {
+            for (int space : offered) {
+                state.setOwner(space, recipient);
+            }
+            for (int space : requested) {
+                state.setOwner(space, proposer);
+            }
+            state.setCash(proposer, state.getCash(proposer) - give.getCash() + take.getCash());
+            state.setCash(recipient, state.getCash(recipient) + give.getCash() - take.getCash());
+            state.giveJailCards(proposer, recipient, give.getJailCards());
+            state.giveJailCards(recipient, proposer, take.getJailCards());
+        };
+    }
+
+    private static int[] locations(TradeBundle bundle) {
+        int[] locations = new int[bundle.getProperties().size()];
+        for (int i = 0; i < locations.length; i++) {
+            locations[i] = bundle.getProperties().get(i).getLocation();
+        }
+        return locations;
+    }
+}
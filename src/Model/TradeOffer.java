@@ -0,0 +1,56 @@
+/**
+ * The TradeOffer is a proposal from one player to another: the proposer hands over one bundle
+ * in exchange for another. The offer itself changes nothing; Bank.trade executes it, all of
+ * it or none of it.
+ */
+package Model;
+
+public final class TradeOffer {
+    private final Player proposer; // Player making the offer
+    private final TradeBundle offered; // What the proposer hands over
+    private final Player recipient; // Player the offer is made to
+    private final TradeBundle requested; // What the recipient hands over
+
+    /**
+     * Constructs an offer.
+     *
+     * @param proposer  The player making the offer.
+     * @param offered   What the proposer hands over.
+     * @param recipient The player the offer is made to.
+     * @param requested What the recipient hands over.
+     * @throws IllegalArgumentException if the players are the same or nothing changes hands.
+     */
+    public TradeOffer(Player proposer, TradeBundle offered, Player recipient, TradeBundle requested) {
+        if (proposer == recipient) {
+            throw new IllegalArgumentException("A player cannot trade with themselves");
+        }
+        if (offered.isEmpty() && requested.isEmpty()) {
+            throw new IllegalArgumentException("A trade must hand something over");
+        }
+        this.proposer = proposer;
+        this.offered = offered;
+        this.recipient = recipient;
+        this.requested = requested;
+    }
+
+    public Player getProposer() {
+        return proposer;
+    }
+
+    public TradeBundle getOffered() {
+        return offered;
+    }
+
+    public Player getRecipient() {
+        return recipient;
+    }
+
+    public TradeBundle getRequested() {
+        return requested;
+    }
+
+    @Override
+    public String toString() {
+        return proposer.getName() + " gives " + offered + "; " + recipient.getName() + " gives " + requested;
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * The TranspositionTable remembers evaluations of positions by their Zobrist hash, so searches
+ * that reach a position again, in a later decision or on another thread, start from what was
+ * already learned about it. An evaluation is a mean reward and the number of rollouts behind it.
+ * The reward is one player's, and the same position is worth something else to each player, so
+ * evaluations are stored under key(hash, player), which mixes the player into the hash.
+ *
+ * The table has a fixed number of slots and never grows or locks. Each slot is two longs in
+ * one atomic array: the evaluation, and the hash XORed with the evaluation. A reader accepts a
+ * slot only if the two still XOR to the hash it asked for, so a slot torn by concurrent
+ * writers, or holding another position, reads as a miss instead of a wrong answer. A store
+ * simply replaces whatever was in its slot.
+ */
+package Model;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class TranspositionTable {
+    public static final long MISSING = 0; // Entry returned for a position the table does not hold
+
+    private final AtomicLongArray slots; // Two longs per slot: hash ^ entry, then entry
+    private final int mask; // Slot count minus one
+
+    /**
+     * Constructs a table with room for at least the specified number of positions.
+     *
+     * @param capacity The number of positions, rounded up to a power of two.
+     * @throws IllegalArgumentException if the capacity is not positive or too large.
+     */
+    public TranspositionTable(int capacity) {
+        if (capacity < 1 || capacity > 1 << 29) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicLongArray(2 * size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Gets the key of a position's evaluation for one player.
+     *
+     * @param hash   The Zobrist hash of the position.
+     * @param player The player whose reward is evaluated.
+     * @return The key to store and probe the evaluation under.
+     */
+    public static long key(long hash, int player) {
+        return hash ^ Zobrist.key(Zobrist.REWARD, player, 1);
+    }
+
+    /**
+     * Stores the evaluation of a position, replacing whatever shared its slot.
+     *
+     * @param hash  The key of the evaluation, usually from key.
+     * @param mean  The mean reward.
+     * @param count The number of rollouts behind it, at least one.
+     * @throws IllegalArgumentException if the count is not positive.
+     */
+    public void store(long hash, float mean, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("An evaluation needs at least one rollout");
+        }
+        long entry = ((long) Float.floatToRawIntBits(mean) << 32) | count;
+        int slot = 2 * ((int) hash & mask);
+        slots.set(slot + 1, entry);
+        slots.set(slot, hash ^ entry);
+    }
+
+    /**
+     * Looks up the evaluation of a position.
+     *
+     * @param hash The key of the evaluation, usually from key.
+     * @return The packed entry, to be read with mean and count, or MISSING.
+     */
+    public long probe(long hash) {
+        int slot = 2 * ((int) hash & mask);
+        long entry = slots.get(slot + 1);
+        long check = slots.get(slot);
+        return entry != MISSING && (check ^ entry) == hash ? entry : MISSING;
+    }
+
+    /**
+     * Gets the mean reward of an entry returned by probe.
+     *
+     * @param entry The entry.
+     * @return The mean reward.
+     */
+    public static float mean(long entry) {
+        return Float.intBitsToFloat((int) (entry >>> 32));
+    }
+
+    /**
+     * Gets the number of rollouts of an entry returned by probe.
+     *
+     * @param entry The entry.
+     * @return The number of rollouts.
+     */
+    public static int count(long entry) {
+        return (int) entry;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
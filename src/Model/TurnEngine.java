@@ -0,0 +1,479 @@
+/**
+ * The TurnEngine carries out the turn rules of a game: rolling, leaving jail by card, doubles
+ * or fine, going to jail on three doubles in a row, moving, collecting Go salary, landing on
+ * the space, drawing cards, the offer to buy an unowned property and passing the turn on.
+ * Debts a roll leaves are settled at once: a player who owes more than their cash sells houses
+ * and mortgages by the cheapest LiquidationPlan, and one who cannot raise enough goes bankrupt.
+ *
+ * The GUI and the headless simulations both play through it. The GUI calls the single steps
+ * (roll, buy or decline, build, mortgage, pay the fine, end the turn) and renders what they did; the
+ * simulations call playTurn(), which settles offers for computer players on their own. The
+ * engine keeps no per-roll objects: outcomes are enum constants and events go through the
+ * board's preallocated event bus, so a turn allocates nothing once the game is running.
+ */
+package Model;
+
+import java.util.List;
+
+public class TurnEngine {
+    public static final int MAX_DOUBLES = 3; // Doubles in a row that send a player to jail
+    public static final int MAX_JAIL_TURNS = 3; // Attempts to roll doubles before the fine is due
+    public static final int JAIL_FINE = 50; // Fine paid to leave jail
+    private static final int MAX_COMPUTER_BUILDS = 8; // Houses a computer player may build before one roll
+    private final GameState game; // The game whose turns are played
+    private final GameBoard board; // The game's board
+    private final Dice dice; // The game's dice
+    private final GameEventBus events; // The bus the turn's events are published on
+    private Property offer; // Unowned property the current player may buy, or null
+    private boolean rolled; // Whether the current player has rolled and may not roll again
+    private HouseBid[] houseBids = new HouseBid[0]; // Bids of the last house auction, reused by the next
+
+    /**
+     * Constructs a TurnEngine for a game.
+     *
+     * @param game The game whose turns are played.
+     */
+    public TurnEngine(GameState game) {
+        this.game = game;
+        this.board = game.getBoard();
+        this.dice = game.getDice();
+        this.events = board.getEvents();
+    }
+
+    /**
+     * Plays one roll of the current player, settles the offer to buy and passes the turn on
+     * unless the player rolled doubles. A computer player first pays its way out of jail,
+     * mortgages and builds as it chooses, and buys what it wants; any other player declines.
+     *
+     * @return What the roll ended in.
+     */
+    public TurnOutcome playTurn() {
+        if (game.getCurrentPlayer() instanceof ComputerPlayer computer && canRoll()) {
+            prepareRoll(computer);
+        }
+        TurnOutcome outcome = roll();
+        if (offer != null) {
+            int doublesRolled = outcome == TurnOutcome.ROLL_AGAIN ? dice.getDoublesRolled() : 0;
+            if (game.getCurrentPlayer() instanceof ComputerPlayer computer && computer.wantsToBuy(offer, doublesRolled)) {
+                buy();
+            } else {
+                decline();
+            }
+        }
+        if (outcome != TurnOutcome.ROLL_AGAIN) {
+            endTurn();
+        }
+        return outcome;
+    }
+
+    /**
+     * Rolls the dice for the current player and carries out the roll. A player in jail uses
+     * a Get Out of Jail Free card if they have one and then rolls as usual; otherwise they
+     * try to roll doubles, and after three failed attempts pay the fine and move by the roll.
+     * If the player lands on an unowned property, it is offered to them until they buy it,
+     * decline it or end the turn.
+     *
+     * @return What the roll ended in.
+     * @throws IllegalStateException if the current player may not roll.
+     */
+    public TurnOutcome roll() {
+        if (!canRoll()) {
+            throw new IllegalStateException("The current player may not roll now");
+        }
+        TurnOutcome outcome = rollDice(game.getCurrentPlayer());
+        settleDebts();
+        if (game.getCurrentPlayer().isBankrupt()) {
+            rolled = true;
+            offer = null;
+            return TurnOutcome.BANKRUPT;
+        }
+        return outcome;
+    }
+
+    /**
+     * Carries out a roll of the current player, leaving any debts unpaid.
+     */
+    private TurnOutcome rollDice(Player player) {
+        if (player.isInJail()) {
+            Card card = player.getLastHeldCard(); // The card useGetOutOfJailFreeCard returns
+            if (!player.useGetOutOfJailFreeCard()) {
+                return rollInJail(player);
+            }
+            events.publish(GameEventType.JAIL_CARD_USED, player, null, -1, 0, card);
+            player.releaseFromJail();
+        }
+
+        int roll = dice.roll();
+        events.publish(GameEventType.ROLLED, player, -1, roll);
+        if (dice.getDoublesRolled() >= MAX_DOUBLES) {
+            events.publish(GameEventType.ROLLED_DOUBLES, player, -1, dice.getDoublesRolled());
+            player.goToJail();
+            rolled = true;
+            return TurnOutcome.JAILED;
+        }
+
+        move(player, Dice.total(roll));
+        if (player.isInJail()) {
+            rolled = true;
+            return TurnOutcome.JAILED;
+        }
+        if (Dice.isDoubles(roll)) {
+            events.publish(GameEventType.ROLLED_DOUBLES, player, -1, dice.getDoublesRolled());
+            return TurnOutcome.ROLL_AGAIN;
+        }
+        rolled = true;
+        return TurnOutcome.MOVED;
+    }
+
+    /**
+     * Carries out the roll of a player trying to leave jail by rolling doubles.
+     *
+     * @param player The player in jail.
+     * @return What the roll ended in.
+     */
+    private TurnOutcome rollInJail(Player player) {
+        int jailPosition = board.getTables().jailPosition();
+        int roll = dice.roll();
+        events.publish(GameEventType.ROLLED, player, -1, roll);
+        rolled = true;
+        if (Dice.isDoubles(roll)) {
+            events.publish(GameEventType.RELEASED, player, jailPosition, 0);
+        } else if (player.getJailTurns() + 1 >= MAX_JAIL_TURNS) {
+            events.publish(GameEventType.RELEASED, player, jailPosition, JAIL_FINE);
+            board.getBank().collectFromPlayer(player, JAIL_FINE, LedgerCategory.FINE);
+        } else {
+            player.setJailTurns(player.getJailTurns() + 1);
+            events.publish(GameEventType.STAYED_IN_JAIL, player, jailPosition, player.getJailTurns());
+            return TurnOutcome.STAYED_IN_JAIL;
+        }
+        player.releaseFromJail();
+        move(player, Dice.total(roll));
+        return player.isInJail() ? TurnOutcome.JAILED : TurnOutcome.MOVED;
+    }
+
+    /**
+     * Settles the debts of every player whose money a roll took below zero. A player pays by
+     * the cheapest LiquidationPlan; a player who cannot raise enough goes bankrupt, and when
+     * one player is left the game is over.
+     */
+    private void settleDebts() {
+        List<Player> players = game.getPlayers();
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            if (player.isBankrupt()) {
+                continue;
+            }
+            while (!player.isBankrupt() && player.getMoney() < 0) {
+                LiquidationPlan plan = LiquidationSolver.solve(player, -player.getMoney());
+                if (!plan.isFeasible() || !liquidate(player, plan)) {
+                    declareBankrupt(player);
+                }
+            }
+            player.clearDebts();
+        }
+        if (activePlayers() <= 1 && !game.isGameOver()) {
+            game.endGame();
+        }
+    }
+
+    /**
+     * Carries out a liquidation plan. A hotel sold while the bank is short of houses comes down
+     * further than the plan expected, so the plan stops at the first sale that is no longer
+     * allowed, leaving the rest to a fresh plan.
+     *
+     * @return True if anything was sold or mortgaged.
+     */
+    private boolean liquidate(Player player, LiquidationPlan plan) {
+        List<PropertySpace> sales = plan.getHouseSales();
+        List<Property> mortgages = plan.getMortgages();
+        boolean sold = false;
+        for (int i = 0; i < sales.size(); i++) {
+            if (!board.getBank().sellHouse(player, sales.get(i))) {
+                return sold;
+            }
+            sold = true;
+        }
+        for (int i = 0; i < mortgages.size(); i++) {
+            mortgages.get(i).mortgage();
+        }
+        return sold || !mortgages.isEmpty();
+    }
+
+    /**
+     * Takes a player out of the game. Their buildings are sold back to the bank towards the
+     * debt, and what they still cannot cover is taken back from their creditors, so their
+     * money ends at zero. Their properties go to the player they owed most, mortgages and all,
+     * or back to the bank, unmortgaged, if they owed the bank most.
+     */
+    private void declareBankrupt(Player player) {
+        int debt = -player.getMoney();
+        Bank bank = board.getBank();
+        List<Property> properties = player.getProperties();
+        for (boolean sold = true; sold; ) {
+            sold = false;
+            for (int i = 0; i < properties.size(); i++) {
+                if (properties.get(i) instanceof PropertySpace street && bank.sellHouse(player, street)) {
+                    sold = true;
+                }
+            }
+        }
+        Player creditor = bank.settleBankruptcy(player);
+        for (int i = 0; i < properties.size(); i++) {
+            Property property = properties.get(i);
+            if (creditor != null && !creditor.isBankrupt()) {
+                property.setOwner(creditor);
+                creditor.addProperty(property);
+            } else {
+                property.setMortgaged(false);
+                property.setOwner(null);
+            }
+        }
+        properties.clear();
+        player.setBankrupt(true);
+        events.publish(GameEventType.BANKRUPT, player, -1, debt);
+    }
+
+    /**
+     * Moves a player, lands them on the space and offers the space if it is an unowned property.
+     */
+    private void move(Player player, int steps) {
+        board.movePlayer(player, steps);
+        if (board.getSpace(player.getPosition()) instanceof Property property && !property.isOwned()) {
+            offer = property;
+        }
+    }
+
+    /**
+     * Pays the fine for the current player to leave jail before they roll.
+     *
+     * @return True if the player was released, false if they are not in jail, have already
+     *         rolled or cannot afford the fine.
+     */
+    public boolean payJailFine() {
+        Player player = game.getCurrentPlayer();
+        if (!player.isInJail() || rolled || player.getMoney() < JAIL_FINE) {
+            return false;
+        }
+        events.publish(GameEventType.RELEASED, player, board.getTables().jailPosition(), JAIL_FINE);
+        board.getBank().collectFromPlayer(player, JAIL_FINE, LedgerCategory.FINE);
+        player.releaseFromJail();
+        return true;
+    }
+
+    /**
+     * Lets a computer player act before it rolls: pay the jail fine, mortgage a property,
+     * trade with another computer player and build houses, each as the player chooses.
+     * Trades offered to human players are only made through the GUI.
+     */
+    private void prepareRoll(ComputerPlayer computer) {
+        if (computer.isInJail() && computer.wantsToPayJailFine()) {
+            payJailFine();
+        }
+        Property mortgaged = computer.chooseToMortgage();
+        if (mortgaged != null) {
+            mortgage(mortgaged);
+        }
+        TradeOffer proposal = computer.proposeTrade();
+        if (proposal != null && proposal.getRecipient() instanceof ComputerPlayer recipient
+                && recipient.wantsTrade(proposal)) {
+            trade(proposal);
+        }
+        for (int built = 0; built < MAX_COMPUTER_BUILDS; built++) {
+            Property street = computer.chooseToBuild();
+            if (street == null || !buildHouse(street)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Builds a house on a street of the current player's. When the bank has fewer houses left
+     * than there are computer players wanting one, every house left is auctioned among them,
+     * one to each of the highest bidders, so the builder's may go to another player. Bids are
+     * asked of computer players only, so while a human player is still in the game there is no
+     * auction and the builder simply buys the house.
+     *
+     * @param property The street to build on.
+     * @return True if the house was built, false if the property is not a street in a color
+     *         group the player owns whole, is full, the player cannot afford the house, or
+     *         another player won it at auction.
+     */
+    public boolean buildHouse(Property property) {
+        Player player = game.getCurrentPlayer();
+        if (!(property instanceof PropertySpace street) || property.getOwner() != player
+                || !player.ownsFullColorGroup(property.getGroup())) {
+            return false;
+        }
+        Bank bank = board.getBank();
+        int housesLeft = bank.getHousesLeft();
+        if (housesLeft > 0 && housesLeft < activePlayers() && onlyComputersLeft()
+                && !street.hasHotel() && street.getHouseCount() < BoardTables.HOTEL - 1) {
+            // The bank checks the shortage again under its locks, as houses may have changed hands meanwhile
+            int bids = collectHouseBids((ComputerPlayer) player, street);
+            int won = bank.auctionHouses(houseBids, bids);
+            if (won >= 0) {
+                for (int i = 0; i < won; i++) {
+                    if (houseBids[i].getBidder() == player) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        }
+        return bank.buyHouse(player, street);
+    }
+
+    /**
+     * Counts the players still in the game.
+     */
+    private int activePlayers() {
+        List<Player> players = game.getPlayers();
+        int active = 0;
+        for (int i = 0; i < players.size(); i++) {
+            if (!players.get(i).isBankrupt()) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+    /**
+     * Checks whether every player still in the game is a computer player, who can bid on their own.
+     */
+    private boolean onlyComputersLeft() {
+        List<Player> players = game.getPlayers();
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            if (!player.isBankrupt() && !(player instanceof ComputerPlayer)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Collects the bids for a house into houseBids, which grows only when players are added:
+     * the builder's for their street, and those of every other computer player still in the
+     * game who wants a house now.
+     *
+     * @return The number of bids.
+     */
+    private int collectHouseBids(ComputerPlayer builder, PropertySpace street) {
+        List<Player> players = game.getPlayers();
+        if (houseBids.length < players.size()) {
+            houseBids = new HouseBid[players.size()];
+        }
+        HouseBid own = builder.bidForHouse();
+        houseBids[0] = new HouseBid(builder, street, own == null ? 0 : own.getAmount());
+        int count = 1;
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            if (player != builder && !player.isBankrupt() && player instanceof ComputerPlayer computer) {
+                HouseBid bid = computer.bidForHouse();
+                if (bid != null) {
+                    houseBids[count++] = bid;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Mortgages a property of the current player's.
+     *
+     * @param property The property to mortgage.
+     * @return True if the property was mortgaged, false if the player does not own it or it
+     *         is already mortgaged.
+     */
+    public boolean mortgage(Property property) {
+        if (property.getOwner() != game.getCurrentPlayer() || property.isMortgaged()) {
+            return false;
+        }
+        property.mortgage();
+        return true;
+    }
+
+    /**
+     * Carries out a trade the current player proposed and the recipient accepted.
+     *
+     * @param offer The trade.
+     * @return True if the trade was made, false if the proposer is not the current player or
+     *         the trade cannot be made as offered.
+     */
+    public boolean trade(TradeOffer offer) {
+        Bank bank = board.getBank();
+        if (offer.getProposer() != game.getCurrentPlayer() || !bank.canTrade(offer)) {
+            return false;
+        }
+        bank.trade(offer);
+        return true;
+    }
+
+    /**
+     * Buys the offered property for the current player.
+     *
+     * @throws IllegalStateException if nothing is offered or the player cannot afford it.
+     */
+    public void buy() {
+        Player player = game.getCurrentPlayer();
+        if (offer == null) {
+            throw new IllegalStateException("No property is offered");
+        }
+        if (!board.getBank().withdraw(player, offer.getPrice(), LedgerCategory.PURCHASE)) {
+            throw new IllegalStateException(player.getName() + " cannot afford " + offer.getName());
+        }
+        Property property = offer;
+        offer = null;
+        property.setOwner(player);
+        player.addProperty(property);
+        events.publish(GameEventType.BOUGHT, player, player.getPosition(), property.getPrice());
+    }
+
+    /**
+     * Declines the offered property, if any.
+     */
+    public void decline() {
+        if (offer != null) {
+            offer = null;
+            events.publish(GameEventType.DECLINED, game.getCurrentPlayer(), game.getCurrentPlayer().getPosition(), 0);
+        }
+    }
+
+    /**
+     * Ends the current player's turn, declining any open offer, and passes the turn on to the
+     * next player who is not bankrupt.
+     */
+    public void endTurn() {
+        decline();
+        rolled = false;
+        List<Player> players = game.getPlayers();
+        int next = game.getCurrentPlayerIndex();
+        for (int i = 0; i < players.size(); i++) {
+            next = (next + 1) % players.size();
+            if (!players.get(next).isBankrupt()) {
+                break;
+            }
+        }
+        game.setCurrentPlayerIndex(next);
+        dice.resetDoublesRolled();
+        events.publish(GameEventType.TURN_ENDED, game.getCurrentPlayer());
+    }
+
+    /**
+     * Checks if the current player may roll.
+     *
+     * @return True until the player has made a roll that does not earn another one.
+     */
+    public boolean canRoll() {
+        return !rolled && offer == null && !game.isGameOver();
+    }
+
+    /**
+     * Gets the property the current player may buy.
+     *
+     * @return The offered property, or null if nothing is offered.
+     */
+    public Property getOffer() {
+        return offer;
+    }
+}
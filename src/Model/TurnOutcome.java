@@ -0,0 +1,13 @@
+/**
+ * The TurnOutcome lists what a single roll of the TurnEngine ended in, so that the GUI and
+ * the headless simulations can react to a roll without inspecting the game themselves.
+ */
+package Model;
+
+public enum TurnOutcome {
+    MOVED,          // the player moved and landed; the turn is over once any offer is settled
+    ROLL_AGAIN,     // the player rolled doubles, moved and rolls again
+    JAILED,         // the player went to jail, by three doubles, a card or the Go To Jail space
+    STAYED_IN_JAIL, // the player failed to roll doubles in jail and stays there
+    BANKRUPT        // the player could not pay what the roll cost them and left the game
+}
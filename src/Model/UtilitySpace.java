@@ -2,37 +2,22 @@
  * UtilitySpace.java
  *
  * This class represents a utility space on the board in a Monopoly-like game.
- * It extends the Space class and includes properties specific to utility spaces.
+ * It extends the Property class so that utilities can be bought, owned and mortgaged.
  *
  * Remodeled by Finn Dempsey
  */
 package Model;
 
-public class UtilitySpace extends Space {
-    private final int price;
-    private final Player owner;
+public class UtilitySpace extends Property {
 
-    public UtilitySpace(String name, int location, int price, int mortgageValue) {
-        super(name);
-        this.price = price;
-        this.owner = null; // Initially unowned
-    }
-
-    @Override
-    public void landOn(Player player) {
-        // Logic for landing on Utility space
-        System.out.println(player.getName() + " landed on " + name + " Utility.");
-    }
-
-    public int getPrice() {
-        return price;
-    }
-
-    public boolean isOwned() {
-        return owner != null;
-    }
-
-    public Player getOwner() {
-        return owner;
+    /**
+     * Constructs the UtilitySpace of one game for a utility of a board definition.
+     *
+     * @param definition The shared definition of the utility.
+     * @param location   The location of the utility on the board.
+     * @param bank       The bank managing the utility.
+     */
+    public UtilitySpace(SpaceDefinition definition, int location, Bank bank) {
+        super(definition, location, bank);
     }
 }
@@ -0,0 +1,53 @@
+/**
+ * The Zobrist class gives the 64-bit keys of the Zobrist hash of a CompactGameState. The hash
+ * of a position is the XOR of one key for each of its features, such as the owner of space 12
+ * being player 1, so a change to one feature updates the hash by XORing out the old key and
+ * XORing in the new one.
+ *
+ * Keys are derived on demand by scrambling the feature, index and value through the SplitMix64
+ * finaliser instead of being drawn into tables. The finaliser is a bijection, so no two
+ * features share a key, and the keys fit boards and player counts of any size.
+ */
+package Model;
+
+final class Zobrist {
+    static final int OWNER = 0; // Owner of a space, by position
+    static final int BUILDINGS = 1; // Building level of a space, by position
+    static final int MORTGAGED = 2; // Mortgaged space, by position
+    static final int POSITION = 3; // Position of a player
+    static final int CASH = 4; // Cash bucket of a player
+    static final int JAIL = 5; // Jail turns of a player
+    static final int JAIL_CARDS = 6; // Get Out of Jail Free cards of a player
+    static final int BANKRUPT = 7; // Bankrupt player
+    static final int TO_MOVE = 8; // Player to move
+    static final int REWARD = 9; // Player an evaluation is for, in TranspositionTable keys
+    static final int DOUBLES = 10; // Doubles rolled by the player to move in the current turn
+    static final int CASH_BUCKET = 50; // Cash amounts hashed together
+
+    private static final long SEED = 0x5a0b_7157_c0de_f00dL; // Fixed, so hashes are the same in every run
+
+    private Zobrist() {
+    }
+
+    /**
+     * Gets the key of one value of a feature.
+     *
+     * @param feature The feature, one of the constants above.
+     * @param index   The space or player the feature belongs to.
+     * @param value   The value of the feature.
+     * @return The key.
+     */
+    static long key(int feature, int index, int value) {
+        return Dice.mix64(SEED ^ ((long) feature << 56) ^ ((long) index << 32) ^ (value & 0xffffffffL));
+    }
+
+    /**
+     * Gets the bucket a cash amount is hashed in.
+     *
+     * @param cash The cash.
+     * @return The bucket.
+     */
+    static int cashBucket(int cash) {
+        return Math.floorDiv(cash, CASH_BUCKET);
+    }
+}
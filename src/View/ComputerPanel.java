@@ -3,114 +3,87 @@ package View;
 import Model.*;
 
 import javax.swing.*;
-import java.awt.*;
-import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
 
 public class ComputerPanel extends JPanel {
-    private final GameBoard gameBoard;
-    private final GameBoardPanel gameBoardPanel;
-    private final Bank bank;
-    private final Dice dice;
-    private final JailSpace jailSpace;
+    private final GameState game;
+    private final TurnEngine engine;
+    private final DicePanel dicePanel;
     private final GUI parentGUI;
 
-    public ComputerPanel(GameBoard gameBoard, GameBoardPanel gameBoardPanel, Bank bank, GUI parentGUI) {
-        this.gameBoard = gameBoard;
-        this.gameBoardPanel = gameBoardPanel;
-        this.bank = bank;
+    public ComputerPanel(GameState game, DicePanel dicePanel, GUI parentGUI) {
+        this.game = game;
+        this.engine = game.getTurnEngine();
+        this.dicePanel = dicePanel;
         this.parentGUI = parentGUI;
-        this.dice = Dice.getInstance();
-        this.jailSpace = new JailSpace();
     }
 
-    public void handleComputerTurn(ComputerPlayer computerPlayer, Runnable endTurnCallback) {
+    /**
+     * Plays the current computer player's whole turn through the turn engine, showing each roll.
+     * The engine runs on a SwingWorker, since a searching computer player may think for a while,
+     * and each roll is shown on the event dispatch thread once it is done.
+     *
+     * @param endTurnCallback Queued on the event dispatch thread once the turn has passed to
+     *                        the next player, so turns follow one another without nesting.
+     */
+    public void playComputerTurn(Runnable endTurnCallback) {
         // Disable user interaction
         parentGUI.getEndTurnButton().setEnabled(false);
-        parentGUI.getDicePanel().getRollButton().setEnabled(false);
+        dicePanel.getRollButton().setEnabled(false);
 
-        // Check if the computer is in jail
-        if (jailSpace.isInJail(computerPlayer)) {
-            if (jailSpace.attemptJailRelease(computerPlayer, dice.rollDice())) {
-                JOptionPane.showMessageDialog(this, computerPlayer.getName() + " got out of jail!");
-            } else {
-                JOptionPane.showMessageDialog(this, computerPlayer.getName() + " is still in jail.");
-                endTurnCallback.run();
-                return;
-            }
-        }
-
-        int consecutiveDoubles = 0;
-
-        while (true) {
-            // Roll dice
-            ArrayList<Integer> results = dice.rollDice();
-            int dice1Value = results.get(0);
-            int dice2Value = results.get(1);
-            int totalRoll = dice1Value + dice2Value;
-            boolean isDoubles = (dice1Value == dice2Value);
-
-            // Update dice display
-            updateDiceDisplay(dice1Value, dice2Value);
-
-            // Move the computer player
-            int currentPosition = computerPlayer.getPosition();
-            int newPosition = (currentPosition + totalRoll) % 40;
-            computerPlayer.setPosition(newPosition);
-            movePlayerToken(computerPlayer, newPosition);
-
-            // Get the space the computer landed on
-            Space space = gameBoard.getSpace(newPosition);
+        playRoll(game.getCurrentPlayer(), endTurnCallback);
+    }
 
-            // Decision-making logic
-            if (space instanceof PropertySpace propertySpace && !propertySpace.isOwned()) {
-                if (computerPlayer.getMoney() >= propertySpace.getPrice()) {
-                    propertySpace.buy(computerPlayer);
-                    bank.collectFromPlayer(computerPlayer, propertySpace.getPrice());
-                    JOptionPane.showMessageDialog(this,
-                            computerPlayer.getName() + " bought " + propertySpace.getName() + " for $" + propertySpace.getPrice() + "!");
-                }
+    /**
+     * Plays one roll of the computer player in the background, then shows it and rolls again
+     * after doubles.
+     */
+    private void playRoll(Player computerPlayer, Runnable endTurnCallback) {
+        new SwingWorker<TurnOutcome, Void>() {
+            @Override
+            protected TurnOutcome doInBackground() {
+                return engine.playTurn();
             }
 
-            if (isDoubles) {
-                consecutiveDoubles++;
-                JOptionPane.showMessageDialog(this,
-                        computerPlayer.getName() + " rolled doubles and will roll again!");
-
-                // Handle three consecutive doubles (go to jail)
-                if (consecutiveDoubles == 3) {
-                    JOptionPane.showMessageDialog(this,
-                            computerPlayer.getName() + " rolled three doubles in a row and is sent to jail!");
-                    jailSpace.sendToJail(computerPlayer);
-                    movePlayerToken(computerPlayer, 10); // Move to jail position
-                    endTurnCallback.run();
+            @Override
+            protected void done() {
+                TurnOutcome outcome;
+                try {
+                    outcome = get();
+                } catch (InterruptedException | ExecutionException e) {
+                    JOptionPane.showMessageDialog(ComputerPanel.this, "The computer's turn failed: " + e.getMessage(),
+                            "Error", JOptionPane.ERROR_MESSAGE);
                     return;
                 }
-            } else {
-                break; // Exit loop if no doubles
+                showRoll(computerPlayer, outcome);
+                if (outcome == TurnOutcome.ROLL_AGAIN && !game.isGameOver()) {
+                    playRoll(computerPlayer, endTurnCallback);
+                } else {
+                    SwingUtilities.invokeLater(endTurnCallback);
+                }
             }
-        }
-
-        // Re-enable user interaction and end the turn
-        parentGUI.getEndTurnButton().setEnabled(true);
-        parentGUI.getDicePanel().getRollButton().setEnabled(true);
-        endTurnCallback.run();
-    }
-
-    private void movePlayerToken(Player player, int newPosition) {
-        String tokenName = player.getToken();
-        Point cords = gameBoardPanel.getCoordinatesForPosition(newPosition);
-        JLabel tokenLabel = gameBoardPanel.getPlayerToken(tokenName);
-
-        if (tokenLabel != null) {
-            tokenLabel.setLocation(cords.x, cords.y);
-        }
-
-        gameBoardPanel.revalidate();
-        gameBoardPanel.repaint();
+        }.execute();
     }
 
-    private void updateDiceDisplay(int dice1Value, int dice2Value) {
-        // Optional: Update dice display in the UI if needed
-        System.out.println("Computer rolled: " + dice1Value + " and " + dice2Value);
+    /**
+     * Updates the dice, tokens and panels after a roll and tells the user what it did.
+     */
+    private void showRoll(Player computerPlayer, TurnOutcome outcome) {
+        dicePanel.showRoll();
+        dicePanel.refreshTokens();
+        dicePanel.refreshPanels(computerPlayer);
+
+        int roll = game.getDice().getLastRoll();
+        String spaceName = game.getBoard().getSpace(computerPlayer.getPosition()).getName();
+        String message = switch (outcome) {
+            case STAYED_IN_JAIL -> computerPlayer.getName() + " is still in jail.";
+            case JAILED -> computerPlayer.getName() + " was sent to jail!";
+            case ROLL_AGAIN -> computerPlayer.getName() + " rolled doubles, landed on " + spaceName
+                    + " and will roll again!";
+            case MOVED -> computerPlayer.getName() + " rolled " + Dice.die1(roll) + " + " + Dice.die2(roll)
+                    + " and landed on " + spaceName + ".";
+            case BANKRUPT -> computerPlayer.getName() + " landed on " + spaceName + " and went bankrupt!";
+        };
+        JOptionPane.showMessageDialog(this, message);
     }
 }
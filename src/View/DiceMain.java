@@ -11,7 +11,7 @@ import Model.Dice;
 
 public class DiceMain {
     public static void main(String[] args) {
-        Dice dice = Dice.getInstance();
+        Dice dice = new Dice();
         DiceView diceView = new DiceView(dice);
 
         // Roll the dice until 3 doubles are rolled
@@ -4,33 +4,26 @@ import Model.*;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.ArrayList;
 import java.util.Objects;
 
 public class DicePanel extends JPanel {
     private final JLabel diceResultLabel;
     private final JLabel dice1Label;
     private final JLabel dice2Label;
-    private final Dice dice;
-    private final GameBoard gameBoard;
-    private int currentPlayerIndex = 0;
+    private final GameState game;
+    private final TurnEngine engine;
     private final JButton rollButton;
     private final JButton payJailFineButton;
     private final GameBoardPanel gameBoardPanel;
-    private int consecutiveDoublesCount = 0;
-    private final JailSpace jailSpace;
-    private final Bank bank;
     private final GUI parentGUI;
     private final ComputerPanel computerPanel;
 
-    public DicePanel(GameBoard gameBoard, GameBoardPanel gameBoardPanel, Bank bank, GUI parentGUI) {
-        this.gameBoard = gameBoard;
+    public DicePanel(GameState game, GameBoardPanel gameBoardPanel, GUI parentGUI) {
+        this.game = game;
+        this.engine = game.getTurnEngine();
         this.gameBoardPanel = gameBoardPanel;
-        this.bank = bank;
         this.parentGUI = parentGUI;
-        this.dice = Dice.getInstance();
-        this.jailSpace = new JailSpace();
-        this.computerPanel = new ComputerPanel(gameBoard, gameBoardPanel, bank, parentGUI);
+        this.computerPanel = new ComputerPanel(game, this, parentGUI);
 
         setLayout(new BorderLayout());
 
@@ -54,7 +47,7 @@ public class DicePanel extends JPanel {
         rollButton.setFont(new Font("Arial", Font.BOLD, 16));
         rollButton.addActionListener(e -> rollDiceAndMove());
 
-        payJailFineButton = new JButton("Pay $50 Fine to Get Out of Jail");
+        payJailFineButton = new JButton("Pay $" + TurnEngine.JAIL_FINE + " Fine to Get Out of Jail");
         payJailFineButton.setFont(new Font("Arial", Font.BOLD, 14));
         payJailFineButton.addActionListener(e -> payJailFine());
         payJailFineButton.setVisible(false);
@@ -63,8 +56,7 @@ public class DicePanel extends JPanel {
         controlPanel.add(payJailFineButton);
 
         diceResultLabel = new JLabel("Current Player: " +
-                (gameBoard.getPlayers().isEmpty() ? "No players" :
-                        gameBoard.getPlayers().get(currentPlayerIndex).getName()),
+                (game.getPlayers().isEmpty() ? "No players" : game.getCurrentPlayer().getName()),
                 SwingConstants.CENTER);
 
         add(controlPanel, BorderLayout.NORTH);
@@ -72,31 +64,21 @@ public class DicePanel extends JPanel {
         add(diceResultLabel, BorderLayout.SOUTH);
     }
 
-    public int getCurrentPlayerIndex() {
-        return currentPlayerIndex;
-    }
-
-    public void setCurrentPlayerIndex(int index) {
-        if (index >= 0 && index < gameBoard.getPlayers().size()) {
-            currentPlayerIndex = index;
-            consecutiveDoublesCount = 0;
-
-            Player currentPlayer = gameBoard.getPlayers().get(currentPlayerIndex);
-            String playerStatus = "";
-
-            if (jailSpace.isInJail(currentPlayer)) {
-                int jailTurns = jailSpace.getJailTurns(currentPlayer);
-                playerStatus = " (IN JAIL - turn " + jailTurns + "/3)";
-                payJailFineButton.setVisible(true);
-            } else {
-                payJailFineButton.setVisible(false);
-            }
+    /**
+     * Shows whose turn it is and enables the controls the current player may use.
+     */
+    public void showCurrentPlayer() {
+        Player currentPlayer = game.getCurrentPlayer();
+        String playerStatus = "";
 
-            rollButton.setEnabled(!(currentPlayer instanceof ComputerPlayer));
-
-            diceResultLabel.setText("Current Player: " +
-                    currentPlayer.getName() + playerStatus);
+        if (currentPlayer.isInJail()) {
+            playerStatus = " (IN JAIL - turn " + currentPlayer.getJailTurns() + "/" + TurnEngine.MAX_JAIL_TURNS + ")";
         }
+        payJailFineButton.setVisible(currentPlayer.isInJail());
+        rollButton.setEnabled(!(currentPlayer instanceof ComputerPlayer) && engine.canRoll());
+
+        diceResultLabel.setText("Current Player: " +
+                currentPlayer.getName() + playerStatus);
     }
 
     public JButton getRollButton() {
@@ -104,101 +86,108 @@ public class DicePanel extends JPanel {
     }
 
     private void rollDiceAndMove() {
-        Player currentPlayer = gameBoard.getPlayers().get(currentPlayerIndex);
-
-        if (currentPlayer instanceof ComputerPlayer computerPlayer) {
-            rollButton.setEnabled(false); // Disable roll button
-            parentGUI.getEndTurnButton().setEnabled(false); // Disable end turn button
-            computerPanel.handleComputerTurn(computerPlayer, this::endTurn);
+        Player currentPlayer = game.getCurrentPlayer();
+        if (currentPlayer instanceof ComputerPlayer || !engine.canRoll()) {
             return;
         }
 
-        ArrayList<Integer> results = dice.rollDice();
-        int dice1Value = results.get(0);
-        int dice2Value = results.get(1);
-        int totalRoll = dice1Value + dice2Value;
-        boolean isDoubles = (dice1Value == dice2Value);
-
-        updateDiceImages(dice1Value, dice2Value);
-
-        if (jailSpace.isInJail(currentPlayer)) {
-            if (jailSpace.attemptJailRelease(currentPlayer, results)) {
-                movePlayerToken(currentPlayer, currentPlayer.getPosition());
-                String releaseMethod = isDoubles ? "by rolling doubles" : "after 3 turns";
-                diceResultLabel.setText(currentPlayer.getName() + " got out of jail " +
-                        releaseMethod + " and moved " + totalRoll + " spaces!");
-                rollButton.setEnabled(false);
-                payJailFineButton.setVisible(false);
-            } else {
-                int jailTurn = jailSpace.getJailTurns(currentPlayer);
-                diceResultLabel.setText(currentPlayer.getName() + " is still in jail. Jail turn " +
-                        jailTurn + "/3");
-                rollButton.setEnabled(false);
-                payJailFineButton.setVisible(true);
+        TurnOutcome outcome = engine.roll();
+        showRoll();
+        refreshTokens();
+        payJailFineButton.setVisible(false);
+
+        String spaceName = game.getBoard().getSpace(currentPlayer.getPosition()).getName();
+        switch (outcome) {
+            case STAYED_IN_JAIL -> diceResultLabel.setText(currentPlayer.getName() + " is still in jail. Jail turn " +
+                    currentPlayer.getJailTurns() + "/" + TurnEngine.MAX_JAIL_TURNS + ". Click End Turn when done.");
+            case JAILED -> {
+                diceResultLabel.setText(currentPlayer.getName() + " went to jail. Click End Turn when done.");
+                JOptionPane.showMessageDialog(this, currentPlayer.getName() + " goes to jail!");
+            }
+            case ROLL_AGAIN -> diceResultLabel.setText(currentPlayer.getName() + " rolled doubles and landed on " +
+                    spaceName + ". Roll again!");
+            case MOVED -> diceResultLabel.setText(currentPlayer.getName() + " landed on " + spaceName +
+                    ". Click End Turn when done.");
+            case BANKRUPT -> {
+                diceResultLabel.setText(currentPlayer.getName() + " is bankrupt. Click End Turn when done.");
+                JOptionPane.showMessageDialog(this, currentPlayer.getName() + " could not pay and is bankrupt!");
             }
-            return;
         }
 
-        if (isDoubles) {
-            consecutiveDoublesCount++;
-        } else {
-            consecutiveDoublesCount = 0;
-        }
+        offerProperty(currentPlayer);
+        refreshPanels(currentPlayer);
+        rollButton.setEnabled(engine.canRoll());
+        parentGUI.getEndTurnButton().setEnabled(!engine.canRoll() && !game.isGameOver());
+    }
 
-        if (consecutiveDoublesCount >= 3) {
-            consecutiveDoublesCount = 0;
-            rollButton.setEnabled(false);
-            jailSpace.sendToJail(currentPlayer);
-            movePlayerToken(currentPlayer, 10);
-            diceResultLabel.setText(currentPlayer.getName() + " rolled three doubles in a row! Go to Jail!");
-            payJailFineButton.setVisible(true);
+    /**
+     * Asks the current player whether to buy the property the engine offers them.
+     */
+    private void offerProperty(Player player) {
+        Property property = engine.getOffer();
+        if (property == null) {
+            return;
+        }
+        if (player.getMoney() < property.getPrice()) {
             JOptionPane.showMessageDialog(this,
-                    currentPlayer.getName() + " rolled three doubles in a row! Go to Jail!");
+                    "You don't have enough money to buy " + property.getName() + "!",
+                    "Not Enough Funds",
+                    JOptionPane.ERROR_MESSAGE);
+            engine.decline();
             return;
         }
 
-        int currentPosition = currentPlayer.getPosition();
-        int newPosition = (currentPosition + totalRoll) % 40;
-        currentPlayer.setPosition(newPosition);
-        movePlayerToken(currentPlayer, newPosition);
-        handleLandingSpace(currentPlayer, newPosition);
-
-        String spaceName = gameBoard.getSpace(newPosition).getName();
-
-        diceResultLabel.setText(currentPlayer.getName() + " rolled " +
-                dice1Value + " + " + dice2Value + " = " + totalRoll +
-                " and landed on " + spaceName + ".");
-
-        if (isDoubles) {
+        int response = JOptionPane.showConfirmDialog(
+                this,
+                player.getName() + ", would you like to purchase " +
+                        property.getName() + " for $" + property.getPrice() + "?",
+                "Purchase Property",
+                JOptionPane.YES_NO_OPTION
+        );
+        if (response == JOptionPane.YES_OPTION) {
+            engine.buy();
             JOptionPane.showMessageDialog(this,
-                    currentPlayer.getName() + " rolled doubles! Roll again. " +
-                            "Consecutive doubles: " + consecutiveDoublesCount);
+                    player.getName() + " successfully purchased " + property.getName() + " for $" + property.getPrice() + "!",
+                    "Purchase Successful",
+                    JOptionPane.INFORMATION_MESSAGE);
         } else {
-            rollButton.setEnabled(false);
-            diceResultLabel.setText(currentPlayer.getName() + " rolled " +
-                    dice1Value + " + " + dice2Value + " = " + totalRoll +
-                    " and landed on " + spaceName + ". Click End Turn when done.");
+            engine.decline();
         }
     }
 
+    /**
+     * Ends the current player's turn and starts the next one, playing it at once if the next
+     * player is a computer.
+     */
     public void endTurn() {
-        Player currentPlayer = gameBoard.getPlayers().get(currentPlayerIndex);
-
-        currentPlayerIndex = (currentPlayerIndex + 1) % gameBoard.getPlayers().size();
-        setCurrentPlayerIndex(currentPlayerIndex);
+        engine.endTurn();
+        startTurn();
+    }
 
-        Player nextPlayer = gameBoard.getPlayers().get(currentPlayerIndex);
-        if (nextPlayer instanceof ComputerPlayer computerPlayer) {
+    /**
+     * Sets up the controls for the current player's turn, or turns them off once the game is over.
+     */
+    void startTurn() {
+        showCurrentPlayer();
+        if (game.isGameOver()) {
+            rollButton.setEnabled(false);
+            parentGUI.getEndTurnButton().setEnabled(false);
+        } else if (game.getCurrentPlayer() instanceof ComputerPlayer) {
             rollButton.setEnabled(false); // Disable roll button
             parentGUI.getEndTurnButton().setEnabled(false); // Disable end turn button
-            computerPanel.handleComputerTurn(computerPlayer, this::endTurn);
+            computerPanel.playComputerTurn(this::startTurn);
         } else {
-            rollButton.setEnabled(true); // Enable roll button for human player
-            parentGUI.getEndTurnButton().setEnabled(true); // Enable end turn button
+            parentGUI.getEndTurnButton().setEnabled(!engine.canRoll()); // A human player ends the turn once they have rolled
         }
     }
 
-    private void updateDiceImages(int dice1Value, int dice2Value) {
+    /**
+     * Shows the last roll of the dice.
+     */
+    void showRoll() {
+        int roll = game.getDice().getLastRoll();
+        int dice1Value = Dice.die1(roll);
+        int dice2Value = Dice.die2(roll);
         try {
             ImageIcon icon1 = new ImageIcon(Objects.requireNonNull(getClass().getResource("/Images/dice" + dice1Value + ".png")));
             ImageIcon icon2 = new ImageIcon(Objects.requireNonNull(getClass().getResource("/Images/dice" + dice2Value + ".png")));
@@ -211,76 +200,50 @@ public class DicePanel extends JPanel {
         }
     }
 
-    private void movePlayerToken(Player player, int newPosition) {
-        String tokenName = player.getToken();
-        Point cords = gameBoardPanel.getCoordinatesForPosition(newPosition);
-        JLabel tokenLabel = gameBoardPanel.getPlayerToken(tokenName);
+    /**
+     * Moves every player's token to the player's position.
+     */
+    void refreshTokens() {
+        for (Player player : game.getPlayers()) {
+            Point cords = gameBoardPanel.getCoordinatesForPosition(player.getPosition());
+            JLabel tokenLabel = gameBoardPanel.getPlayerToken(player.getToken());
 
-        if (tokenLabel != null) {
-            tokenLabel.setLocation(cords.x, cords.y);
+            if (tokenLabel != null) {
+                tokenLabel.setLocation(cords.x, cords.y);
+            }
         }
 
         gameBoardPanel.revalidate();
         gameBoardPanel.repaint();
     }
 
-    private void handleLandingSpace(Player player, int position) {
-        Space space = gameBoard.getSpaces().get(position);
-
-        if (space instanceof PropertySpace propertySpace) {
-            if (!propertySpace.isOwned()) {
-                int response = JOptionPane.showConfirmDialog(
-                        this,
-                        player.getName() + ", would you like to purchase " +
-                                propertySpace.getName() + " for $" + propertySpace.getPrice() + "?",
-                        "Purchase Property",
-                        JOptionPane.YES_NO_OPTION
-                );
-
-                if (response == JOptionPane.YES_OPTION) {
-                    if (player.getMoney() >= propertySpace.getPrice()) {
-                        propertySpace.buy(player);
-                        bank.collectFromPlayer(player, propertySpace.getPrice());
-
-                        JOptionPane.showMessageDialog(this,
-                                player.getName() + " successfully purchased " + propertySpace.getName() + " for $" + propertySpace.getPrice() + "!",
-                                "Purchase Successful",
-                                JOptionPane.INFORMATION_MESSAGE);
-
-                        if (parentGUI != null) {
-                            parentGUI.getBankPanel().refreshProperties();
-                            parentGUI.getPlayerPanels().get(player.getPlayerIndex()).refreshProperties();
-                        }
-                    } else {
-                        JOptionPane.showMessageDialog(this,
-                                "You don't have enough money to buy " + propertySpace.getName() + "!",
-                                "Not Enough Funds",
-                                JOptionPane.ERROR_MESSAGE);
-                    }
-                }
-            }
+    /**
+     * Refreshes the bank's and a player's property lists after the player's roll.
+     */
+    void refreshPanels(Player player) {
+        if (parentGUI != null) {
+            parentGUI.getBankPanel().refreshProperties();
+            parentGUI.getPlayerPanels().get(player.getPlayerIndex()).refreshProperties();
         }
     }
 
     private void payJailFine() {
-        Player currentPlayer = gameBoard.getPlayers().get(currentPlayerIndex);
-
-        if (jailSpace.isInJail(currentPlayer)) {
-            if (jailSpace.payFineToLeaveJail(currentPlayer)) {
-                JOptionPane.showMessageDialog(this,
-                        currentPlayer.getName() + " paid $50 to get out of jail!");
-                diceResultLabel.setText(currentPlayer.getName() +
-                        " paid the fine and is now free. Roll the dice.");
-                rollButton.setEnabled(true);
-                payJailFineButton.setVisible(false);
-            } else {
-                JOptionPane.showMessageDialog(this,
-                        "Not enough money to pay the jail fine!");
-            }
-        } else {
+        Player currentPlayer = game.getCurrentPlayer();
+
+        if (!currentPlayer.isInJail()) {
             JOptionPane.showMessageDialog(this,
                     currentPlayer.getName() + " is not in jail!");
             payJailFineButton.setVisible(false);
+        } else if (engine.payJailFine()) {
+            JOptionPane.showMessageDialog(this,
+                    currentPlayer.getName() + " paid $" + TurnEngine.JAIL_FINE + " to get out of jail!");
+            diceResultLabel.setText(currentPlayer.getName() +
+                    " paid the fine and is now free. Roll the dice.");
+            rollButton.setEnabled(true);
+            payJailFineButton.setVisible(false);
+        } else {
+            JOptionPane.showMessageDialog(this,
+                    "Not enough money to pay the jail fine!");
         }
     }
 }
@@ -0,0 +1,46 @@
+package View;
+
+import Model.GameEvent;
+import Model.GameEventSubscriber;
+
+import javax.swing.*;
+import javax.swing.text.BadLocationException;
+import java.awt.*;
+
+/**
+ * EventLogPanel lists the events of the game as text. It subscribes to the game's event bus;
+ * events are described on the dispatching thread and appended on the Swing event thread.
+ */
+public class EventLogPanel extends JPanel implements GameEventSubscriber {
+    private static final int MAX_LINES = 500; // Lines kept before the oldest are dropped
+
+    private final JTextArea logArea;
+
+    public EventLogPanel() {
+        setLayout(new BorderLayout());
+        logArea = new JTextArea();
+        logArea.setEditable(false);
+        logArea.setLineWrap(true);
+        logArea.setWrapStyleWord(true);
+        add(new JScrollPane(logArea), BorderLayout.CENTER);
+    }
+
+    @Override
+    public void onEvent(GameEvent event) {
+        String line = event.describe();
+        SwingUtilities.invokeLater(() -> append(line));
+    }
+
+    private void append(String line) {
+        logArea.append(line + "\n");
+        int excess = logArea.getLineCount() - MAX_LINES;
+        if (excess > 0) {
+            try {
+                logArea.replaceRange("", 0, logArea.getLineStartOffset(excess));
+            } catch (BadLocationException e) {
+                logArea.setText("");
+            }
+        }
+        logArea.setCaretPosition(logArea.getDocument().getLength());
+    }
+}
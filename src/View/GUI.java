@@ -5,6 +5,7 @@ import javax.swing.*;
 import java.awt.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 /**
  * The GUI class represents the main graphical user interface for the Monopoly game.
@@ -19,6 +20,7 @@ public class GUI extends JFrame {
     private List<PlayerPanel> playerPanels;
     private GameBoardPanel gameBoardPanel;
     private GameBoard sharedGameBoard;
+    private GameState game;
     private JButton endTurnButton;
 
 
@@ -101,7 +103,7 @@ public class GUI extends JFrame {
 
         String computerPlayerName = "Computer";
         String computerPlayerToken = sharedGameBoard.getAvailableTokens().get(0); // Assign the first available token
-        ComputerPlayer computerPlayer = new ComputerPlayer(computerPlayerName, computerPlayerToken, sharedGameBoard);
+        ComputerPlayer computerPlayer = new MctsComputerPlayer(computerPlayerName, computerPlayerToken, sharedGameBoard);
         computerPlayer.setPlayerIndex(1);
         sharedGameBoard.getPlayers().add(computerPlayer);
 
@@ -198,8 +200,9 @@ public class GUI extends JFrame {
         JTabbedPane tabbedPane = new JTabbedPane();
 
         // Create a panel for the "Your Turn" tab with dice and action buttons
+        game = new GameState(sharedGameBoard);
         JPanel turnPanel = new JPanel(new BorderLayout());
-        dicePanel = new DicePanel(sharedGameBoard, gameBoardPanel, bank, this);
+        dicePanel = new DicePanel(game, gameBoardPanel, this);
         turnPanel.add(dicePanel, BorderLayout.NORTH);
 
         // Create panel for action buttons
@@ -212,13 +215,7 @@ public class GUI extends JFrame {
         // Assign the class-level endTurnButton field
         endTurnButton = new JButton("End Turn");
         endTurnButton.setFont(buttonFont);
-        endTurnButton.addActionListener(e -> {
-            int currentPlayerIndex = dicePanel.getCurrentPlayerIndex();
-            int nextPlayerIndex = (currentPlayerIndex + 1) % sharedGameBoard.getPlayers().size();
-            dicePanel.setCurrentPlayerIndex(nextPlayerIndex);
-            System.out.println("Turn ended. Next player: " +
-                    sharedGameBoard.getPlayers().get(nextPlayerIndex).getName());
-        });
+        endTurnButton.addActionListener(e -> dicePanel.endTurn());
 
         // Add other buttons
         JButton buyHouseButton = new JButton("Buy House");
@@ -231,6 +228,8 @@ public class GUI extends JFrame {
         buyHotelButton.setFont(buttonFont);
         mortgageButton.setFont(buttonFont);
         tradeButton.setFont(buttonFont);
+        buyHouseButton.addActionListener(e -> buyHouse(game.getCurrentPlayer()));
+        tradeButton.addActionListener(e -> startTrade());
 
         // Add buttons to the panel
         actionButtonsPanel.add(endTurnButton);
@@ -245,6 +244,13 @@ public class GUI extends JFrame {
         bankPanel = new BankPanel(sharedGameBoard);
         tabbedPane.addTab("Bank", new JScrollPane(bankPanel));
 
+        // Follow the game on the console and in the log tab, off the Swing thread
+        EventLogPanel eventLogPanel = new EventLogPanel();
+        tabbedPane.addTab("Log", eventLogPanel);
+        sharedGameBoard.getEvents().subscribe(new ConsoleSubscriber());
+        sharedGameBoard.getEvents().subscribe(eventLogPanel);
+        sharedGameBoard.getEvents().start();
+
         // Add Player Panels
         playerPanels = new ArrayList<>();
         for (Player player : sharedGameBoard.getPlayers()) {
@@ -259,46 +265,13 @@ public class GUI extends JFrame {
 
         revalidate();
         repaint();
+        dicePanel.startTurn();
     }
 
     public JButton getEndTurnButton() {
         return endTurnButton;
     }
 
-    private JPanel createTurnPanel(GameBoard sharedGameBoard) {
-        JPanel turnPanel = new JPanel(new BorderLayout());
-        dicePanel = new DicePanel(sharedGameBoard, gameBoardPanel, bank, this);
-        turnPanel.add(dicePanel, BorderLayout.NORTH);
-
-        // Action buttons panel (same as your current implementation)
-        JPanel actionButtonsPanel = new JPanel();
-        actionButtonsPanel.setLayout(new GridLayout(5, 1, 0, 10));
-        actionButtonsPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
-
-        Font buttonFont = new Font("Arial", Font.BOLD, 16);
-        JButton endTurnButton = new JButton("End Turn");
-        JButton buyHouseButton = new JButton("Buy House");
-        JButton buyHotelButton = new JButton("Buy Hotel");
-        JButton mortgageButton = new JButton("Mortgage Property");
-        JButton tradeButton = new JButton("Start Trade");
-
-        // Set font for all buttons
-        endTurnButton.setFont(buttonFont);
-        buyHouseButton.setFont(buttonFont);
-        buyHotelButton.setFont(buttonFont);
-        mortgageButton.setFont(buttonFont);
-        tradeButton.setFont(buttonFont);
-
-        actionButtonsPanel.add(endTurnButton);
-        actionButtonsPanel.add(buyHouseButton);
-        actionButtonsPanel.add(buyHotelButton);
-        actionButtonsPanel.add(mortgageButton);
-        actionButtonsPanel.add(tradeButton);
-        turnPanel.add(actionButtonsPanel, BorderLayout.CENTER);
-
-        return turnPanel;
-    }
-
     private String showTokenSelectionPopup(String playerName, List<String> availableTokens) {
         String[] tokenOptions = availableTokens.toArray(new String[0]);
         return (String) JOptionPane.showInputDialog(
@@ -358,14 +331,17 @@ public class GUI extends JFrame {
 
     /**
      * Handles buying a house by the current player.
-     * Relies on the Bank to process the purchase.
+     * Relies on the turn engine to process the purchase. Computer players build on their own.
      */
     private void buyHouse(Player player) {
+        if (player instanceof ComputerPlayer) {
+            return;
+        }
         List<Property> eligibleProperties = new ArrayList<>();
 
         for (Property property : player.getProperties()) {
             if (property instanceof PropertySpace propSpace) {
-                if (propSpace.getHouseCount() < 4 && !propSpace.hasHotel()) {
+                if (!propSpace.hasHotel()) {
                     if (player.ownsFullColorGroup(propSpace.getColorGroup())) {
                         eligibleProperties.add(propSpace);
                     }
@@ -378,6 +354,10 @@ public class GUI extends JFrame {
             return;
         }
 
+        // Suggest the street the build planner would build on first
+        List<PropertySpace> plan = new BuildPlanner(sharedGameBoard).plan(player, ComputerPlayer.BUILD_RESERVE).getBuilds();
+        Property suggested = plan.isEmpty() ? eligibleProperties.get(0) : plan.get(0);
+
         Property selectedProperty = (Property) JOptionPane.showInputDialog(
                 this,
                 "Select a property to build a house:",
@@ -385,7 +365,7 @@ public class GUI extends JFrame {
                 JOptionPane.QUESTION_MESSAGE,
                 null,
                 eligibleProperties.toArray(),
-                eligibleProperties.get(0)
+                suggested
         );
 
         if (selectedProperty == null) {
@@ -393,7 +373,7 @@ public class GUI extends JFrame {
         }
 
         if (selectedProperty instanceof PropertySpace propSpace) {
-            boolean success = bank.buyHouse(player, propSpace);
+            boolean success = game.getTurnEngine().buildHouse(propSpace);
             if (success) {
                 JOptionPane.showMessageDialog(this, "Built a house on " + propSpace.getName() + "!");
                 bankPanel.refreshProperties();
@@ -403,10 +383,86 @@ public class GUI extends JFrame {
             }
         }
     }
+    /**
+     * Lets the current player offer a trade to another player. A computer player decides on
+     * the offer itself; a human player is asked to accept or decline it.
+     */
+    private void startTrade() {
+        Player proposer = game.getCurrentPlayer();
+        if (proposer instanceof ComputerPlayer) {
+            return;
+        }
+        TradePanel tradePanel = new TradePanel(proposer, sharedGameBoard);
+        if (tradePanel.getPartner() == null) {
+            JOptionPane.showMessageDialog(this, "There is no one to trade with.", "No Players", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        int option = JOptionPane.showConfirmDialog(this, tradePanel, "Start Trade",
+                JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
+        if (option != JOptionPane.OK_OPTION) {
+            return; // Cancelled
+        }
+
+        TradeOffer offer;
+        try {
+            offer = tradePanel.getOffer();
+        } catch (IllegalArgumentException ex) {
+            JOptionPane.showMessageDialog(this, ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        Player recipient = offer.getRecipient();
+        if (recipient instanceof ComputerPlayer computer) {
+            // A searching computer player may think for a while, so it decides on a SwingWorker
+            new SwingWorker<Boolean, Void>() {
+                @Override
+                protected Boolean doInBackground() {
+                    return computer.wantsTrade(offer);
+                }
+
+                @Override
+                protected void done() {
+                    boolean accepted;
+                    try {
+                        accepted = get();
+                    } catch (InterruptedException | ExecutionException e) {
+                        JOptionPane.showMessageDialog(GUI.this, "The trade offer failed: " + e.getMessage(),
+                                "Error", JOptionPane.ERROR_MESSAGE);
+                        return;
+                    }
+                    finishTrade(offer, accepted);
+                }
+            }.execute();
+        } else {
+            boolean accepted = JOptionPane.showConfirmDialog(this, recipient.getName() + ", do you accept this trade?\n" + offer,
+                    "Trade Offer", JOptionPane.YES_NO_OPTION) == JOptionPane.YES_OPTION;
+            finishTrade(offer, accepted);
+        }
+    }
+
+    /**
+     * Executes a trade the recipient answered and tells the user how it went.
+     */
+    private void finishTrade(TradeOffer offer, boolean accepted) {
+        Player recipient = offer.getRecipient();
+        if (!accepted) {
+            JOptionPane.showMessageDialog(this, recipient.getName() + " declined the trade.");
+        } else if (game.getTurnEngine().trade(offer)) {
+            JOptionPane.showMessageDialog(this, "Trade completed!");
+            dicePanel.refreshPanels(offer.getProposer());
+            dicePanel.refreshPanels(recipient);
+        } else {
+            JOptionPane.showMessageDialog(this, "The trade can no longer be made.", "Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
     public DicePanel getDicePanel() {
         return dicePanel;
     }
 
+    public GameState getGame() {
+        return game;
+    }
+
     public static void main(String[] args) {
         SwingUtilities.invokeLater(GUI::new);
     }
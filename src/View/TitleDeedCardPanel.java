@@ -38,9 +38,9 @@ public class TitleDeedCardPanel extends JPanel {
         rentPanel.add(new JLabel("With 4 Houses: $" + property.getCostWithFourHouses()));
         rentPanel.add(new JLabel("With Hotel: $" + property.getCostWithHotel()));
         rentPanel.add(Box.createRigidArea(new Dimension(0, 10)));
-        rentPanel.add(new JLabel("Mortgage Value: $" + (property.getPrice() / 2)));
-        rentPanel.add(new JLabel("House Cost: $" + property.getCostWithOneHouse()));
-        rentPanel.add(new JLabel("Hotel Cost: $" + property.getCostWithOneHouse())); // Assuming hotels cost same for now
+        rentPanel.add(new JLabel("Mortgage Value: $" + property.getMortgageValue()));
+        rentPanel.add(new JLabel("House Cost: $" + property.getCostOfHouseHotel()));
+        rentPanel.add(new JLabel("Hotel Cost: $" + property.getCostOfHouseHotel()));
 
         add(rentPanel, BorderLayout.CENTER);
 
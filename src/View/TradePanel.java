@@ -0,0 +1,138 @@
+package View;
+
+import Model.GameBoard;
+import Model.Player;
+import Model.Property;
+import Model.TradeBundle;
+import Model.TradeOffer;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TradePanel lets a player put together a trade with another player: the properties, cash
+ * and Get Out of Jail Free cards each side hands over. It is shown in a dialog by the
+ * Start Trade button.
+ */
+public class TradePanel extends JPanel {
+    private final Player proposer; // Player offering the trade
+    private final JComboBox<Player> partnerBox; // Player the trade is offered to
+    private final JList<Property> offeredList; // Proposer's properties to hand over
+    private final JList<Property> requestedList; // Partner's properties asked for
+    private final JSpinner offeredCash; // Cash the proposer hands over
+    private final JSpinner requestedCash; // Cash asked of the partner
+    private final JSpinner offeredCards; // Jail cards the proposer hands over
+    private final JSpinner requestedCards; // Jail cards asked of the partner
+
+    /**
+     * Constructs a panel for a trade offered by the specified player.
+     *
+     * @param proposer  The player offering the trade.
+     * @param gameBoard The game board the players are on.
+     */
+    public TradePanel(Player proposer, GameBoard gameBoard) {
+        this.proposer = proposer;
+        setLayout(new BorderLayout(10, 10));
+
+        List<Player> partners = new ArrayList<>();
+        for (Player player : gameBoard.getPlayers()) {
+            if (player != proposer && !player.isBankrupt()) {
+                partners.add(player);
+            }
+        }
+        partnerBox = new JComboBox<>(partners.toArray(new Player[0]));
+        partnerBox.setRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                          boolean isSelected, boolean cellHasFocus) {
+                String name = value instanceof Player player ? player.getName() : "";
+                return super.getListCellRendererComponent(list, name, index, isSelected, cellHasFocus);
+            }
+        });
+        JPanel partnerPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        partnerPanel.add(new JLabel("Trade with:"));
+        partnerPanel.add(partnerBox);
+        add(partnerPanel, BorderLayout.NORTH);
+
+        offeredList = new JList<>(proposer.getProperties().toArray(new Property[0]));
+        requestedList = new JList<>();
+        offeredCash = new JSpinner(new SpinnerNumberModel(0, 0, Math.max(proposer.getMoney(), 0), 10));
+        requestedCash = new JSpinner(new SpinnerNumberModel(0, 0, 0, 10));
+        offeredCards = new JSpinner(new SpinnerNumberModel(0, 0, proposer.getGetOutOfJailFreeCards(), 1));
+        requestedCards = new JSpinner(new SpinnerNumberModel(0, 0, 0, 1));
+
+        JPanel sides = new JPanel(new GridLayout(1, 2, 10, 0));
+        sides.add(createSide(proposer.getName() + " gives", offeredList, offeredCash, offeredCards));
+        sides.add(createSide("Asked in return", requestedList, requestedCash, requestedCards));
+        add(sides, BorderLayout.CENTER);
+
+        partnerBox.addActionListener(e -> showPartner());
+        showPartner();
+        setPreferredSize(new Dimension(560, 360));
+    }
+
+    private JPanel createSide(String title, JList<Property> properties, JSpinner cash, JSpinner cards) {
+        properties.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
+        properties.setCellRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                          boolean isSelected, boolean cellHasFocus) {
+                String name = value instanceof Property property ? property.getName() : "";
+                return super.getListCellRendererComponent(list, name, index, isSelected, cellHasFocus);
+            }
+        });
+        JPanel amounts = new JPanel(new GridLayout(2, 2, 5, 5));
+        amounts.add(new JLabel("Cash:"));
+        amounts.add(cash);
+        amounts.add(new JLabel("Jail cards:"));
+        amounts.add(cards);
+
+        JPanel side = new JPanel(new BorderLayout(5, 5));
+        side.setBorder(BorderFactory.createTitledBorder(title));
+        side.add(new JScrollPane(properties), BorderLayout.CENTER);
+        side.add(amounts, BorderLayout.SOUTH);
+        return side;
+    }
+
+    /**
+     * Fills the partner's side with what the selected partner can hand over.
+     */
+    private void showPartner() {
+        Player partner = getPartner();
+        if (partner == null) {
+            return;
+        }
+        requestedList.setListData(partner.getProperties().toArray(new Property[0]));
+        requestedCash.setModel(new SpinnerNumberModel(0, 0, Math.max(partner.getMoney(), 0), 10));
+        requestedCards.setModel(new SpinnerNumberModel(0, 0, partner.getGetOutOfJailFreeCards(), 1));
+    }
+
+    /**
+     * Gets the player the trade is offered to.
+     *
+     * @return The partner, or null if there is no one to trade with.
+     */
+    public Player getPartner() {
+        return (Player) partnerBox.getSelectedItem();
+    }
+
+    /**
+     * Builds the trade put together in the panel.
+     *
+     * @return The trade.
+     * @throws IllegalArgumentException if there is no partner or both sides are empty.
+     */
+    public TradeOffer getOffer() {
+        Player partner = getPartner();
+        if (partner == null) {
+            throw new IllegalArgumentException("There is no one to trade with");
+        }
+        TradeBundle offered = new TradeBundle(offeredList.getSelectedValuesList(),
+                (Integer) offeredCash.getValue(), (Integer) offeredCards.getValue());
+        TradeBundle requested = new TradeBundle(requestedList.getSelectedValuesList(),
+                (Integer) requestedCash.getValue(), (Integer) requestedCards.getValue());
+        return new TradeOffer(proposer, offered, partner, requested);
+    }
+}
@@ -0,0 +1,202 @@
+/**
+ * BankTest.java
+
+ * This file contains unit tests for the Bank class in the Monopoly game model.
+ * It tests that the Bank's ownership index follows every change of owner and that transfers
+ * between players are atomic, also when many threads make them at once.
+
+ */
+
+package ModelTests;
+
+import Model.Bank;
+import Model.ColorGroup;
+import Model.GameBoard;
+import Model.LedgerCategory;
+import Model.Player;
+import Model.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the Bank class.
+ */
+public class BankTest {
+    private GameBoard board;
+    private Bank bank;
+    private Player player;
+    private Player other;
+
+    /**
+     * Sets up a board with two players before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        List<Player> players = new ArrayList<>();
+        bank = new Bank(new ArrayList<>());
+        board = new GameBoard(players, true, bank);
+        player = new Player("Player 1", "Cat", board);
+        other = new Player("Player 2", "Dog", board);
+        players.add(player);
+        players.add(other);
+    }
+
+    /**
+     * Tests that the board registers its properties and that all start unowned.
+     */
+    @Test
+    public void testBoardRegistersProperties() {
+        assertEquals(28, bank.getAllProperties().size(), "The bank should know all 28 properties.");
+        assertEquals(28, bank.getUnownedProperties().size(), "Every property should start unowned.");
+        assertEquals(4, bank.getGroupSize(ColorGroup.RAILROAD), "There should be four railroads.");
+        assertEquals(2, bank.getGroupSize(ColorGroup.DARK_BLUE), "There should be two dark blue streets.");
+    }
+
+    /**
+     * Tests that completing, breaking and trading a color group updates the index.
+     */
+    @Test
+    public void testFullColorGroup() {
+        Property mediterranean = (Property) board.getSpace(1);
+        Property baltic = (Property) board.getSpace(3);
+
+        mediterranean.buy(player);
+        assertFalse(player.ownsFullColorGroup("Brown"), "Half a group should not be a full group.");
+        assertEquals(1, bank.countOwned(player, ColorGroup.BROWN), "The player should own one brown street.");
+
+        baltic.buy(player);
+        assertTrue(player.ownsFullColorGroup("brown"), "Both brown streets should be a full group.");
+        assertEquals(26, bank.getUnownedProperties().size(), "Two properties should have left the bank.");
+        assertTrue(bank.getUnownedProperties(ColorGroup.BROWN).isEmpty(), "No brown street should be unowned.");
+
+        baltic.setOwner(other);
+        assertFalse(player.ownsFullColorGroup(ColorGroup.BROWN), "Giving a street away should break the group.");
+        assertEquals(List.of(baltic), bank.getOwnedProperties(other), "The other player should own Baltic Avenue.");
+
+        baltic.setOwner(null);
+        assertEquals(27, bank.getUnownedProperties().size(), "A returned property should be unowned again.");
+    }
+
+    /**
+     * Tests that an unknown group name is never a full group.
+     */
+    @Test
+    public void testUnknownColorGroup() {
+        assertNull(ColorGroup.fromName("Blue"), "Blue is not a group on the board.");
+        assertFalse(player.ownsFullColorGroup("Blue"), "An unknown group should never be full.");
+    }
+
+    /**
+     * Tests that single, one-to-many and many-to-one transfers move the right amounts.
+     */
+    @Test
+    public void testTransfers() {
+        Player third = new Player("Player 3", "Hat", board);
+        board.getPlayers().add(third);
+
+        bank.transfer(player, other, 100, LedgerCategory.OTHER);
+        assertArrayEquals(new int[]{1400, 1600, 1500}, bank.getBalances(board.getPlayers()),
+                "A transfer should move the amount from the payer to the payee.");
+
+        bank.payEach(player, board.getPlayers(), 50, LedgerCategory.CARD);
+        assertArrayEquals(new int[]{1300, 1650, 1550}, bank.getBalances(board.getPlayers()),
+                "Paying each player should pay everyone but the payer.");
+
+        bank.collectFromEach(third, board.getPlayers(), 25, LedgerCategory.CARD);
+        assertArrayEquals(new int[]{1275, 1625, 1600}, bank.getBalances(board.getPlayers()),
+                "Collecting from each player should charge everyone but the payee.");
+    }
+
+    /**
+     * Tests that transfers made on many threads at once never lose or create money and that
+     * snapshots taken meanwhile always add up.
+     */
+    @Test
+    public void testConcurrentTransfersConserveMoney() throws Exception {
+        List<Player> players = board.getPlayers();
+        for (int i = 2; i < 8; i++) {
+            players.add(new Player("Player " + (i + 1), "Token", board));
+        }
+        int total = 1500 * players.size();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        Player from = players.get((i + thread) % players.size());
+                        Player to = players.get((i * 7 + thread * 3 + 1) % players.size());
+                        switch (i % 4) {
+                            case 0 -> bank.payEach(from, players, 3, LedgerCategory.CARD);
+                            case 1 -> bank.collectFromEach(from, players, 2, LedgerCategory.CARD);
+                            default -> bank.transfer(from, to, 5, LedgerCategory.RENT);
+                        }
+                    }
+                }));
+            }
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 2_000; i++) {
+                    int sum = 0;
+                    for (int money : bank.getBalances(players)) {
+                        sum += money;
+                    }
+                    assertEquals(total, sum, "A snapshot should never see a transfer half done.");
+                }
+            }));
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        int sum = 0;
+        for (Player p : players) {
+            sum += p.getMoney();
+        }
+        assertEquals(total, sum, "Transfers should neither lose nor create money.");
+    }
+
+    /**
+     * Tests that owners changed on many threads at once, each thread handling its own color
+     * group, leave the ownership index matching the owners.
+     */
+    @Test
+    public void testConcurrentOwnerChanges() throws Exception {
+        List<ColorGroup> groups = List.of(ColorGroup.BROWN, ColorGroup.LIGHT_BLUE, ColorGroup.PINK, ColorGroup.ORANGE);
+        ExecutorService executor = Executors.newFixedThreadPool(groups.size());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (ColorGroup group : groups) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 1; i <= 6_000; i++) {
+                        for (Property property : bank.getAllProperties()) {
+                            if (property.getGroup() == group) {
+                                property.setOwner(i % 3 == 0 ? player : i % 3 == 1 ? null : other);
+                            }
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        for (ColorGroup group : groups) {
+            assertTrue(bank.ownsFullColorGroup(player, group), "The player should own the whole group they were left with.");
+            assertEquals(0, bank.countOwned(other, group), "The other player should own nothing of the group.");
+        }
+        assertEquals(28 - 11, bank.getUnownedProperties().size(), "Only the groups handed out should have left the bank.");
+        assertEquals(11, bank.getOwnedProperties(player).size(), "The player should own every street of the four groups.");
+    }
+}
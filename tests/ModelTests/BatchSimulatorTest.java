@@ -0,0 +1,111 @@
+/**
+ * BatchSimulatorTest.java
+
+ * This file contains unit tests for the BatchSimulator class in the Monopoly game model.
+ * It tests that headless games run to completion and that the batch totals add up.
+
+ */
+
+package ModelTests;
+
+import Model.BatchSimulator;
+import Model.Dice;
+import Model.GameLog;
+import Model.GameState;
+import Model.Player;
+import Model.SimulationResult;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the BatchSimulator class.
+ */
+public class BatchSimulatorTest {
+
+    /**
+     * Tests that a headless game is set up with computer players only.
+     */
+    @Test
+    public void testNewHeadlessGame() {
+        GameState game = BatchSimulator.newHeadlessGame(3);
+
+        assertEquals(3, game.getPlayers().size(), "The game should have three players.");
+        assertEquals(0, game.getCurrentPlayerIndex(), "The first player should start.");
+        assertFalse(game.getBoard().getBank().getAllProperties().isEmpty(), "The bank should know the board's properties.");
+    }
+
+    /**
+     * Tests that a single game stops at the turn cap or when one player is left, and that
+     * players in debt settle it or go bankrupt rather than ending the game.
+     */
+    @Test
+    public void testPlayGameStopsAtTurnCapOrBankruptcy() {
+        GameState game = BatchSimulator.newHeadlessGame(2);
+
+        int turns = BatchSimulator.playGame(game, 50);
+
+        assertTrue(turns <= 50, "A game should never exceed the turn cap.");
+        assertTrue(turns == 50 || game.isGameOver(), "A game should only stop early when it is over.");
+
+        GameState longGame = BatchSimulator.newHeadlessGame(3, new Dice(5L));
+        BatchSimulator.playGame(longGame, 5_000);
+        int left = 0;
+        for (Player player : longGame.getPlayers()) {
+            assertTrue(player.getMoney() >= 0, player.getName() + " should never be left in debt.");
+            if (!player.isBankrupt()) {
+                left++;
+            }
+        }
+        assertTrue(!longGame.isGameOver() || left == 1, "A game should only end when one player is left.");
+    }
+
+    /**
+     * Tests that a batch plays every game and only silences the threads playing them.
+     */
+    @Test
+    public void testRunPlaysAllGames() {
+        SimulationResult result = new BatchSimulator(4, 200, 3).run(10);
+
+        assertEquals(10, result.getGames(), "All games should be played.");
+        assertTrue(result.getTurns() >= 10, "Every game should play at least one turn.");
+        assertTrue(result.getTurns() <= 10 * 200, "No game should exceed the turn cap.");
+        assertTrue(result.getBankruptcies() <= 10 * 3, "At most all but one player of each game should go bankrupt.");
+        assertTrue(result.getTurnsPerSecond() > 0, "Throughput should be reported.");
+        assertTrue(GameLog.isEnabled(), "Console messages of the calling thread should stay on.");
+        GameLog.runQuietly(() -> assertFalse(GameLog.isEnabled(), "A quiet task should not print."));
+        assertTrue(GameLog.isEnabled(), "Console messages should be back on after a quiet task.");
+    }
+
+    /**
+     * Tests that a game played twice from the same seed ends in the same state.
+     */
+    @Test
+    public void testSameSeedReplaysSameGame() {
+        GameState first = BatchSimulator.newHeadlessGame(3, new Dice(2024L));
+        GameState second = BatchSimulator.newHeadlessGame(3, new Dice(2024L));
+
+        int firstTurns = BatchSimulator.playGame(first, 300);
+        int secondTurns = BatchSimulator.playGame(second, 300);
+
+        assertEquals(firstTurns, secondTurns, "Both games should last the same number of turns.");
+        for (int i = 0; i < 3; i++) {
+            Player a = first.getPlayers().get(i);
+            Player b = second.getPlayers().get(i);
+            assertEquals(a.getMoney(), b.getMoney(), "Players should end with the same money.");
+            assertEquals(a.getPosition(), b.getPosition(), "Players should end on the same space.");
+        }
+    }
+
+    /**
+     * Tests that a batch plays the same games from the same seed whatever the thread count.
+     */
+    @Test
+    public void testSameSeedAnyThreadCount() {
+        SimulationResult single = new BatchSimulator(3, 200, 1).run(9, 77L);
+        SimulationResult parallel = new BatchSimulator(3, 200, 4).run(9, 77L);
+
+        assertEquals(single.getTurns(), parallel.getTurns(), "The thread count should not change the games played.");
+        assertEquals(single.getBankruptcies(), parallel.getBankruptcies(), "The thread count should not change the games played.");
+    }
+}
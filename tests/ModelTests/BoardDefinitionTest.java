@@ -0,0 +1,170 @@
+/**
+ * BoardDefinitionTest.java
+
+ * This file contains unit tests for the BoardDefinition class in the Monopoly game model.
+ * It tests that games share one board definition while each keeps its own changing state.
+
+ */
+
+package ModelTests;
+
+import Model.Bank;
+import Model.BoardDefinition;
+import Model.BoardTables;
+import Model.CardDefinition;
+import Model.CardEffect;
+import Model.CardOp;
+import Model.ColorGroup;
+import Model.CompactGameState;
+import Model.Dice;
+import Model.GameBoard;
+import Model.MctsPlanner;
+import Model.Player;
+import Model.Property;
+import Model.PropertySpace;
+import Model.SpaceDefinition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the BoardDefinition class.
+ */
+public class BoardDefinitionTest {
+    private GameBoard first;
+    private GameBoard second;
+
+    /**
+     * Sets up two games on the classic board.
+     */
+    @BeforeEach
+    public void setUp() {
+        first = new GameBoard(new ArrayList<>(), true, new Bank(new ArrayList<>()), new Dice(1L));
+        second = new GameBoard(new ArrayList<>(), true, new Bank(new ArrayList<>()), new Dice(2L));
+    }
+
+    /**
+     * Tests that games share the definition and tables but own their spaces.
+     */
+    @Test
+    public void testGamesShareDefinition() {
+        assertSame(BoardDefinition.classic(), first.getDefinition(), "Boards should be built on the classic definition.");
+        assertSame(first.getDefinition(), second.getDefinition(), "Both games should share one definition.");
+        assertSame(first.getTables(), second.getTables(), "Both games should share one set of tables.");
+        assertNotSame(first.getSpace(39), second.getSpace(39), "Each game should have its own spaces.");
+
+        Player player = new Player("Alice", "Car", first);
+        ((Property) first.getSpace(39)).setOwner(player);
+        assertFalse(((Property) second.getSpace(39)).isOwned(), "Buying in one game should not change the other.");
+    }
+
+    /**
+     * Tests that the spaces of a game carry the data of their definitions.
+     */
+    @Test
+    public void testSpacesMatchDefinition() {
+        BoardDefinition definition = first.getDefinition();
+        assertEquals(definition.size(), first.getSpaces().size(), "The game should have a space for every definition.");
+        for (int position = 0; position < definition.size(); position++) {
+            assertEquals(definition.getSpace(position).getName(), first.getSpace(position).getName(),
+                    "Space " + position + " should have the defined name.");
+        }
+        PropertySpace boardwalk = (PropertySpace) first.getSpace(39);
+        assertEquals(400, boardwalk.getPrice(), "Boardwalk should cost $400.");
+        assertEquals(2000, boardwalk.getCostWithHotel(), "Boardwalk's hotel rent should be $2000.");
+        assertEquals(definition.getChanceCards().size(), first.getChanceDeck().getCardCount(),
+                "The Chance deck should hold every defined card.");
+    }
+
+    /**
+     * Tests that the games share the definitions of their spaces and their card objects.
+     */
+    @Test
+    public void testGamesShareDefinitionsAndCards() {
+        PropertySpace mine = (PropertySpace) first.getSpace(39);
+        PropertySpace theirs = (PropertySpace) second.getSpace(39);
+        assertNotSame(mine, theirs, "Each game should have its own Boardwalk.");
+        assertSame(mine.getDefinition(), theirs.getDefinition(), "Both Boardwalks should refer to one definition.");
+        assertSame(first.getDefinition().getSpace(39), mine.getDefinition(), "Boardwalk should refer to the board's definition.");
+        for (int id = 0; id < first.getChanceDeck().getCardCount(); id++) {
+            assertSame(first.getChanceDeck().getCard(id), second.getChanceDeck().getCard(id),
+                    "Chance card " + id + " should be shared by both games.");
+        }
+        assertSame(first.getCommunityDeck(), first.deckOf(first.getCommunityDeck().getCard(0)),
+                "A card should be found in the deck of the game asking.");
+        assertSame(second.getChanceDeck(), second.deckOf(first.getChanceDeck().getCard(0)),
+                "A shared card should be found in the other game's deck too.");
+    }
+
+    /**
+     * Tests that mortgaging pays the mortgage value of the board and lifting it costs 10% more,
+     * however the value compares with the price.
+     */
+    @Test
+    public void testMortgageValueFromDefinition() {
+        SpaceDefinition street = SpaceDefinition.street("Harbor Row", ColorGroup.BROWN, 100,
+                new int[]{5, 10, 20, 40, 80, 160, 320}, 70, 50);
+        CardDefinition card = new CardDefinition("Collect $10.", new CardEffect(CardOp.COLLECT, 10, 0));
+        BoardDefinition definition = new BoardDefinition(List.of(SpaceDefinition.go(), street, SpaceDefinition.jail()),
+                List.of(card), List.of(card));
+        List<Player> players = new ArrayList<>();
+        GameBoard board = new GameBoard(players, true, new Bank(new ArrayList<>()), new Dice(3L), definition);
+        Player player = new Player("Alice", "Car", board);
+        players.add(player);
+        Property property = (Property) board.getSpace(1);
+        property.setOwner(player);
+        player.addProperty(property);
+
+        int cash = player.getMoney();
+        property.mortgage();
+        assertEquals(cash + 70, player.getMoney(), "Mortgaging should pay the defined mortgage value.");
+        property.unmortgage();
+        assertEquals(cash - 7, player.getMoney(), "Lifting the mortgage should cost 110% of the mortgage value.");
+    }
+
+    /**
+     * Tests that compact games played in parallel on the shared tables keep their own state.
+     */
+    @Test
+    public void testParallelCompactGames() {
+        BoardTables tables = BoardDefinition.classic().getTables();
+        List<CompactGameState> parallel = IntStream.range(0, 64).parallel()
+                .mapToObj(i -> play(tables, i)).toList();
+        for (int i = 0; i < parallel.size(); i++) {
+            assertEquals(play(tables, i), parallel.get(i), "Game " + i + " should not be affected by the others.");
+        }
+    }
+
+    private static CompactGameState play(BoardTables tables, long seed) {
+        Dice dice = new Dice(seed);
+        CompactGameState state = new CompactGameState(tables, 4);
+        state.shuffleDecks(dice);
+        for (int turn = 0; turn < 200 && !state.isGameOver(); turn++) {
+            state.playTurn(dice, MctsPlanner.BUY_WHAT_YOU_CAN);
+        }
+        return state;
+    }
+
+    /**
+     * Tests that invalid definitions are refused.
+     */
+    @Test
+    public void testInvalidDefinitions() {
+        assertThrows(IllegalArgumentException.class,
+                () -> SpaceDefinition.street("Nowhere", ColorGroup.RAILROAD, 100, new int[7], 50, 50),
+                "A street should need a color group.");
+        assertThrows(IllegalArgumentException.class,
+                () -> SpaceDefinition.street("Nowhere", ColorGroup.RED, 100, new int[3], 50, 50),
+                "A street should need every rent tier.");
+        assertThrows(IllegalArgumentException.class,
+                () -> new BoardDefinition(List.of(SpaceDefinition.go()), List.of(), List.of()),
+                "A board without a Jail space should be refused.");
+        assertThrows(IllegalArgumentException.class, () -> new CardDefinition("Odd card", CardEffect.CUSTOM),
+                "A custom card should not be defined as data.");
+    }
+}
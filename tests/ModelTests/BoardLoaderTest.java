@@ -0,0 +1,281 @@
+/**
+ * BoardLoaderTest.java
+
+ * This file contains unit tests for loading board files into BoardDefinitions in the Monopoly game model.
+ * It tests the classic board file, the lookup tables of a large generated board and games played on it.
+
+ */
+
+package ModelTests;
+
+import Model.Bank;
+import Model.BoardDefinition;
+import Model.BoardTables;
+import Model.CardOp;
+import Model.ColorGroup;
+import Model.CompactGameState;
+import Model.ComputerPlayer;
+import Model.Dice;
+import Model.GameBoard;
+import Model.GameState;
+import Model.LiquidationPlan;
+import Model.LiquidationSolver;
+import Model.MctsPlanner;
+import Model.Player;
+import Model.Property;
+import Model.PropertySpace;
+import Model.RentTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for loading board files.
+ */
+public class BoardLoaderTest {
+    private static final int LARGE_SIZE = 400;
+
+    @TempDir
+    Path folder;
+
+    private BoardDefinition large;
+
+    /**
+     * Writes a large generated board to a file and loads it.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        Path file = folder.resolve("large.board");
+        Files.writeString(file, largeBoard());
+        large = BoardDefinition.load(file);
+    }
+
+    private static String largeBoard() {
+        StringBuilder text = new StringBuilder("# A generated board ten times the classic size\n");
+        for (int position = 0; position < LARGE_SIZE; position++) {
+            if (position == 0) {
+                text.append("go\n");
+            } else if (position == 10) {
+                text.append("jail\n");
+            } else if (position == 30) {
+                text.append("go_to_jail\n");
+            } else if (position % 10 == 5) {
+                text.append("railroad|Railroad ").append(position).append("|200|25,50,100,200|100\n");
+            } else if (position % 20 == 12) {
+                text.append("utility|Utility ").append(position).append("|150|75\n");
+            } else if (position % 10 == 2) {
+                text.append("chance\n");
+            } else if (position % 10 == 7) {
+                text.append("community_chest\n");
+            } else if (position % 10 == 4) {
+                text.append("tax|Tax ").append(position).append("|100\n");
+            } else if (position % 10 == 0) {
+                text.append("free_parking\n");
+            } else {
+                text.append("street|Street ").append(position).append("|District ").append(position / 10)
+                        .append("|200|16,32,80,220,600,800,1000|100|100\n");
+            }
+        }
+        text.append("chance_card|Advance to the last street.|MOVE_TO|Street 399|1\n");
+        text.append("chance_card|Advance to the nearest Railroad.|NEAREST|railroad|2\n");
+        text.append("chance_card|Go Back 3 Spaces.|MOVE_RELATIVE|-3\n");
+        text.append("community_card|Advance to Go.|MOVE_TO|0|1\n");
+        text.append("community_card|Pay school fees of $50.|PAY|50\n");
+        return text.toString();
+    }
+
+    /**
+     * Tests that the classic board file holds the standard board.
+     */
+    @Test
+    public void testClassicBoardFile() {
+        BoardDefinition classic = BoardDefinition.classic();
+        assertEquals(40, classic.size(), "The classic board should have 40 spaces.");
+        assertEquals(10, classic.getTables().jailPosition(), "The Jail should be on space 10.");
+        assertEquals("Boardwalk", classic.getSpace(39).getName(), "Boardwalk should be the last space.");
+        assertEquals(400, classic.getSpace(39).getPrice(), "Boardwalk should cost $400.");
+        assertEquals(15, classic.getChanceCards().size(), "The Chance deck should have 15 cards.");
+        assertEquals(16, classic.getCommunityCards().size(), "The Community Chest deck should have 16 cards.");
+        assertEquals(39, classic.getChanceCards().get(0).getEffect().getFirst(), "The first Chance card should move to Boardwalk.");
+        assertEquals("Doctor\u2019s fee. Pay $50.", classic.getCommunityCards().get(2).getText(),
+                "Card text should be read as UTF-8.");
+    }
+
+    /**
+     * Tests the lookup tables of the large board.
+     */
+    @Test
+    public void testLargeBoardTables() {
+        BoardTables tables = large.getTables();
+        assertEquals(LARGE_SIZE, tables.size(), "Every line should make a space.");
+        assertEquals(5, tables.nextOfType(LARGE_SIZE - 1, BoardTables.RAILROAD), "The search should go round the board.");
+        assertEquals(15, tables.nextOfType(5, BoardTables.RAILROAD), "The search should start after the position.");
+        assertEquals(10, tables.nextOfType(350, BoardTables.JAIL), "The only Jail should be found from anywhere.");
+        assertEquals(3, tables.advance(LARGE_SIZE - 2, 5), "Moving should wrap past the last space.");
+        assertEquals(LARGE_SIZE - 1, tables.advance(2, -3), "Moving back should wrap past Go.");
+        assertTrue(tables.passesGo(LARGE_SIZE - 2, 3), "Wrapping round should pass Go.");
+        assertTrue(tables.passesGo(LARGE_SIZE - 2, 0), "Landing on Go should collect salary.");
+        assertFalse(tables.passesGo(3, LARGE_SIZE - 2), "Moving forward without wrapping should not pass Go.");
+
+        int owned = 0;
+        for (int group = 0; group < tables.groupCount(); group++) {
+            for (int position : tables.groupMembers(group)) {
+                assertEquals(group, tables.group(position), "Space " + position + " should be in its group.");
+            }
+            owned += tables.groupMembers(group).length;
+        }
+        int expected = 0;
+        for (int position = 0; position < LARGE_SIZE; position++) {
+            if (tables.isOwnable(position)) {
+                expected++;
+            }
+        }
+        assertEquals(expected, owned, "Every ownable space should be in a group.");
+        assertEquals(399, tables.chanceCard(0).getFirst(), "A card should move to a space by name.");
+        assertEquals(CardOp.NEAREST, tables.chanceCard(1).getOp(), "The second card should move to the nearest railroad.");
+    }
+
+    /**
+     * Tests that the groups of a board are read from its file, however many there are.
+     */
+    @Test
+    public void testGroupsFromFile() {
+        assertEquals(ColorGroup.classic(), BoardDefinition.classic().getGroups(),
+                "The classic board should declare the classic groups in order.");
+        assertEquals(42, large.getGroups().size(), "The large board should have forty districts, the railroads and the utilities.");
+        assertEquals(large.groupCount(), large.getTables().groupCount(), "The tables should have a slot for every group.");
+        ColorGroup last = large.findGroup("district 39");
+        assertEquals("District 39", last.getDisplayName(), "A group should keep the name in the file.");
+        assertEquals(41, last.getId(), "Groups should be numbered in order of first use.");
+        assertEquals(ColorGroup.Kind.RAILROAD, large.getGroups().get(1).getKind(), "The first railroad should make the railroad group.");
+
+        List<Player> players = new ArrayList<>();
+        GameBoard board = new GameBoard(players, true, new Bank(new ArrayList<>()), new Dice(7L), large);
+        Player player = new Player("Player 1", "Cat", board);
+        players.add(player);
+        for (int position : large.getTables().groupMembers(last.getId())) {
+            assertFalse(player.ownsFullColorGroup("District 39"), "Part of a district should not be a full group.");
+            ((Property) board.getSpace(position)).setOwner(player);
+        }
+        assertTrue(player.ownsFullColorGroup("District 39"), "Every street of the district should be a full group.");
+        assertFalse(player.ownsFullColorGroup(ColorGroup.BROWN), "A classic group the board does not use should never be full.");
+    }
+
+    /**
+     * Tests rent on the large board, whose groups hold far more than four spaces.
+     */
+    @Test
+    public void testLargeGroupRent() {
+        BoardTables tables = large.getTables();
+        RentTable rents = tables.rentTable();
+        int railroads = tables.groupMembers(tables.group(5)).length;
+        assertEquals(200, rents.rent(5, 0, 4, 7), "Four railroads should charge the top tier.");
+        assertEquals(200, rents.rent(5, 0, 5, 7), "Five railroads should charge the four-railroad rent.");
+        assertEquals(200, rents.rent(5, 0, 6, 7), "Six railroads should charge the four-railroad rent.");
+        assertEquals(200, rents.rent(5, 0, railroads, 7), "Every railroad should charge the four-railroad rent.");
+
+        int last = LARGE_SIZE - 1;
+        int streets = tables.groupMembers(tables.group(last)).length;
+        assertTrue(streets > 4, "The last group should hold more than four streets.");
+        assertEquals(16, rents.rent(last, 0, streets - 1, 7), "A group one street short should charge the site rent.");
+        assertEquals(32, rents.rent(last, 0, streets, 7), "A whole group should charge the color set rent.");
+        assertEquals(1000, rents.rent(last, BoardTables.HOTEL, streets, 7), "A hotel should charge the hotel rent.");
+    }
+
+    /**
+     * Tests that compact and object-model games can be played on the large board.
+     */
+    @Test
+    public void testGamesOnLargeBoard() {
+        Dice dice = new Dice(7L);
+        CompactGameState compact = new CompactGameState(large.getTables(), 4);
+        compact.shuffleDecks(dice);
+        for (int turn = 0; turn < 500 && !compact.isGameOver(); turn++) {
+            compact.playTurn(dice, MctsPlanner.BUY_WHAT_YOU_CAN);
+            for (int player = 0; player < 4; player++) {
+                assertTrue(compact.getPosition(player) < LARGE_SIZE, "Compact players should stay on the board.");
+            }
+        }
+
+        List<Player> players = new ArrayList<>();
+        GameBoard board = new GameBoard(players, true, new Bank(new ArrayList<>()), new Dice(7L), large);
+        for (int i = 0; i < 2; i++) {
+            ComputerPlayer player = new ComputerPlayer("Computer " + (i + 1), GameBoard.TOKENS.get(i), board);
+            player.setPlayerIndex(i);
+            players.add(player);
+        }
+        GameState game = new GameState(board);
+        assertEquals(LARGE_SIZE, board.getSpaces().size(), "The game should have every space of the file.");
+        assertEquals("Street 399", ((PropertySpace) board.getSpace(399)).getName(), "The last space should be a street.");
+        for (int turn = 0; turn < 300 && !game.isGameOver(); turn++) {
+            game.handleTurn();
+            for (Player player : players) {
+                assertTrue(player.getPosition() < LARGE_SIZE, "Players should stay on the board.");
+            }
+        }
+    }
+
+    /**
+     * Tests that a player owning a group of far more than thirty-two railroads can raise a debt
+     * by mortgaging them, and that the solver still finds the least loss.
+     */
+    @Test
+    public void testLiquidateLargeGroup() {
+        List<Player> players = new ArrayList<>();
+        GameBoard board = new GameBoard(players, true, new Bank(new ArrayList<>()), new Dice(7L), large);
+        Player player = new Player("Player 1", "Cat", board);
+        players.add(player);
+        int railroads = 0;
+        for (int position = 5; position < LARGE_SIZE; position += 10) {
+            Property railroad = (Property) board.getSpace(position);
+            railroad.setOwner(player);
+            player.addProperty(railroad);
+            railroads++;
+        }
+        assertTrue(railroads > 32, "The group should hold more railroads than an int has bits.");
+
+        LiquidationPlan plan = LiquidationSolver.solve(player, railroads * 100 - 50);
+        assertTrue(plan.isFeasible(), "Mortgaging every railroad should raise the debt.");
+        assertEquals(railroads, plan.getMortgages().size(), "Every railroad should be mortgaged.");
+        assertEquals(railroads * 10, plan.getLoss(), "The loss should be the interest on every mortgage.");
+        assertEquals(3, LiquidationSolver.solve(player, 250).getMortgages().size(), "Three railroads should be enough for $250.");
+        assertFalse(LiquidationSolver.solve(player, railroads * 100 + 1).isFeasible(), "More than the railroads are worth should not be raised.");
+    }
+
+    /**
+     * Tests that invalid board files are refused with the line at fault.
+     */
+    @Test
+    public void testInvalidFiles() {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> read("go\njail\ngroup|Lines|railroad\nstreet|Nowhere|Lines|100|1,2,3,4,5,6,7|50|50\n"),
+                "A street in a railroad group should be refused.");
+        assertTrue(error.getMessage().startsWith("test:4:"), "The error should name the line.");
+        assertThrows(IllegalArgumentException.class, () -> read("go\njail\ngroup|Purple\ngroup|purple\n"),
+                "A group should not be declared twice.");
+        assertThrows(IllegalArgumentException.class, () -> read("go\njail\ngroup|Purple|castle\n"),
+                "An unknown kind of group should be refused.");
+        assertThrows(IllegalArgumentException.class, () -> read("go\njail\nchance_card|Lost.|MOVE_TO|Boardwalk|1\n"),
+                "A card should not move to a space the board does not have.");
+        assertThrows(IllegalArgumentException.class, () -> read("go\njail\nchance_card|Far.|MOVE_TO|40|1\n"),
+                "A card should not move off the board.");
+        assertThrows(IllegalArgumentException.class, () -> read("go\njail\nchance_card|Ride.|NEAREST|railroad|2\n"),
+                "A card should not look for a kind of space the board does not have.");
+        assertThrows(IllegalArgumentException.class, () -> read("go\ncastle\n"),
+                "An unknown kind of space should be refused.");
+    }
+
+    private static BoardDefinition read(String text) throws IOException {
+        return BoardDefinition.read(new BufferedReader(new StringReader(text)), "test");
+    }
+}
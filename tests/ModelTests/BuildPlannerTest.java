@@ -0,0 +1,187 @@
+/**
+ * BuildPlannerTest.java
+
+ * This file contains unit tests for the BuildPlanner class in the Monopoly game model.
+ * It tests that the bank builds houses and hotels evenly at their cost and within its supply,
+ * and that the planner finds the buildings that add the most expected rent.
+
+ */
+
+package ModelTests;
+
+import Model.Bank;
+import Model.BoardTables;
+import Model.BuildPlan;
+import Model.BuildPlanner;
+import Model.ComputerPlayer;
+import Model.Dice;
+import Model.GameBoard;
+import Model.GameState;
+import Model.LandingProbabilitySolver;
+import Model.LedgerCategory;
+import Model.Player;
+import Model.PropertySpace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the BuildPlanner class and the building rules of the Bank.
+ */
+public class BuildPlannerTest {
+    private static final int[] BROWN = {1, 3};
+    private static final int[] LIGHT_BLUE = {6, 8, 9};
+
+    private GameBoard board;
+    private Bank bank;
+    private Player player;
+    private double[] landing;
+
+    /**
+     * Sets up a player owning the brown and light blue streets.
+     */
+    @BeforeEach
+    public void setUp() {
+        List<Player> players = new ArrayList<>();
+        bank = new Bank(new ArrayList<>());
+        board = new GameBoard(players, true, bank);
+        player = new Player("Player 1", "Cat", board);
+        players.add(player);
+        players.add(new Player("Player 2", "Dog", board));
+        for (int[] group : new int[][]{BROWN, LIGHT_BLUE}) {
+            for (int position : group) {
+                PropertySpace street = street(position);
+                street.setOwner(player);
+                player.addProperty(street);
+            }
+        }
+        landing = new LandingProbabilitySolver(board).solve();
+    }
+
+    private PropertySpace street(int position) {
+        return (PropertySpace) board.getSpace(position);
+    }
+
+    /**
+     * Tests that houses cost the house price, go up evenly and turn into a hotel after four.
+     */
+    @Test
+    public void testBuyHouseFollowsRules() {
+        PropertySpace mediterranean = street(1);
+        PropertySpace baltic = street(3);
+        int money = player.getMoney();
+        assertTrue(bank.buyHouse(player, mediterranean), "The first house should be built.");
+        assertEquals(money - mediterranean.getCostOfHouseHotel(), player.getMoney(), "A house should cost the house price.");
+        assertFalse(bank.buyHouse(player, mediterranean), "A second house should wait for Baltic Avenue.");
+        assertFalse(bank.buyHouse(player, street(11)), "Streets of a group not owned should not be built on.");
+
+        for (int i = 0; i < 7; i++) {
+            assertTrue(bank.buyHouse(player, i % 2 == 0 ? baltic : mediterranean), "Building evenly should be allowed.");
+        }
+        int housesLeft = bank.getHousesLeft();
+        assertTrue(bank.buyHouse(player, baltic), "A hotel should be built on four houses.");
+        assertTrue(baltic.hasHotel(), "Baltic Avenue should have a hotel.");
+        assertEquals(housesLeft + 4, bank.getHousesLeft(), "The hotel should hand its houses back.");
+        assertEquals(Bank.HOTELS - 1, bank.getHotelsLeft(), "The hotel should come from the bank.");
+        assertFalse(bank.buyHouse(player, baltic), "Nothing should be built on a hotel.");
+    }
+
+    /**
+     * Tests that the plan matches the best of every way to build up the two groups.
+     */
+    @Test
+    public void testPlanIsOptimal() {
+        BuildPlanner planner = new BuildPlanner(board, landing);
+        for (int money : new int[]{0, 120, 400, 650, 1000, 5000}) {
+            player.setMoney(money);
+            BuildPlan plan = planner.plan(player, 100);
+            double best = 0;
+            for (int brown = 0; brown <= 2 * BoardTables.HOTEL; brown++) {
+                for (int blue = 0; blue <= 3 * BoardTables.HOTEL; blue++) {
+                    if ((brown + blue) * 50 <= money - 100) {
+                        best = Math.max(best, gain(BROWN, brown) + gain(LIGHT_BLUE, blue));
+                    }
+                }
+            }
+            assertEquals(best, plan.getRentGain(), 1e-9, "The plan for $" + money + " should add the most rent.");
+            assertTrue(plan.getCost() <= Math.max(0, money - 100), "The plan should keep the reserve.");
+            assertEquals(plan.getBuilds().size() * 50, plan.getCost(), "Every building should cost $50.");
+        }
+
+        player.setMoney(1000);
+        for (PropertySpace street : planner.plan(player, 100).getBuilds()) {
+            assertTrue(bank.buyHouse(player, street), "Every building of the plan should be allowed in order.");
+        }
+    }
+
+    /**
+     * Tests that the plan takes no more houses than the bank has left.
+     */
+    @Test
+    public void testPlanRespectsSupply() {
+        int built = 0;
+        for (int position = 11; built < Bank.HOUSES - 2; position++) {
+            if (board.getSpace(position) instanceof PropertySpace street) {
+                int houses = Math.min(4, Bank.HOUSES - 2 - built);
+                street.setHouseCount(houses);
+                built += houses;
+            }
+        }
+        assertEquals(2, bank.getHousesLeft(), "Two houses should be left.");
+        BuildPlan plan = new BuildPlanner(board, landing).plan(player, 0);
+        assertEquals(2, plan.getBuilds().size(), "The plan should use only the houses left.");
+        for (PropertySpace street : plan.getBuilds()) {
+            assertTrue(bank.buyHouse(player, street), "Every building of the plan should be allowed.");
+        }
+        assertFalse(bank.buyHouse(player, street(6)), "The bank should have no houses left.");
+    }
+
+    /**
+     * Tests that a computer player owning a whole group builds in a played game, and that the
+     * supply never runs out from under the builders.
+     */
+    @Test
+    public void testComputersBuild() {
+        List<Player> players = new ArrayList<>();
+        Bank gameBank = new Bank(new ArrayList<>());
+        GameBoard game = new GameBoard(players, true, gameBank, new Dice(3L));
+        for (int i = 0; i < 3; i++) {
+            ComputerPlayer computer = new ComputerPlayer("Computer " + (i + 1), GameBoard.TOKENS.get(i), game);
+            computer.setPlayerIndex(i);
+            players.add(computer);
+        }
+        for (int position : LIGHT_BLUE) {
+            PropertySpace street = (PropertySpace) game.getSpace(position);
+            street.setOwner(players.get(0));
+            players.get(0).addProperty(street);
+        }
+        GameState state = new GameState(game);
+        long spent = 0;
+        for (int turn = 0; turn < 500 && !state.isGameOver(); turn++) {
+            state.handleTurn();
+            assertTrue(gameBank.getHousesLeft() >= 0 && gameBank.getHotelsLeft() >= 0, "The supply should never run below zero.");
+        }
+        for (Player computer : players) {
+            spent += gameBank.getLedger().getSpending(computer, LedgerCategory.BUILDING);
+        }
+        assertTrue(spent > 0, "The computer player owning the light blue streets should build.");
+    }
+
+    /**
+     * Computes the expected rent a group gains from a number of buildings spread evenly.
+     */
+    private double gain(int[] group, int buildings) {
+        double total = 0;
+        for (int i = 0; i < group.length; i++) {
+            int level = buildings / group.length + (i < buildings % group.length ? 1 : 0);
+            int position = group[i];
+            total += landing[position] * (board.getTables().rentTable().rent(position, level, group.length, 0)
+                    - board.getTables().rentTable().rent(position, 0, group.length, 0));
+        }
+        return total;
+    }
+}
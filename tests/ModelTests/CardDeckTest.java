@@ -0,0 +1,121 @@
+/**
+ * CardDeckTest.java
+
+ * This file contains unit tests for the CardDeck class in the Monopoly game model.
+ * It tests drawing, returning, withholding kept cards, shuffling and snapshots.
+
+ */
+
+package ModelTests;
+
+import Model.Bank;
+import Model.CardDeck;
+import Model.ChanceCard;
+import Model.CommunityChestCard;
+import Model.Dice;
+import Model.GameBoard;
+import Model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the CardDeck class.
+ */
+public class CardDeckTest {
+    private List<ChanceCard> cards;
+    private CardDeck<ChanceCard> deck;
+
+    /**
+     * Sets up a deck of four plain cards before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        cards = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            cards.add(new ChanceCard("Card " + i, player -> { }));
+        }
+        deck = new CardDeck<>(cards);
+    }
+
+    /**
+     * Tests that drawn cards come from the top and go back to the bottom.
+     */
+    @Test
+    public void testDrawAndReturnToBottom() {
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 4; i++) {
+                ChanceCard card = deck.draw();
+                assertSame(cards.get(i), card, "Cards should be drawn in order.");
+                deck.returnToBottom(card);
+            }
+        }
+        assertEquals(4, deck.size(), "Returning every card should keep the deck full.");
+        assertThrows(IllegalStateException.class, () -> deck.returnToBottom(cards.get(0)),
+                "A full deck should not take another card.");
+    }
+
+    /**
+     * Tests that a withheld card stays out of the deck until it is reinserted.
+     */
+    @Test
+    public void testWithholdAndReinsert() {
+        ChanceCard kept = deck.draw();
+        deck.withhold(kept);
+        assertEquals(3, deck.size(), "A withheld card should be out of the deck.");
+        assertEquals(1, deck.getWithheld(), "The deck should count the withheld card.");
+        for (int i = 0; i < 6; i++) {
+            ChanceCard card = deck.draw();
+            assertNotSame(kept, card, "A withheld card should never be drawn.");
+            deck.returnToBottom(card);
+        }
+        deck.reinsert(kept);
+        assertEquals(4, deck.size(), "A reinserted card should be back in the deck.");
+        assertSame(kept, deck.get(3), "A reinserted card should be at the bottom.");
+    }
+
+    /**
+     * Tests that the same dice give the same shuffle and that a snapshot restores the order.
+     */
+    @Test
+    public void testSeededShuffleAndSnapshot() {
+        CardDeck<ChanceCard> other = new CardDeck<>(new ArrayList<>(cards));
+        deck.shuffle(new Dice(3L));
+        other.shuffle(new Dice(3L));
+        assertEquals(deck.snapshot(), other.snapshot(), "The same seed should give the same order.");
+
+        List<ChanceCard> order = deck.snapshot();
+        deck.returnToBottom(deck.draw());
+        deck.shuffle(new Dice(4L));
+        deck.restore(order);
+        assertEquals(order, deck.snapshot(), "Restoring a snapshot should give back its order.");
+    }
+
+    /**
+     * Tests that a Get Out of Jail Free card drawn on the board stays with the player until used.
+     */
+    @Test
+    public void testGetOutOfJailFreeCardIsKept() {
+        List<Player> players = new ArrayList<>();
+        GameBoard board = new GameBoard(players, true, new Bank(new ArrayList<>()), new Dice(1L));
+        Player player = new Player("Player 1", "Cat", board);
+        players.add(player);
+        CardDeck<CommunityChestCard> communityDeck = board.getCommunityDeck();
+
+        for (int i = 0; i < 16 && !player.hasGetOutOfJailFreeCard(); i++) {
+            player.setPosition(2);
+            player.releaseFromJail();
+            board.getSpace(2).landOn(player);
+        }
+        assertTrue(player.hasGetOutOfJailFreeCard(), "One pass through the deck should find the card.");
+        assertEquals(15, communityDeck.size(), "The kept card should be out of the deck.");
+
+        assertTrue(player.useGetOutOfJailFreeCard(), "The player should be able to use the card.");
+        assertEquals(16, communityDeck.size(), "A used card should go back into the deck.");
+        assertTrue(communityDeck.get(15).isKept(), "The used card should be at the bottom.");
+    }
+}
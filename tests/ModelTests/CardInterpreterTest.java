@@ -0,0 +1,155 @@
+/**
+ * CardInterpreterTest.java
+
+ * This file contains unit tests for the CardInterpreter class in the Monopoly game model.
+ * It tests that the card decks are described as data, that the interpreter applies them
+ * and that the compact game state plays the same decks.
+
+ */
+
+package ModelTests;
+
+import Model.Bank;
+import Model.BatchSimulator;
+import Model.BoardTables;
+import Model.CardDeck;
+import Model.CardEffect;
+import Model.CardInterpreter;
+import Model.CardOp;
+import Model.ChanceCard;
+import Model.CompactGameState;
+import Model.Dice;
+import Model.GameBoard;
+import Model.GameState;
+import Model.MctsPlanner;
+import Model.Player;
+import Model.PropertySpace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the CardInterpreter class.
+ */
+public class CardInterpreterTest {
+    private GameBoard board;
+    private Player player;
+    private Player second;
+    private Player third;
+
+    /**
+     * Sets up a board with three players before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        List<Player> players = new ArrayList<>();
+        board = new GameBoard(players, true, new Bank(new ArrayList<>()), new Dice(1L));
+        player = new Player("Player 1", "Cat", board);
+        second = new Player("Player 2", "Dog", board);
+        third = new Player("Player 3", "Hat", board);
+        players.add(player);
+        players.add(second);
+        players.add(third);
+    }
+
+    /**
+     * Tests that every classic card is described by data the tables can read.
+     */
+    @Test
+    public void testDecksAreData() {
+        CardDeck<ChanceCard> chance = board.getChanceDeck();
+        for (int id = 0; id < chance.getCardCount(); id++) {
+            assertNotEquals(CardOp.CUSTOM, chance.getCard(id).getEffect().getOp(), "No Chance card should need custom code.");
+        }
+        BoardTables tables = board.getTables();
+        assertEquals(15, tables.chanceCardCount(), "There should be fifteen Chance cards.");
+        assertEquals(16, tables.communityCardCount(), "There should be sixteen Community Chest cards.");
+        assertEquals(CardEffect.moveTo(39, true), tables.chanceCard(0), "The first Chance card should go to Boardwalk.");
+        assertEquals(12, tables.nextOfType(7, BoardTables.UTILITY), "The utility after space 7 should be the Electric Company.");
+        assertEquals(5, tables.nextOfType(36, BoardTables.RAILROAD), "The railroad after space 36 should wrap to Reading Railroad.");
+    }
+
+    /**
+     * Tests that the interpreter moves money for the money effects.
+     */
+    @Test
+    public void testMoneyEffects() {
+        CardInterpreter.apply(CardEffect.collectEach(10), player);
+        assertEquals(1520, player.getMoney(), "The player should collect from both other players.");
+        assertEquals(1490, second.getMoney(), "Each other player should pay.");
+
+        PropertySpace boardwalk = (PropertySpace) board.getSpace(39);
+        PropertySpace parkPlace = (PropertySpace) board.getSpace(37);
+        boardwalk.setOwner(player);
+        parkPlace.setOwner(player);
+        player.addProperty(boardwalk);
+        player.addProperty(parkPlace);
+        boardwalk.setHouseCount(3);
+        parkPlace.setHasHotel(true);
+        assertEquals(3 * 40 + 115, CardInterpreter.repairCost(player, 40, 115), "Repairs should count houses and hotels.");
+        CardInterpreter.apply(CardEffect.repairs(40, 115), player);
+        assertEquals(1520 - 235, player.getMoney(), "The player should pay for the repairs.");
+
+        assertThrows(IllegalArgumentException.class, () -> CardInterpreter.apply(CardEffect.CUSTOM, player),
+                "A custom effect should not be interpreted.");
+    }
+
+    /**
+     * Tests that moving by card pays Go salary when passing it and lands on the target.
+     */
+    @Test
+    public void testMoveEffects() {
+        player.setPosition(36);
+        CardInterpreter.apply(CardEffect.moveTo(11, true), player);
+        assertEquals(11, player.getPosition(), "The player should be on St. Charles Place.");
+        assertEquals(1700, player.getMoney(), "Passing Go should pay the salary.");
+
+        CardInterpreter.apply(CardEffect.moveRelative(-3), player);
+        assertEquals(8, player.getPosition(), "The player should go back three spaces.");
+        assertEquals(1700, player.getMoney(), "Going back should not pay the salary.");
+
+        CardInterpreter.apply(CardEffect.goToJail(), player);
+        assertTrue(player.isInJail(), "The player should be in jail.");
+    }
+
+    /**
+     * Tests that the compact state reads, plays and writes back the card decks.
+     */
+    @Test
+    public void testCompactDecks() {
+        GameState game = BatchSimulator.newHeadlessGame(3, new Dice(9L));
+        CardDeck<ChanceCard> chance = game.getBoard().getChanceDeck();
+        CompactGameState state = CompactGameState.fromGame(game);
+        for (int i = 0; i < chance.size(); i++) {
+            assertEquals(chance.idOf(chance.get(i)), state.getDeckCard(CompactGameState.CHANCE_DECK, i),
+                    "The compact deck should keep the order of the Chance deck.");
+        }
+
+        Dice dice = new Dice(10L);
+        for (int turn = 0; turn < 400 && !state.isGameOver(); turn++) {
+            state.playTurn(dice, MctsPlanner.BUY_WHAT_YOU_CAN);
+        }
+        for (int deck = CompactGameState.CHANCE_DECK; deck <= CompactGameState.COMMUNITY_DECK; deck++) {
+            int held = 0;
+            for (int p = 0; p < state.getPlayerCount(); p++) {
+                held += state.getHeldCards(p, deck);
+            }
+            int cards = deck == CompactGameState.CHANCE_DECK ? 15 : 16;
+            assertEquals(cards, state.getDeckSize(deck) + held, "Every card should be in the deck or held by a player.");
+        }
+
+        state.applyTo(game);
+        CompactGameState again = CompactGameState.fromGame(game);
+        for (int i = 0; i < state.getDeckSize(CompactGameState.COMMUNITY_DECK); i++) {
+            assertEquals(state.getDeckCard(CompactGameState.COMMUNITY_DECK, i), again.getDeckCard(CompactGameState.COMMUNITY_DECK, i),
+                    "The deck order should survive a round trip.");
+        }
+        for (int p = 0; p < state.getPlayerCount(); p++) {
+            assertEquals(state.getJailCards(p), again.getJailCards(p), "Held jail cards should survive a round trip.");
+        }
+    }
+}
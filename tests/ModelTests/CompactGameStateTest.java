@@ -0,0 +1,273 @@
+/**
+ * CompactGameStateTest.java
+
+ * This file contains unit tests for the CompactGameState class in the Monopoly game model.
+ * It tests the conversion to and from the object model and the compact rules.
+
+ */
+
+package ModelTests;
+
+import Model.BatchSimulator;
+import Model.BoardTables;
+import Model.CompactGameState;
+import Model.Dice;
+import Model.GameState;
+import Model.MctsPlanner;
+import Model.Player;
+import Model.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the CompactGameState class.
+ */
+public class CompactGameStateTest {
+    private GameState game;
+    private BoardTables tables;
+
+    /**
+     * Sets up a headless game and its board tables before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        game = BatchSimulator.newHeadlessGame(3, new Dice(5L));
+        tables = new BoardTables(game.getBoard());
+    }
+
+    /**
+     * Tests that the board tables read the classic board.
+     */
+    @Test
+    public void testBoardTables() {
+        assertEquals(40, tables.size(), "The classic board should have forty spaces.");
+        assertEquals(10, tables.jailPosition(), "Jail should be on space ten.");
+        assertEquals(BoardTables.STREET, tables.type(1), "Mediterranean Avenue should be a street.");
+        assertEquals(BoardTables.RAILROAD, tables.type(5), "Reading Railroad should be a railroad.");
+        assertEquals(2, tables.groupSize(tables.group(1)), "The brown group should have two streets.");
+        assertEquals(4, tables.groupSize(tables.group(5)), "There should be four railroads.");
+        assertEquals(200, tables.rent(5, 4), "Four railroads should charge 200.");
+    }
+
+    /**
+     * Tests the building and mortgage rules: whole groups only, building evenly, no mortgages
+     * under buildings.
+     */
+    @Test
+    public void testBuildAndMortgage() {
+        CompactGameState state = new CompactGameState(tables, 2);
+        state.setOwner(1, 0);
+        assertFalse(state.canBuild(0, 1), "A street should not be built on without its whole group.");
+        state.setOwner(3, 0);
+        assertTrue(state.canBuild(0, 1), "A street should be built on once the group is owned.");
+        state.build(0, 1);
+        assertEquals(CompactGameState.STARTING_CASH - tables.houseCost(1), state.getCash(0), "The house should be paid for.");
+        assertFalse(state.canBuild(0, 1), "A second house should wait until the group is even.");
+        assertTrue(state.canBuild(0, 3), "The other street of the group should be built on.");
+        assertFalse(state.canMortgage(0, 3), "A group with buildings should not be mortgaged.");
+
+        state.setOwner(5, 0);
+        assertTrue(state.canMortgage(0, 5), "A railroad should be mortgaged.");
+        int cash = state.getCash(0);
+        state.mortgage(0, 5);
+        assertEquals(cash + tables.mortgageValue(5), state.getCash(0), "The mortgage value should be paid.");
+        assertFalse(state.canMortgage(0, 5), "A space should not be mortgaged twice.");
+        assertEquals(state.getCash(0) + tables.price(1) + tables.houseCost(1) + tables.price(3)
+                + tables.price(5) - tables.mortgageValue(5), state.netWorth(0), "Net worth should count every holding.");
+    }
+
+    /**
+     * Tests that a game played for a while survives a round trip through the compact state.
+     */
+    @Test
+    public void testRoundTrip() {
+        for (int turn = 0; turn < 12 && !game.isGameOver(); turn++) {
+            game.handleTurn();
+        }
+        Player first = game.getPlayers().get(0);
+        first.receiveGetOutOfJailFreeCard();
+        Property street = (Property) game.getBoard().getSpaces().get(39);
+        street.setOwner(first);
+        first.addProperty(street);
+        street.setHouseCount(3);
+        street.setMortgaged(true);
+
+        CompactGameState state = CompactGameState.fromGame(game, tables);
+        GameState copy = BatchSimulator.newHeadlessGame(3, new Dice(6L));
+        state.applyTo(copy);
+        CompactGameState again = CompactGameState.fromGame(copy, tables);
+
+        assertEquals(state.getCurrentPlayer(), again.getCurrentPlayer(), "The current player should survive.");
+        for (int player = 0; player < state.getPlayerCount(); player++) {
+            assertEquals(state.getPosition(player), again.getPosition(player), "Positions should survive.");
+            assertEquals(state.getCash(player), again.getCash(player), "Cash should survive.");
+            assertEquals(state.getJailTurns(player), again.getJailTurns(player), "Jail turns should survive.");
+            assertEquals(state.getJailCards(player), again.getJailCards(player), "Jail cards should survive.");
+            assertEquals(game.getPlayers().get(player).getProperties().size(),
+                    copy.getPlayers().get(player).getProperties().size(), "Property lists should survive.");
+        }
+        for (int space = 0; space < tables.size(); space++) {
+            assertEquals(state.getOwner(space), again.getOwner(space), "Owners should survive.");
+            assertEquals(state.getBuildings(space), again.getBuildings(space), "Buildings should survive.");
+            assertEquals(state.isMortgaged(space), again.isMortgaged(space), "Mortgages should survive.");
+        }
+        assertEquals(0, again.getOwner(39), "Boardwalk should belong to the first player.");
+        assertEquals(3, again.getBuildings(39), "Boardwalk should keep its houses.");
+    }
+
+    /**
+     * Tests that rent follows the color set, house and railroad rules.
+     */
+    @Test
+    public void testRent() {
+        CompactGameState state = new CompactGameState(tables, 2);
+        state.setOwner(1, 0);
+        assertEquals(tables.rent(1, 0), state.rent(1, 0), "A lone street should charge the site rent.");
+        state.setOwner(3, 0);
+        assertEquals(tables.rent(1, 1), state.rent(1, 0), "A full color set should charge the set rent.");
+        state.setBuildings(1, BoardTables.HOTEL);
+        assertEquals(tables.rent(1, 6), state.rent(1, 0), "A hotel should charge the hotel rent.");
+        state.setOwner(5, 1);
+        state.setOwner(15, 1);
+        assertEquals(50, state.rent(5, 0), "Two railroads should charge 50.");
+    }
+
+    /**
+     * Tests that a player short of cash mortgages and sells buildings before going bankrupt,
+     * and that a bankrupt player pays their creditor only what they raised and hands over
+     * their properties, or gives them back to the bank if they owed the bank.
+     */
+    @Test
+    public void testDebtsAreRaisedBeforeBankruptcy() {
+        CompactGameState state = new CompactGameState(tables, 3);
+        for (int space : new int[]{1, 3, 5}) {
+            state.setOwner(space, 0);
+        }
+        state.setBuildings(1, 1);
+        state.setBuildings(3, 1);
+        state.setCash(0, 0);
+        state.transfer(0, 1, 50);
+        assertFalse(state.isBankrupt(0), "The player should raise the rent.");
+        assertTrue(state.isMortgaged(5), "The railroad should be mortgaged before any house is sold.");
+        assertEquals(1, state.getBuildings(1) * state.getBuildings(3), "No house should be sold.");
+        assertEquals(tables.mortgageValue(5) - 50, state.getCash(0), "The rest of the mortgage should be kept.");
+        assertEquals(CompactGameState.STARTING_CASH + 50, state.getCash(1), "The creditor should be paid in full.");
+
+        int raised = state.getCash(0) + tables.houseCost(1) / 2 + tables.houseCost(3) / 2
+                + tables.mortgageValue(1) + tables.mortgageValue(3);
+        state.transfer(0, 1, 10_000);
+        assertTrue(state.isBankrupt(0), "The player should go bankrupt.");
+        assertEquals(0, state.getCash(0), "A bankrupt player should be left with nothing, not in debt.");
+        assertEquals(CompactGameState.STARTING_CASH + 50 + raised, state.getCash(1), "The creditor should get only what was raised.");
+        for (int space : new int[]{1, 3, 5}) {
+            assertEquals(1, state.getOwner(space), "The creditor should take over every property.");
+            assertTrue(state.isMortgaged(space), "The properties should pass on mortgaged.");
+            assertEquals(0, state.getBuildings(space), "The buildings should have been sold.");
+        }
+
+        state.setCash(2, 0);
+        state.setOwner(6, 2);
+        state.pay(2, 10_000);
+        assertTrue(state.isBankrupt(2), "A player who cannot pay the bank should go bankrupt.");
+        assertEquals(CompactGameState.UNOWNED, state.getOwner(6), "The property should go back to the bank.");
+        assertFalse(state.isMortgaged(6), "The bank should take the property back unmortgaged.");
+    }
+
+    /**
+     * Tests that compact games are reproducible from the seed and that bankrupt players
+     * own no spaces.
+     */
+    @Test
+    public void testPlayIsReproducible() {
+        CompactGameState first = play(new CompactGameState(tables, 4), new Dice(11L));
+        CompactGameState second = play(new CompactGameState(tables, 4), new Dice(11L));
+
+        for (int player = 0; player < 4; player++) {
+            assertEquals(first.getCash(player), second.getCash(player), "The same seed should give the same game.");
+            assertEquals(first.getPosition(player), second.getPosition(player), "The same seed should give the same game.");
+            for (int space = 0; space < tables.size(); space++) {
+                assertFalse(first.isBankrupt(player) && first.getOwner(space) == player,
+                        "A bankrupt player should not own any space.");
+            }
+        }
+    }
+
+    /**
+     * Tests that a turn left to roll again goes on with the doubles already rolled, so a third
+     * doubles in a row sends the player to jail.
+     */
+    @Test
+    public void testRollAgainKeepsDoubles() {
+        long seed = 0;
+        while (!Dice.isDoubles(new Dice(seed).roll())) {
+            seed++;
+        }
+        CompactGameState fresh = new CompactGameState(tables, 2);
+        CompactGameState third = new CompactGameState(tables, 2);
+        third.rollAgain(2);
+
+        assertNotEquals(fresh.hash(), third.hash(), "Doubles rolled should be part of the hash.");
+        assertEquals(third, new CompactGameState(third), "A copy should keep the doubles rolled.");
+        fresh.playTurn(new Dice(seed), MctsPlanner.BUY_WHAT_YOU_CAN);
+        third.playTurn(new Dice(seed), MctsPlanner.BUY_WHAT_YOU_CAN);
+        assertFalse(fresh.isInJail(0), "A first doubles should not send the player to jail.");
+        assertTrue(third.isInJail(0), "A third doubles in a row should send the player to jail.");
+        assertEquals(1, third.getCurrentPlayer(), "The turn should pass on after the player is jailed.");
+        assertThrows(IllegalArgumentException.class, () -> third.rollAgain(3),
+                "A player should not roll again after three doubles.");
+    }
+
+    /**
+     * Tests that a player leaving jail with a Get Out of Jail Free card rolls as usual, rolling
+     * again after doubles.
+     */
+    @Test
+    public void testJailCardRollsAgainOnDoubles() {
+        long seed = 0;
+        while (!doublesThenNot(seed)) {
+            seed++;
+        }
+        CompactGameState state = new CompactGameState(tables, 2);
+        state.sendToJail(0);
+        state.setJailCards(0, 1);
+        Dice dice = new Dice(seed);
+        state.playTurn(dice, (position, player, space) -> false);
+
+        Dice expected = new Dice(seed);
+        expected.roll();
+        expected.roll();
+        assertFalse(state.isInJail(0), "The card should release the player.");
+        assertEquals(0, state.getJailCards(0), "The card should be used up.");
+        assertEquals(expected.roll(), dice.roll(), "The player should roll again after doubles.");
+    }
+
+    /**
+     * Tests that spaces are only bought when the buy policy chooses to.
+     */
+    @Test
+    public void testBuyPolicyDecides() {
+        CompactGameState state = new CompactGameState(tables, 3);
+        Dice dice = new Dice(12L);
+        for (int turn = 0; turn < 300 && !state.isGameOver(); turn++) {
+            state.playTurn(dice, (position, player, space) -> false);
+        }
+
+        for (int space = 0; space < tables.size(); space++) {
+            assertEquals(CompactGameState.UNOWNED, state.getOwner(space), "A declining policy should leave every space unowned.");
+        }
+    }
+
+    private boolean doublesThenNot(long seed) {
+        Dice dice = new Dice(seed);
+        return Dice.isDoubles(dice.roll()) && !Dice.isDoubles(dice.roll());
+    }
+
+    private CompactGameState play(CompactGameState state, Dice dice) {
+        for (int turn = 0; turn < 2_000 && !state.isGameOver(); turn++) {
+            state.playTurn(dice, MctsPlanner.BUY_WHAT_YOU_CAN);
+        }
+        return state;
+    }
+}
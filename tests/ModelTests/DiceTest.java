@@ -118,4 +118,68 @@ public class DiceTest {
         }
         assertEquals(totalDoubles, dice.getDoublesRolled(), "Doubles rolled count should accumulate correctly over multiple rolls.");
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that two Dice created from the same seed roll the same sequence.
+     */
+    @Test
+    public void testSameSeedRollsSameSequence() {
+        Dice first = new Dice(42L);
+        Dice second = new Dice(42L);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.rollDice(), second.rollDice(), "Seeded dice should roll the same values.");
+        }
+        assertEquals(first.getDoublesRolled(), second.getDoublesRolled(), "Seeded dice should count the same doubles.");
+    }
+
+    /**
+     * Tests that split Dice are reproducible and keep their own doubles count.
+     */
+    @Test
+    public void testSplitDiceAreIndependent() {
+        Dice parent = new Dice(7L);
+        Dice child = parent.split();
+        Dice replayedChild = new Dice(7L).split();
+
+        for (int i = 0; i < 50; i++) {
+            assertEquals(child.rollDice(), replayedChild.rollDice(), "Children of equal parents should roll the same values.");
+        }
+        child.resetDoublesRolled();
+        parent.rollDice();
+        assertEquals(0, child.getDoublesRolled(), "Rolling the parent should not change the child's doubles count.");
+    }
+
+    /**
+     * Tests that a packed roll holds both dice, their total and the doubles flag.
+     */
+    @Test
+    public void testPackedRoll() {
+        Dice seeded = new Dice(3L);
+        for (int i = 0; i < 200; i++) {
+            int roll = seeded.roll();
+            int die1 = Dice.die1(roll);
+            int die2 = Dice.die2(roll);
+            assertTrue(die1 >= 1 && die1 <= 6, "First die should be between 1 and 6.");
+            assertTrue(die2 >= 1 && die2 <= 6, "Second die should be between 1 and 6.");
+            assertEquals(die1 + die2, Dice.total(roll), "Total should be the sum of both dice.");
+            assertEquals(die1 == die2, Dice.isDoubles(roll), "Doubles flag should match the dice.");
+            assertEquals(roll, seeded.getLastRoll(), "Last roll should be remembered.");
+        }
+    }
+
+    /**
+     * Tests that bulk mode hands out the same rolls as rolling one at a time.
+     */
+    @Test
+    public void testRollBufferMatchesSingleRolls() {
+        Dice single = new Dice(11L);
+        Dice buffered = new Dice(11L);
+        buffered.setRollBufferSize(16);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(single.roll(), buffered.roll(), "Buffered rolls should match single rolls.");
+        }
+        assertEquals(single.getDoublesRolled(), buffered.getDoublesRolled(), "Both dice should count the same doubles.");
+    }
+}
+
@@ -0,0 +1,248 @@
+/**
+ * GameEventBusTest.java
+
+ * This file contains unit tests for the GameEventBus class in the Monopoly game model.
+ * It tests that the model publishes typed events and that the bus dispatches them
+ * in order, both on the publishing thread and on its dispatcher thread.
+
+ */
+
+package ModelTests;
+
+import Model.Bank;
+import Model.Dice;
+import Model.FileSubscriber;
+import Model.GameBoard;
+import Model.GameEventBus;
+import Model.GameEventType;
+import Model.MetricsSubscriber;
+import Model.Player;
+import Model.Property;
+import Model.PropertySpace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the GameEventBus class.
+ */
+public class GameEventBusTest {
+    private GameBoard board;
+    private Player player;
+    private Player owner;
+    private List<GameEventType> types;
+
+    /**
+     * Sets up a board with two players and an empty list of recorded event types before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        List<Player> players = new ArrayList<>();
+        board = new GameBoard(players, true, new Bank(new ArrayList<>()), new Dice(3L));
+        player = new Player("Player 1", "Cat", board);
+        owner = new Player("Player 2", "Dog", board);
+        players.add(player);
+        players.add(owner);
+        types = new ArrayList<>();
+    }
+
+    /**
+     * Tests that a move past Go onto an owned property publishes the expected events in order.
+     */
+    @Test
+    public void testMovePublishesEvents() {
+        Property boardwalk = (Property) board.getSpace(39);
+        boardwalk.setOwner(owner);
+        player.setPosition(30);
+        board.getEvents().subscribe(event -> types.add(event.getType()));
+
+        board.moveTo(player, 39, true);
+        assertEquals(List.of(GameEventType.MOVED, GameEventType.PAID, GameEventType.COLLECTED, GameEventType.RENT_PAID),
+                types, "Landing on Boardwalk should publish a move, both sides of the payment and the rent.");
+
+        types.clear();
+        board.movePlayer(player, 2);
+        assertEquals(List.of(GameEventType.COLLECTED, GameEventType.PASSED_GO, GameEventType.MOVED), types,
+                "Passing Go should publish the salary before the move.");
+    }
+
+    /**
+     * Tests that a subscriber publishing into a full ring fails at once instead of waiting for
+     * itself, and that the events it did publish are still dispatched in order.
+     */
+    @Test
+    public void testSubscriberPublishingIntoFullRing() {
+        GameEventBus bus = new GameEventBus(board, 4);
+        List<Integer> amounts = new ArrayList<>();
+        bus.subscribe(event -> {
+            amounts.add(event.getAmount());
+            if (event.getAmount() == 0) {
+                for (int i = 1; i <= 8; i++) {
+                    bus.publish(GameEventType.COLLECTED, player, -1, i);
+                }
+            }
+        });
+        assertThrows(IllegalStateException.class, () -> bus.publish(GameEventType.COLLECTED, player, -1, 0),
+                "A subscriber should not wait for room only it can make.");
+
+        amounts.clear();
+        bus.publish(GameEventType.COLLECTED, player, -1, 100);
+        assertEquals(List.of(1, 2, 3, 100), amounts, "The events that fitted should be dispatched before the next one.");
+    }
+
+    /**
+     * Tests that events carry their fields and describe themselves as text.
+     */
+    @Test
+    public void testEventFields() {
+        Property boardwalk = (Property) board.getSpace(39);
+        boardwalk.setOwner(owner);
+        List<String> lines = new ArrayList<>();
+        board.getEvents().subscribe(event -> {
+            if (event.getType() == GameEventType.RENT_PAID) {
+                assertSame(player, event.getPlayer(), "The payer should be the event's player.");
+                assertSame(owner, event.getOther(), "The owner should be the event's other player.");
+                assertEquals(39, event.getPosition(), "The rent should be for Boardwalk.");
+                lines.add(event.describe());
+            }
+        });
+        boardwalk.payRent(player, 50);
+        assertEquals(List.of("Player 1 landed on Boardwalk and paid $50 rent to Player 2"), lines,
+                "The rent event should describe the payment.");
+    }
+
+    /**
+     * Tests that refused purchases and builds are published as events rather than logged.
+     */
+    @Test
+    public void testRefusalsPublishEvents() {
+        Property boardwalk = (Property) board.getSpace(39);
+        Property parkPlace = (Property) board.getSpace(37);
+        List<String> lines = new ArrayList<>();
+        board.getEvents().subscribe(event -> {
+            types.add(event.getType());
+            lines.add(event.describe());
+        });
+
+        boardwalk.buy(owner);
+        types.clear();
+        lines.clear();
+        boardwalk.buy(player);
+        assertEquals(List.of(GameEventType.ALREADY_OWNED), types, "Buying an owned property should be refused.");
+        assertEquals("Boardwalk is already owned by Player 2.", lines.get(0), "The refusal should name the owner.");
+
+        types.clear();
+        board.getBank().buyHouse(owner, (PropertySpace) boardwalk);
+        assertEquals(List.of(GameEventType.BUILD_REFUSED), types, "Building without the whole group should be refused.");
+
+        parkPlace.buy(owner);
+        owner.setMoney(0);
+        types.clear();
+        board.getBank().buyHouse(owner, (PropertySpace) boardwalk);
+        assertEquals(List.of(GameEventType.CANNOT_AFFORD), types, "Building without the money should be refused.");
+        assertSame(owner, boardwalk.getOwner(), "The owner should keep Boardwalk.");
+    }
+
+    /**
+     * Tests that a bus without subscribers ignores events and that unsubscribing stops delivery.
+     */
+    @Test
+    public void testSubscribeAndUnsubscribe() {
+        GameEventBus bus = board.getEvents();
+        assertFalse(bus.hasSubscribers(), "A new board should have no subscribers.");
+        bus.publish(GameEventType.GAME_OVER, null);
+
+        MetricsSubscriber metrics = new MetricsSubscriber(40);
+        bus.subscribe(metrics);
+        board.moveTo(player, 5, true);
+        bus.unsubscribe(metrics);
+        board.moveTo(player, 5, true);
+        assertEquals(1, metrics.getLandings(5), "Only the move while subscribed should be counted.");
+        assertEquals(0, metrics.getCount(GameEventType.GAME_OVER), "Events before subscribing should be lost.");
+    }
+
+    /**
+     * Tests that the dispatcher thread delivers every event in order, even when the ring wraps.
+     */
+    @Test
+    public void testAsyncDispatch() {
+        GameEventBus bus = new GameEventBus(board, 16);
+        List<Integer> amounts = new ArrayList<>();
+        bus.subscribe(event -> amounts.add(event.getAmount()));
+        bus.start();
+        assertTrue(bus.isAsync(), "The bus should dispatch on its own thread after start.");
+        for (int i = 0; i < 1000; i++) {
+            bus.publish(GameEventType.COLLECTED, player, -1, i);
+        }
+        bus.flush();
+        bus.stop();
+        assertEquals(1000, amounts.size(), "Every event should be delivered.");
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, amounts.get(i), "Events should be delivered in order.");
+        }
+    }
+
+    /**
+     * Tests that threads publishing at once, as the Bank's callers may, each get their own
+     * slot, so every event is delivered exactly once and in the order each thread published it,
+     * both on the publishing threads and on the dispatcher thread.
+     */
+    @Test
+    public void testConcurrentPublishers() throws InterruptedException {
+        for (boolean async : new boolean[]{false, true}) {
+            GameEventBus bus = new GameEventBus(board, 16);
+            int[] last = {-1, -1, -1, -1};
+            int[] delivered = new int[1];
+            bus.subscribe(event -> {
+                int thread = event.getAmount() / 1_000_000;
+                assertTrue(event.getAmount() % 1_000_000 > last[thread], "Each thread's events should stay in order.");
+                last[thread] = event.getAmount() % 1_000_000;
+                delivered[0]++;
+            });
+            if (async) {
+                bus.start();
+            }
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int base = t * 1_000_000;
+                Thread thread = new Thread(() -> {
+                    for (int i = 0; i < 5000; i++) {
+                        bus.publish(GameEventType.COLLECTED, player, -1, base + i);
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            bus.flush();
+            bus.stop();
+            assertEquals(20_000, delivered[0], "Every event should be delivered once.");
+        }
+    }
+
+    /**
+     * Tests that the file subscriber writes one line per event.
+     *
+     * @param dir A temporary directory for the log file.
+     */
+    @Test
+    public void testFileSubscriber(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("game.log");
+        try (FileSubscriber subscriber = new FileSubscriber(file)) {
+            board.getEvents().subscribe(subscriber);
+            board.getEvents().publish(GameEventType.JAILED, player);
+            board.getEvents().publish(GameEventType.GAME_OVER, null);
+        }
+        assertEquals(List.of("Player 1 has been sent to Jail!", "Game Over!"), Files.readAllLines(file),
+                "The file should hold the description of each event.");
+    }
+}
@@ -0,0 +1,173 @@
+/**
+ * GameJournalTest.java
+
+ * This file contains unit tests for the GameJournal and JournalReader classes in the Monopoly game model.
+ * It tests that a recorded game can be rebuilt at every turn from checkpoints and replayed records.
+
+ */
+
+package ModelTests;
+
+import Model.Bank;
+import Model.BatchSimulator;
+import Model.BoardDefinition;
+import Model.CompactGameState;
+import Model.ComputerPlayer;
+import Model.Dice;
+import Model.GameBoard;
+import Model.GameEventType;
+import Model.GameJournal;
+import Model.GameState;
+import Model.JournalReader;
+import Model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the GameJournal class.
+ */
+public class GameJournalTest {
+    private GameState game;
+    private List<CompactGameState> states;
+
+    /**
+     * Sets up a headless game that remembers its state at the end of every turn.
+     */
+    @BeforeEach
+    public void setUp() {
+        game = BatchSimulator.newHeadlessGame(3, new Dice(21L));
+        states = new ArrayList<>();
+        states.add(CompactGameState.fromGame(game));
+    }
+
+    private void recordStates() {
+        game.getBoard().getEvents().subscribe(event -> {
+            if (event.getType() == GameEventType.TURN_ENDED) {
+                states.add(CompactGameState.fromGame(game));
+            }
+        });
+    }
+
+    /**
+     * Tests that every recorded turn is rebuilt exactly, across several small segments.
+     *
+     * @param dir A temporary directory for the journal.
+     */
+    @Test
+    public void testReplayEveryTurn(@TempDir Path dir) throws Exception {
+        try (GameJournal journal = GameJournal.open(dir, game, GameJournal.MIN_SEGMENT_SIZE, 25)) {
+            recordStates();
+            BatchSimulator.playGame(game, 300);
+            assertEquals(states.size() - 1, journal.getTurn(), "The journal should count every turn.");
+        }
+        assertTrue(Files.exists(dir.resolve("segment-000001.journal")), "A long game should fill more than one segment.");
+
+        JournalReader reader = new JournalReader(dir, game.getBoard().getTables());
+        assertEquals(states.size() - 1, reader.getLastTurn(), "The reader should find the last turn.");
+        for (int turn = 0; turn <= reader.getLastTurn(); turn++) {
+            assertEquals(states.get(turn), reader.stateAt(turn), "Turn " + turn + " should be rebuilt exactly.");
+        }
+        assertThrows(IllegalArgumentException.class, () -> reader.stateAt(reader.getLastTurn() + 1),
+                "A turn that was not played should not be rebuilt.");
+    }
+
+    /**
+     * Tests that a game on a board of more than 256 spaces is rebuilt exactly, so records of
+     * the spaces past 255 keep their whole number.
+     *
+     * @param dir A temporary directory for the journal.
+     */
+    @Test
+    public void testReplayLargeBoard(@TempDir Path dir) throws Exception {
+        BoardDefinition definition = largeBoard(300);
+        List<Player> players = new ArrayList<>();
+        GameBoard board = new GameBoard(players, true, new Bank(new ArrayList<>()), new Dice(23L), definition);
+        for (int i = 0; i < 3; i++) {
+            ComputerPlayer player = new ComputerPlayer("Computer " + (i + 1), GameBoard.TOKENS.get(i), board);
+            player.setPlayerIndex(i);
+            players.add(player);
+        }
+        game = new GameState(board);
+        states.clear();
+        states.add(CompactGameState.fromGame(game));
+        try (GameJournal journal = GameJournal.open(dir, game, GameJournal.MIN_SEGMENT_SIZE, 25)) {
+            recordStates();
+            BatchSimulator.playGame(game, 400);
+        }
+
+        JournalReader reader = new JournalReader(dir, definition.getTables());
+        CompactGameState last = states.get(states.size() - 1);
+        boolean farSpaceOwned = false;
+        for (int space = 256; space < definition.size(); space++) {
+            farSpaceOwned |= last.getOwner(space) != CompactGameState.UNOWNED;
+        }
+        assertTrue(farSpaceOwned, "The game should buy a space numbered past 255.");
+        for (int turn = 0; turn <= reader.getLastTurn(); turn++) {
+            assertEquals(states.get(turn), reader.stateAt(turn), "Turn " + turn + " should be rebuilt exactly.");
+        }
+    }
+
+    private static BoardDefinition largeBoard(int size) throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int position = 0; position < size; position++) {
+            if (position == 0) {
+                text.append("go\n");
+            } else if (position == 10) {
+                text.append("jail\n");
+            } else if (position % 10 == 5) {
+                text.append("railroad|Railroad ").append(position).append("|200|25,50,100,200|100\n");
+            } else if (position % 10 == 2) {
+                text.append("chance\n");
+            } else if (position % 10 == 7) {
+                text.append("community_chest\n");
+            } else {
+                text.append("street|Street ").append(position).append("|District ").append(position / 10)
+                        .append("|100|6,12,30,90,270,400,550|50|50\n");
+            }
+        }
+        text.append("chance_card|Advance to the last street.|MOVE_TO|").append(size - 1).append("|1\n");
+        text.append("community_card|Bank error in your favor. Collect $200.|COLLECT|200\n");
+        return BoardDefinition.read(new BufferedReader(new StringReader(text.toString())), "large");
+    }
+
+    /**
+     * Tests that a rebuilt turn can be written back onto a fresh game.
+     *
+     * @param dir A temporary directory for the journal.
+     */
+    @Test
+    public void testRestoreGame(@TempDir Path dir) throws Exception {
+        try (GameJournal journal = GameJournal.open(dir, game)) {
+            recordStates();
+            BatchSimulator.playGame(game, 120);
+        }
+        JournalReader reader = new JournalReader(dir, game.getBoard().getTables());
+        GameState copy = BatchSimulator.newHeadlessGame(3, new Dice(22L));
+        reader.restore(copy, 40);
+        assertEquals(states.get(40), CompactGameState.fromGame(copy), "The restored game should match turn 40.");
+    }
+
+    /**
+     * Tests that a journal refuses a directory that already holds one.
+     *
+     * @param dir A temporary directory for the journal.
+     */
+    @Test
+    public void testExistingJournal(@TempDir Path dir) throws Exception {
+        GameJournal.open(dir, game).close();
+        assertThrows(FileAlreadyExistsException.class, () -> GameJournal.open(dir, game),
+                "A second journal should not overwrite the first.");
+    }
+}
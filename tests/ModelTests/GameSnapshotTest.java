@@ -0,0 +1,99 @@
+/**
+ * GameSnapshotTest.java
+
+ * This file contains unit tests for the GameSnapshot class in the Monopoly game model.
+ * It tests that a saved game comes back with the same state and goes on with the same rolls.
+
+ */
+
+package ModelTests;
+
+import Model.BatchSimulator;
+import Model.CompactGameState;
+import Model.ComputerPlayer;
+import Model.Dice;
+import Model.GameSnapshot;
+import Model.GameState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the GameSnapshot class.
+ */
+public class GameSnapshotTest {
+    private GameState game;
+
+    /**
+     * Sets up a headless game that has been played for a while, with buffered dice.
+     */
+    @BeforeEach
+    public void setUp() {
+        Dice dice = new Dice(33L);
+        dice.setRollBufferSize(16);
+        game = BatchSimulator.newHeadlessGame(4, dice);
+        BatchSimulator.playGame(game, 60);
+    }
+
+    /**
+     * Tests that a restored game has the same state and plays on with the same rolls.
+     */
+    @Test
+    public void testRestoreAndPlayOn() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(GameSnapshot.size(game));
+        int written = GameSnapshot.write(game, buffer);
+        assertEquals(buffer.capacity(), written, "The snapshot should fill exactly the size it reported.");
+
+        GameState copy = BatchSimulator.newHeadlessGame(4, new Dice(34L));
+        GameSnapshot.restore(buffer.flip(), copy);
+        assertEquals(CompactGameState.fromGame(game), CompactGameState.fromGame(copy), "The restored state should match.");
+        assertEquals(game.getDice().getDoublesRolled(), copy.getDice().getDoublesRolled(), "The doubles count should match.");
+
+        game.setGameOver(false);
+        copy.setGameOver(false);
+        BatchSimulator.playGame(game, 50);
+        BatchSimulator.playGame(copy, 50);
+        assertEquals(CompactGameState.fromGame(game), CompactGameState.fromGame(copy),
+                "Both games should go on identically after the restore.");
+    }
+
+    /**
+     * Tests that a game saved to a file comes back with its players.
+     *
+     * @param dir A temporary directory for the file.
+     */
+    @Test
+    public void testSaveAndLoad(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("game.snapshot");
+        GameSnapshot.save(game, file);
+        GameState loaded = GameSnapshot.load(file);
+
+        assertEquals(4, loaded.getPlayers().size(), "The loaded game should have all four players.");
+        assertEquals("Computer 3", loaded.getPlayers().get(2).getName(), "Player names should be saved.");
+        assertEquals(game.getPlayers().get(2).getToken(), loaded.getPlayers().get(2).getToken(), "Tokens should be saved.");
+        assertInstanceOf(ComputerPlayer.class, loaded.getPlayers().get(0), "Computer players should stay computers.");
+        assertEquals(game.getCurrentPlayerIndex(), loaded.getCurrentPlayerIndex(), "The current player should be saved.");
+        assertEquals(CompactGameState.fromGame(game), CompactGameState.fromGame(loaded), "The loaded state should match.");
+    }
+
+    /**
+     * Tests that anything but a snapshot of the same kind of game is refused.
+     */
+    @Test
+    public void testInvalidSnapshot() {
+        ByteBuffer garbage = ByteBuffer.allocate(64);
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshot.read(garbage),
+                "A buffer without the magic number should be refused.");
+
+        ByteBuffer buffer = ByteBuffer.allocate(GameSnapshot.size(game));
+        GameSnapshot.write(game, buffer);
+        GameState twoPlayers = BatchSimulator.newHeadlessGame(2, new Dice(1L));
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshot.restore(buffer.flip(), twoPlayers),
+                "A snapshot should not be restored onto a game with a different number of players.");
+    }
+}
@@ -0,0 +1,322 @@
+/**
+ * HouseInventoryTest.java
+
+ * This file contains unit tests for the bank's stock of houses and hotels in the Monopoly game model.
+ * It tests that the stock follows every building, that concurrent buyers never get more than the
+ * bank has or build unevenly, and that scarce houses are auctioned fairly.
+
+ */
+
+package ModelTests;
+
+import Model.Bank;
+import Model.BoardTables;
+import Model.ComputerPlayer;
+import Model.GameBoard;
+import Model.GameState;
+import Model.HouseBid;
+import Model.Player;
+import Model.Property;
+import Model.PropertySpace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the house and hotel inventory of the Bank class.
+ */
+public class HouseInventoryTest {
+    private static final int[][] GROUPS = {{1, 3}, {6, 8, 9}, {11, 13, 14}, {16, 18, 19}}; // Brown to orange
+
+    private GameBoard board;
+    private Bank bank;
+    private List<Player> players;
+
+    /**
+     * Sets up four computer players, each owning one color group.
+     */
+    @BeforeEach
+    public void setUp() {
+        players = new ArrayList<>();
+        bank = new Bank(new ArrayList<>());
+        board = new GameBoard(players, true, bank);
+        for (int i = 0; i < GROUPS.length; i++) {
+            ComputerPlayer computer = new ComputerPlayer("Computer " + (i + 1), GameBoard.TOKENS.get(i), board);
+            computer.setPlayerIndex(i);
+            players.add(computer);
+            for (int position : GROUPS[i]) {
+                street(position).setOwner(computer);
+                computer.addProperty(street(position));
+            }
+        }
+    }
+
+    private PropertySpace street(int position) {
+        return (PropertySpace) board.getSpace(position);
+    }
+
+    /**
+     * Counts the houses standing on the board.
+     */
+    private int housesBuilt() {
+        int built = 0;
+        for (Property property : bank.getAllProperties()) {
+            built += property.getHouseCount();
+        }
+        return built;
+    }
+
+    /**
+     * Tests that the stock follows houses and hotels however they are put up or taken down.
+     */
+    @Test
+    public void testStockFollowsBuildings() {
+        assertEquals(Bank.HOUSES, bank.getHousesLeft(), "The bank should start with every house.");
+        assertEquals(Bank.HOTELS, bank.getHotelsLeft(), "The bank should start with every hotel.");
+        street(1).setHouseCount(4);
+        street(3).setHouseCount(4);
+        assertEquals(Bank.HOUSES - 8, bank.getHousesLeft(), "Houses put up should leave the stock.");
+        assertTrue(bank.buyHouse(players.get(0), street(1)), "A hotel should be built.");
+        assertEquals(Bank.HOUSES - 4, bank.getHousesLeft(), "The hotel should hand four houses back.");
+        assertEquals(Bank.HOTELS - 1, bank.getHotelsLeft(), "The hotel should leave the stock.");
+        assertTrue(bank.sellHouse(players.get(0), street(1)), "The hotel should be sold.");
+        assertEquals(Bank.HOUSES - 8, bank.getHousesLeft(), "The hotel should be replaced by four houses.");
+        assertEquals(Bank.HOTELS, bank.getHotelsLeft(), "The hotel should return to the stock.");
+        assertEquals(Bank.HOUSES - housesBuilt(), bank.getHousesLeft(), "The stock should match the board.");
+    }
+
+    /**
+     * Tests that a hotel sold while the bank is short of houses comes down to the houses left,
+     * selling the houses it cannot replace with it.
+     */
+    @Test
+    public void testHotelSoldDuringShortage() {
+        Player owner = players.get(0);
+        street(1).setHasHotel(true);
+        street(3).setHasHotel(true);
+        for (int position : new int[]{6, 8, 9, 11, 13, 14, 16}) {
+            street(position).setHouseCount(4);
+        }
+        street(18).setHouseCount(2);
+        assertEquals(2, bank.getHousesLeft(), "Two houses should be left.");
+        int money = owner.getMoney();
+        assertTrue(bank.sellHouse(owner, street(1)), "The hotel should be sold.");
+        assertEquals(2, street(1).getHouseCount(), "The hotel should come down to the two houses left.");
+        assertEquals(0, bank.getHousesLeft(), "The bank should have no houses left.");
+        assertEquals(money + 3 * (street(1).getCostOfHouseHotel() / 2), owner.getMoney(),
+                "The hotel and the two houses it could not keep should be paid for.");
+    }
+
+    /**
+     * Tests that buyers on many threads get exactly the houses the bank has.
+     */
+    @Test
+    public void testConcurrentBuyersShareTheStock() throws InterruptedException {
+        for (int[] group : GROUPS) {
+            for (int position : group) {
+                street(position).setHouseCount(2);
+            }
+        }
+        int stock = bank.getHousesLeft();
+        AtomicInteger bought = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < GROUPS.length; i++) {
+            Player buyer = players.get(i);
+            int[] group = GROUPS[i];
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int round = 0; round < 2; round++) {
+                    for (int position : group) {
+                        if (bank.buyHouse(buyer, street(position))) {
+                            bought.incrementAndGet();
+                        }
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(stock, bought.get(), "Every house left should be sold, and no more.");
+        assertEquals(0, bank.getHousesLeft(), "The bank should have no houses left.");
+        assertEquals(Bank.HOUSES, housesBuilt(), "Every house should stand on the board.");
+    }
+
+    /**
+     * Tests that threads building on the same group never build unevenly or lose a house they paid for.
+     */
+    @Test
+    public void testConcurrentBuildersKeepGroupEven() throws InterruptedException {
+        Player owner = players.get(1);
+        int[] group = GROUPS[1];
+        int money = owner.getMoney();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 6; t++) {
+            int first = t;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 10; i++) {
+                    bank.buyHouse(owner, street(group[(first + i) % group.length]));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        int lowest = Integer.MAX_VALUE;
+        int highest = 0;
+        int built = 0;
+        for (int position : group) {
+            int level = street(position).hasHotel() ? BoardTables.HOTEL : street(position).getHouseCount();
+            lowest = Math.min(lowest, level);
+            highest = Math.max(highest, level);
+            built += level;
+        }
+        assertTrue(highest - lowest <= 1, "The group should stay evenly built.");
+        assertEquals(money - built * street(group[0]).getCostOfHouseHotel(), owner.getMoney(),
+                "Every building paid for should stand.");
+    }
+
+    /**
+     * Tests that an auctioned house goes to the highest bidder who can pay, at the next bid.
+     */
+    @Test
+    public void testAuctionGoesToHighestBidder() {
+        Player low = players.get(0);
+        Player high = players.get(1);
+        Player broke = players.get(2);
+        broke.setMoney(100);
+        int money = high.getMoney();
+        List<HouseBid> bids = List.of(new HouseBid(low, street(1), 40), new HouseBid(high, street(6), 70),
+                new HouseBid(broke, street(11), 500));
+        HouseBid won = bank.auctionHouse(bids);
+        assertSame(high, won.getBidder(), "The highest bidder who can pay should win.");
+        assertEquals(1, street(6).getHouseCount(), "The winner's house should be built.");
+        assertEquals(money - street(6).getCostOfHouseHotel() - 40, high.getMoney(),
+                "The winner should pay the house price and the next bid.");
+        assertEquals(0, street(11).getHouseCount(), "The bidder who cannot pay should get nothing.");
+        assertThrows(IllegalArgumentException.class, () -> new HouseBid(low, street(1), -1), "A negative bid should be refused.");
+    }
+
+    /**
+     * Leaves two houses in the bank by building on the streets no player owns.
+     */
+    private void leaveTwoHouses() {
+        for (int position : new int[]{21, 23, 24, 26, 27, 29, 31}) {
+            street(position).setHouseCount(4);
+        }
+        street(32).setHouseCount(Bank.HOUSES - 2 - 7 * 4);
+        assertEquals(2, bank.getHousesLeft(), "Two houses should be left.");
+    }
+
+    /**
+     * Tests that when several houses are short every one of them is auctioned, each highest
+     * bidder getting one at the highest losing bid.
+     */
+    @Test
+    public void testAuctionSellsEveryHouseLeft() {
+        leaveTwoHouses();
+        Player low = players.get(0);
+        Player high = players.get(1);
+        Player middle = players.get(2);
+        int highMoney = high.getMoney();
+        int middleMoney = middle.getMoney();
+        List<HouseBid> bids = List.of(new HouseBid(low, street(1), 40), new HouseBid(high, street(6), 70),
+                new HouseBid(middle, street(11), 55), new HouseBid(players.get(3), street(16), 10));
+        List<HouseBid> won = bank.auctionHouses(bids);
+        assertEquals(2, won.size(), "Both houses left should be sold.");
+        assertSame(high, won.get(0).getBidder(), "The highest bidder should win first.");
+        assertSame(middle, won.get(1).getBidder(), "The second highest bidder should win the other house.");
+        assertEquals(highMoney - street(6).getCostOfHouseHotel() - 40, high.getMoney(),
+                "A winner should pay the house price and the highest losing bid.");
+        assertEquals(middleMoney - street(11).getCostOfHouseHotel() - 40, middle.getMoney(),
+                "Every winner should pay the same price.");
+        assertEquals(0, street(1).getHouseCount() + street(16).getHouseCount(), "The losing bidders should get nothing.");
+        assertEquals(0, bank.getHousesLeft(), "The bank should have no houses left.");
+        assertNull(bank.auctionHouses(bids), "With no houses left there should be no auction.");
+    }
+
+    /**
+     * Tests that the turn engine auctions every house left when more computer players want one.
+     */
+    @Test
+    public void testShortageAuctionsEveryHouse() {
+        leaveTwoHouses();
+        GameState game = new GameState(board);
+        game.getTurnEngine().buildHouse(street(1));
+        assertEquals(0, bank.getHousesLeft(), "Both houses left should be sold.");
+        int built = 0;
+        for (int[] group : GROUPS) {
+            for (int position : group) {
+                built += street(position).getHouseCount();
+            }
+        }
+        assertEquals(2, built, "The houses should go to the players wanting them.");
+    }
+
+    /**
+     * Tests that the turn engine auctions the last house when several computer players want it.
+     */
+    @Test
+    public void testLastHouseIsAuctioned() {
+        for (int position : new int[]{11, 13, 14, 16, 18, 19}) {
+            street(position).setHouseCount(4);
+        }
+        street(21).setHouseCount(4);
+        street(23).setHouseCount(3);
+        assertEquals(1, bank.getHousesLeft(), "One house should be left.");
+        GameState game = new GameState(board);
+        game.getTurnEngine().buildHouse(street(1));
+        assertEquals(0, bank.getHousesLeft(), "The last house should be sold.");
+        assertEquals(1, street(1).getHouseCount() + street(3).getHouseCount()
+                + street(6).getHouseCount() + street(8).getHouseCount() + street(9).getHouseCount(),
+                "The house should go to one of the players wanting it.");
+    }
+
+    /**
+     * Tests that the last house is not auctioned while a human player, who cannot be asked
+     * for a bid, is still in the game, so a human builder buys it at the house price.
+     */
+    @Test
+    public void testNoAuctionWithHumanPlayer() {
+        Player human = new Player("Human", GameBoard.TOKENS.get(4), board);
+        players.set(0, human);
+        for (int position : GROUPS[0]) {
+            street(position).setOwner(human);
+            human.addProperty(street(position));
+        }
+        for (int position : new int[]{11, 13, 14, 16, 18, 19}) {
+            street(position).setHouseCount(4);
+        }
+        street(21).setHouseCount(4);
+        street(23).setHouseCount(3);
+        int money = human.getMoney();
+        GameState game = new GameState(board);
+        assertTrue(game.getTurnEngine().buildHouse(street(1)), "The human player should build the last house.");
+        assertEquals(1, street(1).getHouseCount(), "The house should stand on the human player's street.");
+        assertEquals(money - street(1).getCostOfHouseHotel(), human.getMoney(), "The house should cost the house price.");
+        assertEquals(0, bank.getHousesLeft(), "The last house should be sold.");
+    }
+}
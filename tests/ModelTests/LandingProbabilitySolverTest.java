@@ -0,0 +1,94 @@
+/**
+ * LandingProbabilitySolverTest.java
+
+ * This file contains unit tests for the LandingProbabilitySolver class in the Monopoly game model.
+ * It tests that the long-run landing probabilities are a distribution and follow the board's rules.
+
+ */
+
+package ModelTests;
+
+import Model.Bank;
+import Model.GameBoard;
+import Model.LandingProbabilitySolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the LandingProbabilitySolver class.
+ */
+public class LandingProbabilitySolverTest {
+    private double[] probabilities;
+    private LandingProbabilitySolver solver;
+    private GameBoard gameBoard;
+
+    /**
+     * Sets up the test environment before each test.
+     * Solves the classic board.
+     */
+    @BeforeEach
+    public void setUp() {
+        gameBoard = new GameBoard(new ArrayList<>(), true, new Bank(new ArrayList<>()));
+        solver = new LandingProbabilitySolver(gameBoard);
+        probabilities = solver.solve();
+    }
+
+    /**
+     * Tests that the probabilities cover every space and add up to one.
+     */
+    @Test
+    public void testProbabilitiesSumToOne() {
+        assertEquals(40, probabilities.length, "There should be a probability for every space.");
+        double sum = 0;
+        for (double probability : probabilities) {
+            assertTrue(probability >= 0, "Probabilities cannot be negative.");
+            sum += probability;
+        }
+        assertEquals(1.0, sum, 1e-9, "Probabilities should add up to one.");
+    }
+
+    /**
+     * Tests that nobody rests on Go To Jail and that Jail is the most likely space.
+     */
+    @Test
+    public void testJailIsMostLikelySpace() {
+        assertEquals(0.0, probabilities[30], 1e-12, "Go To Jail should never be rested on.");
+        for (int i = 0; i < probabilities.length; i++) {
+            if (i != 10) {
+                assertTrue(probabilities[10] > probabilities[i], "Jail should be the most likely space.");
+            }
+        }
+        assertTrue(solver.getJailProbability() > 0.05, "Players should spend a noticeable share of time in jail.");
+    }
+
+    /**
+     * Tests that card destinations attract extra landings.
+     */
+    @Test
+    public void testCardDestinationsAreMoreLikely() {
+        assertTrue(probabilities[24] > probabilities[23], "Illinois Avenue should beat Indiana Avenue.");
+        assertTrue(probabilities[39] > probabilities[37], "Boardwalk should beat Park Place.");
+        assertTrue(probabilities[7] < probabilities[6], "Chance cards should move players off the Chance space.");
+    }
+
+    /**
+     * Tests that a card moving the token onto another card space draws again there: Go Back 3
+     * Spaces from Chance 36 lands on Community Chest 33, whose deck can move the token on.
+     */
+    @Test
+    public void testChainedCards() {
+        double chance = 1.0 / gameBoard.getChanceDeck().getCardCount();
+        double community = 1.0 / gameBoard.getCommunityDeck().getCardCount();
+        assertEquals(chance * (1 - 2 * community), solver.getArrivalProbability(36, 33), 1e-12,
+                "Chance 36 should end on Community Chest 33 unless the second card moves the token on.");
+        assertEquals(chance + chance * community, solver.getArrivalProbability(36, 0), 1e-12,
+                "Chance 36 should reach Go by either deck.");
+        assertEquals(chance + chance * community, solver.getArrivalProbability(36, 10), 1e-12,
+                "Chance 36 should reach jail by either deck.");
+        assertEquals(0.0, solver.getArrivalProbability(30, 30), 1e-12, "Go To Jail should never be ended on.");
+    }
+}
@@ -0,0 +1,124 @@
+/**
+ * LedgerTest.java
+
+ * This file contains unit tests for the Ledger class in the Monopoly game model.
+ * It tests that entries are packed and aggregated correctly, that the ledger grows across chunks
+ * and that every movement of money in a played game is recorded.
+
+ */
+
+package ModelTests;
+
+import Model.Bank;
+import Model.ComputerPlayer;
+import Model.Dice;
+import Model.GameBoard;
+import Model.GameState;
+import Model.Ledger;
+import Model.LedgerCategory;
+import Model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the Ledger class.
+ */
+public class LedgerTest {
+    private Ledger ledger;
+    private Player player;
+    private Player other;
+
+    /**
+     * Sets up an empty ledger and two players.
+     */
+    @BeforeEach
+    public void setUp() {
+        List<Player> players = new ArrayList<>();
+        GameBoard board = new GameBoard(players, true, new Bank(new ArrayList<>()));
+        player = new Player("Player 1", "Cat", board);
+        other = new Player("Player 2", "Dog", board);
+        players.add(player);
+        players.add(other);
+        ledger = new Ledger();
+    }
+
+    /**
+     * Tests that an entry keeps both sides, the amount and the category, and updates the totals.
+     */
+    @Test
+    public void testRecordAndAggregates() {
+        ledger.record(player, other, 50, LedgerCategory.RENT);
+        ledger.record(null, player, 200, LedgerCategory.SALARY);
+        ledger.record(player, null, 100, LedgerCategory.TAX);
+
+        long entry = ledger.getEntry(0);
+        assertEquals(50, Ledger.amount(entry), "The entry should keep the amount.");
+        assertEquals(LedgerCategory.RENT, Ledger.category(entry), "The entry should keep the category.");
+        assertEquals(ledger.account(player), Ledger.debit(entry), "The payer should be debited.");
+        assertEquals(ledger.account(other), Ledger.credit(entry), "The payee should be credited.");
+        assertEquals(Ledger.BANK, Ledger.debit(ledger.getEntry(1)), "Salary should come from the bank.");
+
+        assertEquals(3, ledger.size(), "Three entries should be recorded.");
+        assertEquals(200, ledger.getIncome(player), "The player's income should be the salary.");
+        assertEquals(150, ledger.getSpending(player), "The player's spending should be the rent and the tax.");
+        assertEquals(100, ledger.getSpending(player, LedgerCategory.TAX), "The tax should be spent on tax.");
+        assertEquals(50, ledger.getIncome(other, LedgerCategory.RENT), "The other player should earn the rent.");
+        assertEquals(-100, ledger.getNet(null), "The bank should be down the salary less the tax.");
+        assertEquals(50, ledger.getMoved(LedgerCategory.RENT), "The rent should be counted as moved.");
+        assertThrows(IllegalArgumentException.class, () -> ledger.record(player, other, -1, LedgerCategory.RENT),
+                "A negative entry should be refused.");
+    }
+
+    /**
+     * Tests that a long ledger spans many chunks and keeps every entry.
+     */
+    @Test
+    public void testGrowsAcrossChunks() {
+        for (int i = 0; i < 100_000; i++) {
+            ledger.record(player, other, i % 7, LedgerCategory.CARD);
+        }
+        assertEquals(100_000, ledger.size(), "Every entry should be kept.");
+        assertEquals(99_999 % 7, Ledger.amount(ledger.getEntry(99_999)), "The last entry should be readable.");
+        long expected = 0;
+        for (int i = 0; i < 100_000; i++) {
+            expected += i % 7;
+        }
+        assertEquals(expected, ledger.getIncome(other), "The income should add up every entry.");
+        assertThrows(IndexOutOfBoundsException.class, () -> ledger.getEntry(100_000), "There should be no entry past the end.");
+    }
+
+    /**
+     * Tests that the ledger of a played game reconciles with every player's money.
+     */
+    @Test
+    public void testGameReconciles() {
+        List<Player> players = new ArrayList<>();
+        Bank bank = new Bank(new ArrayList<>());
+        GameBoard board = new GameBoard(players, true, bank, new Dice(11L));
+        for (int i = 0; i < 3; i++) {
+            ComputerPlayer computer = new ComputerPlayer("Computer " + (i + 1), GameBoard.TOKENS.get(i), board);
+            computer.setPlayerIndex(i);
+            players.add(computer);
+        }
+        GameState game = new GameState(board);
+        for (int turn = 0; turn < 300 && !game.isGameOver(); turn++) {
+            game.handleTurn();
+        }
+
+        Ledger record = bank.getLedger();
+        assertTrue(record.size() > 0, "The game should have moved money.");
+        long playersNet = 0;
+        for (Player computer : players) {
+            assertEquals(1500 + record.getNet(computer), computer.getMoney(),
+                    computer.getName() + "'s money should match the starting cash plus the ledger.");
+            playersNet += record.getNet(computer);
+        }
+        assertEquals(-playersNet, record.getNet(null), "What the players gained the bank should have lost.");
+        assertTrue(record.getIncome(null, LedgerCategory.PURCHASE) > 0, "Properties should have been bought.");
+    }
+}
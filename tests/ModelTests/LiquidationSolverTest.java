@@ -0,0 +1,156 @@
+/**
+ * LiquidationSolverTest.java
+
+ * This file contains unit tests for the LiquidationSolver class in the Monopoly game model.
+ * It tests that debts are raised at the least loss within the building rules, that players who
+ * cannot pay go bankrupt, and that games end once one player is left.
+
+ */
+
+package ModelTests;
+
+import Model.Bank;
+import Model.ComputerPlayer;
+import Model.Dice;
+import Model.GameBoard;
+import Model.GameState;
+import Model.Ledger;
+import Model.LiquidationPlan;
+import Model.LiquidationSolver;
+import Model.Player;
+import Model.Property;
+import Model.PropertySpace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the LiquidationSolver class.
+ */
+public class LiquidationSolverTest {
+    private GameBoard board;
+    private Bank bank;
+    private Player player;
+    private PropertySpace mediterranean;
+    private PropertySpace baltic;
+    private Property reading;
+
+    /**
+     * Sets up a player owning the brown streets, built unevenly, and a railroad.
+     */
+    @BeforeEach
+    public void setUp() {
+        List<Player> players = new ArrayList<>();
+        bank = new Bank(new ArrayList<>());
+        board = new GameBoard(players, true, bank);
+        player = new Player("Player 1", "Cat", board);
+        players.add(player);
+        players.add(new Player("Player 2", "Dog", board));
+        mediterranean = (PropertySpace) board.getSpace(1);
+        baltic = (PropertySpace) board.getSpace(3);
+        reading = (Property) board.getSpace(5);
+        for (Property property : List.of(mediterranean, baltic, reading)) {
+            property.setOwner(player);
+            player.addProperty(property);
+        }
+        mediterranean.setHouseCount(1);
+        baltic.setHouseCount(2);
+    }
+
+    /**
+     * Tests that a small debt is raised by the cheap mortgage rather than by selling houses.
+     */
+    @Test
+    public void testPrefersMortgage() {
+        LiquidationPlan plan = LiquidationSolver.solve(player, 60);
+        assertTrue(plan.isFeasible(), "The player should be able to raise $60.");
+        assertEquals(List.of(reading), plan.getMortgages(), "Mortgaging the railroad should be the cheapest way.");
+        assertTrue(plan.getHouseSales().isEmpty(), "No house should be sold.");
+        assertEquals(100, plan.getCashRaised(), "The mortgage should raise $100.");
+        assertEquals(10, plan.getLoss(), "The loss should be the interest on the mortgage.");
+    }
+
+    /**
+     * Tests that a larger debt sells houses evenly, the most built street first, before
+     * mortgaging the bare streets.
+     */
+    @Test
+    public void testSellsEvenlyBeforeMortgaging() {
+        int houseCost = baltic.getCostOfHouseHotel();
+        int needed = reading.getPrice() / 2 + mediterranean.getPrice() / 2 + 3 * (houseCost / 2);
+        LiquidationPlan plan = LiquidationSolver.solve(player, needed);
+        assertTrue(plan.isFeasible(), "The player should be able to raise the amount.");
+        assertEquals(3, plan.getHouseSales().size(), "All three houses should be sold.");
+        assertSame(baltic, plan.getHouseSales().get(0), "Houses should be sold from the most built street first.");
+        assertEquals(2, plan.getMortgages().size(), "The railroad and a bare street should be mortgaged.");
+        assertTrue(plan.getMortgages().contains(reading), "The railroad should be mortgaged.");
+        assertTrue(plan.getCashRaised() >= needed, "The plan should raise at least the debt.");
+
+        for (PropertySpace street : plan.getHouseSales()) {
+            assertTrue(bank.sellHouse(player, street), "Every sale of the plan should be allowed in order.");
+        }
+        assertEquals(0, baltic.getHouseCount() + mediterranean.getHouseCount(), "The group should be bare.");
+    }
+
+    /**
+     * Tests that the bank refuses to sell a house that would leave a group unevenly built.
+     */
+    @Test
+    public void testSellHouseKeepsGroupEven() {
+        int money = player.getMoney();
+        assertFalse(bank.sellHouse(player, mediterranean), "Mediterranean Avenue should not be sold below Baltic Avenue.");
+        assertTrue(bank.sellHouse(player, baltic), "Baltic Avenue should be sold down first.");
+        assertEquals(money + baltic.getCostOfHouseHotel() / 2, player.getMoney(), "A house should sell for half its cost.");
+    }
+
+    /**
+     * Tests that a debt larger than everything the player holds cannot be raised.
+     */
+    @Test
+    public void testInfeasibleDebt() {
+        LiquidationPlan plan = LiquidationSolver.solve(player, 10_000);
+        assertFalse(plan.isFeasible(), "The player should not be able to raise $10000.");
+        assertTrue(plan.getMortgages().isEmpty() && plan.getHouseSales().isEmpty(), "An infeasible plan should do nothing.");
+        assertTrue(LiquidationSolver.solve(player, 0).isFeasible(), "Nothing to raise should always be feasible.");
+    }
+
+    /**
+     * Tests that a player who cannot pay the rent of a hotel goes bankrupt, owns nothing and
+     * owes nothing afterwards, and that the game ends once one player is left.
+     */
+    @Test
+    public void testGameEndsInBankruptcy() {
+        List<Player> players = new ArrayList<>();
+        GameBoard game = new GameBoard(players, true, new Bank(new ArrayList<>()), new Dice(7L));
+        Player landlord = new ComputerPlayer("Landlord", GameBoard.TOKENS.get(0), game);
+        Player tenant = new ComputerPlayer("Tenant", GameBoard.TOKENS.get(1), game);
+        players.add(landlord);
+        players.add(tenant);
+        for (int space = 0; space < 40; space++) {
+            if (game.getSpace(space) instanceof PropertySpace street) {
+                street.setOwner(landlord);
+                landlord.addProperty(street);
+                street.setHasHotel(true);
+            }
+        }
+        tenant.setMoney(300);
+
+        GameState state = new GameState(game);
+        for (int turn = 0; turn < 1000 && !state.isGameOver(); turn++) {
+            state.handleTurn();
+            assertTrue(tenant.isBankrupt() || tenant.getMoney() >= 0, "A player still in the game should never be in debt.");
+        }
+        assertTrue(state.isGameOver(), "The game should end.");
+        assertTrue(tenant.isBankrupt(), "The tenant should have gone bankrupt.");
+        assertFalse(landlord.isBankrupt(), "The landlord should still be in the game.");
+        assertTrue(tenant.getProperties().isEmpty(), "A bankrupt player should own nothing.");
+        assertEquals(0, tenant.getMoney(), "A bankrupt player should be left with nothing, not in debt.");
+        Ledger ledger = game.getBank().getLedger();
+        assertEquals(-300, ledger.getNet(tenant), "The tenant should have lost exactly the money they had.");
+        assertEquals(landlord.getMoney() - 1500, ledger.getNet(landlord), "The landlord's money should reconcile with the ledger.");
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * MctsPlannerTest.java
+
+ * This file contains unit tests for the MctsPlanner and MctsComputerPlayer classes in the Monopoly game model.
+ * It tests that the search prefers better actions, answers within its time budget and plays whole games.
+
+ */
+
+package ModelTests;
+
+import Model.Bank;
+import Model.BoardDefinition;
+import Model.CompactGameState;
+import Model.Dice;
+import Model.GameBoard;
+import Model.GameState;
+import Model.MctsComputerPlayer;
+import Model.MctsPlanner;
+import Model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the MctsPlanner class.
+ */
+public class MctsPlannerTest {
+    private MctsPlanner planner;
+    private CompactGameState state;
+
+    /**
+     * Sets up a planner with a short budget and a fresh two-player position.
+     */
+    @BeforeEach
+    public void setUp() {
+        planner = new MctsPlanner(50, MctsPlanner.DEFAULT_HORIZON, ForkJoinPool.commonPool(), 3L);
+        state = new CompactGameState(BoardDefinition.classic().getTables(), 2);
+    }
+
+    /**
+     * Tests that the search finds the clearly better of two actions, even when it is not the default.
+     */
+    @Test
+    public void testChoosesBetterAction() {
+        List<Consumer<CompactGameState>> actions = List.of(
+                s -> s.setCash(0, s.getCash(0) - 1000),
+                s -> s.setCash(0, s.getCash(0) + 1000));
+        assertEquals(1, planner.choose(state, 0, actions), "The player should take the money rather than lose it.");
+        assertEquals(CompactGameState.STARTING_CASH, state.getCash(0), "The search should not change the position.");
+    }
+
+    /**
+     * Tests that a decision is returned once the budget is spent, with rollouts finished.
+     */
+    @Test
+    public void testTimeBudget() {
+        List<Consumer<CompactGameState>> actions = List.of(s -> {
+        }, s -> s.buy(0, 39), s -> s.buy(0, 5));
+        long start = System.nanoTime();
+        planner.choose(state, 0, actions);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        assertTrue(millis >= 50, "The search should use its budget.");
+        assertTrue(millis < 1000, "The search should answer soon after its budget.");
+        assertTrue(planner.getRollouts() > actions.size(), "Every action should have been played out.");
+    }
+
+    /**
+     * Tests that trivial choices are answered without searching and empty ones are refused.
+     */
+    @Test
+    public void testTrivialChoices() {
+        assertEquals(0, planner.choose(state, 0, List.of(s -> {
+        })), "A single action should be chosen.");
+        assertEquals(0, planner.getRollouts(), "A single action should not be searched.");
+        assertThrows(IllegalArgumentException.class, () -> planner.choose(state, 0, List.of()),
+                "Choosing from nothing should be refused.");
+    }
+
+    /**
+     * Tests that games between computer players that search play out through the turn engine.
+     */
+    @Test
+    public void testMctsPlayersPlayGame() {
+        List<Player> players = new ArrayList<>();
+        GameBoard board = new GameBoard(players, true, new Bank(new ArrayList<>()), new Dice(9L));
+        MctsPlanner shared = new MctsPlanner(2, 20, ForkJoinPool.commonPool(), 9L);
+        for (int i = 0; i < 2; i++) {
+            MctsComputerPlayer player = new MctsComputerPlayer("Computer " + (i + 1), GameBoard.TOKENS.get(i), board, shared);
+            player.setPlayerIndex(i);
+            players.add(player);
+        }
+        GameState game = new GameState(board);
+        for (int turn = 0; turn < 60 && !game.isGameOver(); turn++) {
+            game.handleTurn();
+        }
+        assertTrue(shared.getRollouts() > 0, "The players should have searched their decisions.");
+        assertFalse(players.get(0).getProperties().isEmpty() && players.get(1).getProperties().isEmpty(),
+                "The players should have bought property.");
+    }
+}
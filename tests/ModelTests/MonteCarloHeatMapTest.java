@@ -0,0 +1,72 @@
+/**
+ * MonteCarloHeatMapTest.java
+
+ * This file contains unit tests for the MonteCarloHeatMap class in the Monopoly game model.
+ * It tests that the heat map counts every turn and is reproducible from a seed.
+
+ */
+
+package ModelTests;
+
+import Model.HeatMap;
+import Model.MonteCarloHeatMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the MonteCarloHeatMap class.
+ */
+public class MonteCarloHeatMapTest {
+
+    /**
+     * Tests that every turn lands somewhere and that turn buckets add up to the totals.
+     */
+    @Test
+    public void testLandingsAddUp() {
+        HeatMap heatMap = new MonteCarloHeatMap(3, 60, 20).run(40, 99L);
+
+        assertEquals(40, heatMap.getGames(), "All games should be counted.");
+        assertEquals(40, heatMap.getSpaces(), "There should be a count for every space.");
+        assertEquals(3, heatMap.getBuckets(), "Sixty turns in buckets of twenty should give three buckets.");
+
+        long landings = 0;
+        for (long count : heatMap.getLandings()) {
+            landings += count;
+        }
+        assertTrue(landings >= heatMap.getTurns() / 2, "Most turns should end with a landing.");
+
+        long[] total = heatMap.getLandings();
+        long[] sum = new long[total.length];
+        for (int bucket = 0; bucket < heatMap.getBuckets(); bucket++) {
+            long[] counts = heatMap.getLandings(bucket);
+            for (int position = 0; position < sum.length; position++) {
+                sum[position] += counts[position];
+            }
+        }
+        assertArrayEquals(total, sum, "Turn buckets should add up to the totals.");
+        assertEquals(0, heatMap.getRent()[0], "Go should never collect rent.");
+    }
+
+    /**
+     * Tests that the same seed gives the same heat map on pools of different sizes.
+     */
+    @Test
+    public void testSameSeedOnDifferentPools() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(4);
+        try {
+            HeatMap first = new MonteCarloHeatMap(4, 100, 10, single).run(50, 7L);
+            HeatMap second = new MonteCarloHeatMap(4, 100, 10, several).run(50, 7L);
+
+            assertEquals(first.getTurns(), second.getTurns(), "Both runs should play the same turns.");
+            assertArrayEquals(first.getLandings(), second.getLandings(), "Both runs should count the same landings.");
+            assertArrayEquals(first.getRent(), second.getRent(), "Both runs should count the same rent.");
+        } finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+}
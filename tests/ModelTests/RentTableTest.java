@@ -0,0 +1,96 @@
+/**
+ * RentTableTest.java
+
+ * This file contains unit tests for the RentTable class in the Monopoly game model.
+ * It tests street, railroad and utility rent and that landing on a property charges it.
+
+ */
+
+package ModelTests;
+
+import Model.Bank;
+import Model.BoardTables;
+import Model.GameBoard;
+import Model.Player;
+import Model.Property;
+import Model.PropertySpace;
+import Model.RentTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the RentTable class.
+ */
+public class RentTableTest {
+    private GameBoard board;
+    private RentTable rentTable;
+    private Player owner;
+    private Player visitor;
+
+    /**
+     * Sets up a board with two players before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        List<Player> players = new ArrayList<>();
+        board = new GameBoard(players, true, new Bank(new ArrayList<>()));
+        rentTable = board.getTables().rentTable();
+        owner = new Player("Owner", "Cat", board);
+        visitor = new Player("Visitor", "Dog", board);
+        players.add(owner);
+        players.add(visitor);
+    }
+
+    /**
+     * Tests street rent for a lone street, a color set, houses and a hotel.
+     */
+    @Test
+    public void testStreetRent() {
+        assertEquals(50, rentTable.rent(39, 0, 1, 7), "Boardwalk alone should charge 50.");
+        assertEquals(100, rentTable.rent(39, 0, 2, 7), "Boardwalk in a color set should charge double.");
+        assertEquals(600, rentTable.rent(39, 2, 2, 7), "Boardwalk with two houses should charge 600.");
+        assertEquals(2000, rentTable.rent(39, BoardTables.HOTEL, 2, 7), "Boardwalk with a hotel should charge 2000.");
+    }
+
+    /**
+     * Tests railroad and utility rent.
+     */
+    @Test
+    public void testRailroadAndUtilityRent() {
+        assertEquals(25, rentTable.rent(5, 0, 1, 7), "One railroad should charge 25.");
+        assertEquals(200, rentTable.rent(5, 0, 4, 7), "Four railroads should charge 200.");
+        assertEquals(28, rentTable.rent(12, 0, 1, 7), "One utility should charge four times the dice.");
+        assertEquals(70, rentTable.rent(12, 0, 2, 7), "Both utilities should charge ten times the dice.");
+        assertEquals(0, rentTable.rent(0, 0, 0, 7), "Go should never charge rent.");
+    }
+
+    /**
+     * Tests that landing on an owned property charges the rent from the table.
+     */
+    @Test
+    public void testLandingChargesRent() {
+        PropertySpace parkPlace = (PropertySpace) board.getSpace(37);
+        PropertySpace boardwalk = (PropertySpace) board.getSpace(39);
+        parkPlace.setOwner(owner);
+        boardwalk.setOwner(owner);
+        boardwalk.setHouseCount(1);
+
+        boardwalk.landOn(visitor);
+        assertEquals(1500 - 200, visitor.getMoney(), "The visitor should pay the one-house rent.");
+        assertEquals(1500 + 200, owner.getMoney(), "The owner should receive the rent.");
+
+        Property railroad = (Property) board.getSpace(15);
+        railroad.setOwner(owner);
+        railroad.landOn(visitor);
+        assertEquals(1500 - 225, visitor.getMoney(), "A railroad should now charge rent too.");
+
+        boardwalk.setMortgaged(true);
+        boardwalk.landOn(visitor);
+        assertEquals(1500 - 225, visitor.getMoney(), "A mortgaged property should not charge rent.");
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * TradeTest.java
+
+ * This file contains unit tests for trades in the Monopoly game model.
+ * It tests that trades are validated, executed all at once through the Bank and the turn engine,
+ * and weighed by the TradeEvaluator within its time budget.
+
+ */
+
+package ModelTests;
+
+import Model.Bank;
+import Model.Dice;
+import Model.GameBoard;
+import Model.GameState;
+import Model.MctsPlanner;
+import Model.Player;
+import Model.Property;
+import Model.TradeBundle;
+import Model.TradeEvaluator;
+import Model.TradeOffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the TradeOffer, Bank trade and TradeEvaluator classes.
+ */
+public class TradeTest {
+    private GameBoard board;
+    private Bank bank;
+    private Player player;
+    private Player other;
+    private Property mediterranean;
+    private Property baltic;
+    private Property boardwalk;
+
+    /**
+     * Sets up a board with two players, each owning a property.
+     */
+    @BeforeEach
+    public void setUp() {
+        List<Player> players = new ArrayList<>();
+        bank = new Bank(new ArrayList<>());
+        board = new GameBoard(players, true, bank, new Dice(5L));
+        player = new Player("Player 1", "Cat", board);
+        other = new Player("Player 2", "Dog", board);
+        player.setPlayerIndex(0);
+        other.setPlayerIndex(1);
+        players.add(player);
+        players.add(other);
+        mediterranean = (Property) board.getSpace(1);
+        baltic = (Property) board.getSpace(3);
+        boardwalk = (Property) board.getSpace(39);
+        give(mediterranean, player);
+        give(baltic, other);
+        give(boardwalk, other);
+    }
+
+    private static void give(Property property, Player owner) {
+        property.setOwner(owner);
+        owner.addProperty(property);
+    }
+
+    /**
+     * Tests that a trade moves properties, cash and jail cards both ways.
+     */
+    @Test
+    public void testTradeMovesEverything() {
+        other.receiveGetOutOfJailFreeCard();
+        int playerCash = player.getMoney();
+        int otherCash = other.getMoney();
+        TradeOffer offer = new TradeOffer(player, new TradeBundle(List.of(mediterranean), 100, 0),
+                other, new TradeBundle(List.of(baltic), 0, 1));
+        assertTrue(bank.canTrade(offer), "The trade should be possible.");
+        bank.trade(offer);
+        assertSame(other, mediterranean.getOwner(), "Mediterranean Avenue should go to the recipient.");
+        assertSame(player, baltic.getOwner(), "Baltic Avenue should go to the proposer.");
+        assertTrue(player.getProperties().contains(baltic), "The proposer should list Baltic Avenue.");
+        assertFalse(player.getProperties().contains(mediterranean), "The proposer should no longer list Mediterranean Avenue.");
+        assertEquals(playerCash - 100, player.getMoney(), "The proposer should pay the cash offered.");
+        assertEquals(otherCash + 100, other.getMoney(), "The recipient should receive the cash offered.");
+        assertEquals(1, player.getGetOutOfJailFreeCards(), "The proposer should receive the jail card.");
+        assertEquals(0, other.getGetOutOfJailFreeCards(), "The recipient should hand over the jail card.");
+        assertEquals(1, bank.countOwned(other, baltic.getGroup()), "The bank should index the recipient's new property.");
+    }
+
+    /**
+     * Tests that a trade that cannot be made throws and changes nothing.
+     */
+    @Test
+    public void testInvalidTradeChangesNothing() {
+        int playerCash = player.getMoney();
+        TradeOffer unaffordable = new TradeOffer(player, TradeBundle.cash(playerCash + 1), other, TradeBundle.property(baltic));
+        assertFalse(bank.canTrade(unaffordable), "A trade the proposer cannot pay for should not be possible.");
+        assertThrows(IllegalStateException.class, () -> bank.trade(unaffordable), "The trade should be refused.");
+        assertSame(other, baltic.getOwner(), "Baltic Avenue should stay with its owner.");
+        assertEquals(playerCash, player.getMoney(), "No cash should move.");
+
+        TradeOffer notOwned = new TradeOffer(player, TradeBundle.cash(10), other, TradeBundle.property(mediterranean));
+        assertThrows(IllegalStateException.class, () -> bank.trade(notOwned), "Property the recipient does not own should not be traded.");
+
+        give((Property) board.getSpace(37), other);
+        boardwalk.setHouseCount(1);
+        TradeOffer built = new TradeOffer(player, TradeBundle.cash(10), other, TradeBundle.property((Property) board.getSpace(37)));
+        assertFalse(bank.canTrade(built), "Property in a group with buildings should not be traded.");
+        assertEquals(playerCash, player.getMoney(), "No cash should move.");
+    }
+
+    /**
+     * Tests that bundles and offers reject invalid contents.
+     */
+    @Test
+    public void testOfferValidation() {
+        assertThrows(IllegalArgumentException.class, () -> TradeBundle.cash(-1), "Negative cash should be refused.");
+        assertThrows(IllegalArgumentException.class, () -> new TradeBundle(List.of(baltic, baltic), 0, 0),
+                "A property listed twice should be refused.");
+        assertThrows(IllegalArgumentException.class, () -> new TradeOffer(player, TradeBundle.cash(1), player, TradeBundle.NOTHING),
+                "A player should not trade with themselves.");
+        assertThrows(IllegalArgumentException.class, () -> new TradeOffer(player, TradeBundle.NOTHING, other, TradeBundle.NOTHING),
+                "An empty trade should be refused.");
+        assertEquals(baltic.getPrice() + 50, new TradeBundle(List.of(baltic), 50, 0).faceValue(),
+                "The face value should add up the prices and the cash.");
+    }
+
+    /**
+     * Tests that the turn engine only carries out trades proposed by the current player.
+     */
+    @Test
+    public void testTurnEngineTrade() {
+        GameState game = new GameState(board);
+        TradeOffer fromOther = new TradeOffer(other, TradeBundle.cash(10), player, TradeBundle.property(mediterranean));
+        assertFalse(game.getTurnEngine().trade(fromOther), "A player should not trade out of turn.");
+        TradeOffer fromPlayer = new TradeOffer(player, TradeBundle.cash(10), other, TradeBundle.property(baltic));
+        assertTrue(game.getTurnEngine().trade(fromPlayer), "The current player should be able to trade.");
+        assertSame(player, baltic.getOwner(), "The trade should have been carried out.");
+    }
+
+    /**
+     * Tests that the evaluator accepts a gift, refuses to give one away and answers within its budget.
+     */
+    @Test
+    public void testEvaluatorWeighsTrades() {
+        TradeEvaluator evaluator = new TradeEvaluator(new MctsPlanner(50, 30, ForkJoinPool.commonPool(), 5L));
+        TradeOffer gift = new TradeOffer(player, TradeBundle.cash(1000), other, TradeBundle.NOTHING);
+        assertTrue(evaluator.accepts(gift), "The recipient should accept a gift of $1000.");
+        assertTrue(evaluator.score(gift, player) < 0, "Giving away $1000 should be bad for the proposer.");
+
+        long start = System.nanoTime();
+        TradeOffer proposal = evaluator.propose(player);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        assertTrue(millis < 1000, "The proposal should come soon after the budget.");
+        if (proposal != null) {
+            assertSame(player, proposal.getProposer(), "The proposal should be the player's own.");
+            assertTrue(bank.canTrade(proposal), "The proposal should be possible.");
+            assertTrue(proposal.getRequested().getProperties().contains(baltic),
+                    "The player should only ask for property in groups they have started.");
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/**
+ * TranspositionTableTest.java
+
+ * This file contains unit tests for the TranspositionTable class and the Zobrist hash of CompactGameState in the Monopoly game model.
+ * It tests that the hash follows every change of a position and that the table is safe to share between threads.
+
+ */
+
+package ModelTests;
+
+import Model.BoardDefinition;
+import Model.BoardTables;
+import Model.CompactGameState;
+import Model.Dice;
+import Model.MctsPlanner;
+import Model.TranspositionTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the TranspositionTable class.
+ */
+public class TranspositionTableTest {
+    private BoardTables tables;
+    private TranspositionTable table;
+
+    /**
+     * Sets up the classic board tables and a small table.
+     */
+    @BeforeEach
+    public void setUp() {
+        tables = BoardDefinition.classic().getTables();
+        table = new TranspositionTable(1000);
+    }
+
+    /**
+     * Tests that the incremental hash always matches a hash computed from scratch.
+     */
+    @Test
+    public void testHashFollowsPlay() {
+        Dice dice = new Dice(21L);
+        CompactGameState state = new CompactGameState(tables, 4);
+        state.shuffleDecks(dice);
+        for (int turn = 0; turn < 300 && !state.isGameOver(); turn++) {
+            state.playTurn(dice, MctsPlanner.BUY_WHAT_YOU_CAN);
+            assertEquals(recomputed(state), state.hash(), "The hash after turn " + turn + " should be up to date.");
+        }
+        assertEquals(state.hash(), new CompactGameState(state).hash(), "A copy should have the same hash.");
+    }
+
+    private static long recomputed(CompactGameState state) {
+        ByteBuffer buffer = ByteBuffer.allocate(state.encodedSize());
+        state.writeTo(buffer);
+        buffer.flip();
+        return CompactGameState.readFrom(state.getBoard(), buffer).hash();
+    }
+
+    /**
+     * Tests which changes move the hash and that undoing a change restores it.
+     */
+    @Test
+    public void testHashFeatures() {
+        CompactGameState state = new CompactGameState(tables, 2);
+        long start = state.hash();
+        state.setCash(0, state.getCash(0) + 10);
+        assertEquals(start, state.hash(), "A small change of cash should stay in the same bucket.");
+        state.setCash(0, state.getCash(0) + 500);
+        assertNotEquals(start, state.hash(), "A large change of cash should change the hash.");
+        state.setCash(0, CompactGameState.STARTING_CASH);
+        assertEquals(start, state.hash(), "Restoring the cash should restore the hash.");
+
+        state.setOwner(39, 1);
+        long owned = state.hash();
+        assertNotEquals(start, owned, "A new owner should change the hash.");
+        state.setBuildings(39, 2);
+        assertNotEquals(owned, state.hash(), "Buildings should change the hash.");
+        state.setBuildings(39, 0);
+        state.setMortgaged(39, true);
+        assertNotEquals(owned, state.hash(), "A mortgage should change the hash.");
+        state.setMortgaged(39, false);
+        assertEquals(owned, state.hash(), "Lifting the mortgage should restore the hash.");
+
+        state.setCurrentPlayer(1);
+        assertNotEquals(owned, state.hash(), "The player to move should change the hash.");
+        state.setCurrentPlayer(0);
+        state.sendToJail(0);
+        assertNotEquals(owned, state.hash(), "Going to jail should change the hash.");
+    }
+
+    /**
+     * Tests storing, finding and replacing evaluations.
+     */
+    @Test
+    public void testStoreAndProbe() {
+        assertEquals(1024, table.capacity(), "The capacity should round up to a power of two.");
+        assertEquals(TranspositionTable.MISSING, table.probe(42L), "An empty table should miss.");
+        table.store(42L, 0.75f, 12);
+        long entry = table.probe(42L);
+        assertEquals(0.75f, TranspositionTable.mean(entry), "The mean should be stored.");
+        assertEquals(12, TranspositionTable.count(entry), "The count should be stored.");
+
+        table.store(42L + table.capacity(), 0.5f, 3);
+        assertEquals(TranspositionTable.MISSING, table.probe(42L), "A position sharing the slot should replace it.");
+        assertEquals(3, TranspositionTable.count(table.probe(42L + table.capacity())), "The new position should be found.");
+        assertThrows(IllegalArgumentException.class, () -> table.store(1L, 0.5f, 0), "An empty evaluation should be refused.");
+    }
+
+    /**
+     * Tests that threads writing and reading the same slots never see a mixed-up entry.
+     */
+    @Test
+    public void testConcurrentAccess() {
+        TranspositionTable small = new TranspositionTable(16);
+        IntStream.range(0, 8).parallel().forEach(thread -> {
+            Dice dice = new Dice(thread);
+            for (int i = 0; i < 200_000; i++) {
+                long hash = dice.nextLong();
+                small.store(hash, (float) (hash & 0xffff), (int) (hash >>> 40) | 1);
+                long other = dice.nextLong() & 0xff;
+                long entry = small.probe(other);
+                if (entry != TranspositionTable.MISSING) {
+                    assertEquals((float) (other & 0xffff), TranspositionTable.mean(entry), "A hit should hold its own mean.");
+                }
+            }
+        });
+        for (long hash = 0; hash < 16; hash++) {
+            small.store(hash, hash, 1);
+        }
+        for (long hash = 0; hash < 16; hash++) {
+            assertEquals((float) hash, TranspositionTable.mean(small.probe(hash)), "Each slot should hold its last store.");
+        }
+    }
+
+    /**
+     * Tests that a planner with a table leaves evaluations behind for the next search, kept
+     * apart for each player deciding.
+     */
+    @Test
+    public void testPlannerSharesEvaluations() {
+        MctsPlanner planner = new MctsPlanner(20, 20, ForkJoinPool.commonPool(), 4L, table);
+        CompactGameState state = new CompactGameState(tables, 2);
+        List<Consumer<CompactGameState>> actions = List.of(s -> {
+        }, s -> s.buy(0, 39));
+        planner.choose(state, 0, actions);
+
+        CompactGameState bought = new CompactGameState(state);
+        bought.buy(0, 39);
+        long key = TranspositionTable.key(bought.hash(), 0);
+        long entry = table.probe(key);
+        assertNotEquals(TranspositionTable.MISSING, entry, "The position after buying should be remembered.");
+        assertEquals(TranspositionTable.MISSING, table.probe(TranspositionTable.key(bought.hash(), 1)),
+                "The evaluation should not be found for the other player.");
+        int count = TranspositionTable.count(entry);
+        planner.choose(state, 0, actions);
+        assertTrue(TranspositionTable.count(table.probe(key)) > count,
+                "The next search should build on the stored evaluation.");
+    }
+}
@@ -0,0 +1,139 @@
+/**
+ * TurnEngineTest.java
+
+ * This file contains unit tests for the TurnEngine class in the Monopoly game model.
+ * It tests the turn rules the GUI and the headless games share: doubles, jail, offers to buy and passing the turn.
+
+ */
+
+package ModelTests;
+
+import Model.BatchSimulator;
+import Model.Dice;
+import Model.GameState;
+import Model.Player;
+import Model.Property;
+import Model.TurnEngine;
+import Model.TurnOutcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the TurnEngine class.
+ */
+public class TurnEngineTest {
+    private GameState game;
+    private TurnEngine engine;
+
+    /**
+     * Sets up a headless game with two players.
+     */
+    @BeforeEach
+    public void setUp() {
+        game = BatchSimulator.newHeadlessGame(2, new Dice(5L));
+        engine = game.getTurnEngine();
+    }
+
+    /**
+     * Tests that three doubles in a row send the player to jail and end their rolling.
+     */
+    @Test
+    public void testThreeDoublesGoToJail() {
+        for (long seed = 0; ; seed++) {
+            game = BatchSimulator.newHeadlessGame(2, new Dice(seed));
+            engine = game.getTurnEngine();
+            TurnOutcome outcome;
+            do {
+                outcome = engine.roll();
+                if (engine.getOffer() != null) {
+                    engine.decline();
+                }
+            } while (outcome == TurnOutcome.ROLL_AGAIN);
+            if (game.getDice().getDoublesRolled() == TurnEngine.MAX_DOUBLES) {
+                assertEquals(TurnOutcome.JAILED, outcome, "The third doubles should send the player to jail.");
+                break;
+            }
+        }
+        Player player = game.getCurrentPlayer();
+        assertTrue(player.isInJail(), "The player should be in jail.");
+        assertEquals(game.getBoard().getTables().jailPosition(), player.getPosition(), "The player should be on the Jail space.");
+        assertFalse(engine.canRoll(), "A jailed player should not roll again this turn.");
+
+        engine.endTurn();
+        assertEquals(1, game.getCurrentPlayerIndex(), "The turn should pass to the next player.");
+        assertEquals(0, game.getDice().getDoublesRolled(), "The doubles count should start over.");
+        assertTrue(engine.canRoll(), "The next player should be able to roll.");
+    }
+
+    /**
+     * Tests that landing on an unowned property offers it, and that buying it charges the player.
+     */
+    @Test
+    public void testOfferAndBuy() {
+        Player player = game.getCurrentPlayer();
+        while (engine.getOffer() == null) {
+            if (!engine.canRoll()) {
+                engine.endTurn();
+                player = game.getCurrentPlayer();
+            }
+            engine.roll();
+        }
+        Property property = engine.getOffer();
+        assertEquals(property, game.getBoard().getSpace(player.getPosition()), "The space landed on should be offered.");
+        assertFalse(engine.canRoll(), "The offer should be settled before the player rolls again.");
+
+        int money = player.getMoney();
+        engine.buy();
+        assertSame(player, property.getOwner(), "The player should own the property.");
+        assertEquals(money - property.getPrice(), player.getMoney(), "The player should pay the price.");
+        assertNull(engine.getOffer(), "Nothing should be offered after buying.");
+        assertThrows(IllegalStateException.class, engine::buy, "Buying without an offer should fail.");
+    }
+
+    /**
+     * Tests that a jailed player can pay the fine before rolling, but not after.
+     */
+    @Test
+    public void testPayJailFine() {
+        Player player = game.getCurrentPlayer();
+        player.goToJail();
+        int money = player.getMoney();
+        assertTrue(engine.payJailFine(), "A jailed player should be able to pay the fine.");
+        assertFalse(player.isInJail(), "Paying the fine should release the player.");
+        assertEquals(money - TurnEngine.JAIL_FINE, player.getMoney(), "The fine should be charged.");
+        assertTrue(engine.canRoll(), "The player should roll after paying the fine.");
+        assertFalse(engine.payJailFine(), "A free player should not pay the fine.");
+    }
+
+    /**
+     * Tests that the last failed attempt to roll doubles costs the fine and moves the player.
+     */
+    @Test
+    public void testLastJailTurn() {
+        Player player = game.getCurrentPlayer();
+        player.goToJail();
+        player.setJailTurns(TurnEngine.MAX_JAIL_TURNS - 1);
+        TurnOutcome outcome = engine.roll();
+        assertNotEquals(TurnOutcome.STAYED_IN_JAIL, outcome, "The player should not stay in jail after the last attempt.");
+        assertNotEquals(TurnOutcome.ROLL_AGAIN, outcome, "Leaving jail should not earn another roll.");
+        assertFalse(engine.canRoll(), "The player should not roll again.");
+        assertThrows(IllegalStateException.class, engine::roll, "Rolling twice should fail.");
+        assertFalse(engine.payJailFine(), "The fine should not be paid after rolling.");
+    }
+
+    /**
+     * Tests that playTurn passes the turn on unless the player rolled doubles.
+     */
+    @Test
+    public void testPlayTurn() {
+        for (int i = 0; i < 100; i++) {
+            int before = game.getCurrentPlayerIndex();
+            TurnOutcome outcome = engine.playTurn();
+            int expected = outcome == TurnOutcome.ROLL_AGAIN ? before : (before + 1) % 2;
+            assertEquals(expected, game.getCurrentPlayerIndex(), "The turn should pass on unless doubles were rolled.");
+            assertNull(engine.getOffer(), "Computer players should settle every offer.");
+        }
+    }
+}